@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.benchmarks;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+
+import com.oracle.coherence.plugin.visualvm.panel.CoherenceCachePanel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for aggregating {@link CacheData} from management over REST
+ * responses and for ordering the caches for the heat map.
+ *
+ * @author agent 2026.10.16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheDataBenchmark
+    {
+    // ----- lifecycle ------------------------------------------------------
+
+    /**
+     * Create the synthetic response and collected data.
+     *
+     * @throws Exception if the payloads cannot be created
+     */
+    @Setup
+    public void setup()
+            throws Exception
+        {
+        m_model         = ClusterPayloads.createModel();
+        m_cacheData     = new CacheData();
+        m_listCacheData = ClusterPayloads.createCacheData(m_cCaches);
+        m_requestSender = new HttpRequestSender(HttpRequestSenderBenchmark.URL,
+                new StubHttpTransport(ClusterPayloads.createCachesJson(m_cCaches, MEMBERS)));
+        }
+
+    // ----- benchmarks -----------------------------------------------------
+
+    /**
+     * Build the cache data from a management over REST response.
+     *
+     * @return the cache data
+     *
+     * @throws Exception if the response cannot be read
+     */
+    @Benchmark
+    public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying()
+            throws Exception
+        {
+        return m_cacheData.getAggregatedDataFromHttpQuerying(m_model, m_requestSender);
+        }
+
+    /**
+     * Order the caches by size for the heat map.
+     *
+     * @return the ordered caches
+     */
+    @Benchmark
+    public LinkedList<Pair<Pair<String, String>, Long>> sortHeatMapBySize()
+        {
+        LinkedList<Pair<Pair<String, String>, Long>> listValues = new LinkedList<>();
+
+        CoherenceCachePanel.sortHeatMapValues(m_listCacheData, true, listValues);
+
+        return listValues;
+        }
+
+    /**
+     * Order the caches by memory used for the heat map.
+     *
+     * @return the ordered caches
+     */
+    @Benchmark
+    public LinkedList<Pair<Pair<String, String>, Long>> sortHeatMapByMemory()
+        {
+        LinkedList<Pair<Pair<String, String>, Long>> listValues = new LinkedList<>();
+
+        CoherenceCachePanel.sortHeatMapValues(m_listCacheData, false, listValues);
+
+        return listValues;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of storage members the caches are aggregated across.
+     */
+    private static final int MEMBERS = 100;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of caches in the cluster.
+     */
+    @Param({"100", "1000", "10000"})
+    public int m_cCaches;
+
+    /**
+     * The model to use.
+     */
+    private VisualVMModel m_model;
+
+    /**
+     * The data retriever to benchmark.
+     */
+    private CacheData m_cacheData;
+
+    /**
+     * The collected cache data.
+     */
+    private List<Map.Entry<Object, Data>> m_listCacheData;
+
+    /**
+     * The request sender to use.
+     */
+    private HttpRequestSender m_requestSender;
+    }
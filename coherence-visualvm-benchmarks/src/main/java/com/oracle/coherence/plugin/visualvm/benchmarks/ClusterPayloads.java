@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+/**
+ * Generates synthetic payloads shaped like the responses of real clusters
+ * for use by the benchmarks. All payloads are generated from a fixed seed
+ * so that every run of a benchmark processes the same data.
+ *
+ * @author agent 2026.10.16
+ */
+public final class ClusterPayloads
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Private constructor for utility class.
+     */
+    private ClusterPayloads()
+        {
+        }
+
+    // ----- ClusterPayloads methods ----------------------------------------
+
+    /**
+     * Create a management over REST response for the list of cluster members.
+     *
+     * @param cMembers  the number of members
+     *
+     * @return the JSON response
+     *
+     * @throws Exception if the response cannot be created
+     */
+    public static byte[] createMembersJson(int cMembers)
+            throws Exception
+        {
+        Random     random    = new Random(SEED);
+        ObjectNode rootNode  = MAPPER.createObjectNode();
+        ArrayNode  itemsNode = rootNode.putArray("items");
+
+        for (int i = 1; i <= cMembers; i++)
+            {
+            ObjectNode member = itemsNode.addObject();
+
+            member.put("nodeId", Integer.toString(i));
+            member.put("publisherSuccessRate", 1.0 - random.nextDouble() / 100);
+            member.put("receiverSuccessRate", 1.0 - random.nextDouble() / 100);
+            member.put("sendQueueSize", random.nextInt(10));
+            member.put("memoryMaxMB", MEMORY_MAX_MB);
+            member.put("memoryAvailableMB", random.nextInt(MEMORY_MAX_MB));
+            member.put("unicastAddress", getAddress(i));
+            member.put("roleName", ROLE_NAME);
+            member.put("unicastPort", BASE_PORT + i);
+            member.put("machineName", getMachineName(i));
+            member.put("rackName", "rack-" + (i % 4));
+            member.put("siteName", "site-1");
+            member.put("productEdition", PRODUCT_EDITION);
+            }
+
+        return MAPPER.writeValueAsBytes(rootNode);
+        }
+
+    /**
+     * Create the reporter output for the member report.
+     *
+     * @param cMembers  the number of members
+     *
+     * @return the {@link TabularData} returned by the reporter
+     *
+     * @throws OpenDataException if the report cannot be created
+     */
+    public static TabularData createMemberReport(int cMembers)
+            throws OpenDataException
+        {
+        Random        random   = new Random(SEED);
+        String[]      asNames  = new String[MEMBER_REPORT_COLUMNS];
+        OpenType<?>[] aTypes   = new OpenType<?>[MEMBER_REPORT_COLUMNS];
+
+        for (int i = 0; i < MEMBER_REPORT_COLUMNS; i++)
+            {
+            asNames[i] = String.format("column%02d", i);
+            aTypes[i]  = SimpleType.STRING;
+            }
+
+        CompositeType      rowType = new CompositeType("row", "row", asNames, asNames, aTypes);
+        TabularDataSupport report  = new TabularDataSupport(new TabularType("report", "report", rowType, asNames));
+
+        for (int i = 1; i <= cMembers; i++)
+            {
+            Object[] aoValues = new Object[]
+                {
+                Integer.toString(i),                                           // batch counter
+                "Cluster",                                                     // MBean type
+                Integer.toString(i),                                           // node id
+                Double.toString(1.0 - random.nextDouble() / 100),              // publisher success
+                Double.toString(1.0 - random.nextDouble() / 100),              // receiver success
+                Integer.toString(random.nextInt(10)),                          // send queue size
+                Integer.toString(MEMORY_MAX_MB),                               // max memory
+                Integer.toString(random.nextInt(MEMORY_MAX_MB)),               // free memory
+                getAddress(i),                                                 // address
+                ROLE_NAME,                                                     // role name
+                Integer.toString(BASE_PORT + i),                               // port
+                getMachineName(i),                                             // machine name
+                "rack-" + (i % 4),                                             // rack name
+                "site-1",                                                      // site name
+                PRODUCT_EDITION                                                // product edition
+                };
+
+            report.put(new CompositeDataSupport(rowType, asNames, aoValues));
+            }
+
+        return report;
+        }
+
+    /**
+     * Create a management over REST response for the list of caches in all
+     * services, as aggregated across all the members of the cluster.
+     *
+     * @param cCaches   the number of caches
+     * @param cMembers  the number of storage members
+     *
+     * @return the JSON response
+     *
+     * @throws Exception if the response cannot be created
+     */
+    public static byte[] createCachesJson(int cCaches, int cMembers)
+            throws Exception
+        {
+        Random     random    = new Random(SEED);
+        ObjectNode rootNode  = MAPPER.createObjectNode();
+        ArrayNode  itemsNode = rootNode.putArray("items");
+
+        for (int i = 0; i < cCaches; i++)
+            {
+            ObjectNode cache = itemsNode.addObject();
+            long       cSize = random.nextInt(1_000_000);
+
+            cache.put("name", getCacheName(i));
+            cache.put("service", getServiceName(i));
+            cache.put("size", cSize * cMembers);
+            cache.put("units", cSize * AVERAGE_OBJECT_SIZE);
+            cache.put("unitsBytes", cSize * AVERAGE_OBJECT_SIZE);
+            cache.putArray("unitFactor").add(1);
+            cache.putObject("memoryUnits").put("true", cMembers);
+            cache.putObject("nodeId").put("count", cMembers);
+
+            ObjectNode averageMissMillis = cache.putObject("averageMissMillis");
+            averageMissMillis.put("count", cMembers);
+            averageMissMillis.put("average", random.nextDouble());
+            averageMissMillis.put("max", random.nextDouble());
+            averageMissMillis.put("min", 0.0);
+            averageMissMillis.put("sum", random.nextDouble() * cMembers);
+            }
+
+        return MAPPER.writeValueAsBytes(rootNode);
+        }
+
+    /**
+     * Create collected cache data, as used by the heat map.
+     *
+     * @param cCaches  the number of caches
+     *
+     * @return the collected cache data
+     */
+    public static List<Map.Entry<Object, Data>> createCacheData(int cCaches)
+        {
+        Random                        random   = new Random(SEED);
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>(cCaches);
+
+        for (int i = 0; i < cCaches; i++)
+            {
+            Data                 data  = new CacheData();
+            Pair<String, String> key   = new Pair<>(getServiceName(i), getCacheName(i));
+            int                  cSize = random.nextInt(1_000_000);
+
+            data.setColumn(CacheData.CACHE_NAME, key);
+            data.setColumn(CacheData.SIZE, cSize);
+            data.setColumn(CacheData.MEMORY_USAGE_BYTES, (long) cSize * AVERAGE_OBJECT_SIZE);
+            data.setColumn(CacheData.MEMORY_USAGE_MB, (int) ((long) cSize * AVERAGE_OBJECT_SIZE / 1024 / 1024));
+            data.setColumn(CacheData.AVG_OBJECT_SIZE, AVERAGE_OBJECT_SIZE);
+            data.setColumn(CacheData.UNIT_CALCULATOR, "BINARY");
+
+            listData.add(new AbstractMap.SimpleEntry<>(key, data));
+            }
+
+        return listData;
+        }
+
+    /**
+     * Create a {@link VisualVMModel} for a cluster where all the services
+     * used by the synthetic caches are distributed.
+     *
+     * @return a new {@link VisualVMModel}
+     */
+    public static VisualVMModel createModel()
+        {
+        VisualVMModel model       = VisualVMModel.getInstance();
+        Set<String>   setServices = new HashSet<>();
+
+        for (int i = 0; i < SERVICE_COUNT; i++)
+            {
+            setServices.add(getServiceName(i));
+            }
+
+        model.setDistributedCaches(setServices);
+        model.setRestCacheOptimizationAvailable(true);
+
+        return model;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the name of the given cache.
+     *
+     * @param nCache  the cache number
+     *
+     * @return the name of the cache
+     */
+    private static String getCacheName(int nCache)
+        {
+        return "cache-" + nCache;
+        }
+
+    /**
+     * Returns the name of the service the given cache belongs to.
+     *
+     * @param nCache  the cache number
+     *
+     * @return the name of the service
+     */
+    private static String getServiceName(int nCache)
+        {
+        return "PartitionedCache" + (nCache % SERVICE_COUNT);
+        }
+
+    /**
+     * Returns the address of the given member.
+     *
+     * @param nMember  the member id
+     *
+     * @return the address of the member
+     */
+    private static String getAddress(int nMember)
+        {
+        return "10.0." + (nMember / 256) + "." + (nMember % 256);
+        }
+
+    /**
+     * Returns the machine name of the given member.
+     *
+     * @param nMember  the member id
+     *
+     * @return the machine name of the member
+     */
+    private static String getMachineName(int nMember)
+        {
+        return "machine-" + (nMember / MEMBERS_PER_MACHINE);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The seed used to generate the payloads.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * The number of services the caches are spread across.
+     */
+    private static final int SERVICE_COUNT = 8;
+
+    /**
+     * The number of members on each machine.
+     */
+    private static final int MEMBERS_PER_MACHINE = 8;
+
+    /**
+     * The number of columns in the member report.
+     */
+    private static final int MEMBER_REPORT_COLUMNS = 15;
+
+    /**
+     * The maximum heap of each member in MB.
+     */
+    private static final int MEMORY_MAX_MB = 4096;
+
+    /**
+     * The average size of a cache entry in bytes.
+     */
+    private static final int AVERAGE_OBJECT_SIZE = 512;
+
+    /**
+     * The first unicast port.
+     */
+    private static final int BASE_PORT = 7574;
+
+    /**
+     * The role name of all members.
+     */
+    private static final String ROLE_NAME = "CoherenceServer";
+
+    /**
+     * The product edition of all members.
+     */
+    private static final String PRODUCT_EDITION = "Grid Edition";
+
+    /**
+     * The {@link ObjectMapper} used to generate JSON payloads.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for reading management over REST responses into a tree using
+ * {@link HttpRequestSender}.
+ *
+ * @author agent 2026.10.16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRequestSenderBenchmark
+    {
+    // ----- lifecycle ------------------------------------------------------
+
+    /**
+     * Create the request sender for the synthetic response.
+     *
+     * @throws Exception if the response cannot be created
+     */
+    @Setup
+    public void setup()
+            throws Exception
+        {
+        m_requestSender = new HttpRequestSender(URL,
+                new StubHttpTransport(ClusterPayloads.createCachesJson(m_cCaches, MEMBERS)));
+        }
+
+    // ----- benchmarks -----------------------------------------------------
+
+    /**
+     * Read the list of caches, which parses the whole response into a tree.
+     *
+     * @return the parsed response
+     *
+     * @throws Exception if the response cannot be read
+     */
+    @Benchmark
+    public JsonNode getResponseJson()
+            throws Exception
+        {
+        return m_requestSender.getListOfCaches();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The URL of the management server, which is never connected to.
+     */
+    static final String URL = "http://localhost:30000/management/coherence/cluster";
+
+    /**
+     * The number of storage members the caches are aggregated across.
+     */
+    private static final int MEMBERS = 100;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of caches in the response.
+     */
+    @Param({"100", "1000", "10000"})
+    public int m_cCaches;
+
+    /**
+     * The request sender to use.
+     */
+    private HttpRequestSender m_requestSender;
+    }
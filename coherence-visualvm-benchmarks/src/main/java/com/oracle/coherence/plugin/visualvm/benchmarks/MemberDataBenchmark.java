@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.benchmarks;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.MemberData;
+
+import java.util.SortedMap;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.openmbean.TabularData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building {@link MemberData} from the reporter output and
+ * from management over REST responses.
+ *
+ * @author agent 2026.10.16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberDataBenchmark
+    {
+    // ----- lifecycle ------------------------------------------------------
+
+    /**
+     * Create the synthetic report and response.
+     *
+     * @throws Exception if the payloads cannot be created
+     */
+    @Setup
+    public void setup()
+            throws Exception
+        {
+        m_model         = ClusterPayloads.createModel();
+        m_memberData    = new MemberData();
+        m_report        = ClusterPayloads.createMemberReport(m_cMembers);
+        m_requestSender = new HttpRequestSender(HttpRequestSenderBenchmark.URL,
+                new StubHttpTransport(ClusterPayloads.createMembersJson(m_cMembers)));
+        }
+
+    // ----- benchmarks -----------------------------------------------------
+
+    /**
+     * Build the member data from the reporter output.
+     *
+     * @return the member data
+     */
+    @Benchmark
+    public SortedMap<Object, Data> getReporterData()
+        {
+        return m_memberData.getReporterData(m_report, m_model);
+        }
+
+    /**
+     * Build the member data from a management over REST response.
+     *
+     * @return the member data
+     *
+     * @throws Exception if the response cannot be read
+     */
+    @Benchmark
+    public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying()
+            throws Exception
+        {
+        return m_memberData.getAggregatedDataFromHttpQuerying(m_model, m_requestSender);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of members in the cluster.
+     */
+    @Param({"10", "100", "500"})
+    public int m_cMembers;
+
+    /**
+     * The model to use.
+     */
+    private VisualVMModel m_model;
+
+    /**
+     * The data retriever to benchmark.
+     */
+    private MemberData m_memberData;
+
+    /**
+     * The reporter output.
+     */
+    private TabularData m_report;
+
+    /**
+     * The request sender to use.
+     */
+    private HttpRequestSender m_requestSender;
+    }
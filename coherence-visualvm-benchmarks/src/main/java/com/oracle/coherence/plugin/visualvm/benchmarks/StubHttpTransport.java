@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.benchmarks;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpTransport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import java.net.URL;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link HttpTransport} which returns the same in-memory response for
+ * every request so that benchmarks measure the cost of processing a
+ * response rather than the network.
+ *
+ * @author agent 2026.10.16
+ */
+public class StubHttpTransport
+        implements HttpTransport
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link StubHttpTransport} which returns the given response.
+     *
+     * @param abResponse  the response body to return for every request
+     */
+    public StubHttpTransport(byte[] abResponse)
+        {
+        f_abResponse = abResponse;
+        }
+
+    // ----- HttpTransport methods ------------------------------------------
+
+    @Override
+    public InputStream sendGetRequest(URL url)
+        {
+        return new ByteArrayInputStream(f_abResponse);
+        }
+
+    @Override
+    public CompletableFuture<InputStream> sendGetRequestAsync(URL url)
+        {
+        return CompletableFuture.completedFuture(sendGetRequest(url));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The response body to return for every request.
+     */
+    private final byte[] f_abResponse;
+    }
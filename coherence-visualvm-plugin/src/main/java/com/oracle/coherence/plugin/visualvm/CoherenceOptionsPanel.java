@@ -43,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import com.oracle.coherence.plugin.visualvm.helper.KeepAliveHttpTransport;
 import com.oracle.coherence.plugin.visualvm.panel.util.AbstractMenuOption;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
@@ -51,9 +52,12 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JSpinner;
+import javax.swing.JTextField;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 
 import org.graalvm.visualvm.core.options.UISupport;
 import org.graalvm.visualvm.core.ui.components.SectionSeparator;
@@ -104,15 +108,20 @@ public class CoherenceOptionsPanel
         {
         GlobalPreferences preferences = GlobalPreferences.sharedInstance();
         m_refreshTime.setValue(preferences.getRefreshTime());
+        m_dataTypeRefreshTimes.setText(preferences.getDataTypeRefreshTimes());
         m_logQueryTimes.setSelected(preferences.isLogQueryTimes());
         m_disableMBeanCheck.setSelected(preferences.isMBeanCheckDisabled());
         m_restRequestTimout.setValue(preferences.getRestTimeout());
+        m_restMaxConnections.setValue(preferences.getRestMaxConnections());
         m_enableRestDebug.setSelected(preferences.isRestDebugEnabled());
         m_enableZoom.setSelected(preferences.isZoomEnabled());
         m_enablePersistenceList.setSelected(preferences.isPersistenceListEnabled());
         m_enableClusterSnapshot.setSelected(preferences.isClusterSnapshotEnabled());
         m_adminFunctionsEnabled.setSelected(preferences.isAdminFunctionEnabled());
         m_disableSSLCertValidation.setSelected(preferences.isSSLCertValidationDisabled());
+        m_enableRecording.setSelected(preferences.isRecordingEnabled());
+        m_recordingRetention.setValue(preferences.getRecordingRetentionHours());
+        m_recordingMaxSize.setValue(preferences.getRecordingMaxSize());
         }
 
     /**
@@ -122,15 +131,21 @@ public class CoherenceOptionsPanel
         {
         GlobalPreferences preferences = GlobalPreferences.sharedInstance();
         preferences.setRefreshTime((Integer) m_refreshTime.getValue());
+        preferences.setDataTypeRefreshTimes(m_dataTypeRefreshTimes.getText().trim());
         preferences.setLogQueryTimes(m_logQueryTimes.isSelected());
         preferences.setDisableMbeanCheck(m_disableMBeanCheck.isSelected());
         preferences.setRestDebugEnabled(m_enableRestDebug.isSelected());
         preferences.setRestTimeout((Integer) m_restRequestTimout.getValue());
+        preferences.setRestMaxConnections((Integer) m_restMaxConnections.getValue());
+        KeepAliveHttpTransport.refreshMaxConnections();
         preferences.setZoomEnabled(m_enableZoom.isSelected());
         preferences.setPersistenceListEnabled(m_enablePersistenceList.isSelected());
         preferences.setClusterSnapshotEnabled(m_enableClusterSnapshot.isSelected());
         preferences.setAdminFunctionsEnabled(m_adminFunctionsEnabled.isSelected());
         preferences.setSSLCertValidationDisabled(m_disableSSLCertValidation.isSelected());
+        preferences.setRecordingEnabled(m_enableRecording.isSelected());
+        preferences.setRecordingRetentionHours((Integer) m_recordingRetention.getValue());
+        preferences.setRecordingMaxSize((Integer) m_recordingMaxSize.getValue());
         }
 
     /**
@@ -142,6 +157,7 @@ public class CoherenceOptionsPanel
         {
         try
             {
+            RefreshScheduler.parseIntervals(m_dataTypeRefreshTimes.getText());
             return (Integer) m_refreshTime.getValue() > 0;
             }
         catch (Exception e)
@@ -194,23 +210,44 @@ public class CoherenceOptionsPanel
         c.insets = new Insets(3, 0, 3, 0);
         add(plottersUnits, c);
 
+        // ---- Data Type Refresh Times ----
+        JLabel lblDataTypeRefreshTimes = new JLabel();
+        Mnemonics.setLocalizedText(lblDataTypeRefreshTimes, getLocalText("LBL_data_type_refresh_times"));
+        c = new GridBagConstraints();
+        c.gridx = 0;
+        c.gridy = 2;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 15, 3, 0);
+        add(lblDataTypeRefreshTimes, c);
+
+        m_dataTypeRefreshTimes = new JTextField(30);
+        m_dataTypeRefreshTimes.setToolTipText(getLocalText("TTIP_data_type_refresh_times"));
+        lblDataTypeRefreshTimes.setLabelFor(m_dataTypeRefreshTimes);
+        c = new GridBagConstraints();
+        c.gridx = 1;
+        c.gridy = 2;
+        c.gridwidth = 2;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 5, 3, 4);
+        add(m_dataTypeRefreshTimes, c);
+
         m_logQueryTimes = new JCheckBox();
         m_logQueryTimes.setToolTipText(getLocalText("TTIP_log_query_times"));
-        addCheckBox(2, "LBL_log_query_times", m_logQueryTimes);
+        addCheckBox(3, "LBL_log_query_times", m_logQueryTimes);
 
         m_disableMBeanCheck = new JCheckBox();
         m_disableMBeanCheck.setToolTipText(getLocalText("TTIP_disable_mbean_check"));
-        addCheckBox(3, "LBL_disable_mbean_check", m_disableMBeanCheck);
+        addCheckBox(4, "LBL_disable_mbean_check", m_disableMBeanCheck);
 
         // ---- REST ----
-        addHeader(4, "LBL_rest");
+        addHeader(5, "LBL_rest");
 
         // ---- REST Request Timeout ----
         JLabel lblRest = new JLabel();
         Mnemonics.setLocalizedText(lblRest, getLocalText("LBL_rest_request_timeout"));
         c = new GridBagConstraints();
         c.gridx = 0;
-        c.gridy = 5;
+        c.gridy = 6;
         c.anchor = GridBagConstraints.WEST;
         c.insets = new Insets(3, 15, 3, 0);
         add(lblRest, c);
@@ -221,7 +258,7 @@ public class CoherenceOptionsPanel
         m_restRequestTimout.setModel(new SpinnerNumberModel(30000, 1000, 99999999, 1000));
         c = new GridBagConstraints();
         c.gridx = 1;
-        c.gridy = 5;
+        c.gridy = 6;
         c.anchor = GridBagConstraints.WEST;
         c.insets = new Insets(3, 5, 3, 4);
         add(m_restRequestTimout, c);
@@ -230,37 +267,72 @@ public class CoherenceOptionsPanel
         Mnemonics.setLocalizedText(requestUnits, getLocalText("LBL_millis")); // NOI18N
         c = new GridBagConstraints();
         c.gridx = 2;
-        c.gridy = 5;
+        c.gridy = 6;
         c.anchor = GridBagConstraints.WEST;
         c.insets = new Insets(3, 0, 3, 0);
         add(requestUnits, c);
 
+        // ---- REST Max Connections ----
+        JLabel lblRestConnections = new JLabel();
+        Mnemonics.setLocalizedText(lblRestConnections, getLocalText("LBL_rest_max_connections"));
+        c = new GridBagConstraints();
+        c.gridx = 0;
+        c.gridy = 7;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 15, 3, 0);
+        add(lblRestConnections, c);
+
+        m_restMaxConnections = new JSpinner();
+        m_restMaxConnections.setToolTipText(getLocalText("TTIP_rest_max_connections"));
+        lblRestConnections.setLabelFor(m_restMaxConnections);
+        m_restMaxConnections.setModel(new SpinnerNumberModel(8, 1, 64, 1));
+        c = new GridBagConstraints();
+        c.gridx = 1;
+        c.gridy = 7;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 5, 3, 4);
+        add(m_restMaxConnections, c);
+
         m_enableRestDebug = new JCheckBox();
         m_enableRestDebug.setToolTipText(getLocalText("TTIP_rest_debug"));
-        addCheckBox(6, "LBL_enable_rest_debug", m_enableRestDebug);
+        addCheckBox(8, "LBL_enable_rest_debug", m_enableRestDebug);
 
         m_disableSSLCertValidation = new JCheckBox();
         m_disableSSLCertValidation.setToolTipText(getLocalText("TTIP_ssl_disable"));
-        addCheckBox(7, "LBL_disable_cert_validation", m_disableSSLCertValidation);
+        addCheckBox(9, "LBL_disable_cert_validation", m_disableSSLCertValidation);
 
         // ---- Other / Experimental ----
-        addHeader(8, "LBL_other");
+        addHeader(10, "LBL_other");
 
         m_enablePersistenceList = new JCheckBox();
         m_enablePersistenceList.setToolTipText(getLocalText("TTIP_persistence_list"));
-        addCheckBox(9, "LBL_enable_persistence_list", m_enablePersistenceList);
+        addCheckBox(11, "LBL_enable_persistence_list", m_enablePersistenceList);
 
         m_enableZoom = new JCheckBox();
         m_enableZoom.setToolTipText(getLocalText("TTIP_zoom_enabled"));
-        addCheckBox(10, "LBL_enable_zoom", m_enableZoom);
+        addCheckBox(12, "LBL_enable_zoom", m_enableZoom);
 
         m_enableClusterSnapshot = new JCheckBox();
         m_enableClusterSnapshot.setToolTipText(getLocalText("TTIP_enable_cluster_snapshot"));
-        addCheckBox(11, "LBL_enable_cluster_snapshot", m_enableClusterSnapshot);
+        addCheckBox(13, "LBL_enable_cluster_snapshot", m_enableClusterSnapshot);
 
         m_adminFunctionsEnabled = new JCheckBox();
         m_adminFunctionsEnabled.setToolTipText(getLocalText("TTIP_enable_cluster_head_dump"));
-        addCheckBox(12, "LBL_enable_admin_functions", m_adminFunctionsEnabled);
+        addCheckBox(14, "LBL_enable_admin_functions", m_adminFunctionsEnabled);
+
+        m_enableRecording = new JCheckBox();
+        m_enableRecording.setToolTipText(getLocalText("TTIP_enable_recording"));
+        addCheckBox(15, "LBL_enable_recording", m_enableRecording);
+
+        m_recordingRetention = new JSpinner();
+        m_recordingRetention.setToolTipText(getLocalText("TTIP_recording_retention"));
+        m_recordingRetention.setModel(new SpinnerNumberModel(24, 1, 8760, 1));
+        addSpinner(16, "LBL_recording_retention", m_recordingRetention, "LBL_hours");
+
+        m_recordingMaxSize = new JSpinner();
+        m_recordingMaxSize.setToolTipText(getLocalText("TTIP_recording_max_size"));
+        m_recordingMaxSize.setModel(new SpinnerNumberModel(1024, 16, 1048576, 16));
+        addSpinner(17, "LBL_recording_max_size", m_recordingMaxSize, "LBL_megabytes");
 
         m_btnAnalyzeUnavailableTime = new JButton(Localization.getLocalText("LBL_analyze_log_file"));
         m_btnAnalyzeUnavailableTime.setMnemonic(KeyEvent.VK_A);
@@ -288,7 +360,7 @@ public class CoherenceOptionsPanel
 
         c = new GridBagConstraints();
         c.gridx = 0;
-        c.gridy = 13;
+        c.gridy = 18;
         c.anchor = GridBagConstraints.WEST;
         c.insets = new Insets(3, 15, 3, 0);
         add(m_btnAnalyzeUnavailableTime, c);
@@ -296,7 +368,7 @@ public class CoherenceOptionsPanel
         JLabel appsLabel = new JLabel();
         Mnemonics.setLocalizedText(appsLabel, getLocalText("LBL_reconnect")); // NOI18N
         c = new GridBagConstraints();
-        c.gridy = 15;
+        c.gridy = 20;
         c.gridwidth = GridBagConstraints.REMAINDER;
         c.anchor = GridBagConstraints.WEST;
         c.fill = GridBagConstraints.HORIZONTAL;
@@ -306,7 +378,7 @@ public class CoherenceOptionsPanel
         // filler
         c = new GridBagConstraints();
         c.gridx = 0;
-        c.gridy = 16;
+        c.gridy = 21;
         c.weightx = 1;
         c.weighty = 1;
         c.anchor = GridBagConstraints.NORTHWEST;
@@ -342,6 +414,43 @@ public class CoherenceOptionsPanel
         add(checkBox, c);
         }
 
+    /**
+     * Adds a spinner followed by its units.
+     *
+     * @param y       y position
+     * @param sLabel  label bundle key
+     * @param spinner the {@link JSpinner}
+     * @param sUnits  units bundle key
+     */
+    private void addSpinner(int y, String sLabel, JSpinner spinner, String sUnits)
+        {
+        JLabel label = new JLabel();
+        Mnemonics.setLocalizedText(label, getLocalText(sLabel));
+        GridBagConstraints c = new GridBagConstraints();
+        c.gridx = 0;
+        c.gridy = y;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 15, 3, 0);
+        add(label, c);
+
+        label.setLabelFor(spinner);
+        c = new GridBagConstraints();
+        c.gridx = 1;
+        c.gridy = y;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 5, 3, 4);
+        add(spinner, c);
+
+        JLabel units = new JLabel();
+        Mnemonics.setLocalizedText(units, getLocalText(sUnits));
+        c = new GridBagConstraints();
+        c.gridx = 2;
+        c.gridy = y;
+        c.anchor = GridBagConstraints.WEST;
+        c.insets = new Insets(3, 0, 3, 0);
+        add(units, c);
+        }
+
     /**
      * Adds a header.
      *
@@ -366,15 +475,36 @@ public class CoherenceOptionsPanel
     private void startTrackingChanges()
         {
         m_refreshTime.getModel().addChangeListener(changeListener);
+        m_dataTypeRefreshTimes.getDocument().addDocumentListener(new DocumentListener()
+            {
+            public void insertUpdate(DocumentEvent e)
+                {
+                f_controller.changed();
+                }
+
+            public void removeUpdate(DocumentEvent e)
+                {
+                f_controller.changed();
+                }
+
+            public void changedUpdate(DocumentEvent e)
+                {
+                f_controller.changed();
+                }
+            });
         m_logQueryTimes.getModel().addChangeListener(changeListener);
         m_disableMBeanCheck.getModel().addChangeListener(changeListener);
         m_enableRestDebug.getModel().addChangeListener(changeListener);
         m_restRequestTimout.getModel().addChangeListener(changeListener);
+        m_restMaxConnections.getModel().addChangeListener(changeListener);
         m_enableZoom.getModel().addChangeListener(changeListener);
         m_enablePersistenceList.getModel().addChangeListener(changeListener);
         m_enableClusterSnapshot.getModel().addChangeListener(changeListener);
         m_adminFunctionsEnabled.getModel().addChangeListener(changeListener);
         m_disableSSLCertValidation.getModel().addChangeListener(changeListener);
+        m_enableRecording.getModel().addChangeListener(changeListener);
+        m_recordingRetention.getModel().addChangeListener(changeListener);
+        m_recordingMaxSize.getModel().addChangeListener(changeListener);
         }
 
     //----- inner classes ---------------------------------------------------
@@ -687,11 +817,21 @@ public class CoherenceOptionsPanel
      */
     private JSpinner m_refreshTime;
 
+    /**
+     * Data type refresh times text field.
+     */
+    private JTextField m_dataTypeRefreshTimes;
+
     /**
      * Reqest request time spinner.
      */
     private JSpinner m_restRequestTimout;
 
+    /**
+     * REST max connections spinner.
+     */
+    private JSpinner m_restMaxConnections;
+
     /**
      * Log query times checkbox.
      */
@@ -732,6 +872,21 @@ public class CoherenceOptionsPanel
      */
     private JCheckBox m_adminFunctionsEnabled;
 
+    /**
+     * Enable recording checkbox.
+     */
+    private JCheckBox m_enableRecording;
+
+    /**
+     * Recording retention in hours.
+     */
+    private JSpinner m_recordingRetention;
+
+    /**
+     * Recording maximum size in MB.
+     */
+    private JSpinner m_recordingMaxSize;
+
     /**
      * A button to analyze unavailable time in a log file.
      */
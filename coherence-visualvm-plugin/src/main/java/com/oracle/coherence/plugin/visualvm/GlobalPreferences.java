@@ -33,13 +33,18 @@ import java.util.prefs.Preferences;
 import org.openide.util.NbPreferences;
 
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_CLUSTER_SNAPSHOT;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_DATA_TYPE_REFRESH_TIMES;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_DISABLE_MBEAN_CHECK;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_HEATMAP_ENABLED;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_LOG_QUERY_TIMES;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_PERSISTENCE_LIST_ENABLED;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_RECORDING_ENABLED;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_RECORDING_MAX_SIZE;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_RECORDING_RETENTION_HOURS;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REFRESH_TIME;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REPORTER_DISABLED;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REST_DEBUG;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REST_MAX_CONNECTIONS;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REST_TIMEOUT;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_ZOOM_ENABLED;
 
@@ -77,6 +82,16 @@ public class GlobalPreferences
             getRefreshTime();
             }
 
+        sValue = System.getProperty(PROP_DATA_TYPE_REFRESH_TIMES);
+        if (sValue != null)
+            {
+            setDataTypeRefreshTimes(sValue);
+            }
+        else
+            {
+            getDataTypeRefreshTimes();
+            }
+
         sValue = System.getProperty(PROP_LOG_QUERY_TIMES);
         if (sValue != null)
             {
@@ -130,6 +145,16 @@ public class GlobalPreferences
             getRestTimeout();
             }
 
+        sValue = System.getProperty(PROP_REST_MAX_CONNECTIONS);
+        if (sValue != null)
+            {
+            setRestMaxConnections(Integer.parseInt(sValue));
+            }
+        else
+            {
+            getRestMaxConnections();
+            }
+
         sValue = System.getProperty(PROP_REST_DEBUG);
         if (sValue != null)
             {
@@ -159,6 +184,36 @@ public class GlobalPreferences
             {
             isClusterSnapshotEnabled();
             }
+
+        sValue = System.getProperty(PROP_RECORDING_ENABLED);
+        if (sValue != null)
+            {
+            setRecordingEnabled(Boolean.parseBoolean(sValue));
+            }
+        else
+            {
+            isRecordingEnabled();
+            }
+
+        sValue = System.getProperty(PROP_RECORDING_RETENTION_HOURS);
+        if (sValue != null)
+            {
+            setRecordingRetentionHours(Integer.parseInt(sValue));
+            }
+        else
+            {
+            getRecordingRetentionHours();
+            }
+
+        sValue = System.getProperty(PROP_RECORDING_MAX_SIZE);
+        if (sValue != null)
+            {
+            setRecordingMaxSize(Integer.parseInt(sValue));
+            }
+        else
+            {
+            getRecordingMaxSize();
+            }
         }
 
     @Override
@@ -198,6 +253,27 @@ public class GlobalPreferences
         setIntegerProperty(REFRESH_TIME, refreshTime);
         }
 
+    /**
+     * Returns the refresh times for individual data types in the format
+     * "TYPE=seconds,TYPE=seconds" or the default if it doesn't exist.
+     *
+     * @return the refresh times for individual data types
+     */
+    public String getDataTypeRefreshTimes()
+        {
+        return getStringProperty(DATA_TYPE_REFRESH_TIMES, DATA_TYPE_REFRESH_TIMES_DEFAULT);
+        }
+
+    /**
+     * Set the refresh times for individual data types.
+     *
+     * @param sRefreshTimes the refresh times in the format "TYPE=seconds,TYPE=seconds"
+     */
+    public void setDataTypeRefreshTimes(String sRefreshTimes)
+        {
+        setStringProperty(DATA_TYPE_REFRESH_TIMES, sRefreshTimes);
+        }
+
     /**
      * Indicates if log query times is set.
      *
@@ -318,6 +394,26 @@ public class GlobalPreferences
         setIntegerProperty(REST_TIMEOUT, nTimeout);
         }
 
+    /**
+     * Returns the maximum number of concurrent REST requests to a host.
+     *
+     * @return the maximum number of concurrent REST requests to a host
+     */
+    public int getRestMaxConnections()
+        {
+        return getIntegerProperty(REST_MAX_CONNECTIONS, Integer.parseInt(REST_MAX_CONNECTIONS_DEFAULT));
+        }
+
+    /**
+     * Sets the maximum number of concurrent REST requests to a host.
+     *
+     * @param cConnections the maximum number of concurrent REST requests to a host
+     */
+    public void setRestMaxConnections(int cConnections)
+        {
+        setIntegerProperty(REST_MAX_CONNECTIONS, cConnections);
+        }
+
     /**
      * Indicates if REST debug is enabled.
      *
@@ -418,6 +514,66 @@ public class GlobalPreferences
         setBooleanProperty(CLUSTER_SNAPSHOT_ENABLED, fValue);
         }
 
+    /**
+     * Indicates if all collected data is recorded to disk.
+     *
+     * @return true if all collected data is recorded to disk
+     */
+    public boolean isRecordingEnabled()
+        {
+        return getBooleanProperty(RECORDING_ENABLED, RECORDING_ENABLED_DEFAULT);
+        }
+
+    /**
+     * Sets if all collected data is recorded to disk.
+     *
+     * @param fValue if all collected data is recorded to disk
+     */
+    public void setRecordingEnabled(boolean fValue)
+        {
+        setBooleanProperty(RECORDING_ENABLED, fValue);
+        }
+
+    /**
+     * Returns the number of hours recorded data is kept for.
+     *
+     * @return the number of hours recorded data is kept for
+     */
+    public int getRecordingRetentionHours()
+        {
+        return getIntegerProperty(RECORDING_RETENTION_HOURS, Integer.parseInt(RECORDING_RETENTION_HOURS_DEFAULT));
+        }
+
+    /**
+     * Sets the number of hours recorded data is kept for.
+     *
+     * @param cHours the number of hours recorded data is kept for
+     */
+    public void setRecordingRetentionHours(int cHours)
+        {
+        setIntegerProperty(RECORDING_RETENTION_HOURS, cHours);
+        }
+
+    /**
+     * Returns the maximum size in MB of the recorded data for a cluster.
+     *
+     * @return the maximum size in MB of the recorded data for a cluster
+     */
+    public int getRecordingMaxSize()
+        {
+        return getIntegerProperty(RECORDING_MAX_SIZE, Integer.parseInt(RECORDING_MAX_SIZE_DEFAULT));
+        }
+
+    /**
+     * Sets the maximum size in MB of the recorded data for a cluster.
+     *
+     * @param cMegabytes the maximum size in MB of the recorded data for a cluster
+     */
+    public void setRecordingMaxSize(int cMegabytes)
+        {
+        setIntegerProperty(RECORDING_MAX_SIZE, cMegabytes);
+        }
+
     /**
      * Returns a boolean property value.
      *
@@ -479,6 +635,43 @@ public class GlobalPreferences
             }
         }
 
+    /**
+     * Returns a string property value.
+     *
+     * @param sProperty property key
+     * @param sDefault  default
+     *
+     * @return a string value
+     */
+    private String getStringProperty(String sProperty, String sDefault)
+        {
+        String sValue;
+        synchronized (f_prefs)
+            {
+            sValue = f_prefs.get(sProperty, null);
+            if (sValue == null)
+                {
+                sValue = sDefault;
+                f_prefs.put(sProperty, sDefault);
+                }
+            }
+        return sValue;
+        }
+
+    /**
+     * Sets a string property value.
+     *
+     * @param sProperty property key
+     * @param sValue    value
+     */
+    private void setStringProperty(String sProperty, String sValue)
+        {
+        synchronized (f_prefs)
+            {
+            f_prefs.put(sProperty, sValue);
+            }
+        }
+
     /**
      * Sets a boolean property value.
      *
@@ -510,6 +703,17 @@ public class GlobalPreferences
      */
     private static final String REFRESH_TIME_DEFAULT = "30";
 
+    /**
+     * Preference key for data type refresh times.
+     */
+    private static final String DATA_TYPE_REFRESH_TIMES = "dataTypeRefreshTimes";
+
+    /**
+     * Default for data type refresh times. Cluster and machine data change
+     * rarely so are refreshed less often.
+     */
+    private static final String DATA_TYPE_REFRESH_TIMES_DEFAULT = "CLUSTER=60,MACHINE=60";
+
     /**
      * Preference key for log query times.
      */
@@ -580,6 +784,16 @@ public class GlobalPreferences
      */
     private static final String REST_TIMEOUT_DEFAULT = "30000";
 
+    /**
+     * Preference key for REST max connections.
+     */
+    private static final String REST_MAX_CONNECTIONS = "restMaxConnections";
+
+    /**
+     * Default for REST max connections.
+     */
+    private static final String REST_MAX_CONNECTIONS_DEFAULT = "8";
+
     /**
      * Preference key for REST Debug
      */
@@ -620,6 +834,36 @@ public class GlobalPreferences
      */
     private static final String DISABLE_MBEAN_CHECK_DEFAULT = "false";
 
+    /**
+     * Preference key for recording enabled.
+     */
+    private static final String RECORDING_ENABLED = "recordingEnabled";
+
+    /**
+     * Default for recording enabled.
+     */
+    private static final String RECORDING_ENABLED_DEFAULT = "false";
+
+    /**
+     * Preference key for recording retention hours.
+     */
+    private static final String RECORDING_RETENTION_HOURS = "recordingRetentionHours";
+
+    /**
+     * Default for recording retention hours.
+     */
+    private static final String RECORDING_RETENTION_HOURS_DEFAULT = "24";
+
+    /**
+     * Preference key for recording max size.
+     */
+    private static final String RECORDING_MAX_SIZE = "recordingMaxSize";
+
+    /**
+     * Default for recording max size in MB.
+     */
+    private static final String RECORDING_MAX_SIZE_DEFAULT = "1024";
+
     // ----- data members ------------------------------------------------------
 
     /**
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules the refresh of all open cluster views. The refreshes share a
+ * bounded number of threads, and the number of refreshes running concurrently
+ * against the same host is limited, so that monitoring many clusters at once
+ * does not overload VisualVM or the management servers.
+ * <p>
+ * Views which are due are started in round-robin order, so a cluster which
+ * takes a long time to refresh cannot starve the others, and views which are
+ * on screen are always started before views which are not. Views which are not
+ * on screen are also refreshed {@link #UNFOCUSED_REFRESH_FACTOR} times less often.
+ *
+ * @author agent 2026.10.16
+ */
+public class RefreshCoordinator
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link RefreshCoordinator}.
+     *
+     * @param cThreads     the maximum number of refreshes running concurrently
+     * @param cMaxPerHost  the maximum number of refreshes running concurrently
+     *                     against the same host
+     */
+    public RefreshCoordinator(int cThreads, int cMaxPerHost)
+        {
+        if (cThreads <= 0 || cMaxPerHost <= 0)
+            {
+            throw new IllegalArgumentException("Threads and refreshes per host must be greater than zero");
+            }
+
+        f_cThreads    = cThreads;
+        f_cMaxPerHost = cMaxPerHost;
+
+        AtomicInteger      atomicId = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cThreads, cThreads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable ->
+                    {
+                    Thread thread = new Thread(runnable, "CoherenceViewRefresh-" + atomicId.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                    });
+        executor.allowCoreThreadTimeOut(true);
+
+        f_executor = executor;
+        f_timer    = Executors.newSingleThreadScheduledExecutor(runnable ->
+            {
+            Thread thread = new Thread(runnable, "CoherenceViewRefreshTimer");
+            thread.setDaemon(true);
+            return thread;
+            });
+        }
+
+    // ----- RefreshCoordinator methods -------------------------------------
+
+    /**
+     * Register a view to be refreshed. The first refresh is started as soon
+     * as possible.
+     *
+     * @param refresh          the refresh of the view, which is never run concurrently
+     * @param sHost            the host the view collects its data from
+     * @param cIntervalMillis  the interval in millis between the end of one
+     *                         refresh and the start of the next
+     *
+     * @return the {@link Registration} for the view
+     */
+    public synchronized Registration register(Runnable refresh, String sHost, long cIntervalMillis)
+        {
+        Registration registration = new Registration(refresh, sHost, cIntervalMillis);
+
+        f_listRegistrations.add(registration);
+        dispatch();
+
+        return registration;
+        }
+
+    /**
+     * Returns the shared {@link RefreshCoordinator} used by all views.
+     *
+     * @return the shared {@link RefreshCoordinator}
+     */
+    public static synchronized RefreshCoordinator getInstance()
+        {
+        if (s_instance == null)
+            {
+            s_instance = new RefreshCoordinator(
+                    Math.max(1, Integer.getInteger(VisualVMModel.PROP_REFRESH_THREADS,
+                                                   VisualVMModel.DEFAULT_REFRESH_THREADS)),
+                    Math.max(1, Integer.getInteger(VisualVMModel.PROP_REFRESH_HOST_MAX,
+                                                   VisualVMModel.DEFAULT_REFRESH_HOST_MAX)));
+            }
+
+        return s_instance;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Start the refresh of the registered views which are due, as long as
+     * there is a free thread and the host of the view is within its limit,
+     * and then schedule a wake-up for when the next view is due.
+     */
+    private synchronized void dispatch()
+        {
+        long ldtNow         = System.currentTimeMillis();
+        int  cRegistrations = f_listRegistrations.size();
+        int  nStart         = cRegistrations == 0 ? 0 : m_nNext % cRegistrations;
+        int  nLast          = -1;
+
+        // start the views which are on screen first
+        for (int nPass = 0; nPass < 2; nPass++)
+            {
+            for (int i = 0; i < cRegistrations && m_cRunning < f_cThreads; i++)
+                {
+                int          nIndex       = (nStart + i) % cRegistrations;
+                Registration registration = f_listRegistrations.get(nIndex);
+
+                if (registration.m_fFocused == (nPass == 0) && !registration.m_fRunning
+                    && ldtNow >= registration.m_ldtNextDue
+                    && f_mapHostRunning.getOrDefault(registration.f_sHost, 0) < f_cMaxPerHost)
+                    {
+                    start(registration);
+                    nLast = nIndex;
+                    }
+                }
+            }
+
+        // the next round starts after the last view started in this round
+        if (nLast != -1)
+            {
+            m_nNext = nLast + 1;
+            }
+
+        // views which are waiting for a thread or their host are started as
+        // soon as a refresh completes, so only wake up for views not yet due
+        long ldtWakeUp = Long.MAX_VALUE;
+        for (Registration registration : f_listRegistrations)
+            {
+            if (!registration.m_fRunning && registration.m_ldtNextDue > ldtNow)
+                {
+                ldtWakeUp = Math.min(ldtWakeUp, registration.m_ldtNextDue);
+                }
+            }
+
+        if (m_futureWakeUp != null)
+            {
+            m_futureWakeUp.cancel(false);
+            m_futureWakeUp = null;
+            }
+
+        if (ldtWakeUp != Long.MAX_VALUE)
+            {
+            m_futureWakeUp = f_timer.schedule(this::dispatch, ldtWakeUp - ldtNow, TimeUnit.MILLISECONDS);
+            }
+        }
+
+    /**
+     * Start the refresh of a view.
+     *
+     * @param registration  the {@link Registration} of the view
+     */
+    private void start(Registration registration)
+        {
+        registration.m_fRunning          = true;
+        registration.m_fRefreshRequested = false;
+        m_cRunning++;
+        f_mapHostRunning.merge(registration.f_sHost, 1, Integer::sum);
+
+        f_executor.execute(() ->
+            {
+            try
+                {
+                registration.f_refresh.run();
+                }
+            catch (Throwable t)
+                {
+                LOGGER.log(Level.WARNING, "Error while refreshing view", t);
+                }
+            finally
+                {
+                completed(registration);
+                }
+            });
+        }
+
+    /**
+     * Called when the refresh of a view has completed.
+     *
+     * @param registration  the {@link Registration} of the view
+     */
+    private synchronized void completed(Registration registration)
+        {
+        registration.m_fRunning = false;
+        m_cRunning--;
+        f_mapHostRunning.computeIfPresent(registration.f_sHost, (k, c) -> c == 1 ? null : c - 1);
+
+        long ldtNow = System.currentTimeMillis();
+        registration.m_ldtNextDue = registration.m_fRefreshRequested
+                                    ? ldtNow
+                                    : ldtNow + registration.f_cIntervalMillis *
+                                               (registration.m_fFocused ? 1 : UNFOCUSED_REFRESH_FACTOR);
+
+        dispatch();
+        }
+
+    // ----- inner class: Registration --------------------------------------
+
+    /**
+     * A view registered with the {@link RefreshCoordinator}.
+     */
+    public class Registration
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a {@link Registration}.
+         *
+         * @param refresh          the refresh of the view
+         * @param sHost            the host the view collects its data from
+         * @param cIntervalMillis  the interval in millis between refreshes
+         */
+        private Registration(Runnable refresh, String sHost, long cIntervalMillis)
+            {
+            f_refresh         = refresh;
+            f_sHost           = sHost;
+            f_cIntervalMillis = cIntervalMillis;
+            }
+
+        // ----- Registration methods ---------------------------------------
+
+        /**
+         * Set whether the view is on screen. Views which are not on screen are
+         * refreshed less often and after the views which are.
+         *
+         * @param fFocused  true if the view is on screen
+         */
+        public void setFocused(boolean fFocused)
+            {
+            m_fFocused = fFocused;
+            }
+
+        /**
+         * Refresh the view as soon as possible, rather than when it is next due.
+         */
+        public void requestRefresh()
+            {
+            synchronized (RefreshCoordinator.this)
+                {
+                if (f_listRegistrations.contains(this))
+                    {
+                    m_fRefreshRequested = true;
+                    m_ldtNextDue        = 0L;
+                    dispatch();
+                    }
+                }
+            }
+
+        /**
+         * Stop refreshing the view. A refresh which is running is not interrupted.
+         */
+        public void cancel()
+            {
+            synchronized (RefreshCoordinator.this)
+                {
+                f_listRegistrations.remove(this);
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The refresh of the view.
+         */
+        private final Runnable f_refresh;
+
+        /**
+         * The host the view collects its data from.
+         */
+        private final String f_sHost;
+
+        /**
+         * The interval in millis between the end of one refresh and the start of the next.
+         */
+        private final long f_cIntervalMillis;
+
+        /**
+         * Indicates if the view is on screen.
+         */
+        private volatile boolean m_fFocused = true;
+
+        /**
+         * Indicates if the refresh of the view is running.
+         */
+        private boolean m_fRunning;
+
+        /**
+         * Indicates if a refresh was requested while the refresh was running.
+         */
+        private boolean m_fRefreshRequested;
+
+        /**
+         * The time the next refresh of the view is due.
+         */
+        private long m_ldtNextDue;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The factor the refresh interval of views which are not on screen is multiplied by.
+     */
+    public static final int UNFOCUSED_REFRESH_FACTOR = 4;
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RefreshCoordinator.class.getName());
+
+    /**
+     * The shared instance.
+     */
+    private static RefreshCoordinator s_instance;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The maximum number of refreshes running concurrently.
+     */
+    private final int f_cThreads;
+
+    /**
+     * The maximum number of refreshes running concurrently against the same host.
+     */
+    private final int f_cMaxPerHost;
+
+    /**
+     * The executor which runs the refreshes.
+     */
+    private final ExecutorService f_executor;
+
+    /**
+     * The executor used to wake up when the next view is due.
+     */
+    private final ScheduledExecutorService f_timer;
+
+    /**
+     * The registered views in the order they are started.
+     */
+    private final List<Registration> f_listRegistrations = new ArrayList<>();
+
+    /**
+     * The number of refreshes running against each host.
+     */
+    private final Map<String, Integer> f_mapHostRunning = new HashMap<>();
+
+    /**
+     * The number of refreshes running.
+     */
+    private int m_cRunning;
+
+    /**
+     * The index of the view the next round of starts begins with.
+     */
+    private int m_nNext;
+
+    /**
+     * The scheduled wake-up, or null if no view is waiting to be due.
+     */
+    private ScheduledFuture<?> m_futureWakeUp;
+    }
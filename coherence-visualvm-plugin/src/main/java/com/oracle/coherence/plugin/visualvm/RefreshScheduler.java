@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.logging.Logger;
+
+/**
+ * Decides when each {@link DataType} is due to be collected. Each type has its
+ * own refresh interval, which defaults to the global refresh time, and backs
+ * off automatically when collecting it takes a large part of its interval so
+ * that slow types do not saturate the management node.
+ *
+ * @author agent 2026.10.16
+ */
+public class RefreshScheduler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link RefreshScheduler}.
+     *
+     * @param cDefaultMillis  the default refresh interval in milliseconds
+     */
+    public RefreshScheduler(long cDefaultMillis)
+        {
+        m_cDefaultMillis = cDefaultMillis;
+        }
+
+    // ----- RefreshScheduler methods ---------------------------------------
+
+    /**
+     * Set the default refresh interval and the refresh intervals configured
+     * for individual {@link DataType}s.
+     *
+     * @param cDefaultMillis  the default refresh interval in milliseconds
+     * @param mapIntervals    the refresh interval in milliseconds for each
+     *                        {@link DataType} that does not use the default
+     */
+    public void configure(long cDefaultMillis, Map<DataType, Long> mapIntervals)
+        {
+        m_cDefaultMillis = cDefaultMillis;
+        m_mapIntervals   = mapIntervals.isEmpty()
+                           ? Collections.emptyMap()
+                           : Collections.unmodifiableMap(new EnumMap<>(mapIntervals));
+        }
+
+    /**
+     * Returns the configured refresh interval for the {@link DataType}.
+     *
+     * @param type  the {@link DataType}
+     *
+     * @return the configured refresh interval in milliseconds
+     */
+    public long getInterval(DataType type)
+        {
+        Long cMillis = m_mapIntervals.get(type);
+
+        return cMillis == null ? m_cDefaultMillis : cMillis;
+        }
+
+    /**
+     * Returns the refresh interval currently in use for the {@link DataType},
+     * which may be longer than the configured interval if the type has backed off.
+     *
+     * @param type  the {@link DataType}
+     *
+     * @return the refresh interval in use in milliseconds
+     */
+    public long getEffectiveInterval(DataType type)
+        {
+        long    cInterval = getInterval(type);
+        Integer nFactor   = f_mapBackOff.get(type);
+
+        return nFactor == null ? cInterval : cInterval * nFactor;
+        }
+
+    /**
+     * Returns true if the {@link DataType} is due to be collected.
+     *
+     * @param type     the {@link DataType}
+     * @param ldtNow   the current time
+     * @param nFactor  the factor to multiply the refresh interval by, e.g.
+     *                 for types that are not visible
+     *
+     * @return true if the {@link DataType} is due to be collected
+     */
+    public boolean isDue(DataType type, long ldtNow, int nFactor)
+        {
+        Long ldtLastCollected = f_mapLastCollected.get(type);
+
+        return ldtLastCollected == null || ldtNow - ldtLastCollected >= getEffectiveInterval(type) * nFactor;
+        }
+
+    /**
+     * Record that a {@link DataType} has been collected and adjust its back-off.
+     * If the collection took at least {@link #BACK_OFF_THRESHOLD} of the
+     * interval in use, the interval is doubled up to {@link #MAX_BACK_OFF}
+     * times the configured interval. If it took less than
+     * {@link #RECOVERY_THRESHOLD} it is halved again towards the configured
+     * interval.
+     *
+     * @param type         the {@link DataType}
+     * @param ldtStart     the time the collection started
+     * @param cMillisTaken the time taken to collect the data in milliseconds
+     */
+    public void collected(DataType type, long ldtStart, long cMillisTaken)
+        {
+        f_mapLastCollected.put(type, ldtStart);
+
+        Integer nCurrent  = f_mapBackOff.get(type);
+        int     nFactor   = nCurrent == null ? 1 : nCurrent;
+        long    cInterval = getInterval(type) * nFactor;
+
+        if (cMillisTaken >= cInterval * BACK_OFF_THRESHOLD && nFactor < MAX_BACK_OFF)
+            {
+            nFactor = Math.min(nFactor * 2, MAX_BACK_OFF);
+            LOGGER.info("Collecting " + type + " took " + cMillisTaken + " ms, backing off to refresh every "
+                        + (getInterval(type) * nFactor / 1000) + " seconds");
+            }
+        else if (cMillisTaken < cInterval * RECOVERY_THRESHOLD && nFactor > 1)
+            {
+            nFactor /= 2;
+            }
+
+        if (nFactor == 1)
+            {
+            f_mapBackOff.remove(type);
+            }
+        else
+            {
+            f_mapBackOff.put(type, nFactor);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Parse a list of refresh intervals for individual {@link DataType}s in the
+     * format "TYPE=seconds, TYPE=seconds", e.g. "CLUSTER=60, MACHINE=60".
+     *
+     * @param sIntervals  the intervals to parse, may be null or empty
+     *
+     * @return the refresh interval in milliseconds for each {@link DataType}
+     *
+     * @throws IllegalArgumentException if the intervals are not valid
+     */
+    public static Map<DataType, Long> parseIntervals(String sIntervals)
+        {
+        Map<DataType, Long> mapIntervals = new EnumMap<>(DataType.class);
+
+        if (sIntervals == null || sIntervals.trim().isEmpty())
+            {
+            return mapIntervals;
+            }
+
+        for (String sEntry : sIntervals.split(","))
+            {
+            String[] asParts = sEntry.split("=");
+            if (asParts.length != 2)
+                {
+                throw new IllegalArgumentException("Invalid refresh interval \"" + sEntry.trim()
+                                                   + "\", expected TYPE=seconds");
+                }
+
+            DataType type;
+            long     cSeconds;
+            try
+                {
+                type     = DataType.valueOf(asParts[0].trim().toUpperCase());
+                cSeconds = Long.parseLong(asParts[1].trim());
+                }
+            catch (IllegalArgumentException e)
+                {
+                throw new IllegalArgumentException("Invalid refresh interval \"" + sEntry.trim() + "\"", e);
+                }
+
+            if (cSeconds <= 0)
+                {
+                throw new IllegalArgumentException("Refresh interval for " + type + " must be greater than zero");
+                }
+
+            mapIntervals.put(type, cSeconds * 1000L);
+            }
+
+        return mapIntervals;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RefreshScheduler.class.getName());
+
+    /**
+     * The fraction of the interval in use which, if a collection takes at least
+     * this long, causes the type to back off.
+     */
+    public static final double BACK_OFF_THRESHOLD = 0.5d;
+
+    /**
+     * The fraction of the interval in use which, if a collection takes less
+     * than this, causes a type that has backed off to recover.
+     */
+    public static final double RECOVERY_THRESHOLD = 0.25d;
+
+    /**
+     * The maximum factor the configured interval is multiplied by when backing off.
+     */
+    public static final int MAX_BACK_OFF = 8;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The default refresh interval in milliseconds.
+     */
+    private volatile long m_cDefaultMillis;
+
+    /**
+     * The configured refresh interval in milliseconds for individual {@link DataType}s.
+     */
+    private volatile Map<DataType, Long> m_mapIntervals = Collections.emptyMap();
+
+    /**
+     * The factor the configured interval is currently multiplied by for each
+     * {@link DataType} that has backed off.
+     */
+    private final Map<DataType, Integer> f_mapBackOff = new ConcurrentHashMap<>();
+
+    /**
+     * The time each {@link DataType} was last collected.
+     */
+    private final Map<DataType, Long> f_mapLastCollected = new ConcurrentHashMap<>();
+    }
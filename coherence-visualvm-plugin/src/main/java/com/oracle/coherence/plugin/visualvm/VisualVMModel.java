@@ -24,14 +24,20 @@
  */
 package com.oracle.coherence.plugin.visualvm;
 
+import com.oracle.coherence.plugin.visualvm.diagnostics.PluginDiagnostics;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import com.oracle.coherence.plugin.visualvm.recording.MetricsRecorder;
+import com.oracle.coherence.plugin.visualvm.recording.ReplayRequestSender;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheDetailData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheFrontDetailData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheStorageManagerData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.DataFrame;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.DataRetriever;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ExecutorData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.FederationDestinationData;
@@ -68,8 +74,10 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -79,10 +87,27 @@ import java.util.TreeMap;
 
 import java.util.Map.Entry;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import javax.management.openmbean.TabularData;
 
 
 /**
@@ -109,7 +134,7 @@ public class VisualVMModel
     /**
      * Initialize anything for this instance of the model.
      */
-    private void init()
+    protected void init()
         {
         m_nRefreshTime = getRefreshTime();
         m_fLogJMXQueryTimes = isLogQueryTimes();
@@ -126,7 +151,7 @@ public class VisualVMModel
         m_ldtLastUpdate = System.currentTimeMillis() - m_nRefreshTime - 1L;
 
         // populate mapCollectedData which contains an entry for each type
-        m_mapCollectedData = new HashMap<DataType, List<Entry<Object, Data>>>();
+        m_mapCollectedData = Collections.synchronizedMap(new HashMap<DataType, List<Entry<Object, Data>>>());
 
         for (DataType type : DataType.values())
             {
@@ -164,6 +189,17 @@ public class VisualVMModel
         f_mapDataRetrievers.put(ExecutorData.class, new ExecutorData());
         f_mapDataRetrievers.put(GrpcProxyData.class, new GrpcProxyData());
 
+        // calculate the rates of the cumulative counters of each type which has them
+        for (DataType type : DataType.values())
+            {
+            DataRetriever retriever = f_mapDataRetrievers.get(type.getClassName());
+
+            if (retriever != null && retriever.getCounterColumns().length > 0)
+                {
+                f_mapCounterRates.put(type, new CounterRates(retriever.getCounterColumns()));
+                }
+            }
+
         // Loop through each data retriever and initialize the map of
         // report XML. Doing it this way we load it only once
 
@@ -203,66 +239,607 @@ public class VisualVMModel
         return GlobalPreferences.sharedInstance().isLogQueryTimes();
         }
 
+    /**
+     * Returns the refresh intervals configured for individual {@link DataType}s.
+     *
+     * @return the refresh interval in millis for each {@link DataType} that
+     *         does not use the refresh time
+     */
+    private Map<DataType, Long> getDataTypeRefreshTimes()
+        {
+        try
+            {
+            return RefreshScheduler.parseIntervals(GlobalPreferences.sharedInstance().getDataTypeRefreshTimes());
+            }
+        catch (IllegalArgumentException e)
+            {
+            LOGGER.warning("Ignoring invalid data type refresh times: " + e.getMessage());
+            return Collections.emptyMap();
+            }
+        }
+
     /**
      * Refresh the statistics from the given {@link MBeanServerConnection}
-     * connection. This method will only refresh data if at least the REFRESH_TIME
-     * has passed since last refresh.
+     * connection. This method will only refresh data if at least one
+     * {@link DataType} is due according to its own refresh interval, and then
+     * only refreshes the types which are due. Each {@link DataType} is collected
+     * as soon as the types it depends on have been collected, and this method
+     * returns once all types have been collected.
      *
      * @param requestSender  the RequestSender to use
      */
     public void refreshStatistics(RequestSender requestSender)
         {
-        if (System.currentTimeMillis() - m_ldtLastUpdate >= m_nRefreshTime)
+        m_nRefreshTime = getRefreshTime();
+        f_scheduler.configure(m_nRefreshTime, getDataTypeRefreshTimes());
+
+        boolean fReplay = requestSender instanceof ReplayRequestSender;
+        if (fReplay)
+            {
+            ((ReplayRequestSender) requestSender).advance();
+            }
+
+        if (m_fRefreshRequested || isAnyRefreshDue())
             {
-            long ldtStart = System.currentTimeMillis();
-            // refresh every iteration so we can enable and disable on the fly
-            m_fLogJMXQueryTimes = isLogQueryTimes();
+            m_fRefreshRequested = false;
+            collectData(requestSender, null);
+            }
+        }
 
-            // its important that the CACHE data is refreshed first and
-            // as such we are relying on the order of types in the enum.
-            for (DataType type : DataType.values())
+    /**
+     * Detect which features are configured from the names of their MBeans, so
+     * that the views of the features can be displayed before the first refresh
+     * has completed. Only the MBean names are queried. Features which cannot be
+     * identified by the names of their MBeans, such as proxy servers or
+     * persistence, and the features of clusters connected to using REST or of
+     * recordings, are detected by the first refresh.
+     *
+     * @param requestSender  the RequestSender to use
+     */
+    public void probeFeatures(RequestSender requestSender)
+        {
+        if (!(requestSender instanceof JMXRequestSender))
+            {
+            return;
+            }
+
+        for (Map.Entry<DataType, String> entry : getFeatureMBeans().entrySet())
+            {
+            try
                 {
-                // optimize the retrieval if this is not the first time and only query
-                // specific data types if the functionality is enabled.
-                // this can improve performance especially over REST
-                if (m_fIsFirstRefresh || shouldRetrieveData(type))
+                if (!requestSender.getCompleteObjectName(new ObjectName(entry.getValue())).isEmpty())
                     {
-                    if (m_fLogJMXQueryTimes)
-                        {
-                        LOGGER.info("Starting querying statistics for " + type.toString());
-                        }
+                    f_setProbedFeatures.add(entry.getKey());
+                    }
+                }
+            catch (Exception e)
+                {
+                LOGGER.log(Level.FINE, "Unable to query MBeans " + entry.getValue(), e);
+                }
+            }
+        }
 
-                    long ldtCollectionStart = System.currentTimeMillis();
-                    m_mapCollectedData.put(type, getData(requestSender, type.getClassName()));
-                    long ldtCollectionTime  = System.currentTimeMillis() - ldtCollectionStart;
+    /**
+     * Returns the MBean name patterns which identify whether a feature is
+     * configured, keyed by the {@link DataType} which shows the feature.
+     *
+     * @return the MBean name patterns keyed by {@link DataType}
+     */
+    private static Map<DataType, String> getFeatureMBeans()
+        {
+        Map<DataType, String> mapMBeans = new EnumMap<>(DataType.class);
 
-                    if (m_fLogJMXQueryTimes)
-                        {
-                        LOGGER.info("Time to query statistics for " + type.toString() + " was " +
-                                    ldtCollectionTime + " ms");
-                        }
+        mapMBeans.put(DataType.HOTCACHE, "Coherence:type=CoherenceAdapter,*");
+        mapMBeans.put(DataType.FEDERATION_ORIGIN, "Coherence:type=Federation,*");
+        mapMBeans.put(DataType.TOPICS_DETAIL, "Coherence:type=Cache,tier=back,name=$topic$*,*");
+        mapMBeans.put(DataType.RAMJOURNAL, "Coherence:type=Journal,*");
+        mapMBeans.put(DataType.JCACHE_CONFIG, "javax.cache:type=CacheConfiguration,*");
+        mapMBeans.put(DataType.EXECUTOR, "Coherence:type=Executor,*");
+        mapMBeans.put(DataType.GRPC_PROXY, "Coherence:type=GrpcNamedCacheProxy,*");
+
+        return mapMBeans;
+        }
+
+    /**
+     * Collect the {@link DataType}s which are due, or the given {@link DataType}s.
+     * Each {@link DataType} is collected as soon as the types it depends on have
+     * been collected, with the types displayed by visible panels first. This method
+     * returns once all types have been collected or the refresh deadline has passed,
+     * in which case the late types are marked as stale and continue in the background.
+     *
+     * @param requestSender  the RequestSender to use
+     * @param setTypes       the {@link DataType}s to collect, or null to collect
+     *                       the types which are due
+     */
+    private void collectData(RequestSender requestSender, Set<DataType> setTypes)
+        {
+        boolean fReplay = requestSender instanceof ReplayRequestSender;
+
+        long ldtStart = System.currentTimeMillis();
+        // refresh every iteration so we can enable and disable on the fly
+        m_fLogJMXQueryTimes = isLogQueryTimes();
+
+        // run the reports for all of the due types in a single round trip, the
+        // output of each report is then processed as each type is collected
+        // and each refresh has its own reports so that the types which miss
+        // the deadline can still use them once the next refresh has started
+        Map<Class, TabularData> mapBatchedReports = fReplay
+                                                    ? Collections.emptyMap()
+                                                    : runBatchedReports(requestSender, setTypes);
+
+        // each type is submitted once all of the types it depends on have
+        // been collected, so independent types are retrieved concurrently and
+        // the total time is that of the slowest chain of dependent types.
+        // Dependencies are always declared earlier in the enum so the
+        // futures they refer to have already been created. A type which missed
+        // the deadline of the previous refresh is still being collected so its
+        // collection, and the types which depend on it, wait for it to complete
+        Map<DataType, CompletableFuture<Void>> mapPrevious  = m_mapCollections;
+        Map<DataType, CompletableFuture<Void>> mapFutures   = new EnumMap<>(DataType.class);
+        Set<DataType>                          setCollected = Collections.synchronizedSet(EnumSet.noneOf(DataType.class));
+
+        for (DataType type : DataType.values())
+            {
+            DataType[]              aDependencies  = type.getDependencies();
+            CompletableFuture<?>[]  aFutures       = new CompletableFuture<?>[aDependencies.length + 1];
+            CompletableFuture<Void> futurePrevious = mapPrevious.get(type);
+
+            for (int i = 0; i < aDependencies.length; i++)
+                {
+                aFutures[i] = mapFutures.get(aDependencies[i]);
+                }
+            aFutures[aDependencies.length] = futurePrevious == null
+                                             ? CompletableFuture.completedFuture(null) : futurePrevious;
+
+            mapFutures.put(type, CompletableFuture.allOf(aFutures)
+                    .thenRunAsync(() -> refreshData(requestSender, type, setTypes, setCollected, mapBatchedReports),
+                                  runnable -> executeByPriority(type, runnable)));
+            }
+        m_mapCollections = mapFutures;
+
+        CompletableFuture<Void> futureAll = CompletableFuture.allOf(mapFutures.values().toArray(new CompletableFuture<?>[0]));
+        boolean                 fLate     = false;
+        try
+            {
+            // a recording is read locally so it is always replayed in full
+            if (fReplay)
+                {
+                futureAll.join();
+                }
+            else
+                {
+                futureAll.get(getRefreshDeadline(), TimeUnit.MILLISECONDS);
+                }
+            }
+        catch (TimeoutException e)
+            {
+            // the types which missed the deadline are left to complete in the
+            // background and keep their previous values until they do
+            Set<DataType> setLate = EnumSet.noneOf(DataType.class);
+            for (Entry<DataType, CompletableFuture<Void>> entry : mapFutures.entrySet())
+                {
+                DataType type = entry.getKey();
+                if (!entry.getValue().isDone() && isCollectionRequired(type, setTypes))
+                    {
+                    setLate.add(type);
                     }
-                else
+                }
+            f_setStaleDataTypes.addAll(setLate);
+            fLate = true;
+
+            LOGGER.warning("Collection of " + setLate + " did not complete within " + getRefreshDeadline() + " ms");
+            }
+        catch (CompletionException | ExecutionException e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to refresh statistics", e.getCause());
+            }
+        catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            }
+
+        long ldtTotalDuration = System.currentTimeMillis() - ldtStart;
+
+        PluginDiagnostics.getInstance().record(PluginDiagnostics.Category.REFRESH, setTypes == null ? "refresh" : "probe",
+                                               TimeUnit.MILLISECONDS.toNanos(ldtTotalDuration), 0L, fLate);
+
+        if (m_fLogJMXQueryTimes)
+           {
+           LOGGER.info("Time to query all statistics was " + ldtTotalDuration + " ms");
+           }
+
+        // there is no need to record a recording which is being replayed
+        if (!fReplay)
+            {
+            recordCollectedData(ldtStart, setCollected);
+            }
+
+        m_ldtLastUpdate = System.currentTimeMillis();
+        }
+
+    /**
+     * Record the data for the {@link DataType}s collected by the last refresh
+     * if recording is enabled. Recording is stopped for this model if the data
+     * cannot be written.
+     *
+     * @param ldtCollected  the time the refresh started
+     * @param setCollected  the {@link DataType}s which were collected
+     */
+    private void recordCollectedData(long ldtCollected, Set<DataType> setCollected)
+        {
+        GlobalPreferences preferences = GlobalPreferences.sharedInstance();
+
+        if (!preferences.isRecordingEnabled() || m_fRecordingFailed)
+            {
+            closeRecording();
+            return;
+            }
+
+        long cMillisRetention = preferences.getRecordingRetentionHours() * 60L * 60L * 1000L;
+        long cbMaxSize        = preferences.getRecordingMaxSize() * 1024L * 1024L;
+
+        try
+            {
+            if (m_recorder == null)
+                {
+                String sClusterName = getClusterName();
+                if (sClusterName == null)
                     {
-                    if (m_fLogJMXQueryTimes)
-                        {
-                        LOGGER.info("Skipping querying statistics for " + type.toString() + " as it is not configured");
-                        }
+                    return;
                     }
+
+                m_recorder = new MetricsRecorder(MetricsRecorder.getRecordingDirectory(sClusterName),
+                        MetricsRecorder.DEFAULT_SEGMENT_SIZE, cMillisRetention, cbMaxSize);
+                LOGGER.info("Recording collected data to " + m_recorder.getDirectory());
+                }
+            else
+                {
+                m_recorder.setRetention(cMillisRetention, cbMaxSize);
+                }
+
+            // types which missed the deadline may still be adding to the set
+            Set<DataType> setTypes;
+            synchronized (setCollected)
+                {
+                setTypes = EnumSet.copyOf(setCollected);
+                }
+
+            for (DataType type : setTypes)
+                {
+                m_recorder.record(ldtCollected, type, m_mapCollectedData.get(type));
+                }
+            }
+        catch (IOException | RuntimeException e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to record collected data, recording has been stopped", e);
+            m_fRecordingFailed = true;
+            closeRecording();
+            }
+        }
+
+    /**
+     * Stop recording the collected data. Recording is started again by the next
+     * refresh if it is enabled.
+     */
+    public void closeRecording()
+        {
+        MetricsRecorder recorder = m_recorder;
+        if (recorder != null)
+            {
+            m_recorder = null;
+            recorder.close();
+            }
+        }
+
+    /**
+     * Returns the name of the cluster from the collected {@link DataType#CLUSTER} data.
+     *
+     * @return the name of the cluster or null if not yet collected
+     */
+    private String getClusterName()
+        {
+        List<Entry<Object, Data>> listCluster = m_mapCollectedData.get(DataType.CLUSTER);
+        if (listCluster == null || listCluster.isEmpty())
+            {
+            return null;
+            }
+
+        Object oName = listCluster.get(0).getValue().getColumn(ClusterData.CLUSTER_NAME);
+        return oName == null ? null : oName.toString();
+        }
+
+    /**
+     * Run the reports for all of the {@link DataType}s which are due to be refreshed
+     * using a single invocation of the Reporter MBean, rather than one invocation
+     * for each type, and save the output of each report so that it is processed
+     * when the type is collected. Types whose report is not returned are
+     * collected as before.
+     *
+     * @param requestSender  the RequestSender to use
+     * @param setTypes       the {@link DataType}s to collect, or null to collect
+     *                       the types which are due
+     *
+     * @return the output of each report keyed by the {@link DataRetriever} class
+     *         of its type, which each type removes once it has been processed
+     */
+    private Map<Class, TabularData> runBatchedReports(RequestSender requestSender, Set<DataType> setTypes)
+        {
+        Map<Class, TabularData> mapBatchedReports = new ConcurrentHashMap<>();
+
+        if (!(requestSender instanceof JMXRequestSender) || isReporterAvailable() == null || !isReporterAvailable() ||
+            !m_fReportBatchingSupported || Boolean.getBoolean(PROP_REPORTER_BATCH_DISABLED))
+            {
+            return mapBatchedReports;
+            }
+
+        Map<String, String> mapReports = new HashMap<>();
+        Map<String, Class>  mapClasses = new HashMap<>();
+
+        for (DataType type : DataType.values())
+            {
+            Class  clazz      = type.getClassName();
+            String sReportXML = f_mapReportXML.get(clazz);
+
+            if (sReportXML != null && isCollectionRequired(type, setTypes) &&
+                !(clazz.equals(ProxyData.class) && getClusterVersionAsInt() < 122110))
+                {
+                mapReports.put(type.name(), getDataRetrieverInstance(clazz).preProcessReporterXML(this, sReportXML));
+                mapClasses.put(type.name(), clazz);
                 }
+            }
 
-            long ldtTotalDuration = System.currentTimeMillis() - ldtStart;
+        // there is nothing to be saved unless at least two reports are run
+        if (mapReports.size() < 2)
+            {
+            return mapBatchedReports;
+            }
+
+        JMXRequestSender sender = (JMXRequestSender) requestSender;
+        long             ldtStart = System.currentTimeMillis();
+
+        try
+            {
+            String sReporterLocation = getReporterLocation(sender);
+
+            if (sReporterLocation != null)
+                {
+                Map<String, TabularData> mapResults = sender.runTabularGroupReport(
+                        new ObjectName(sReporterLocation), REPORT_GROUP_NAME, mapReports);
 
+                for (Entry<String, TabularData> entry : mapResults.entrySet())
+                    {
+                    mapBatchedReports.put(mapClasses.get(entry.getKey()), entry.getValue());
+                    }
+                }
+            }
+        catch (ReflectionException e)
+            {
+            // the reporter does not support running a group of reports so
+            // run the reports individually from now on
+            LOGGER.info("Reporter does not support running reports as a group, reports will be run individually");
+            m_fReportBatchingSupported = false;
+            }
+        catch (Exception e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to run reports as a group, reports will be run individually", e);
+
+            // the member running the reporter may have left so look it up again
+            resetReporterLocation();
+            }
+
+        if (m_fLogJMXQueryTimes)
+            {
+            LOGGER.info("Time to run " + mapReports.size() + " reports as a group was " +
+                        (System.currentTimeMillis() - ldtStart) + " ms");
+            }
+
+        return mapBatchedReports;
+        }
+
+    /**
+     * Returns true if any {@link DataType} is due to be refreshed.
+     *
+     * @return true if any {@link DataType} is due to be refreshed
+     */
+    private boolean isAnyRefreshDue()
+        {
+        for (DataType type : DataType.values())
+            {
+            if (m_fIsFirstRefresh || (shouldRetrieveData(type) && isRefreshDue(type)))
+                {
+                return true;
+                }
+            }
+
+        return false;
+        }
+
+
+    /**
+     * Refresh the data for a single {@link DataType}. This is called once all of
+     * the types the given type depends on have been refreshed.
+     *
+     * @param requestSender  the RequestSender to use
+     * @param type           the {@link DataType} to refresh
+     * @param setTypes       the {@link DataType}s to collect, or null to collect
+     *                       the types which are due
+     * @param setCollected       the {@link DataType}s collected by this refresh
+     * @param mapBatchedReports  the output of the reports run as a group by this refresh
+     */
+    private void refreshData(RequestSender requestSender, DataType type, Set<DataType> setTypes,
+                             Set<DataType> setCollected, Map<Class, TabularData> mapBatchedReports)
+        {
+        // optimize the retrieval if this is not the first time and only query
+        // specific data types if the functionality is enabled.
+        // this can improve performance especially over REST
+        if (isCollectionRequired(type, setTypes))
+            {
             if (m_fLogJMXQueryTimes)
-               {
-               LOGGER.info("Time to query all statistics was " + ldtTotalDuration + " ms");
-               }
+                {
+                LOGGER.info("Starting querying statistics for " + type.toString());
+                }
+
+            long    ldtCollectionStart = System.currentTimeMillis();
+            long    ldtNanosStart      = System.nanoTime();
+            boolean fError             = true;
+            try
+                {
+                List<Entry<Object, Data>> listData = requestSender instanceof ReplayRequestSender
+                                                     ? getReplayedData((ReplayRequestSender) requestSender, type)
+                                                     : getFramedData(requestSender, type.getClassName(), mapBatchedReports);
+
+                m_mapCollectedData.put(type, listData);
+
+                CounterRates rates = f_mapCounterRates.get(type);
+                if (rates != null)
+                    {
+                    rates.update(listData, requestSender instanceof ReplayRequestSender
+                                           ? ((ReplayRequestSender) requestSender).getReplayTime()
+                                           : ldtCollectionStart);
+                    }
+                setCollected.add(type);
+                f_mapLastCollected.put(type, ldtCollectionStart);
+                f_setStaleDataTypes.remove(type);
+                fError = false;
+                }
+            catch (RuntimeException e)
+                {
+                // keep the previous values and show them as stale
+                f_setStaleDataTypes.add(type);
+                LOGGER.log(Level.WARNING, "Unable to get data for " + type, e);
+                }
+            long ldtCollectionTime  = System.currentTimeMillis() - ldtCollectionStart;
 
-            m_nRefreshTime  = getRefreshTime();
-            m_ldtLastUpdate = System.currentTimeMillis();
+            PluginDiagnostics.getInstance().record(PluginDiagnostics.Category.DATA_TYPE, type.name(),
+                                                   System.nanoTime() - ldtNanosStart, 0L, fError);
+
+            // record failed collections as well so that they back off too
+            f_scheduler.collected(type, ldtCollectionStart, ldtCollectionTime);
+            f_setShownDataTypes.remove(type);
+
+            if (m_fLogJMXQueryTimes)
+                {
+                LOGGER.info("Time to query statistics for " + type.toString() + " was " +
+                            ldtCollectionTime + " ms");
+                }
+            }
+        else
+            {
+            if (m_fLogJMXQueryTimes)
+                {
+                LOGGER.info("Skipping querying statistics for " + type.toString() + " as it is not configured or visible");
+                }
             }
         }
 
+    /**
+     * Submit the collection of a {@link DataType} to the shared executor. Collections
+     * which are ready are run in priority order, with the types displayed by visible
+     * panels before the types which are only collected in the background.
+     *
+     * @param type      the {@link DataType} to be collected
+     * @param runnable  the collection to run
+     */
+    private void executeByPriority(DataType type, Runnable runnable)
+        {
+        Set<DataType> setRequired = m_setRequiredDataTypes;
+        int           nPriority   = setRequired == null || setRequired.contains(type) ? 0 : 1;
+
+        f_queueCollections.add(new PrioritizedCollection(nPriority, type.ordinal(), runnable));
+
+        // each task submitted runs the most important collection waiting at the time
+        EXECUTOR.execute(() ->
+            {
+            PrioritizedCollection collection = f_queueCollections.poll();
+            if (collection != null)
+                {
+                collection.run();
+                }
+            });
+        }
+
+    /**
+     * Returns the time in millis a refresh waits for the {@link DataType}s to be
+     * collected before the data which is ready is displayed.
+     *
+     * @return the refresh deadline in millis
+     */
+    private long getRefreshDeadline()
+        {
+        return Math.max(1L, Long.getLong(PROP_REFRESH_DEADLINE, DEFAULT_REFRESH_DEADLINE));
+        }
+
+    /**
+     * Returns true if the data for the {@link DataType} is stale as its last
+     * collection failed or did not complete before the refresh deadline.
+     *
+     * @param type  the {@link DataType} to check
+     *
+     * @return true if the data for the {@link DataType} is stale
+     */
+    public boolean isStale(DataType type)
+        {
+        return f_setStaleDataTypes.contains(type);
+        }
+
+    /**
+     * Returns the time the data for the {@link DataType} was last collected successfully.
+     *
+     * @param type  the {@link DataType} to check
+     *
+     * @return the time the data was last collected or -1 if it has never been collected
+     */
+    public long getLastCollected(DataType type)
+        {
+        Long ldtCollected = f_mapLastCollected.get(type);
+        return ldtCollected == null ? -1L : ldtCollected;
+        }
+
+    /**
+     * Returns true if the {@link DataType} should be collected by this refresh.
+     *
+     * @param type      the {@link DataType} to check
+     * @param setTypes  the {@link DataType}s to collect, or null to collect
+     *                  the types which are due
+     *
+     * @return true if the {@link DataType} should be collected
+     */
+    private boolean isCollectionRequired(DataType type, Set<DataType> setTypes)
+        {
+        return setTypes == null
+               ? m_fIsFirstRefresh || (shouldRetrieveData(type)
+                                       && (f_setShownDataTypes.contains(type) || isRefreshDue(type)))
+               : setTypes.contains(type);
+        }
+
+    /**
+     * Returns true if the {@link DataType} has not been collected for its refresh
+     * interval, or for {@link #BACKGROUND_REFRESH_FACTOR} times its refresh
+     * interval if it is not displayed by a visible panel.
+     *
+     * @param type the {@link DataType} to check
+     *
+     * @return true if the {@link DataType} is due to be refreshed
+     */
+    private boolean isRefreshDue(DataType type)
+        {
+        Set<DataType> setRequired = m_setRequiredDataTypes;
+        int           nFactor     = setRequired == null || setRequired.contains(type)
+                                    ? 1 : BACKGROUND_REFRESH_FACTOR;
+
+        return f_scheduler.isDue(type, System.currentTimeMillis(), nFactor);
+        }
+
+    /**
+     * Returns the {@link RefreshScheduler} which decides when each {@link DataType}
+     * is refreshed.
+     *
+     * @return the {@link RefreshScheduler}
+     */
+    public RefreshScheduler getRefreshScheduler()
+        {
+        return f_scheduler;
+        }
 
     /**
      * Returns true if the {@link DataType} should be refreshed. E.g. If after the
@@ -354,17 +931,45 @@ public class VisualVMModel
         return true;
         }
 
+    /**
+     * Get the statistics for a data type, storing the rows created by its
+     * {@link DataRetriever} in a new {@link DataFrame}.
+     *
+     * @param requestSender      the {@link RequestSender} to use to query the report
+     * @param clazz              the implementation of {@link DataRetriever} to get data for
+     * @param mapBatchedReports  the output of the reports already run as a group
+     *
+     * @return the {@link List} of data collected
+     */
+    private List<Entry<Object, Data>> getFramedData(RequestSender requestSender, Class clazz,
+                                                    Map<Class, TabularData> mapBatchedReports)
+        {
+        DataRetriever retriever = getDataRetrieverInstance(clazz);
+
+        retriever.startFrame();
+        try
+            {
+            return getData(requestSender, clazz, mapBatchedReports);
+            }
+        finally
+            {
+            retriever.endFrame();
+            }
+        }
+
     /**
      * This is a wrapper method which will call the underlying implementation
      * to get statistics. If statistics directly from the reporter are available
      * then run the particular report, otherwise do a JMX query.
      *
-     * @param requestSender  the {@link RequestSender} to use to query the report
-     * @param clazz          the implementation of {@link DataRetriever} to get data for
+     * @param requestSender      the {@link RequestSender} to use to query the report
+     * @param clazz              the implementation of {@link DataRetriever} to get data for
+     * @param mapBatchedReports  the output of the reports already run as a group
      *
      * @return the {@link List} of data obtainer by either method
      */
-    public List<Entry<Object, Data>> getData(RequestSender requestSender, Class clazz)
+    public List<Entry<Object, Data>> getData(RequestSender requestSender, Class clazz,
+                                             Map<Class, TabularData> mapBatchedReports)
         {
         boolean fFallBack = false;
 
@@ -394,7 +999,12 @@ public class VisualVMModel
                         }
                     else
                         {
-                        mapCollectedData = retriever.getAggregatedDataUsingReport(this, requestSender, sReportXML);
+                        // use the output of the report if it was already run as part of a group
+                        TabularData reportData = mapBatchedReports.remove(clazz);
+
+                        mapCollectedData = reportData == null
+                                           ? retriever.getAggregatedDataUsingReport(this, requestSender, sReportXML)
+                                           : retriever.getReporterData(reportData, this);
                         }
 
                     if (mapCollectedData != null)
@@ -413,6 +1023,14 @@ public class VisualVMModel
                     LOGGER.warning(Localization.getLocalText("ERR_Failed_to_run_report", clazz.toString(), e.toString()));
                     e.printStackTrace(); 
                     fFallBack = true;
+
+                    for (DataType type : DataType.values())
+                        {
+                        if (type.getClassName().equals(clazz))
+                            {
+                            PluginDiagnostics.getInstance().recordFallback(type.name());
+                            }
+                        }
                     }
                 }
             }
@@ -435,76 +1053,116 @@ public class VisualVMModel
                     {
                     List<Entry<Object, Data>> clusterData = getDataRetrieverInstance(clazz).getJMXData(requestSender, this);
 
-                    // if we have not yet evaluated if the reporter is available, e.g. value of null,
-                    // then do it. Also check for the version as well.
-                    if (isReporterAvailable() == null || is1213AndAbove() == null)
-                        {
-                        // get the Coherence version. Easier to do if we are connected to a cluster,
-                        // but we are have JMX connection as we have to look in data we collected.
+                    // if we have not yet evaluated if the reporter is available, e.g. value of null,
+                    // then do it. Also check for the version as well.
+                    if (isReporterAvailable() == null || is1213AndAbove() == null)
+                        {
+                        updateClusterVersion(clusterData);
+                        }
+
+                    return clusterData;
+                    }
+                else
+                    {
+                    return getDataRetrieverInstance(clazz).getJMXData(requestSender, this);
+                    }
+                }
+            catch (Exception e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to get data", e);
+                }
+            }
+
+        return null;
+        }
+
+    /**
+     * Returns the data replayed from a recording for a {@link DataType}, and
+     * updates the state of this model which would otherwise be updated when
+     * the data is collected from a cluster.
+     *
+     * @param requestSender  the {@link ReplayRequestSender} replaying the recording
+     * @param type           the {@link DataType} to get the data for
+     *
+     * @return the {@link List} of replayed data
+     */
+    private List<Entry<Object, Data>> getReplayedData(ReplayRequestSender requestSender, DataType type)
+        {
+        List<Entry<Object, Data>> listData = requestSender.getData(type);
+
+        if (listData != null && !listData.isEmpty())
+            {
+            if (type == DataType.CLUSTER && is1213AndAbove() == null)
+                {
+                updateClusterVersion(listData);
+                }
+            else if (type == DataType.FEDERATION_DESTINATION || type == DataType.FEDERATION_ORIGIN)
+                {
+                setFederationAvailable(true);
+                }
+            }
+
+        return listData;
+        }
+
+    /**
+     * Determine the Coherence version, and if the reporter may be used, from the
+     * collected {@link ClusterData}.
+     *
+     * @param clusterData  the collected {@link ClusterData}, may be null
+     */
+    private void updateClusterVersion(List<Entry<Object, Data>> clusterData)
+        {
+        // get the Coherence version. Easier to do if we are connected to a cluster,
+        // but we are have JMX connection as we have to look in data we collected.
+
+        if (clusterData != null)
+            {
+            for (Entry<Object, Data> entry : clusterData)
+                {
+                // there will only be one cluster entry
+
+                String sCoherenceVersion =
+                    entry.getValue().getColumn(ClusterData.VERSION).toString().replaceFirst(" .*$", "")
+                                    .replaceFirst("[\\.-]SNAPSHOT.*$","").replaceAll("-",".");
+                m_sClusterVersion = sCoherenceVersion;
+
+                int nVersion = 0;
 
-                        if (clusterData != null)
-                            {
-                            for (Entry<Object, Data> entry : clusterData)
-                                {
-                                // there will only be one cluster entry
-
-                                String sCoherenceVersion =
-                                    entry.getValue().getColumn(ClusterData.VERSION).toString().replaceFirst(" .*$", "")
-                                                    .replaceFirst("[\\.-]SNAPSHOT.*$","").replaceAll("-",".");
-                                m_sClusterVersion = sCoherenceVersion;
-
-                                int nVersion = 0;
-
-                                if (sCoherenceVersion.startsWith("3.5"))
-                                    {
-                                    // manual check as version numbering changed after 35
-                                    nVersion = 353;
-                                    }
-                                else if (sCoherenceVersion.startsWith("2"))
-                                    {
-                                    // check for versions such as 20.06 or 20.06.01 and convert them to an ever increasing number
-                                    // 20.06    -> 2006000
-                                    // 20.06.1  -> 2006100
-                                    // 20.06.10 -> 2006100
-                                    String sStrippedVersion = sCoherenceVersion.replaceAll("\\.", "");
-                                    nVersion = Integer.parseInt(sStrippedVersion) * (int) Math.pow(10, 7 - sStrippedVersion.length());
-                                    }
-                                else
-                                    {
-                                    nVersion = Integer.parseInt(sCoherenceVersion.replaceAll("\\.", ""));
-                                    }
-
-                                if (nVersion >= 121300)
-                                    {
-                                    // only set if the reporter available is it is not already set as we may have
-                                    // got to this code path because is1213AndAbove() is still null
-                                    setReporterAvailable(isReporterAvailable() == null ? true : isReporterAvailable());
-                                    m_fis1213AndAbove = true;
-                                    }
-                                else
-                                    {
-                                    setReporterAvailable(isReporterAvailable() == null ? false : isReporterAvailable());
-                                    m_fis1213AndAbove = false;
-                                    }
-                                m_nClusterVersion = nVersion;
-                                }
-                            }
-                        }
+                if (sCoherenceVersion.startsWith("3.5"))
+                    {
+                    // manual check as version numbering changed after 35
+                    nVersion = 353;
+                    }
+                else if (sCoherenceVersion.startsWith("2"))
+                    {
+                    // check for versions such as 20.06 or 20.06.01 and convert them to an ever increasing number
+                    // 20.06    -> 2006000
+                    // 20.06.1  -> 2006100
+                    // 20.06.10 -> 2006100
+                    String sStrippedVersion = sCoherenceVersion.replaceAll("\\.", "");
+                    nVersion = Integer.parseInt(sStrippedVersion) * (int) Math.pow(10, 7 - sStrippedVersion.length());
+                    }
+                else
+                    {
+                    nVersion = Integer.parseInt(sCoherenceVersion.replaceAll("\\.", ""));
+                    }
 
-                    return clusterData;
+                if (nVersion >= 121300)
+                    {
+                    // only set if the reporter available is it is not already set as we may have
+                    // got to this code path because is1213AndAbove() is still null
+                    setReporterAvailable(isReporterAvailable() == null ? true : isReporterAvailable());
+                    m_fis1213AndAbove = true;
                     }
                 else
                     {
-                    return getDataRetrieverInstance(clazz).getJMXData(requestSender, this);
+                    setReporterAvailable(isReporterAvailable() == null ? false : isReporterAvailable());
+                    m_fis1213AndAbove = false;
                     }
-                }
-            catch (Exception e)
-                {
-                LOGGER.log(Level.WARNING, "Unable to get data", e);
+                m_nClusterVersion = nVersion;
                 }
             }
-
-        return null;
         }
 
     /**
@@ -599,6 +1257,37 @@ public class VisualVMModel
         return initialMachineMap;
         }
 
+    /**
+     * Returns the {@link CounterRates} holding the changes of the cumulative
+     * counters of a {@link DataType} between the last two refreshes.
+     *
+     * @param type  the {@link DataType}
+     *
+     * @return the {@link CounterRates} or null if the type has no counters
+     */
+    public CounterRates getCounterRates(DataType type)
+        {
+        return f_mapCounterRates.get(type);
+        }
+
+    /**
+     * Discard the previous counter values of the given types as the rows now
+     * relate to a different selection.
+     *
+     * @param aTypes  the {@link DataType}s to reset
+     */
+    private void resetCounterRates(DataType... aTypes)
+        {
+        for (DataType type : aTypes)
+            {
+            CounterRates rates = f_mapCounterRates.get(type);
+            if (rates != null)
+                {
+                rates.reset();
+                }
+            }
+        }
+
     /**
      * Erase the current service member data as we have changed the
      * selected service.
@@ -792,6 +1481,36 @@ public class VisualVMModel
         return m_fis1213AndAbove;
         }
 
+    /**
+     * Returns the ObjectName of the Reporter MBean used to run reports, looking
+     * it up if it is not known.
+     *
+     * @param requestSender  the {@link JMXRequestSender} to look it up with
+     *
+     * @return the ObjectName of the Reporter MBean, or null if it was not found
+     */
+    public String getReporterLocation(JMXRequestSender requestSender)
+        {
+        String sReporterLocation = m_sReporterLocation;
+
+        if (sReporterLocation == null)
+            {
+            sReporterLocation = requestSender.getReporterObjectName(requestSender.getLocalMemberId());
+            m_sReporterLocation = sReporterLocation;
+            }
+
+        return sReporterLocation;
+        }
+
+    /**
+     * Clears the ObjectName of the Reporter MBean so that it is looked up
+     * again the next time a report is run.
+     */
+    public void resetReporterLocation()
+        {
+        m_sReporterLocation = null;
+        }
+
     /**
      * Sets if the reporter is available.
      *
@@ -837,6 +1556,63 @@ public class VisualVMModel
         m_mapCollectedData.remove(DataType.CACHE_DETAIL);
         m_mapCollectedData.remove(DataType.CACHE_FRONT_DETAIL);
         m_mapCollectedData.remove(DataType.CACHE_STORAGE_MANAGER);
+        resetCounterRates(DataType.CACHE_DETAIL, DataType.CACHE_FRONT_DETAIL);
+        }
+
+    /**
+     * Set the {@link DataType}s displayed by the panels that are currently visible.
+     * These types, and the types they depend on, are collected at their refresh
+     * interval while all other types are only collected in the background at
+     * {@link #BACKGROUND_REFRESH_FACTOR} times their interval. If a type becomes
+     * visible, the next call to {@link #refreshStatistics(RequestSender)} will
+     * collect it regardless of when it was last collected.
+     *
+     * @param setVisible  the {@link DataType}s displayed by visible panels
+     */
+    public void setVisibleDataTypes(Set<DataType> setVisible)
+        {
+        Set<DataType> setRequired = EnumSet.of(DataType.CLUSTER);
+
+        for (DataType type : setVisible)
+            {
+            addWithDependencies(setRequired, type);
+            }
+
+        Set<DataType> setPrevious = m_setRequiredDataTypes;
+        if (setPrevious != null && !setPrevious.containsAll(setRequired))
+            {
+            // the types which have just become visible may have been collected
+            // in the background recently, so they are collected whether or not
+            // they are due
+            for (DataType type : setRequired)
+                {
+                if (!setPrevious.contains(type))
+                    {
+                    f_setShownDataTypes.add(type);
+                    }
+                }
+            m_fRefreshRequested = true;
+            }
+
+        m_setRequiredDataTypes = Collections.unmodifiableSet(setRequired);
+        }
+
+    /**
+     * Add the given {@link DataType} and all the types it transitively depends on
+     * to the set.
+     *
+     * @param setTypes  the set to add to
+     * @param type      the {@link DataType} to add
+     */
+    private static void addWithDependencies(Set<DataType> setTypes, DataType type)
+        {
+        if (setTypes.add(type))
+            {
+            for (DataType dependency : type.getDependencies())
+                {
+                addWithDependencies(setTypes, dependency);
+                }
+            }
         }
 
     /**
@@ -916,15 +1692,23 @@ public class VisualVMModel
      */
     public boolean isCoherenceExtendConfigured()
         {
-        // if we have never set this flag, do it once only so that
-        // the tab will always display and be updated
-        if (m_fIsCoherenceExtendConfigured == null)
+        Boolean fConfigured = m_fIsCoherenceExtendConfigured;
+        if (fConfigured != null)
+            {
+            return fConfigured;
+            }
+
+        boolean fProxy = m_mapCollectedData.get(DataType.PROXY) != null
+                         && m_mapCollectedData.get(DataType.PROXY).size() != 0;
+
+        // set this flag once only, after the first refresh has collected the
+        // proxy servers, so that the tab will always display and be updated
+        if (!m_fIsFirstRefresh)
             {
-            m_fIsCoherenceExtendConfigured = m_mapCollectedData.get(DataType.PROXY) != null
-                                             && m_mapCollectedData.get(DataType.PROXY).size() != 0;
+            m_fIsCoherenceExtendConfigured = fProxy;
             }
 
-        return m_fIsCoherenceExtendConfigured;
+        return fProxy;
         }
 
     /**
@@ -945,7 +1729,7 @@ public class VisualVMModel
      */
     public boolean isHotcacheConfigured()
         {
-        return m_mapCollectedData.get(DataType.HOTCACHE) != null
+        return f_setProbedFeatures.contains(DataType.HOTCACHE) || m_mapCollectedData.get(DataType.HOTCACHE) != null
                && m_mapCollectedData.get(DataType.HOTCACHE).size() != 0;
         }
 
@@ -967,7 +1751,7 @@ public class VisualVMModel
      */
     public boolean isTopicsConfigured()
         {
-        return m_mapCollectedData.get(DataType.TOPICS_DETAIL) != null
+        return f_setProbedFeatures.contains(DataType.TOPICS_DETAIL) || m_mapCollectedData.get(DataType.TOPICS_DETAIL) != null
                && m_mapCollectedData.get(DataType.TOPICS_DETAIL).size() != 0;
        }
 
@@ -978,7 +1762,7 @@ public class VisualVMModel
      */
     public boolean isFederationCongfigured()
         {
-        return m_fIsFederationAvailable;
+        return m_fIsFederationAvailable || f_setProbedFeatures.contains(DataType.FEDERATION_ORIGIN);
         }
 
     /**
@@ -988,7 +1772,8 @@ public class VisualVMModel
      */
     public boolean isElasticDataConfigured()
         {
-        return (m_mapCollectedData.get(DataType.RAMJOURNAL) != null
+        return f_setProbedFeatures.contains(DataType.RAMJOURNAL) ||
+               (m_mapCollectedData.get(DataType.RAMJOURNAL) != null
                 && m_mapCollectedData.get(DataType.RAMJOURNAL).size() != 0) ||
                (m_mapCollectedData.get(DataType.FLASHJOURNAL) != null
                 && m_mapCollectedData.get(DataType.FLASHJOURNAL).size() != 0);
@@ -1001,7 +1786,8 @@ public class VisualVMModel
      */
     public boolean isExecutorConfigured()
         {
-        return (m_mapCollectedData.get(DataType.EXECUTOR) != null
+        return f_setProbedFeatures.contains(DataType.EXECUTOR) ||
+               (m_mapCollectedData.get(DataType.EXECUTOR) != null
                 && m_mapCollectedData.get(DataType.EXECUTOR).size() != 0);
         }
 
@@ -1012,7 +1798,8 @@ public class VisualVMModel
      */
     public boolean isGrpcProxyConfigured()
         {
-        return (m_mapCollectedData.get(DataType.GRPC_PROXY) != null
+        return f_setProbedFeatures.contains(DataType.GRPC_PROXY) ||
+               (m_mapCollectedData.get(DataType.GRPC_PROXY) != null
                 && m_mapCollectedData.get(DataType.GRPC_PROXY).size() != 0);
         }
 
@@ -1023,7 +1810,8 @@ public class VisualVMModel
      */
     public boolean isJCacheConfigured()
         {
-        return (m_mapCollectedData.get(DataType.JCACHE_CONFIG) != null
+        return f_setProbedFeatures.contains(DataType.JCACHE_CONFIG) ||
+               (m_mapCollectedData.get(DataType.JCACHE_CONFIG) != null
                 && m_mapCollectedData.get(DataType.JCACHE_CONFIG).size() != 0) ||
                (m_mapCollectedData.get(DataType.JCACHE_STATS) != null
                 && m_mapCollectedData.get(DataType.JCACHE_STATS).size() != 0);
@@ -1189,6 +1977,29 @@ public class VisualVMModel
         return model;
         }
 
+    /**
+     * Create the executor used to collect data. The number of threads is
+     * bounded by {@link #PROP_COLLECTION_THREADS}.
+     *
+     * @return the executor used to collect data
+     */
+    private static ExecutorService createExecutor()
+        {
+        int           cThreads = Math.max(1, Integer.getInteger(PROP_COLLECTION_THREADS, DEFAULT_COLLECTION_THREADS));
+        AtomicInteger atomicId = new AtomicInteger();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cThreads, cThreads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable ->
+                    {
+                    Thread thread = new Thread(runnable, "CoherenceDataCollector-" + atomicId.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                    });
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+        }
+
     /**
      * Returns the report XML for a given class.
      *
@@ -1201,46 +2012,50 @@ public class VisualVMModel
 
     /**
      * Defines the type of data we can collect.
-     * Note: The order of these is important. Please do not change. e.g. cluster
-     * need to go first so we can determine the version. Also service needs
-     * to go before cache so we could setup the list of distributed caches.
+     * Note: Each type declares the types it depends on, which must be declared
+     * before it. e.g. cluster needs to go first so we can determine the version.
+     * Also service needs to go before cache so we could setup the list of
+     * distributed caches, and member before machine as the machines are derived
+     * from the members.
      */
     public enum DataType
         {
         CLUSTER(ClusterData.class, CLUSTER_LABELS),
-        SERVICE(ServiceData.class, SERVICE_LABELS),
-        SERVICE_DETAIL(ServiceMemberData.class, SERVICE_DETAIL_LABELS),
-        CACHE(CacheData.class, CACHE_LABELS),
-        CACHE_DETAIL(CacheDetailData.class, CACHE_DETAIL_LABELS),
-        CACHE_FRONT_DETAIL(CacheFrontDetailData.class, CACHE_FRONT_DETAIL_LABELS),
-        CACHE_STORAGE_MANAGER(CacheStorageManagerData.class, CACHE_STORAGE_MANAGER_LABELS),
-        TOPICS_DETAIL(TopicData.class, TOPICS_LABELS),
-        MEMBER(MemberData.class, MEMBER_LABELS),
-        NODE_STORAGE(NodeStorageData.class, new String[] {}),
-        MACHINE(MachineData.class, MACHINE_LABELS),
-        PROXY(ProxyData.class, PROXY_LABELS),
-        PERSISTENCE(PersistenceData.class, PERSISTENCE_LABELS),
-        PERSISTENCE_NOTIFICATIONS(PersistenceNotificationsData.class, PERSISTENCE_NOTIFICATIONS_LABELS),
-        HTTP_SESSION(HttpSessionData.class, HTTP_SESSION_LABELS),
-        FEDERATION_DESTINATION(FederationDestinationData.class, FEDERATION_OVERALL_LABELS),
-        FEDERATION_ORIGIN(FederationOriginData.class, null),
-        FEDERATION_DESTINATION_DETAILS(FederationDestinationDetailsData.class, FEDERATION_DESTINATION_DETAILS_LABELS),
-        FEDERATION_ORIGIN_DETAILS(FederationOriginDetailsData.class, FEDERATION_ORIGIN_DETAILS_LABELS),
-        RAMJOURNAL(RamJournalData.class, ELASTIC_DATA_LABELS),
-        FLASHJOURNAL(FlashJournalData.class, ELASTIC_DATA_LABELS),
-        JCACHE_CONFIG(JCacheConfigurationData.class, JCACHE_CONFIG_LABELS),
-        JCACHE_STATS(JCacheStatisticsData.class, JCACHE_STATS_LABELS),
-        HTTP_PROXY(HttpProxyData.class, HTTP_PROXY_LABELS),
-        HTTP_PROXY_DETAIL(HttpProxyMemberData.class, HTTP_PROXY_DETAIL_LABELS),
-        HOTCACHE(HotCacheData.class, HOTCACHE_LABELS),
-        HOTCACHE_PERCACHE(HotCachePerCacheData.class, HOTCACHE_PERCACHE_LABELS),
-        EXECUTOR(ExecutorData.class, EXECUTOR_LABELS),
-        GRPC_PROXY(GrpcProxyData.class, GRPC_PROXY_LABELS);
-
-        private DataType(Class clz, String[] asMeta)
-            {
-            clazz      = clz;
-            asMetadata = asMeta;
+        SERVICE(ServiceData.class, SERVICE_LABELS, CLUSTER),
+        SERVICE_DETAIL(ServiceMemberData.class, SERVICE_DETAIL_LABELS, CLUSTER),
+        CACHE(CacheData.class, CACHE_LABELS, SERVICE),
+        CACHE_DETAIL(CacheDetailData.class, CACHE_DETAIL_LABELS, CLUSTER),
+        CACHE_FRONT_DETAIL(CacheFrontDetailData.class, CACHE_FRONT_DETAIL_LABELS, CLUSTER),
+        CACHE_STORAGE_MANAGER(CacheStorageManagerData.class, CACHE_STORAGE_MANAGER_LABELS, CLUSTER),
+        TOPICS_DETAIL(TopicData.class, TOPICS_LABELS, CACHE),
+        MEMBER(MemberData.class, MEMBER_LABELS, CLUSTER),
+        NODE_STORAGE(NodeStorageData.class, new String[] {}, CLUSTER),
+        MACHINE(MachineData.class, MACHINE_LABELS, MEMBER),
+        PROXY(ProxyData.class, PROXY_LABELS, CLUSTER),
+        PERSISTENCE(PersistenceData.class, PERSISTENCE_LABELS, CLUSTER),
+        PERSISTENCE_NOTIFICATIONS(PersistenceNotificationsData.class, PERSISTENCE_NOTIFICATIONS_LABELS, CLUSTER),
+        HTTP_SESSION(HttpSessionData.class, HTTP_SESSION_LABELS, CACHE),
+        FEDERATION_DESTINATION(FederationDestinationData.class, FEDERATION_OVERALL_LABELS, SERVICE),
+        FEDERATION_ORIGIN(FederationOriginData.class, null, SERVICE),
+        FEDERATION_DESTINATION_DETAILS(FederationDestinationDetailsData.class, FEDERATION_DESTINATION_DETAILS_LABELS,
+                                       SERVICE),
+        FEDERATION_ORIGIN_DETAILS(FederationOriginDetailsData.class, FEDERATION_ORIGIN_DETAILS_LABELS, SERVICE),
+        RAMJOURNAL(RamJournalData.class, ELASTIC_DATA_LABELS, CLUSTER),
+        FLASHJOURNAL(FlashJournalData.class, ELASTIC_DATA_LABELS, CLUSTER),
+        JCACHE_CONFIG(JCacheConfigurationData.class, JCACHE_CONFIG_LABELS, CLUSTER),
+        JCACHE_STATS(JCacheStatisticsData.class, JCACHE_STATS_LABELS, CLUSTER),
+        HTTP_PROXY(HttpProxyData.class, HTTP_PROXY_LABELS, CLUSTER),
+        HTTP_PROXY_DETAIL(HttpProxyMemberData.class, HTTP_PROXY_DETAIL_LABELS, CLUSTER),
+        HOTCACHE(HotCacheData.class, HOTCACHE_LABELS, CLUSTER),
+        HOTCACHE_PERCACHE(HotCachePerCacheData.class, HOTCACHE_PERCACHE_LABELS, CLUSTER),
+        EXECUTOR(ExecutorData.class, EXECUTOR_LABELS, CLUSTER),
+        GRPC_PROXY(GrpcProxyData.class, GRPC_PROXY_LABELS, CLUSTER);
+
+        private DataType(Class clz, String[] asMeta, DataType... aDependsOn)
+            {
+            clazz         = clz;
+            asMetadata    = asMeta;
+            aDependencies = aDependsOn;
             }
 
         /**
@@ -1263,6 +2078,16 @@ public class VisualVMModel
             return asMetadata;
             }
 
+        /**
+         * Returns the types which must be collected before this type.
+         *
+         * @return the types which must be collected before this type
+         */
+        public DataType[] getDependencies()
+            {
+            return aDependencies.clone();
+            }
+
         /**
          * The {@link Class} associated with this enum.
          */
@@ -1272,6 +2097,71 @@ public class VisualVMModel
          * The column name associated with this enum.
          */
         private String[] asMetadata;
+
+        /**
+         * The types which must be collected before this type.
+         */
+        private DataType[] aDependencies;
+        }
+
+    // ----- inner class: PrioritizedCollection -----------------------------
+
+    /**
+     * The collection of a {@link DataType} waiting to be run, ordered by priority
+     * and then by the order the types are declared.
+     */
+    private static final class PrioritizedCollection
+            implements Runnable, Comparable<PrioritizedCollection>
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a {@link PrioritizedCollection}.
+         *
+         * @param nPriority  the priority, lower values are run first
+         * @param nOrder     the order of the type within the same priority
+         * @param runnable   the collection to run
+         */
+        private PrioritizedCollection(int nPriority, int nOrder, Runnable runnable)
+            {
+            f_nPriority = nPriority;
+            f_nOrder    = nOrder;
+            f_runnable  = runnable;
+            }
+
+        // ----- Runnable methods -------------------------------------------
+
+        @Override
+        public void run()
+            {
+            f_runnable.run();
+            }
+
+        // ----- Comparable methods -----------------------------------------
+
+        @Override
+        public int compareTo(PrioritizedCollection other)
+            {
+            int nResult = Integer.compare(f_nPriority, other.f_nPriority);
+            return nResult == 0 ? Integer.compare(f_nOrder, other.f_nOrder) : nResult;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The priority, lower values are run first.
+         */
+        private final int f_nPriority;
+
+        /**
+         * The order of the type within the same priority.
+         */
+        private final int f_nOrder;
+
+        /**
+         * The collection to run.
+         */
+        private final Runnable f_runnable;
         }
 
     /**
@@ -1290,7 +2180,8 @@ public class VisualVMModel
         Localization.getLocalText("LBL_members"), Localization.getLocalText("LBL_storage_enabled"),
         Localization.getLocalText("LBL_partitions"), Localization.getLocalText("LBL_endangered"),
         Localization.getLocalText("LBL_vulnerable"), Localization.getLocalText("LBL_unbalanced"),
-        Localization.getLocalText("LBL_pending")
+        Localization.getLocalText("LBL_pending"), Localization.getLocalText("LBL_tasks_per_sec"),
+        Localization.getLocalText("LBL_requests_per_sec")
         };
 
     /**
@@ -1330,7 +2221,8 @@ public class VisualVMModel
         Localization.getLocalText("LBL_node_id"), Localization.getLocalText("LBL_size"),
         Localization.getLocalText("LBL_memory_bytes"), Localization.getLocalText("LBL_total_gets"),
         Localization.getLocalText("LBL_total_puts"), Localization.getLocalText("LBL_cache_hits"),
-        Localization.getLocalText("LBL_cache_misses"), Localization.getLocalText("LBL_hit_probability")
+        Localization.getLocalText("LBL_cache_misses"), Localization.getLocalText("LBL_hit_probability"),
+        Localization.getLocalText("LBL_gets_per_sec"), Localization.getLocalText("LBL_puts_per_sec")
         };
 
     /**
@@ -1341,7 +2233,8 @@ public class VisualVMModel
         Localization.getLocalText("LBL_node_id"), Localization.getLocalText("LBL_size"),
         Localization.getLocalText("LBL_total_gets"), Localization.getLocalText("LBL_total_puts"),
         Localization.getLocalText("LBL_cache_hits"), Localization.getLocalText("LBL_cache_misses"),
-        Localization.getLocalText("LBL_hit_probability")
+        Localization.getLocalText("LBL_hit_probability"), Localization.getLocalText("LBL_gets_per_sec"),
+        Localization.getLocalText("LBL_puts_per_sec")
         };
 
     /**
@@ -1366,7 +2259,8 @@ public class VisualVMModel
         Localization.getLocalText("LBL_publisher_rate"), Localization.getLocalText("LBL_receiver_rate"),
         Localization.getLocalText("LBL_send_q"), Localization.getLocalText("LBL_max_memory"),
         Localization.getLocalText("LBL_used_memory"), Localization.getLocalText("LBL_free_memory"),
-        Localization.getLocalText("LBL_storage_enabled")
+        Localization.getLocalText("LBL_storage_enabled"), Localization.getLocalText("LBL_packets_sent_per_sec"),
+        Localization.getLocalText("LBL_packets_received_per_sec")
         };
 
     /**
@@ -1571,6 +2465,12 @@ public class VisualVMModel
      */
     public static final String PROP_REFRESH_TIME = "coherence.plugin.visualvm.refreshtime";
 
+    /**
+     * Property to set the time in seconds between refreshing individual data types,
+     * in the format "TYPE=seconds,TYPE=seconds".
+     */
+    public static final String PROP_DATA_TYPE_REFRESH_TIMES = "coherence.plugin.visualvm.datatype.refreshtimes";
+
     /**
      * Property to enable logging of query times when retrieving data.
      */
@@ -1601,6 +2501,11 @@ public class VisualVMModel
      */
     public static final String PROP_REST_TIMEOUT = "coherence.plugin.visualvm.rest.request.timeout";
 
+    /**
+     * Property to set the maximum number of concurrent requests to a host when using REST to connect to a cluster.
+     */
+    public static final String PROP_REST_MAX_CONNECTIONS = "coherence.plugin.visualvm.rest.max.connections";
+
     /**
      * Property to enable the HTTP request debugging using REST to connect to a cluster.
      */
@@ -1611,6 +2516,140 @@ public class VisualVMModel
      */
     public static final String PROP_DISABLE_MBEAN_CHECK = "coherence.plugin.visualvm.disable.mbean.check";
 
+    /**
+     * Property to disable running the reports for all data types as a single
+     * group, so that each report is run with a separate invocation of the Reporter.
+     */
+    public static final String PROP_REPORTER_BATCH_DISABLED = "coherence.plugin.visualvm.reporter.batch.disabled";
+
+    /**
+     * Property to disable caching the MBean topology when connecting to a cluster
+     * using JMX, so that MBeans are queried on every refresh.
+     */
+    public static final String PROP_TOPOLOGY_CACHE_DISABLED = "coherence.plugin.visualvm.topology.cache.disabled";
+
+    /**
+     * Property to set the number of JMX connections used to read attributes in
+     * parallel when connecting to a cluster using JMX. The default of 1 uses only
+     * the connection opened by VisualVM.
+     */
+    public static final String PROP_JMX_CONNECTIONS = "coherence.plugin.visualvm.jmx.connections";
+
+    /**
+     * Property to set a comma separated list of additional JMX service URLs of
+     * management enabled members of the same cluster, which pooled JMX
+     * connections are spread across.
+     */
+    public static final String PROP_JMX_URLS = "coherence.plugin.visualvm.jmx.urls";
+
+    /**
+     * Property to enable recording of all collected data to disk.
+     */
+    public static final String PROP_RECORDING_ENABLED = "coherence.plugin.visualvm.recording.enabled";
+
+    /**
+     * Property to set the number of hours recorded data is kept for.
+     */
+    public static final String PROP_RECORDING_RETENTION_HOURS = "coherence.plugin.visualvm.recording.retention.hours";
+
+    /**
+     * Property to set the maximum size in MB of the recorded data for a cluster.
+     */
+    public static final String PROP_RECORDING_MAX_SIZE = "coherence.plugin.visualvm.recording.max.size";
+
+    /**
+     * Property to set the speed a recording is replayed at, 1 being real time.
+     */
+    public static final String PROP_REPLAY_SPEED = "coherence.plugin.visualvm.replay.speed";
+
+    /**
+     * The default speed a recording is replayed at.
+     */
+    public static final int DEFAULT_REPLAY_SPEED = 1;
+
+    /**
+     * Property to set the maximum number of threads used to collect data concurrently.
+     */
+    public static final String PROP_COLLECTION_THREADS = "coherence.plugin.visualvm.collection.threads";
+
+    /**
+     * The default maximum number of threads used to collect data concurrently.
+     */
+    public static final int DEFAULT_COLLECTION_THREADS = 8;
+
+    /**
+     * Property to set the maximum number of cluster views refreshed concurrently.
+     */
+    public static final String PROP_REFRESH_THREADS = "coherence.plugin.visualvm.refresh.threads";
+
+    /**
+     * The default maximum number of cluster views refreshed concurrently.
+     */
+    public static final int DEFAULT_REFRESH_THREADS = 4;
+
+    /**
+     * Property to set the maximum number of cluster views refreshed concurrently
+     * from the same host.
+     */
+    public static final String PROP_REFRESH_HOST_MAX = "coherence.plugin.visualvm.refresh.host.max";
+
+    /**
+     * The default maximum number of cluster views refreshed concurrently from the same host.
+     */
+    public static final int DEFAULT_REFRESH_HOST_MAX = 2;
+
+    /**
+     * Property to set a regular expression which the name of a service must
+     * match for its caches to be collected.
+     */
+    public static final String PROP_CACHE_FILTER_SERVICE = "coherence.plugin.visualvm.cache.filter.service";
+
+    /**
+     * Property to set a regular expression which the name of a cache must match
+     * for the cache to be collected.
+     */
+    public static final String PROP_CACHE_FILTER_NAME = "coherence.plugin.visualvm.cache.filter.name";
+
+    /**
+     * Property to set the number of largest caches to display, all caches are
+     * displayed if not set.
+     */
+    public static final String PROP_CACHE_TOP = "coherence.plugin.visualvm.cache.top";
+
+    /**
+     * Property to set whether the largest caches are chosen by "size", the
+     * default, or by "memory".
+     */
+    public static final String PROP_CACHE_TOP_BY = "coherence.plugin.visualvm.cache.top.by";
+
+    /**
+     * Property to set the time in millis a refresh waits for the data to be
+     * collected, data which is late is displayed as stale until it is collected.
+     */
+    public static final String PROP_REFRESH_DEADLINE = "coherence.plugin.visualvm.refresh.deadline";
+
+    /**
+     * The default time in millis a refresh waits for the data to be collected.
+     */
+    public static final long DEFAULT_REFRESH_DEADLINE = 10000L;
+
+    /**
+     * The factor the refresh interval of {@link DataType}s not displayed by any
+     * visible panel is multiplied by, as they are only collected in the background.
+     */
+    public static final int BACKGROUND_REFRESH_FACTOR = 10;
+
+    /**
+     * The name of the report group used to run the reports for all data types.
+     */
+    private static final String REPORT_GROUP_NAME = "visualvm-reports";
+
+    /**
+     * The bounded executor used to collect the data for independent {@link DataType}s
+     * concurrently. This is shared by all models and threads are released when idle.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -1621,13 +2660,73 @@ public class VisualVMModel
     /**
      * Last time statistics were updated.
      */
-    private long m_ldtLastUpdate = -1L;
+    private volatile long m_ldtLastUpdate = -1L;
+
+    /**
+     * Indicates if the next call to refreshStatistics should collect data
+     * regardless of when the last refresh was.
+     */
+    private volatile boolean m_fRefreshRequested;
+
+    /**
+     * The {@link DataType}s displayed by visible panels and the types they depend
+     * on, or null if this has not been set and all types should be collected.
+     */
+    private volatile Set<DataType> m_setRequiredDataTypes;
+
+    /**
+     * The {@link DataType}s which have become visible and are collected by the
+     * next refresh whether or not they are due.
+     */
+    private final Set<DataType> f_setShownDataTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The {@link RefreshScheduler} which decides when each {@link DataType} is refreshed.
+     */
+    private final RefreshScheduler f_scheduler = new RefreshScheduler(getRefreshTime());
+
+    /**
+     * The collections which are ready to run, ordered by priority.
+     */
+    private final PriorityBlockingQueue<PrioritizedCollection> f_queueCollections = new PriorityBlockingQueue<>();
+
+    /**
+     * The collection of each {@link DataType} by the last refresh, which may
+     * still be running if it missed the refresh deadline.
+     */
+    private volatile Map<DataType, CompletableFuture<Void>> m_mapCollections = Collections.emptyMap();
+
+    /**
+     * The {@link DataType}s whose last collection failed or missed the refresh deadline.
+     */
+    private final Set<DataType> f_setStaleDataTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The {@link DataType}s of the features whose MBeans were found by
+     * {@link #probeFeatures(RequestSender)}.
+     */
+    private final Set<DataType> f_setProbedFeatures = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The time each {@link DataType} was last collected successfully.
+     */
+    private final Map<DataType, Long> f_mapLastCollected = new ConcurrentHashMap<>();
 
     /**
      * Indicates if we should log detailed JMX query times for troubleshooting.
      */
     private boolean m_fLogJMXQueryTimes = false;
 
+    /**
+     * The {@link MetricsRecorder} recording the collected data, or null if not recording.
+     */
+    private volatile MetricsRecorder m_recorder;
+
+    /**
+     * Indicates if recording the collected data failed and has been stopped.
+     */
+    private volatile boolean m_fRecordingFailed;
+
     /**
      * A {@link Map} of {@link List}s to store the retrieved data
      */
@@ -1691,19 +2790,19 @@ public class VisualVMModel
     /**
      * Defines if the federation service is used.
      */
-    private boolean m_fIsFederationAvailable = false;
+    private volatile boolean m_fIsFederationAvailable = false;
 
     /**
      * Defines if we can get statistics directly from reporter. This is only valid for
      * a coherence version >= 12.1.3. An initial null value indicates that we have
      * not yet determined if we can use the reporter.
      */
-    private Boolean m_fReporterAvailable = null;
+    private volatile Boolean m_fReporterAvailable = null;
 
     /**
      * Defines if we are running Coherence 12.1.3 or above
      */
-    private Boolean m_fis1213AndAbove = null;
+    private volatile Boolean m_fis1213AndAbove = null;
 
     /**
      * Defines if we want to include the NameService in the list of proxy servers.
@@ -1713,7 +2812,7 @@ public class VisualVMModel
     /**
      * Defines is proxy servers were present when we first collected stats.
      */
-    private Boolean m_fIsCoherenceExtendConfigured = null;
+    private volatile Boolean m_fIsCoherenceExtendConfigured = null;
 
     /**
      * Map of instances of data retrievers for execution of actual JMX queries.
@@ -1724,39 +2823,55 @@ public class VisualVMModel
      * The set of distributed caches so that we don't double count replicated
      * or optimistic caches.
      */
-    private Set<String> m_setKnownDistributedCaches;
+    private volatile Set<String> m_setKnownDistributedCaches;
 
     /**
      * The set of domainPartition key values to check for connection
      * to WebLogicServer MT environment.
      */
-    private final Set<String> f_setDomainPartitions = new HashSet<>();
+    private final Set<String> f_setDomainPartitions = ConcurrentHashMap.newKeySet();
 
     /**
      * The cluster version as a String.
      */
-    private String m_sClusterVersion;
+    private volatile String m_sClusterVersion;
 
     /**
      * The cluster version as an integer for comparison.
      */
-    private int m_nClusterVersion;
+    private volatile int m_nClusterVersion;
 
     /**
      * Indicates if "Load Average" is available for the cluster being sampled.
      * If "SystemLoadAverage" attribute returns -1, then this means we are on
      * Windows (tm) platform and we should use the "SystemCPULoad" instead.
      */
-    private boolean m_fIsLoadAverageAvailable = true;
+    private volatile boolean m_fIsLoadAverageAvailable = true;
 
     /**
      * Indicates if this is the first refresh.
      */
-    private boolean m_fIsFirstRefresh = true;
+    private volatile boolean m_fIsFirstRefresh = true;
+
+    /**
+     * The changes of the cumulative counters of each {@link DataType} which has them.
+     */
+    private final Map<DataType, CounterRates> f_mapCounterRates = new EnumMap<>(DataType.class);
+
+    /**
+     * The ObjectName of the Reporter MBean used to run reports, or null if it
+     * has not been looked up.
+     */
+    private volatile String m_sReporterLocation;
+
+    /**
+     * Indicates if the Reporter supports running reports as a group.
+     */
+    private volatile boolean m_fReportBatchingSupported = true;
 
     /**
      * Indicates if we can take advantage of REST optimizations from Enh 32530689.
      * If this value is null it means we have not yet determined if the cluster supports this.
      */
-    private Boolean m_fIRestCacheOptimizationAvailable = null;
+    private volatile Boolean m_fIRestCacheOptimizationAvailable = null;
     }
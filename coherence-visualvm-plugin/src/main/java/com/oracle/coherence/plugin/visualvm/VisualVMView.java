@@ -29,9 +29,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import com.oracle.coherence.plugin.visualvm.datasource.CoherenceClusterDataSource;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JMXConnectionPool;
 import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel;
+import com.oracle.coherence.plugin.visualvm.recording.ReplayRequestSender;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceClusterSnapshotPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceExecutorPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceGrpcProxyPanel;
@@ -47,26 +49,50 @@ import com.oracle.coherence.plugin.visualvm.panel.CoherenceJCachePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceMachinePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceMemberPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherencePersistencePanel;
+import com.oracle.coherence.plugin.visualvm.panel.CoherencePluginDiagnosticsPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceProxyPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceServicePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceFederationPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceHotCachePanel;
 
+import java.awt.BorderLayout;
 import java.awt.Image;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 
-import java.util.LinkedHashSet;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import java.text.SimpleDateFormat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import java.util.function.Supplier;
+
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.management.MBeanServerConnection;
+
+import javax.management.remote.JMXServiceURL;
+
+import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JEditorPane;
+import javax.swing.JLabel;
 import javax.swing.JOptionPane;
-import javax.swing.Timer;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 import org.graalvm.visualvm.application.Application;
 import org.graalvm.visualvm.core.options.GlobalPreferences;
@@ -78,7 +104,6 @@ import org.graalvm.visualvm.tools.jmx.JmxModelFactory;
 import org.openide.DialogDisplayer;
 import org.openide.NotifyDescriptor;
 import org.openide.util.ImageUtilities;
-import org.openide.util.RequestProcessor;
 import org.openide.util.Utilities;
 
 
@@ -109,9 +134,13 @@ public class VisualVMView
             }
         m_application = application;
 
-        JmxModel jmx = JmxModelFactory.getJmxModelFor(application);
+        JmxModel              jmx        = JmxModelFactory.getJmxModelFor(application);
+        MBeanServerConnection connection = jmx.getMBeanServerConnection();
+
+        requestSender = new JMXRequestSender(connection, createConnectionPool(jmx, connection));
 
-        requestSender = new JMXRequestSender(jmx.getMBeanServerConnection());
+        JMXServiceURL url = jmx.getJMXServiceURL();
+        f_sHost = url == null || url.getHost() == null || url.getHost().isEmpty() ? "localhost" : url.getHost();
         }
 
     /**
@@ -124,6 +153,18 @@ public class VisualVMView
         super(dataSource, "Oracle Coherence", new ImageIcon(ImageUtilities.loadImage(IMAGE_PATH, true)).getImage(), 60,
               false);
         String sUrl = dataSource.getUrl();
+
+        f_sHost = getHost(sUrl);
+
+        if (ReplayRequestSender.isReplayUrl(sUrl))
+            {
+            // replay a recording rather than connecting to a cluster
+            int nSpeed = Integer.getInteger(VisualVMModel.PROP_REPLAY_SPEED, VisualVMModel.DEFAULT_REPLAY_SPEED);
+            requestSender = new ReplayRequestSender(ReplayRequestSender.getRecordingDirectory(sUrl),
+                                                    Math.max(1, nSpeed));
+            return;
+            }
+
         requestSender = new HttpRequestSender(sUrl);
 
         // BUG 29213475 - Check for a valid HttpRequestSender URL before we start the refresh
@@ -155,58 +196,21 @@ public class VisualVMView
     protected DataViewComponent createComponent()
         {
         final VisualVMModel model = VisualVMModel.getInstance();
+        m_model = model;
 
         boolean fClusterSnapshotEnabled = com.oracle.coherence.plugin.visualvm.GlobalPreferences
                 .sharedInstance().isClusterSnapshotEnabled();
 
-        // Data area for master view
+        // Data area for master view, the cluster name and version are displayed
+        // once the first refresh has collected them
         JEditorPane generalDataArea = new JEditorPane();
         generalDataArea.setEditable(false);
-
-        // do an initial refresh of the data so we can see if we need to display
-        // the proxy server tab
-        model.refreshStatistics(requestSender);
-        model.setIsFirstRefresh(false);
-
-        // we then construct the panels after the initial refresh so we can utilize
-        // any information we have gathered in the startup
-
-        final CoherenceClusterSnapshotPanel pnlClusterSnapshot =
-                fClusterSnapshotEnabled
-                ? new CoherenceClusterSnapshotPanel(model)
-                : null;
-        final CoherenceClusterOverviewPanel pnlClusterOverview = new CoherenceClusterOverviewPanel(model);
-        final CoherenceMachinePanel pnlMachine = new CoherenceMachinePanel(model);
-        final CoherenceMemberPanel pnlMember = new CoherenceMemberPanel(model);
-        final CoherenceServicePanel pnlService = new CoherenceServicePanel(model);
-        final CoherenceCachePanel pnlCache = new CoherenceCachePanel(model);
-        final CoherenceTopicPanel pnlTopic = new CoherenceTopicPanel(model);
-        final CoherenceProxyPanel pnlProxy = new CoherenceProxyPanel(model);
-        final CoherenceHotCachePanel pnlHotCache = new CoherenceHotCachePanel(model);
-        final CoherencePersistencePanel pnlPersistence = new CoherencePersistencePanel(model);
-        final CoherenceHttpSessionPanel pnlHttpSession = new CoherenceHttpSessionPanel(model);
-        final CoherenceFederationPanel pnlFederation = new CoherenceFederationPanel(model);
-        final CoherenceElasticDataPanel pnlElasticData = new CoherenceElasticDataPanel(model);
-        final CoherenceJCachePanel pnlJCache = new CoherenceJCachePanel(model);
-        final CoherenceHttpProxyPanel pnlHttpProxy = new CoherenceHttpProxyPanel(model);
-        final CoherenceExecutorPanel pnlExecutor = new CoherenceExecutorPanel(model);
-        final CoherenceGrpcProxyPanel pnlGrpcProxy = new CoherenceGrpcProxyPanel(model);
-
-        String sClusterVersion = model.getClusterVersion();
-        String sClusterName = null;
-
-        List<Map.Entry<Object, Data>> clusterData = model.getData(VisualVMModel.DataType.CLUSTER);
-        for (Map.Entry<Object, Data> entry : clusterData)
-            {
-            sClusterName = entry.getValue().getColumn(ClusterData.CLUSTER_NAME).toString();
-            break;
-            }
+        m_paneClusterInfo = generalDataArea;
 
         // Master view:
         DataViewComponent.MasterView masterView =
-                new DataViewComponent.MasterView(
-                        Localization.getLocalText("LBL_cluster_information",
-                                                  sClusterName, sClusterVersion), null, generalDataArea);
+                new DataViewComponent.MasterView(Localization.getLocalText("LBL_cluster_information_pending"),
+                                                 null, generalDataArea);
 
         // Configuration of master view:
         DataViewComponent.MasterViewConfiguration masterConfiguration =
@@ -218,207 +222,504 @@ public class VisualVMView
         m_dvc.configureDetailsArea(new DataViewComponent.DetailsAreaConfiguration(Localization.getLocalText(
                 "LBL_cluster_overview"), false), DataViewComponent.TOP_RIGHT);
 
-        // Add detail views to the components
-        if (pnlClusterSnapshot != null)
+        // Add detail views to the components, each panel and its graphs are only
+        // created when the view is first displayed
+        if (fClusterSnapshotEnabled)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_cluster_snapshot"),
-                                                                   null, 10, pnlClusterSnapshot, null), DataViewComponent.TOP_RIGHT);
+            addDetailsView("LBL_cluster_snapshot", () -> new CoherenceClusterSnapshotPanel(model));
             }
-        DataViewComponent.DetailsView clusterOverview = new DataViewComponent.DetailsView(Localization.getLocalText("LBL_cluster_overview"),
-                                                  null, 10, pnlClusterOverview, null);
-        m_dvc.addDetailsView(clusterOverview, DataViewComponent.TOP_RIGHT);
-        m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_machines"),
-                                                               null, 10, pnlMachine, null), DataViewComponent.TOP_RIGHT);
-        m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_members"),
-                                                               null, 10, pnlMember, null), DataViewComponent.TOP_RIGHT);
-        m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_services"),
-                                                               null, 10, pnlService, null), DataViewComponent.TOP_RIGHT);
-        m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_caches"),
-                                                               null, 10, pnlCache, null), DataViewComponent.TOP_RIGHT);
-
-        // add the default panels
-        if (pnlClusterSnapshot != null)
+        DataViewComponent.DetailsView clusterOverview =
+                addDetailsView("LBL_cluster_overview", () -> new CoherenceClusterOverviewPanel(model));
+        addDetailsView("LBL_machines", () -> new CoherenceMachinePanel(model));
+        addDetailsView("LBL_members", () -> new CoherenceMemberPanel(model));
+        addDetailsView("LBL_services", () -> new CoherenceServicePanel(model));
+        addDetailsView("LBL_caches", () -> new CoherenceCachePanel(model));
+        addDetailsView("LBL_plugin_diagnostics", () -> new CoherencePluginDiagnosticsPanel(model));
+
+        // the tabs for the features which are configured are added once the
+        // features have been probed by the first refresh
+        m_dvc.selectDetailsView(clusterOverview);
+
+        // views which are not on screen are refreshed less often
+        m_dvc.addHierarchyListener(event ->
             {
-            f_setPanels.add(pnlClusterSnapshot);
-            pnlClusterSnapshot.setRequestSender(requestSender);
-            }
-        f_setPanels.add(pnlClusterOverview);
-        f_setPanels.add(pnlMachine);
-        f_setPanels.add(pnlMember);
-        f_setPanels.add(pnlService);
-        f_setPanels.add(pnlCache);
+            RefreshCoordinator.Registration registration = m_registration;
+            if (registration != null && (event.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0)
+                {
+                registration.setFocused(m_dvc.isShowing());
+                if (m_dvc.isShowing())
+                    {
+                    registration.requestRefresh();
+                    }
+                }
+            });
+
+        // refresh the TAB's as required every 3 seconds using the refresh threads
+        // shared by all views. The reason for 3 seconds is so that with the min
+        // cluster data refresh time of 5 seconds, the updates will be smoother.
+        // The features are probed and the first full refresh is started straight away
+        m_registration = RefreshCoordinator.getInstance().register(this::refresh, f_sHost, REFRESH_INTERVAL);
+
+        return m_dvc;
+        }
 
-        if (model.isHotcacheConfigured())
+    @Override
+    protected void removed()
+        {
+        stopRefresh();
+        if (m_model != null)
+            {
+            m_model.closeRecording();
+            }
+        if (requestSender != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_hotcache"),
-                                                                   null, 10, pnlHotCache, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlHotCache);
+            requestSender.close();
             }
+        }
 
-        // selectively add tabs based upon used functionality
-        if (model.isFederationCongfigured())
+    /**
+     * Called on removal.
+     *
+     * @param app {@link Application} to remove
+     */
+    public void dataRemoved(Application app)
+        {
+        stopRefresh();
+        if (m_model != null)
+            {
+            m_model.closeRecording();
+            }
+        if (requestSender != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_federation"),
-                                                                   null, 10, pnlFederation, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlFederation);
+            requestSender.close();
             }
+        }
+
+    // ----- helpers --------------------------------------------------------
 
-        if (model.isCoherenceExtendConfigured())
+    /**
+     * Refresh the statistics and the data of the panels which have been
+     * displayed, and then update the panels in a single batch on the event
+     * dispatch thread. This is called by the {@link RefreshCoordinator}, which
+     * never runs it concurrently for the same view.
+     * <p>
+     * Each panel takes its snapshot of the collected data in
+     * {@link AbstractCoherencePanel#updateData()}. A refresh is skipped while the
+     * GUI update of the previous refresh is pending so that a snapshot is never
+     * replaced before the panels have been updated from it.
+     */
+    private void refresh()
+        {
+        if (m_fUpdatePending)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_proxy_servers"),
-                                                                   null, 10, pnlProxy, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlProxy);
+            return;
             }
 
-        if (model.isHttpProxyConfigured())
+        try
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_http_proxy_servers"),
-                                                                   null, 10, pnlHttpProxy, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlHttpProxy);
+            // application may be null inside the constructor
+            if (m_application != null && m_application.getState() != Application.STATE_AVAILABLE)
+                {
+                return;
+                }
+
+            if (!m_fFeaturesProbed)
+                {
+                // only query the MBean names which show the features that are
+                // configured, so their tabs can be added before the first full
+                // refresh has completed
+                m_model.probeFeatures(requestSender);
+                m_fFeaturesProbed = true;
+                SwingUtilities.invokeLater(this::addFeatureViews);
+                }
+
+            m_model.refreshStatistics(requestSender);
+
+            boolean fInitialRefresh = !m_fInitialRefreshComplete;
+            if (fInitialRefresh)
+                {
+                m_model.setIsFirstRefresh(false);
+                m_fInitialRefreshComplete = true;
+                }
+
+            // refresh only the panels that have been displayed
+            List<AbstractCoherencePanel> listPanels = new ArrayList<>(f_setPanels);
+            for (AbstractCoherencePanel panel : listPanels)
+                {
+                panel.updateData();
+                }
+
+            m_fUpdatePending = true;
+            SwingUtilities.invokeLater(() ->
+                {
+                try
+                    {
+                    for (AbstractCoherencePanel panel : listPanels)
+                        {
+                        try
+                            {
+                            panel.updateGUI();
+                            }
+                        catch (Exception e)
+                            {
+                            LOGGER.log(Level.WARNING, "Error while updating tab " + panel.getClass().getSimpleName(), e);
+                            }
+                        }
+
+                    for (LazyPanel panel : f_setLazyPanels)
+                        {
+                        panel.updateStaleness();
+                        }
+
+                    if (fInitialRefresh)
+                        {
+                        initialRefreshComplete();
+                        }
+                    else
+                        {
+                        // features whose data missed the deadline of the first
+                        // refresh are detected once the data has been collected
+                        addFeatureViews();
+                        }
+
+                    updateVisibleDataTypes();
+                    }
+                finally
+                    {
+                    m_fUpdatePending = false;
+                    }
+                });
             }
+        catch (Exception ex)
+            {
+            LOGGER.log(Level.WARNING, "Error while refreshing tabs. " + ex.toString(), ex);
+            }
+        }
 
-        if (model.isTopicsConfigured())
+    /**
+     * Request a refresh as soon as possible, rather than at the next scheduled
+     * refresh.
+     */
+    private void requestRefresh()
+        {
+        RefreshCoordinator.Registration registration = m_registration;
+        if (registration != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_topics"),
-                                                                   null, 10, pnlTopic, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlTopic);
+            registration.requestRefresh();
             }
+        }
 
-        if (model.isPersistenceConfigured())
+    /**
+     * Stop refreshing this view.
+     */
+    private void stopRefresh()
+        {
+        RefreshCoordinator.Registration registration = m_registration;
+        if (registration != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_persistence"),
-                                                                   null, 10, pnlPersistence, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlPersistence);
+            registration.cancel();
             }
+        }
 
-        if (model.isCoherenceWebConfigured())
+    /**
+     * Returns the host and port of a management URL, used to limit the
+     * refreshes running concurrently against the same host.
+     *
+     * @param sUrl  the URL
+     *
+     * @return the host and port of the URL, or the URL if it cannot be parsed
+     */
+    private static String getHost(String sUrl)
+        {
+        try
+            {
+            URL url = new URL(sUrl);
+            return url.getHost() + ":" + (url.getPort() == -1 ? url.getDefaultPort() : url.getPort());
+            }
+        catch (MalformedURLException e)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_Coherence_web"),
-                                                                   null, 10, pnlHttpSession, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlHttpSession);
+            return sUrl;
             }
+        }
 
-        if (model.isElasticDataConfigured())
+    /**
+     * Set the {@link VisualVMModel.DataType}s displayed by the panels that are
+     * on screen, so that only these are collected on every refresh and other
+     * data is refreshed less often. Must be called on the event dispatch thread.
+     */
+    private void updateVisibleDataTypes()
+        {
+        Set<VisualVMModel.DataType> setVisible = EnumSet.noneOf(VisualVMModel.DataType.class);
+        for (AbstractCoherencePanel panel : f_setPanels)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_elastic_data"),
-                                                                   null, 10, pnlElasticData, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlElasticData);
+            if (panel.isShowing())
+                {
+                setVisible.addAll(Arrays.asList(panel.getDataTypes()));
+                }
             }
+        m_model.setVisibleDataTypes(setVisible);
 
-        if (model.isJCacheConfigured())
+        RefreshCoordinator.Registration registration = m_registration;
+        if (registration != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_JCache"),
-                                                                   null, 10, pnlJCache, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlJCache);
+            registration.setFocused(m_dvc.isShowing());
             }
+        }
 
-        if (model.isExecutorConfigured())
+    /**
+     * Add a details view for each feature which is configured and has not
+     * already been added.
+     */
+    private void addFeatureViews()
+        {
+        VisualVMModel model = m_model;
+
+        addFeatureView("LBL_hotcache", model.isHotcacheConfigured(), () -> new CoherenceHotCachePanel(model));
+        addFeatureView("LBL_federation", model.isFederationCongfigured(), () -> new CoherenceFederationPanel(model));
+        addFeatureView("LBL_proxy_servers", model.isCoherenceExtendConfigured(), () -> new CoherenceProxyPanel(model));
+        addFeatureView("LBL_http_proxy_servers", model.isHttpProxyConfigured(),
+                       () -> new CoherenceHttpProxyPanel(model));
+        addFeatureView("LBL_topics", model.isTopicsConfigured(), () -> new CoherenceTopicPanel(model));
+        addFeatureView("LBL_persistence", model.isPersistenceConfigured(),
+                       () -> new CoherencePersistencePanel(model));
+        addFeatureView("LBL_Coherence_web", model.isCoherenceWebConfigured(),
+                       () -> new CoherenceHttpSessionPanel(model));
+        addFeatureView("LBL_elastic_data", model.isElasticDataConfigured(),
+                       () -> new CoherenceElasticDataPanel(model));
+        addFeatureView("LBL_JCache", model.isJCacheConfigured(), () -> new CoherenceJCachePanel(model));
+        addFeatureView("LBL_executors", model.isExecutorConfigured(), () -> new CoherenceExecutorPanel(model));
+        addFeatureView("LBL_grpc", model.isGrpcProxyConfigured(), () -> new CoherenceGrpcProxyPanel(model));
+        }
+
+    /**
+     * Add a details view for a feature if it is configured and has not already
+     * been added.
+     *
+     * @param sLabel       the key of the label for the view
+     * @param fConfigured  true if the feature is configured
+     * @param supplier     the supplier of the panel for the view
+     */
+    private void addFeatureView(String sLabel, boolean fConfigured, Supplier<AbstractCoherencePanel> supplier)
+        {
+        if (fConfigured && f_setFeatureViews.add(sLabel))
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_executors"),
-                                                                   null, 10, pnlExecutor, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlExecutor);
+            addDetailsView(sLabel, supplier);
             }
+        }
+
+    /**
+     * Add a details view whose panel is created when the view is first displayed.
+     *
+     * @param sLabel    the key of the label for the view
+     * @param supplier  the supplier of the panel for the view
+     *
+     * @return the {@link DataViewComponent.DetailsView} added
+     */
+    private DataViewComponent.DetailsView addDetailsView(String sLabel, Supplier<AbstractCoherencePanel> supplier)
+        {
+        DataViewComponent.DetailsView view = new DataViewComponent.DetailsView(Localization.getLocalText(sLabel),
+                null, 10, new LazyPanel(supplier), null);
+
+        m_dvc.addDetailsView(view, DataViewComponent.TOP_RIGHT);
+
+        return view;
+        }
+
+    /**
+     * Called on the event dispatch thread once the first full refresh has
+     * completed to add the views for features which could not be detected
+     * before it.
+     */
+    private void initialRefreshComplete()
+        {
+        addFeatureViews();
+
+        String sClusterName = null;
 
-        if (model.isGrpcProxyConfigured())
+        List<Map.Entry<Object, Data>> clusterData = m_model.getData(VisualVMModel.DataType.CLUSTER);
+        if (clusterData != null)
             {
-            m_dvc.addDetailsView(new DataViewComponent.DetailsView(Localization.getLocalText("LBL_grpc"),
-                                                                   null, 10, pnlGrpcProxy, null), DataViewComponent.TOP_RIGHT);
-            f_setPanels.add(pnlGrpcProxy);
+            for (Map.Entry<Object, Data> entry : clusterData)
+                {
+                sClusterName = entry.getValue().getColumn(ClusterData.CLUSTER_NAME).toString();
+                break;
+                }
             }
 
-        // update the request sender
-        pnlClusterOverview.setRequestSender(requestSender);
-        pnlMachine.setRequestSender(requestSender);
-        pnlMember.setRequestSender(requestSender);
-        pnlService.setRequestSender(requestSender);
-        pnlCache.setRequestSender(requestSender);
-        pnlHotCache.setRequestSender(requestSender);
-        pnlFederation.setRequestSender(requestSender);
-        pnlProxy.setRequestSender(requestSender);
-        pnlTopic.setRequestSender(requestSender);
-        pnlPersistence.setRequestSender(requestSender);
-        pnlHttpSession.setRequestSender(requestSender);
-        pnlElasticData.setRequestSender(requestSender);
-        pnlJCache.setRequestSender(requestSender);
-        pnlExecutor.setRequestSender(requestSender);
-        pnlGrpcProxy.setRequestSender(requestSender);
+        m_paneClusterInfo.setText(Localization.getLocalText("LBL_cluster_information",
+                                                            sClusterName, m_model.getClusterVersion()));
 
         // display a warning if we are connected to a WLS domain and we can
         // see more that 1 domainPartition key. This code relies on us
         // using JMX queries rather than the reporter.
-        if (model.getDomainPartitions().size() > 1)
+        if (m_model.getDomainPartitions().size() > 1)
             {
             JOptionPane.showMessageDialog(null, Localization.getLocalText("LBL_mt_warning"));
             }
+        }
 
-        m_dvc.selectDetailsView(clusterOverview);
+    /**
+     * Create the {@link JMXConnectionPool} used to read attributes over several
+     * connections if more than one connection has been configured.
+     *
+     * @param jmx         the {@link JmxModel} of the application
+     * @param connection  the {@link MBeanServerConnection} opened by VisualVM
+     *
+     * @return the {@link JMXConnectionPool} or null if not configured or the
+     *         application was not connected to using a JMX service URL
+     */
+    private static JMXConnectionPool createConnectionPool(JmxModel jmx, MBeanServerConnection connection)
+        {
+        int nConnections = Integer.getInteger(VisualVMModel.PROP_JMX_CONNECTIONS, 1);
 
-        // create a timer that will refresh the TAB's as required every 3 seconds
-        // the reason for 3 seconds is so that with the min cluster data refresh time of
-        // 5 seconds, the updates will be smoother
-        m_timer = new Timer(3000, new ActionListener()
+        if (nConnections <= 1)
             {
-            public void actionPerformed(ActionEvent e)
-                {
-                if (refreshRunning)
-                    {
-                    return;
-                    }
+            return null;
+            }
+
+        List<JMXServiceURL> listUrls = new ArrayList<>();
+        JMXServiceURL       url      = jmx.getJMXServiceURL();
+
+        if (url != null)
+            {
+            listUrls.add(url);
+            }
 
-                refreshRunning = true;
-                RequestProcessor.getDefault().post(new Runnable()
+        String sUrls = System.getProperty(VisualVMModel.PROP_JMX_URLS);
+        if (sUrls != null)
+            {
+            for (String sUrl : sUrls.split(","))
+                {
+                if (!sUrl.trim().isEmpty())
                     {
-                    public void run()
+                    try
                         {
-                        try
-                            {
-                            // application may be null inside the constructor
-                            if (m_application == null || m_application.getState() == Application.STATE_AVAILABLE)
-                                {
-                                // Schedule the SwingWorker to update the GUI
-                                model.refreshStatistics(requestSender);
-
-                                // refresh only the panels that were activated on startup
-                                for (AbstractCoherencePanel panel : f_setPanels)
-                                    {
-                                    panel.updateData();
-                                    panel.updateGUI();
-                                    }
-                                }
-                            }
-                        catch (Exception ex)
-                            {
-                            LOGGER.warning("Error while refreshing tabs. " + ex.toString());
-                            ex.printStackTrace();
-                            }
-                        finally
-                            {
-                            refreshRunning = false;
-                            }
+                        listUrls.add(new JMXServiceURL(sUrl.trim()));
                         }
-                    });
+                    catch (MalformedURLException e)
+                        {
+                        LOGGER.warning("Ignoring invalid JMX service URL " + sUrl + ": " + e.getMessage());
+                        }
+                    }
                 }
-            });
-        m_timer.setInitialDelay(800);
-        m_timer.start();
+            }
 
-        return m_dvc;
+        return listUrls.isEmpty() ? null : new JMXConnectionPool(connection, listUrls, null, nConnections);
         }
 
-    @Override
-    protected void removed()
-        {
-        m_timer.stop();
-        }
+    // ----- inner class: LazyPanel -----------------------------------------
 
     /**
-     * Called on removal.
-     *
-     * @param app {@link Application} to remove
+     * A placeholder for an {@link AbstractCoherencePanel} which creates the
+     * panel when it is first displayed, and only then includes it in the
+     * refresh of the panels. A refresh is requested whenever the panel is
+     * displayed.
      */
-    public void dataRemoved(Application app)
+    private class LazyPanel
+            extends JPanel
+            implements HierarchyListener
         {
-        m_timer.stop();
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a {@link LazyPanel}.
+         *
+         * @param supplier  the supplier of the panel
+         */
+        public LazyPanel(Supplier<AbstractCoherencePanel> supplier)
+            {
+            super(new BorderLayout());
+
+            f_supplier   = supplier;
+            f_labelStale = new JLabel();
+
+            f_labelStale.setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
+            f_labelStale.setVisible(false);
+            add(f_labelStale, BorderLayout.NORTH);
+
+            setOpaque(false);
+            addHierarchyListener(this);
+            }
+
+        // ----- HierarchyListener methods ----------------------------------
+
+        @Override
+        public void hierarchyChanged(HierarchyEvent event)
+            {
+            if ((event.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && isShowing())
+                {
+                if (m_panel == null)
+                    {
+                    AbstractCoherencePanel panel = f_supplier.get();
+                    panel.setRequestSender(requestSender);
+
+                    add(panel, BorderLayout.CENTER);
+                    revalidate();
+
+                    m_panel = panel;
+                    f_setPanels.add(panel);
+                    f_setLazyPanels.add(this);
+                    }
+
+                // collect the data for the panel now that it is on screen
+                updateVisibleDataTypes();
+                requestRefresh();
+                }
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Show which of the data displayed by the panel is stale, as its last
+         * collection failed or missed the refresh deadline, and when it was last
+         * collected. Must be called on the event dispatch thread.
+         */
+        public void updateStaleness()
+            {
+            List<String> listStale = new ArrayList<>();
+            long         ldtOldest = Long.MAX_VALUE;
+
+            for (VisualVMModel.DataType type : m_panel.getDataTypes())
+                {
+                if (m_model.isStale(type))
+                    {
+                    listStale.add(type.name());
+                    ldtOldest = Math.min(ldtOldest, m_model.getLastCollected(type));
+                    }
+                }
+
+            if (listStale.isEmpty())
+                {
+                f_labelStale.setVisible(false);
+                }
+            else
+                {
+                f_labelStale.setText(Localization.getLocalText("LBL_stale_data", String.join(", ", listStale),
+                        ldtOldest <= 0L ? "-" : new SimpleDateFormat("HH:mm:ss").format(new Date(ldtOldest))));
+                f_labelStale.setVisible(true);
+                }
+            }
+
+        // ----- constants --------------------------------------------------
+
+        private static final long serialVersionUID = -3364620427345640283L;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The supplier of the panel.
+         */
+        private final transient Supplier<AbstractCoherencePanel> f_supplier;
+
+        /**
+         * The label shown when the data displayed by the panel is stale.
+         */
+        private final JLabel f_labelStale;
+
+        /**
+         * The panel, or null if it has not been displayed.
+         */
+        private AbstractCoherencePanel m_panel;
         }
 
     // ----- constants ------------------------------------------------------
@@ -438,6 +739,11 @@ public class VisualVMView
      */
     private static final Logger LOGGER = Logger.getLogger(VisualVMView.class.getName());
 
+    /**
+     * The interval in millis between the end of one refresh and the start of the next.
+     */
+    private static final long REFRESH_INTERVAL = 3000L;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -446,9 +752,14 @@ public class VisualVMView
     private DataViewComponent m_dvc;
 
     /**
-     * Timer used to refresh the screen
+     * The registration of this view with the {@link RefreshCoordinator}.
      */
-    private Timer m_timer;
+    private volatile RefreshCoordinator.Registration m_registration;
+
+    /**
+     * The host this view collects its data from.
+     */
+    private final String f_sHost;
 
     /**
      * Application.
@@ -456,9 +767,29 @@ public class VisualVMView
     private Application m_application;
 
     /**
-     * Indicates if the refresh is running.
+     * The model for the cluster displayed.
      */
-    private boolean refreshRunning;
+    private VisualVMModel m_model;
+
+    /**
+     * Indicates if the panels are still to be updated from the last refresh.
+     */
+    private volatile boolean m_fUpdatePending;
+
+    /**
+     * Indicates if the first full refresh has completed.
+     */
+    private volatile boolean m_fInitialRefreshComplete;
+
+    /**
+     * Indicates if the features which are configured have been probed.
+     */
+    private volatile boolean m_fFeaturesProbed;
+
+    /**
+     * The master view area which displays the cluster name and version.
+     */
+    private JEditorPane m_paneClusterInfo;
 
     /**
      * The Request Sender to use.
@@ -466,7 +797,18 @@ public class VisualVMView
     private RequestSender requestSender = null;
 
     /**
-     * Set of panels to refresh and update.
+     * Set of panels to refresh and update. Panels are added on the event
+     * dispatch thread when they are first displayed.
+     */
+    private final Set<AbstractCoherencePanel> f_setPanels = new CopyOnWriteArraySet<>();
+
+    /**
+     * The {@link LazyPanel}s whose panel has been created.
+     */
+    private final Set<LazyPanel> f_setLazyPanels = new CopyOnWriteArraySet<>();
+
+    /**
+     * The labels of the feature views which have been added.
      */
-    private final Set<AbstractCoherencePanel> f_setPanels = new LinkedHashSet<>();
+    private final Set<String> f_setFeatureViews = new HashSet<>();
     }
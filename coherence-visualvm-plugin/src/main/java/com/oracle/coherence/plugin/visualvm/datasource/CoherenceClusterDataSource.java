@@ -94,6 +94,11 @@ public class CoherenceClusterDataSource
         try
             {
             URL url = new URL(f_sManagementUrl);
+            if ("file".equals(url.getProtocol()))
+                {
+                // a recording being replayed
+                return f_sClusterName + "[" + url.getPath() + "]";
+                }
             return f_sClusterName + "[" + url.getHost() + ":" + url.getPort() + "]";
             }
         catch (MalformedURLException e)
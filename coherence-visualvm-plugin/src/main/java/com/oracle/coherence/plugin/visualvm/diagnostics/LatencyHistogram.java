@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in microseconds in the style of HdrHistogram. Values
+ * below {@link #LINEAR_BUCKETS} are counted exactly, and each power of two above
+ * that is split into {@link #SUB_BUCKETS} buckets of equal width, so percentiles
+ * are accurate to within 12.5% using a small fixed amount of memory. Recording
+ * is lock free so values may be recorded concurrently.
+ *
+ * @author agent 2026.10.16
+ */
+public class LatencyHistogram
+    {
+    // ----- LatencyHistogram methods ---------------------------------------
+
+    /**
+     * Record a latency.
+     *
+     * @param cMicros  the latency in microseconds
+     */
+    public void record(long cMicros)
+        {
+        long cValue = Math.max(0L, Math.min(cMicros, MAX_VALUE));
+
+        f_alCounts.incrementAndGet(getBucket(cValue));
+        f_adderCount.increment();
+        f_adderTotal.add(cValue);
+        f_atomicMax.accumulateAndGet(cValue, Math::max);
+        }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return the number of latencies recorded
+     */
+    public long getCount()
+        {
+        return f_adderCount.sum();
+        }
+
+    /**
+     * Returns the mean latency in microseconds.
+     *
+     * @return the mean latency or zero if none have been recorded
+     */
+    public double getMean()
+        {
+        long cCount = getCount();
+        return cCount == 0L ? 0.0 : (double) f_adderTotal.sum() / cCount;
+        }
+
+    /**
+     * Returns the maximum latency in microseconds.
+     *
+     * @return the maximum latency or zero if none have been recorded
+     */
+    public long getMax()
+        {
+        return f_atomicMax.get();
+        }
+
+    /**
+     * Returns the latency in microseconds which the given percentage of the
+     * recorded latencies are less than or equal to. The value returned is the
+     * highest value of the bucket the percentile falls in, but never more than
+     * the maximum recorded.
+     *
+     * @param dPercentile  the percentile between 0 and 100
+     *
+     * @return the latency at the percentile or zero if none have been recorded
+     */
+    public long getPercentile(double dPercentile)
+        {
+        long[] alCounts = new long[f_alCounts.length()];
+        long   cTotal   = 0L;
+
+        // take a copy so the percentile is calculated over a consistent set of counts
+        for (int i = 0; i < alCounts.length; i++)
+            {
+            alCounts[i] = f_alCounts.get(i);
+            cTotal     += alCounts[i];
+            }
+
+        if (cTotal == 0L)
+            {
+            return 0L;
+            }
+
+        long cTarget = Math.max(1L, (long) Math.ceil(cTotal * Math.min(100.0, dPercentile) / 100.0));
+        long cSeen   = 0L;
+
+        for (int i = 0; i < alCounts.length; i++)
+            {
+            cSeen += alCounts[i];
+            if (cSeen >= cTarget)
+                {
+                return Math.min(getBucketUpperBound(i), getMax());
+                }
+            }
+
+        return getMax();
+        }
+
+    /**
+     * Discard all recorded latencies.
+     */
+    public void reset()
+        {
+        for (int i = 0; i < f_alCounts.length(); i++)
+            {
+            f_alCounts.set(i, 0L);
+            }
+        f_adderCount.reset();
+        f_adderTotal.reset();
+        f_atomicMax.set(0L);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the bucket a value is counted in.
+     *
+     * @param cValue  the value between zero and {@link #MAX_VALUE}
+     *
+     * @return the index of the bucket
+     */
+    protected static int getBucket(long cValue)
+        {
+        if (cValue < LINEAR_BUCKETS)
+            {
+            return (int) cValue;
+            }
+
+        // the highest bit selects the power of two and the next SUB_BUCKET_BITS
+        // bits the bucket within it
+        int nExponent = 63 - Long.numberOfLeadingZeros(cValue);
+        int nShift    = nExponent - SUB_BUCKET_BITS;
+        int nSub      = (int) (cValue >>> nShift) & (SUB_BUCKETS - 1);
+
+        return LINEAR_BUCKETS + (nShift - 1) * SUB_BUCKETS + nSub;
+        }
+
+    /**
+     * Returns the highest value counted in a bucket.
+     *
+     * @param nBucket  the index of the bucket
+     *
+     * @return the highest value counted in the bucket
+     */
+    protected static long getBucketUpperBound(int nBucket)
+        {
+        if (nBucket < LINEAR_BUCKETS)
+            {
+            return nBucket;
+            }
+
+        int nShift = (nBucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        int nSub   = (nBucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+
+        return ((long) (SUB_BUCKETS + nSub + 1) << nShift) - 1L;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of bits used to select the bucket within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of values which are counted exactly.
+     */
+    protected static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+
+    /**
+     * The highest value which is recorded, higher values are recorded as this value.
+     * This is just over 19 hours in microseconds.
+     */
+    protected static final long MAX_VALUE = (1L << 36) - 1L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The count of values recorded in each bucket.
+     */
+    private final AtomicLongArray f_alCounts = new AtomicLongArray(getBucket(MAX_VALUE) + 1);
+
+    /**
+     * The number of values recorded.
+     */
+    private final LongAdder f_adderCount = new LongAdder();
+
+    /**
+     * The sum of the values recorded.
+     */
+    private final LongAdder f_adderTotal = new LongAdder();
+
+    /**
+     * The highest value recorded.
+     */
+    private final AtomicLong f_atomicMax = new AtomicLong();
+    }
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.diagnostics;
+
+import java.net.URL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics about the requests the plugin itself makes, used to find which
+ * query is at fault when a refresh is slow. For each collected data type, each
+ * kind of JMX request and each REST endpoint the latencies are recorded in a
+ * {@link LatencyHistogram} along with the number of errors, the bytes received
+ * and the number of times the reporter failed and JMX was used instead.
+ * <p>
+ * The statistics are shared by all cluster views and are only held in memory.
+ *
+ * @author agent 2026.10.16
+ */
+public class PluginDiagnostics
+    {
+    // ----- PluginDiagnostics methods --------------------------------------
+
+    /**
+     * Record a request.
+     *
+     * @param category  the {@link Category} of the request
+     * @param sName     the name of the request within the category
+     * @param cNanos    the time the request took in nanoseconds
+     * @param cBytes    the number of bytes received, or zero if not known
+     * @param fError    true if the request failed
+     */
+    public void record(Category category, String sName, long cNanos, long cBytes, boolean fError)
+        {
+        Statistics statistics = getStatistics(category, sName);
+
+        statistics.f_histogram.record(TimeUnit.NANOSECONDS.toMicros(cNanos));
+        if (cBytes > 0L)
+            {
+            statistics.f_adderBytes.add(cBytes);
+            }
+        if (fError)
+            {
+            statistics.f_adderErrors.increment();
+            }
+        }
+
+    /**
+     * Record that running the report for a data type failed and the data was
+     * collected using JMX queries instead.
+     *
+     * @param sName  the name of the data type
+     */
+    public void recordFallback(String sName)
+        {
+        getStatistics(Category.DATA_TYPE, sName).f_adderFallbacks.increment();
+        }
+
+    /**
+     * Run a request and record how long it took and whether it failed.
+     *
+     * @param category  the {@link Category} of the request
+     * @param sName     the name of the request within the category
+     * @param request   the request to run
+     * @param <T>       the type of the result
+     *
+     * @return the result of the request
+     *
+     * @throws Exception if the request failed
+     */
+    public <T> T measure(Category category, String sName, Request<T> request)
+            throws Exception
+        {
+        long    ldtStart = System.nanoTime();
+        boolean fError   = true;
+        try
+            {
+            T result = request.run();
+            fError = false;
+            return result;
+            }
+        finally
+            {
+            record(category, sName, System.nanoTime() - ldtStart, 0L, fError);
+            }
+        }
+
+    /**
+     * Returns the statistics recorded, ordered by category and then name.
+     *
+     * @return the statistics recorded
+     */
+    public List<Statistics> getStatistics()
+        {
+        List<Statistics> listStatistics = new ArrayList<>(f_mapStatistics.values());
+
+        listStatistics.sort(Comparator.comparing(Statistics::getCategory).thenComparing(Statistics::getName));
+
+        return listStatistics;
+        }
+
+    /**
+     * Discard all statistics recorded.
+     */
+    public void reset()
+        {
+        f_mapStatistics.clear();
+        }
+
+    /**
+     * Returns the {@link PluginDiagnostics} shared by all cluster views.
+     *
+     * @return the {@link PluginDiagnostics}
+     */
+    public static PluginDiagnostics getInstance()
+        {
+        return INSTANCE;
+        }
+
+    /**
+     * Returns the endpoint a REST request was sent to, which is the path of the
+     * URL with the names of services, caches, members and so on replaced by
+     * <code>*</code>, so that the requests for each kind of resource are
+     * recorded together.
+     *
+     * @param url  the URL of the request
+     *
+     * @return the endpoint of the request
+     */
+    public static String getEndpoint(URL url)
+        {
+        StringBuilder sb        = new StringBuilder();
+        boolean       fNameNext = false;
+
+        for (String sSegment : url.getPath().split("/"))
+            {
+            if (sSegment.isEmpty())
+                {
+                continue;
+                }
+
+            boolean fCollection = COLLECTIONS.contains(sSegment);
+
+            sb.append('/').append(fNameNext && !fCollection ? "*" : sSegment);
+            fNameNext = fCollection && !fNameNext;
+            }
+
+        return sb.length() == 0 ? "/" : sb.toString();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the {@link Statistics} for a request, creating them if required.
+     * Once {@link #MAX_STATISTICS} requests are held further requests are
+     * recorded together under the name {@link #OTHER}.
+     *
+     * @param category  the {@link Category} of the request
+     * @param sName     the name of the request within the category
+     *
+     * @return the {@link Statistics} for the request
+     */
+    private Statistics getStatistics(Category category, String sName)
+        {
+        String     sKey       = category.name() + ':' + sName;
+        Statistics statistics = f_mapStatistics.get(sKey);
+
+        if (statistics == null)
+            {
+            if (f_mapStatistics.size() >= MAX_STATISTICS)
+                {
+                sName = OTHER;
+                sKey  = category.name() + ':' + sName;
+                }
+
+            String sNameFinal = sName;
+            statistics = f_mapStatistics.computeIfAbsent(sKey, k -> new Statistics(category, sNameFinal));
+            }
+
+        return statistics;
+        }
+
+    // ----- inner class: Request -------------------------------------------
+
+    /**
+     * A request which may be measured.
+     *
+     * @param <T>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Request<T>
+        {
+        /**
+         * Run the request.
+         *
+         * @return the result of the request
+         *
+         * @throws Exception if the request failed
+         */
+        T run()
+                throws Exception;
+        }
+
+    // ----- inner class: Category ------------------------------------------
+
+    /**
+     * The categories of requests which are recorded.
+     */
+    public enum Category
+        {
+        /**
+         * A whole refresh, for which an error is recorded if it missed the deadline.
+         */
+        REFRESH("Refresh"),
+
+        /**
+         * The collection of a data type.
+         */
+        DATA_TYPE("Data Type"),
+
+        /**
+         * A JMX request, named by the operation and MBean type.
+         */
+        JMX("JMX"),
+
+        /**
+         * A REST request, named by the endpoint.
+         */
+        REST("REST");
+
+        /**
+         * Create a {@link Category}.
+         *
+         * @param sLabel  the label to display
+         */
+        Category(String sLabel)
+            {
+            f_sLabel = sLabel;
+            }
+
+        /**
+         * Returns the label to display.
+         *
+         * @return the label to display
+         */
+        public String getLabel()
+            {
+            return f_sLabel;
+            }
+
+        /**
+         * The label to display.
+         */
+        private final String f_sLabel;
+        }
+
+    // ----- inner class: Statistics ----------------------------------------
+
+    /**
+     * The statistics recorded for a request.
+     */
+    public static class Statistics
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create {@link Statistics}.
+         *
+         * @param category  the {@link Category} of the request
+         * @param sName     the name of the request within the category
+         */
+        private Statistics(Category category, String sName)
+            {
+            f_category = category;
+            f_sName    = sName;
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Returns the {@link Category} of the request.
+         *
+         * @return the {@link Category} of the request
+         */
+        public Category getCategory()
+            {
+            return f_category;
+            }
+
+        /**
+         * Returns the name of the request within the category.
+         *
+         * @return the name of the request
+         */
+        public String getName()
+            {
+            return f_sName;
+            }
+
+        /**
+         * Returns the {@link LatencyHistogram} of the request.
+         *
+         * @return the {@link LatencyHistogram} of the request
+         */
+        public LatencyHistogram getHistogram()
+            {
+            return f_histogram;
+            }
+
+        /**
+         * Returns the number of requests which failed.
+         *
+         * @return the number of requests which failed
+         */
+        public long getErrors()
+            {
+            return f_adderErrors.sum();
+            }
+
+        /**
+         * Returns the number of bytes received.
+         *
+         * @return the number of bytes received
+         */
+        public long getBytes()
+            {
+            return f_adderBytes.sum();
+            }
+
+        /**
+         * Returns the number of times the reporter failed and JMX was used instead.
+         *
+         * @return the number of fallbacks
+         */
+        public long getFallbacks()
+            {
+            return f_adderFallbacks.sum();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The {@link Category} of the request.
+         */
+        private final Category f_category;
+
+        /**
+         * The name of the request within the category.
+         */
+        private final String f_sName;
+
+        /**
+         * The latencies of the request.
+         */
+        private final LatencyHistogram f_histogram = new LatencyHistogram();
+
+        /**
+         * The number of requests which failed.
+         */
+        private final LongAdder f_adderErrors = new LongAdder();
+
+        /**
+         * The number of bytes received.
+         */
+        private final LongAdder f_adderBytes = new LongAdder();
+
+        /**
+         * The number of times the reporter failed and JMX was used instead.
+         */
+        private final LongAdder f_adderFallbacks = new LongAdder();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The maximum number of requests statistics are held for.
+     */
+    public static final int MAX_STATISTICS = 500;
+
+    /**
+     * The name requests are recorded under once {@link #MAX_STATISTICS} are held.
+     */
+    public static final String OTHER = "(other)";
+
+    /**
+     * The REST path segments which are followed by the name of a resource.
+     */
+    private static final Set<String> COLLECTIONS = new HashSet<>(Arrays.asList(
+            "clusters", "services", "caches", "members", "participants", "snapshots",
+            "archives", "journal", "webApplications", "hotcache", "topics", "subscribers"));
+
+    /**
+     * The {@link PluginDiagnostics} shared by all cluster views.
+     */
+    private static final PluginDiagnostics INSTANCE = new PluginDiagnostics();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The statistics for each request keyed by category and name.
+     */
+    private final Map<String, Statistics> f_mapStatistics = new ConcurrentHashMap<>();
+    }
@@ -25,6 +25,9 @@
 
 package com.oracle.coherence.plugin.visualvm.helper;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -51,6 +54,8 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -82,18 +87,35 @@ public class HttpRequestSender
     // ------ constructors --------------------------------------------------
 
     /**
-     * Create an HttpRequestSender object.
+     * Create an HttpRequestSender object which uses the shared
+     * {@link KeepAliveHttpTransport}.
      *
      * @param sUrl the URL of the management server
      */
     public HttpRequestSender(String sUrl)
+        {
+        this(sUrl, KeepAliveHttpTransport.getInstance());
+        }
+
+    /**
+     * Create an HttpRequestSender object.
+     *
+     * @param sUrl       the URL of the management server
+     * @param transport  the {@link HttpTransport} used to send GET requests
+     */
+    public HttpRequestSender(String sUrl, HttpTransport transport)
         {
         if (sUrl == null)
             {
             throw new IllegalArgumentException("URL must not be null");
             }
+        if (transport == null)
+            {
+            throw new IllegalArgumentException("Transport must not be null");
+            }
 
-        f_sUrl = sUrl;
+        f_sUrl      = sUrl;
+        f_transport = transport;
         // Managed Coherence Servers URL http://<admin-host>:<admin-port>/management/coherence/<version>/clusters
         f_fisWebLogic = f_sUrl.contains("/management/coherence/") && f_sUrl.contains("clusters");
         f_isSSl       = f_sUrl.startsWith("https");
@@ -187,6 +209,20 @@ public class HttpRequestSender
         return nodeAttribute == null ? null : rootNode.get(restName).asText();
         }
 
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        Map<ObjectName, AttributeList> mapResults = new HashMap<>(setObjectNames.size());
+
+        for (ObjectName objectName : setObjectNames)
+            {
+            mapResults.put(objectName, getAttributes(objectName, asAttribute));
+            }
+
+        return mapResults;
+        }
+
     @Override
     public AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
             throws Exception
@@ -263,6 +299,51 @@ public class HttpRequestSender
         return setObjectNames;
         }
 
+    @Override
+    public Set<ObjectName> getAllBackCacheMembers()
+            throws Exception
+        {
+        URLBuilder urlBuilder = getBasePath();
+        urlBuilder.addPathSegment("caches").addPathSegment("members")
+                .addQueryParameter("fields", "name,service,domainPartition,type,tier,nodeId")
+                .addQueryParameter("links", "");
+
+        JsonNode rootNode = getResponseJson(sendGetRequest(urlBuilder));
+        JsonNode nodeCacheItems = rootNode.get("items");
+        Set<ObjectName> setObjectNames = new HashSet<>();
+
+        if (nodeCacheItems != null && nodeCacheItems.isArray())
+            {
+            for (int i = 0; i < nodeCacheItems.size(); i++)
+                {
+                JsonNode cacheMember = nodeCacheItems.get(i);
+                JsonNode tier        = cacheMember.get("tier");
+
+                if (tier == null || !"back".equals(tier.asText()))
+                    {
+                    continue;
+                    }
+
+                Hashtable<String, String> mapKeysProps = new Hashtable<>();
+
+                mapKeysProps.put("type", "Cache");
+                mapKeysProps.put("tier", tier.asText());
+                mapKeysProps.put("name", cacheMember.get("name").asText());
+                mapKeysProps.put("service", cacheMember.get("service").asText());
+                mapKeysProps.put("nodeId", cacheMember.get("nodeId").asText());
+
+                JsonNode domainPartition = cacheMember.get("domainPartition");
+                if (domainPartition != null && !domainPartition.isNull())
+                    {
+                    mapKeysProps.put("domainPartition", domainPartition.asText());
+                    }
+                setObjectNames.add(new ObjectName("Coherence", mapKeysProps));
+                }
+            }
+
+        return setObjectNames;
+        }
+
     @Override
     public Set<ObjectName> getAllJournalMembers(String sJournalType)
             throws Exception
@@ -772,18 +853,21 @@ public class HttpRequestSender
     public JsonNode getListOfServiceCaches(String sServiceName, String sDomainPartition)
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
-                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches")
-                .addQueryParameter("links", "")
-                .addQueryParameter("fields", "nodeId,name,unitFactor,size,unitsBytes,units,memoryUnits,"
-                                             + "averageMissMillis");
-
-        if (sDomainPartition != null)
-            {
-            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
-            }
+        return getResponseJson(sendGetRequest(getListOfServiceCachesURL(sServiceName, sDomainPartition)));
+        }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+    /**
+     * Asynchronously get the cache data for the given service.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return a {@link CompletableFuture} for the cache data of the service
+     * @see #getListOfServiceCaches(String, String)
+     */
+    public CompletableFuture<JsonNode> getListOfServiceCachesAsync(String sServiceName, String sDomainPartition)
+        {
+        return sendGetRequestAsync(() -> getListOfServiceCachesURL(sServiceName, sDomainPartition));
         }
 
     /**
@@ -797,12 +881,18 @@ public class HttpRequestSender
     public JsonNode getListOfCaches()
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment("caches")
-                .addQueryParameter("links", "")
-                .addQueryParameter("fields", "nodeId,name,unitFactor,size,unitsBytes,units,memoryUnits,"
-                                             + "averageMissMillis,service");
+        return getResponseJson(sendGetRequest(getListOfCachesURL()));
+        }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+    /**
+     * Asynchronously get the cache data for all services.
+     *
+     * @return a {@link CompletableFuture} for the cache data of all services
+     * @see #getListOfCaches()
+     */
+    public CompletableFuture<JsonNode> getListOfCachesAsync()
+        {
+        return sendGetRequestAsync(this::getListOfCachesURL);
         }
 
     /**
@@ -875,19 +965,24 @@ public class HttpRequestSender
     public JsonNode getDataForStorageManagerMembers(String sServiceName, String sDomainPartition, String sCacheName)
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
-                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches").addPathSegment(sCacheName)
-                .addPathSegment("members").addQueryParameter("fields",
-                                                                   "nodeId,locksGranted,locksPending,listenerRegistrations,maxQueryDurationMillis,maxQueryDescription," +
-                                                                   "nonOptimizedQueryAverageMillis,optimizedQueryAverageMillis,indexTotalUnits,indexingTotalMillis")
-                .addQueryParameter("links", "");
-
-        if (sDomainPartition != null)
-            {
-            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
-            }
+        return getResponseJson(sendGetRequest(
+                getDataForStorageManagerMembersURL(sServiceName, sDomainPartition, sCacheName)));
+        }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+    /**
+     * Asynchronously get the data for all the StorageManager members of the provided cache.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @param sCacheName       the name of the cache
+     * @return a {@link CompletableFuture} for the storage manager data
+     * @see #getDataForStorageManagerMembers(String, String, String)
+     */
+    public CompletableFuture<JsonNode> getDataForStorageManagerMembersAsync(String sServiceName,
+            String sDomainPartition, String sCacheName)
+        {
+        return sendGetRequestAsync(() -> getDataForStorageManagerMembersURL(sServiceName, sDomainPartition, sCacheName));
         }
 
 
@@ -904,19 +999,42 @@ public class HttpRequestSender
     public JsonNode getDataForCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
-                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches").addPathSegment(sCacheName)
-                .addPathSegment("members");
-        if (sDomainPartition != null)
-            {
-            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
-            }
+        return getResponseJson(sendGetRequest(getDataForCacheMembersURL(sServiceName, sCacheName, sDomainPartition)));
+        }
 
-        urlBuilder.addQueryParameter("fields", "name,type,size,service,nodeId," +
-                                               "domainPartition,tier,units,unitFactor,totalGets,totalPuts,cacheHits,cacheMisses,hitProbability")
-                .addQueryParameter("links", "");
+    /**
+     * Asynchronously get the data for cache members of a cache.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sCacheName       the name of the cache
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return a {@link CompletableFuture} for the cache members data
+     * @see #getDataForCacheMembers(String, String, String)
+     */
+    public CompletableFuture<JsonNode> getDataForCacheMembersAsync(String sServiceName, String sCacheName,
+            String sDomainPartition)
+        {
+        return sendGetRequestAsync(() -> getDataForCacheMembersURL(sServiceName, sCacheName, sDomainPartition));
+        }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+    /**
+     * Stream the data for cache members of a cache to the given handler.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sCacheName       the name of the cache
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @param handler          the {@link JsonItemHandler} to call for each
+     *                         cache member
+     * @throws Exception thrown in case of exceptions while connecting to the
+     *                   REST server
+     * @see #getDataForCacheMembers(String, String, String)
+     */
+    public void streamDataForCacheMembers(String sServiceName, String sCacheName, String sDomainPartition,
+            JsonItemHandler handler) throws Exception
+        {
+        streamItems(sendGetRequest(getDataForCacheMembersURL(sServiceName, sCacheName, sDomainPartition)), handler);
         }
 
     /**
@@ -927,15 +1045,31 @@ public class HttpRequestSender
      */
     public JsonNode getListOfClusterMembers() throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment("members");
+        return getResponseJson(sendGetRequest(getListOfClusterMembersURL()));
+        }
 
-        urlBuilder = urlBuilder.addQueryParameter("fields", "nodeId," +
-                                                            "publisherSuccessRate,receiverSuccessRate," +
-                                                            "sendQueueSize,memoryMaxMB,memoryAvailableMB,unicastAddress,roleName,unicastPort," +
-                                                            "machineName,rackName,siteName,productEdition")
-                .addQueryParameter("links", "");
+    /**
+     * Asynchronously get the data for all the cluster members.
+     *
+     * @return a {@link CompletableFuture} for the data for all the cluster members
+     * @see #getListOfClusterMembers()
+     */
+    public CompletableFuture<JsonNode> getListOfClusterMembersAsync()
+        {
+        return sendGetRequestAsync(this::getListOfClusterMembersURL);
+        }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+    /**
+     * Stream the data for all the cluster members to the given handler.
+     *
+     * @param handler  the {@link JsonItemHandler} to call for each member
+     * @throws Exception thrown in case of exceptions while connecting to the
+     *                   REST server
+     * @see #getListOfClusterMembers()
+     */
+    public void streamListOfClusterMembers(JsonItemHandler handler) throws Exception
+        {
+        streamItems(sendGetRequest(getListOfClusterMembersURL()), handler);
         }
 
     /**
@@ -951,7 +1085,7 @@ public class HttpRequestSender
                 .addQueryParameter("fields", "name,type,domainPartition,nodeId," +
                                              "statusHA,memberCount,partitionsAll,partitionsEndangered," +
                                              "partitionsVulnerable,partitionsUnbalanced,requestPendingCount," +
-                                             "storageEnabledCount,type")
+                                             "storageEnabledCount,taskCount,requestTotalCount,type")
                 .addQueryParameter("links", "");
         return getResponseJson(sendGetRequest(urlBuilder));
         }
@@ -1181,25 +1315,58 @@ public class HttpRequestSender
         {
         long start = System.currentTimeMillis();
         URL url = urlBuilder.getUrl();
-        java.net.HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        setHttpRequestTimeout(connection);
         boolean isRequestDebugEnabled = GlobalPreferences.sharedInstance().isRestDebugEnabled();
 
-        int nResponseCode = connection.getResponseCode();
-        if (nResponseCode != 200)
+        InputStream inputStream = f_transport.sendGetRequest(url);
+        if (isRequestDebugEnabled)
             {
-            LOGGER.warning("Http request " + url.toString() + " returned error code " + nResponseCode);
-            return null;
+            LOGGER.info((System.currentTimeMillis() - start) + "ms to send request to "
+                        + url.toString() + " ");
             }
 
-        InputStream inputStream = connection.getInputStream();
-        if (isRequestDebugEnabled)
+        return inputStream;
+        }
+
+    /**
+     * Send a GET HTTP request asynchronously and return the JSON response.
+     *
+     * @param supplier  the supplier of the URL builder for the request
+     * @return a {@link CompletableFuture} for the JSON response, which will
+     *         be a {@link MissingNode} if the request did not succeed
+     */
+    private CompletableFuture<JsonNode> sendGetRequestAsync(URLBuilderSupplier supplier)
+        {
+        URL url;
+        try
             {
-            LOGGER.info((System.currentTimeMillis() - start) + "ms to open connection to "
-                        + urlBuilder.getUrl().toString() + " ");
+            url = supplier.get().getUrl();
+            }
+        catch (Exception e)
+            {
+            CompletableFuture<JsonNode> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
             }
 
-        return inputStream;
+        long    start                 = System.currentTimeMillis();
+        boolean isRequestDebugEnabled = GlobalPreferences.sharedInstance().isRestDebugEnabled();
+
+        return f_transport.sendGetRequestAsync(url).thenApply(stream ->
+            {
+            if (isRequestDebugEnabled)
+                {
+                LOGGER.info((System.currentTimeMillis() - start) + "ms to send async request to "
+                            + url.toString() + " ");
+                }
+            try
+                {
+                return getResponseJson(stream);
+                }
+            catch (IOException e)
+                {
+                throw new CompletionException(e);
+                }
+            });
         }
 
     /**
@@ -1469,9 +1636,62 @@ public class HttpRequestSender
             // return a null json node if there is no response
             return MissingNode.getInstance();
             }
-        ObjectMapper mapper = new ObjectMapper();
+        return MAPPER.readTree(stream);
+        }
+
+    /**
+     * Read the "items" array of the HTTP response as a stream, calling the
+     * {@link JsonItemHandler} for each field of each item without building
+     * a tree for the response. Nothing is called if there is no response.
+     *
+     * @param stream   the response stream
+     * @param handler  the {@link JsonItemHandler} to call
+     * @throws IOException thrown in case of exceptions while reading the
+     *                     response
+     */
+    protected void streamItems(InputStream stream, JsonItemHandler handler) throws IOException
+        {
+        if (stream == null)
+            {
+            return;
+            }
 
-        return mapper.readTree(stream);
+        try (JsonParser parser = MAPPER.getFactory().createParser(stream))
+            {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                {
+                return;
+                }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                String    sField = parser.getCurrentName();
+                JsonToken token  = parser.nextToken();
+
+                if ("items".equals(sField) && token == JsonToken.START_ARRAY)
+                    {
+                    while (parser.nextToken() == JsonToken.START_OBJECT)
+                        {
+                        handler.startItem();
+                        while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                            String sItemField = parser.getCurrentName();
+
+                            parser.nextToken();
+                            handler.field(sItemField, parser);
+
+                            // skip any object or array value the handler did not read
+                            parser.skipChildren();
+                            }
+                        handler.endItem();
+                        }
+                    }
+                else
+                    {
+                    parser.skipChildren();
+                    }
+                }
+            }
         }
 
     /**
@@ -1597,6 +1817,127 @@ public class HttpRequestSender
         return sServiceName.replaceAll("\"", "");
         }
 
+    /**
+     * Returns the URL to get the cache data for the given service.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return the URL builder for the request
+     */
+    private URLBuilder getListOfServiceCachesURL(String sServiceName, String sDomainPartition)
+        {
+        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
+                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches")
+                .addQueryParameter("links", "")
+                .addQueryParameter("fields", "nodeId,name,unitFactor,size,unitsBytes,units,memoryUnits,"
+                                             + "averageMissMillis");
+
+        if (sDomainPartition != null)
+            {
+            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
+            }
+
+        return urlBuilder;
+        }
+
+    /**
+     * Returns the URL to get the cache data for all services.
+     *
+     * @return the URL builder for the request
+     */
+    private URLBuilder getListOfCachesURL()
+        {
+        return getBasePath().addPathSegment("caches")
+                .addQueryParameter("links", "")
+                .addQueryParameter("fields", "nodeId,name,unitFactor,size,unitsBytes,units,memoryUnits,"
+                                             + "averageMissMillis,service");
+        }
+
+    /**
+     * Returns the URL to get the data for all the StorageManager members of the provided cache.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @param sCacheName       the name of the cache
+     * @return the URL builder for the request
+     */
+    private URLBuilder getDataForStorageManagerMembersURL(String sServiceName, String sDomainPartition,
+                                                          String sCacheName)
+        {
+        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
+                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches").addPathSegment(sCacheName)
+                .addPathSegment("members").addQueryParameter("fields",
+                                                                   "nodeId,locksGranted,locksPending,listenerRegistrations,maxQueryDurationMillis,maxQueryDescription," +
+                                                                   "nonOptimizedQueryAverageMillis,optimizedQueryAverageMillis,indexTotalUnits,indexingTotalMillis")
+                .addQueryParameter("links", "");
+
+        if (sDomainPartition != null)
+            {
+            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
+            }
+
+        return urlBuilder;
+        }
+
+    /**
+     * Returns the URL to get the data for cache members of a cache.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sCacheName       the name of the cache
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return the URL builder for the request
+     */
+    private URLBuilder getDataForCacheMembersURL(String sServiceName, String sCacheName, String sDomainPartition)
+        {
+        URLBuilder urlBuilder = getBasePath().addPathSegment("services")
+                .addPathSegment(encodeServiceName(sServiceName)).addPathSegment("caches").addPathSegment(sCacheName)
+                .addPathSegment("members");
+        if (sDomainPartition != null)
+            {
+            urlBuilder.addQueryParameter("domainPartition", sDomainPartition);
+            }
+
+        urlBuilder.addQueryParameter("fields", "name,type,size,service,nodeId," +
+                                               "domainPartition,tier,units,unitFactor,totalGets,totalPuts,cacheHits,cacheMisses,hitProbability")
+                .addQueryParameter("links", "");
+
+        return urlBuilder;
+        }
+
+    /**
+     * Returns the URL to get the data for all the cluster members.
+     *
+     * @return the URL builder for the request
+     */
+    private URLBuilder getListOfClusterMembersURL()
+        {
+        return getBasePath().addPathSegment("members")
+                .addQueryParameter("fields", "nodeId," +
+                                             "publisherSuccessRate,receiverSuccessRate," +
+                                             "sendQueueSize,memoryMaxMB,memoryAvailableMB,unicastAddress,roleName,unicastPort," +
+                                             "machineName,rackName,siteName,productEdition,packetsSent,packetsReceived")
+                .addQueryParameter("links", "");
+        }
+
+    /**
+     * A supplier of a {@link URLBuilder} which may throw an exception.
+     */
+    @FunctionalInterface
+    private interface URLBuilderSupplier
+        {
+        /**
+         * Returns the {@link URLBuilder}.
+         *
+         * @return the {@link URLBuilder}
+         *
+         * @throws Exception if any errors
+         */
+        URLBuilder get() throws Exception;
+        }
+
     /**
      * Internal class to build a URL.
      */
@@ -1707,6 +2048,11 @@ public class HttpRequestSender
      */
     private final String f_sUrl;
 
+    /**
+     * The {@link HttpTransport} used to send GET requests.
+     */
+    private final HttpTransport f_transport;
+
     /**
      * Indicates if this REST endpoint is for WebLogic Server.
      */
@@ -1727,6 +2073,12 @@ public class HttpRequestSender
      */
     private static final Logger LOGGER = Logger.getLogger(HttpRequestSender.class.getName());
 
+    /**
+     * The {@link ObjectMapper} shared by all requests as it is thread safe and
+     * expensive to create.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     /**
      * Header required for POST and DELETE to WebLogic Server.
      */
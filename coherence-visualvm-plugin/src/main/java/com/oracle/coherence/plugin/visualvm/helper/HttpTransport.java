@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.InputStream;
+
+import java.net.URL;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The transport used by the {@link HttpRequestSender} to issue GET requests
+ * against the management REST server.
+ *
+ * @author agent 2026.10.16
+ */
+public interface HttpTransport
+    {
+    /**
+     * Send a GET request and return the response body. The returned stream
+     * is fully read from the connection so that the connection may be reused
+     * and does not need to be closed by the caller.
+     *
+     * @param url  the URL to send the request to
+     *
+     * @return the response body or null if the response code was not 200
+     *
+     * @throws Exception in case of errors
+     */
+    InputStream sendGetRequest(URL url)
+            throws Exception;
+
+    /**
+     * Send a GET request asynchronously.
+     *
+     * @param url  the URL to send the request to
+     *
+     * @return a {@link CompletableFuture} which will be completed with the
+     *         response body, or null if the response code was not 200
+     */
+    CompletableFuture<InputStream> sendGetRequestAsync(URL url);
+    }
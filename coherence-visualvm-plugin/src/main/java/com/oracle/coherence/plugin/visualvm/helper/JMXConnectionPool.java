@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServerConnection;
+
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * A pool of JMX connections to one or more management endpoints of the same
+ * cluster, used by the {@link JMXRequestSender} to read attributes over several
+ * channels in parallel rather than over a single connection.
+ * <p>
+ * The number of operations run at the same time is bounded by the size of the
+ * pool, and the connections are spread across the given endpoints in turn. A
+ * connection which has been idle is checked before it is used and a connection
+ * which fails is closed and opened again later. While a connection cannot be
+ * opened the primary connection, which is the one VisualVM maintains, is used
+ * instead so the pool is never less available than a single connection.
+ *
+ * @author agent 2026.10.16
+ */
+public class JMXConnectionPool
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link JMXConnectionPool}. No connections are opened until they
+     * are first used.
+     *
+     * @param primary       the primary {@link MBeanServerConnection} used when
+     *                      a pooled connection cannot be opened
+     * @param listUrls      the {@link JMXServiceURL}s of the management endpoints
+     * @param mapEnv        the environment used to open connections, may be null
+     * @param cConnections  the number of connections in the pool
+     */
+    public JMXConnectionPool(MBeanServerConnection primary, List<JMXServiceURL> listUrls, Map<String, ?> mapEnv,
+                             int cConnections)
+        {
+        if (listUrls == null || listUrls.isEmpty())
+            {
+            throw new IllegalArgumentException("At least one JMX service URL must be provided");
+            }
+        if (cConnections <= 0)
+            {
+            throw new IllegalArgumentException("The number of connections must be greater than zero");
+            }
+
+        f_primary    = primary;
+        f_mapEnv     = mapEnv == null ? Collections.emptyMap() : new HashMap<>(mapEnv);
+        f_queueIdle  = new LinkedBlockingQueue<>();
+        f_listPooled = new ArrayList<>(cConnections);
+
+        for (int i = 0; i < cConnections; i++)
+            {
+            PooledConnection pooled = new PooledConnection(listUrls.get(i % listUrls.size()));
+
+            f_listPooled.add(pooled);
+            f_queueIdle.add(pooled);
+            }
+        }
+
+    // ----- JMXConnectionPool methods --------------------------------------
+
+    /**
+     * Run an operation using a connection from the pool, waiting for one to
+     * become free if they are all in use. If the operation fails because the
+     * connection has failed, it is retried once using the primary connection.
+     *
+     * @param operation  the operation to run
+     * @param <T>        the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception if the operation fails
+     */
+    public <T> T execute(Operation<T> operation)
+            throws Exception
+        {
+        PooledConnection pooled = f_queueIdle.take();
+        try
+            {
+            MBeanServerConnection connection = pooled.ensureConnection();
+            if (connection == null)
+                {
+                return operation.run(f_primary);
+                }
+
+            try
+                {
+                return operation.run(connection);
+                }
+            catch (IOException e)
+                {
+                LOGGER.log(Level.FINE, "JMX connection to " + pooled.f_url + " failed", e);
+                pooled.disconnect();
+
+                return operation.run(f_primary);
+                }
+            }
+        finally
+            {
+            f_queueIdle.add(pooled);
+            }
+        }
+
+    /**
+     * Returns the number of connections in the pool.
+     *
+     * @return the number of connections in the pool
+     */
+    public int getSize()
+        {
+        return f_listPooled.size();
+        }
+
+    /**
+     * Returns the number of pooled connections which are currently open.
+     *
+     * @return the number of open connections
+     */
+    public int getOpenCount()
+        {
+        int cOpen = 0;
+
+        for (PooledConnection pooled : f_listPooled)
+            {
+            if (pooled.isOpen())
+                {
+                cOpen++;
+                }
+            }
+
+        return cOpen;
+        }
+
+    /**
+     * Close all of the connections in the pool. The primary connection is
+     * not closed as it is owned by VisualVM.
+     */
+    public void close()
+        {
+        m_fClosed = true;
+
+        for (PooledConnection pooled : f_listPooled)
+            {
+            pooled.disconnect();
+            }
+        }
+
+    /**
+     * Open a connection to the given endpoint.
+     *
+     * @param url  the {@link JMXServiceURL} of the endpoint
+     *
+     * @return the opened {@link JMXConnector}
+     *
+     * @throws IOException if the connection cannot be opened
+     */
+    protected JMXConnector connect(JMXServiceURL url)
+            throws IOException
+        {
+        return JMXConnectorFactory.connect(url, f_mapEnv);
+        }
+
+    // ----- inner interface: Operation -------------------------------------
+
+    /**
+     * An operation run against an {@link MBeanServerConnection}.
+     *
+     * @param <T>  the type of the result
+     */
+    @FunctionalInterface
+    public interface Operation<T>
+        {
+        /**
+         * Run the operation.
+         *
+         * @param connection  the {@link MBeanServerConnection} to use
+         *
+         * @return the result of the operation
+         *
+         * @throws Exception if the operation fails
+         */
+        T run(MBeanServerConnection connection)
+                throws Exception;
+        }
+
+    // ----- inner class: PooledConnection ----------------------------------
+
+    /**
+     * A connection in the pool, which is only used by one thread at a time.
+     */
+    private class PooledConnection
+        {
+        /**
+         * Create a {@link PooledConnection} for the given endpoint.
+         *
+         * @param url  the {@link JMXServiceURL} of the endpoint
+         */
+        PooledConnection(JMXServiceURL url)
+            {
+            f_url = url;
+            }
+
+        /**
+         * Returns the connection to use, opening it or checking it is still
+         * healthy if required.
+         *
+         * @return the {@link MBeanServerConnection} or null if the connection
+         *         is not available and the primary connection should be used
+         */
+        MBeanServerConnection ensureConnection()
+            {
+            long ldtNow = System.currentTimeMillis();
+
+            // the pool may be closed concurrently so the connection is only read once
+            MBeanServerConnection connection = m_connection;
+
+            if (connection != null && ldtNow - m_ldtLastUsed > HEALTH_CHECK_INTERVAL)
+                {
+                try
+                    {
+                    connection.getMBeanCount();
+                    }
+                catch (IOException e)
+                    {
+                    LOGGER.log(Level.FINE, "Idle JMX connection to " + f_url + " has failed", e);
+                    disconnect();
+                    connection = null;
+                    }
+                }
+
+            if (connection == null && !m_fClosed && ldtNow - m_ldtLastFailure > RETRY_INTERVAL)
+                {
+                try
+                    {
+                    connection = open();
+                    }
+                catch (IOException | SecurityException e)
+                    {
+                    // an endpoint which requires credentials fails every time, so
+                    // only the first failure of the pool is logged as a warning
+                    LOGGER.log(m_fFailureLogged ? Level.FINE : Level.WARNING, "Unable to open a JMX connection to "
+                               + f_url + ", using the existing connection instead", e);
+                    m_fFailureLogged = true;
+                    m_ldtLastFailure = ldtNow;
+                    }
+                }
+
+            m_ldtLastUsed = ldtNow;
+
+            return connection;
+            }
+
+        /**
+         * Open the connection, unless the pool has been closed.
+         *
+         * @return the {@link MBeanServerConnection} or null if the pool has
+         *         been closed
+         *
+         * @throws IOException if the connection cannot be opened
+         */
+        private MBeanServerConnection open()
+                throws IOException
+            {
+            JMXConnector connector = connect(f_url);
+            try
+                {
+                MBeanServerConnection connection = connector.getMBeanServerConnection();
+
+                synchronized (this)
+                    {
+                    if (!m_fClosed)
+                        {
+                        m_connector  = connector;
+                        m_connection = connection;
+                        connector    = null;
+
+                        return connection;
+                        }
+                    }
+
+                // the pool was closed while the connection was being opened
+                return null;
+                }
+            finally
+                {
+                if (connector != null)
+                    {
+                    connector.close();
+                    }
+                }
+            }
+
+        /**
+         * Close the connection so it is opened again when next used.
+         */
+        synchronized void disconnect()
+            {
+            JMXConnector connector = m_connector;
+
+            m_connector  = null;
+            m_connection = null;
+
+            if (connector != null)
+                {
+                try
+                    {
+                    connector.close();
+                    }
+                catch (IOException e)
+                    {
+                    // ignore as the connection has already failed
+                    }
+                }
+            }
+
+        /**
+         * Returns true if the connection is open.
+         *
+         * @return true if the connection is open
+         */
+        synchronized boolean isOpen()
+            {
+            return m_connector != null;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The {@link JMXServiceURL} of the endpoint.
+         */
+        private final JMXServiceURL f_url;
+
+        /**
+         * The open connector, or null if not connected.
+         */
+        private volatile JMXConnector m_connector;
+
+        /**
+         * The connection of the open connector, or null if not connected.
+         */
+        private volatile MBeanServerConnection m_connection;
+
+        /**
+         * The time the connection was last used.
+         */
+        private long m_ldtLastUsed;
+
+        /**
+         * The time a connection could last not be opened.
+         */
+        private long m_ldtLastFailure;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(JMXConnectionPool.class.getName());
+
+    /**
+     * The time in millis a connection may be idle before it is checked.
+     */
+    public static final long HEALTH_CHECK_INTERVAL = 30_000L;
+
+    /**
+     * The time in millis to wait before trying to open a connection again.
+     */
+    public static final long RETRY_INTERVAL = 60_000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The primary connection used when a pooled connection is not available.
+     */
+    private final MBeanServerConnection f_primary;
+
+    /**
+     * The environment used to open connections.
+     */
+    private final Map<String, ?> f_mapEnv;
+
+    /**
+     * All of the pooled connections.
+     */
+    private final List<PooledConnection> f_listPooled;
+
+    /**
+     * The pooled connections which are not in use.
+     */
+    private final BlockingQueue<PooledConnection> f_queueIdle;
+
+    /**
+     * True once the pool has been closed.
+     */
+    private volatile boolean m_fClosed;
+
+    /**
+     * True once a failure to open a connection has been logged as a warning.
+     */
+    private volatile boolean m_fFailureLogged;
+    }
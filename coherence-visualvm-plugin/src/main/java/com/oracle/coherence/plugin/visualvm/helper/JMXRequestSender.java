@@ -27,16 +27,31 @@ package com.oracle.coherence.plugin.visualvm.helper;
 
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.PersistenceData;
 import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.diagnostics.PluginDiagnostics;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.management.Attribute;
 
 import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
 import javax.management.MBeanServerConnection;
@@ -44,6 +59,9 @@ import javax.management.NotificationFilter;
 import javax.management.NotificationListener;
 import javax.management.ObjectName;
 
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
 /**
  * The {@link RequestSender} based on JMX.
  *
@@ -62,28 +80,47 @@ public class JMXRequestSender
      * @param connection  the {@link MBeanServerConnection} to be used by by sender
      */
     public JMXRequestSender(MBeanServerConnection connection)
+        {
+        this(connection, null);
+        }
+
+    /**
+     * Create a {@link JMXRequestSender} object which reads attributes using
+     * the connections of a {@link JMXConnectionPool}.
+     *
+     * @param connection  the {@link MBeanServerConnection} to be used by by sender
+     * @param pool        the {@link JMXConnectionPool} used to read attributes,
+     *                    or null to read attributes using the connection
+     */
+    public JMXRequestSender(MBeanServerConnection connection, JMXConnectionPool pool)
         {
         this.f_connection = connection;
+        this.f_pool       = pool;
+        this.f_topology   = Boolean.getBoolean(VisualVMModel.PROP_TOPOLOGY_CACHE_DISABLED)
+                            ? null : new MBeanTopologyCache(connection);
         }
 
     @Override
     public List<Attribute> getAllAttributes(ObjectName objName)
             throws Exception
         {
-        MBeanInfo            info         = f_connection.getMBeanInfo(objName);
-        MBeanAttributeInfo[] attrInfo     = info.getAttributes();
-        String[]             asAttributes = new String[attrInfo.length];
-        int                  i            = 0;
-
-        // add the attributes
-        for (MBeanAttributeInfo attributeInfo : attrInfo)
+        return measure("getAllAttributes", objName, () -> execute(connection ->
             {
-            asAttributes[i++] = attributeInfo.getName();
-            }
+            MBeanInfo            info         = connection.getMBeanInfo(objName);
+            MBeanAttributeInfo[] attrInfo     = info.getAttributes();
+            String[]             asAttributes = new String[attrInfo.length];
+            int                  i            = 0;
+
+            // add the attributes
+            for (MBeanAttributeInfo attributeInfo : attrInfo)
+                {
+                asAttributes[i++] = attributeInfo.getName();
+                }
 
-        Arrays.sort(asAttributes);
+            Arrays.sort(asAttributes);
 
-        return f_connection.getAttributes(objName, asAttributes).asList();
+            return connection.getAttributes(objName, asAttributes).asList();
+            }));
         }
 
     // ------ RequestSender interface ---------------------------------------
@@ -92,38 +129,116 @@ public class JMXRequestSender
     public String getAttribute(ObjectName objectName, String attribute)
             throws Exception
         {
-        return f_connection.getAttribute(objectName, attribute) + "";
+        return measure("getAttribute", objectName,
+                       () -> execute(connection -> connection.getAttribute(objectName, attribute))) + "";
         }
 
     @Override
     public AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
             throws Exception
         {
-        return f_connection.getAttributes(objectName, asAttribute);
+        return measure("getAttributes", objectName,
+                       () -> execute(connection -> connection.getAttributes(objectName, asAttribute)));
+        }
+
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        return setObjectNames.isEmpty()
+               ? new HashMap<>()
+               : measure("getAttributes (bulk)", setObjectNames.iterator().next(),
+                         () -> getAttributesConcurrently(setObjectNames, asAttribute));
+        }
+
+    /**
+     * Get a list of attributes for each of a set of MBeans, reading the attributes
+     * of several MBeans concurrently.
+     *
+     * @param setObjectNames  the MBean ObjectNames
+     * @param asAttribute     the attributes which needs to be fetched
+     *
+     * @return the attributes for each MBean
+     *
+     * @throws Exception in case of errors
+     */
+    private Map<ObjectName, AttributeList> getAttributesConcurrently(Set<ObjectName> setObjectNames,
+                                                                     String[] asAttribute)
+            throws Exception
+        {
+        List<ObjectName> listObjectNames = new ArrayList<>(setObjectNames);
+        int              cObjectNames    = listObjectNames.size();
+        int              cThreads        = Math.min(cObjectNames,
+                                                    f_pool == null ? ATTRIBUTE_THREADS : f_pool.getSize());
+
+        if (cThreads <= 1)
+            {
+            return execute(connection -> getAttributes(connection, listObjectNames, asAttribute));
+            }
+
+        // split the MBeans into one batch per thread so that the remote calls
+        // are made in parallel rather than one round trip after another, and
+        // when pooled over a separate connection for each batch
+        List<Future<Map<ObjectName, AttributeList>>> listFutures = new ArrayList<>(cThreads);
+        int                                          cBatch      = (cObjectNames + cThreads - 1) / cThreads;
+
+        for (int i = 0; i < cObjectNames; i += cBatch)
+            {
+            List<ObjectName> listBatch = listObjectNames.subList(i, Math.min(i + cBatch, cObjectNames));
+            listFutures.add(ATTRIBUTE_EXECUTOR.submit(() ->
+                    execute(connection -> getAttributes(connection, listBatch, asAttribute))));
+            }
+
+        Map<ObjectName, AttributeList> mapResults = new HashMap<>(cObjectNames);
+        try
+            {
+            for (Future<Map<ObjectName, AttributeList>> future : listFutures)
+                {
+                mapResults.putAll(future.get());
+                }
+            }
+        catch (ExecutionException e)
+            {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        finally
+            {
+            listFutures.forEach(future -> future.cancel(true));
+            }
+
+        return mapResults;
         }
 
     @Override
     public Set<ObjectName> getAllCacheMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Cache,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Cache,*"));
+        }
+
+    @Override
+    public Set<ObjectName> getAllBackCacheMembers()
+            throws Exception
+        {
+        return queryNames(new ObjectName("Coherence:type=Cache,tier=back,*"));
         }
 
     @Override
     public Set<ObjectName> getAllJournalMembers(String sJournalType)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Journal,name="
-                + sJournalType + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=Journal,name="
+                + sJournalType + ",*"));
         }
 
     @Override
     public Set getCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Cache,service=" + sServiceName
+        return queryNames(new ObjectName("Coherence:type=Cache,service=" + sServiceName
                 + (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "")
-                + ",name=" + sCacheName + ",*"), null);
+                + ",name=" + sCacheName + ",*"));
         }
 
     @Override
@@ -131,76 +246,76 @@ public class JMXRequestSender
             throws Exception
         {
 
-        return f_connection.queryNames(new ObjectName("Coherence:type=StorageManager,service="
+        return queryNames(new ObjectName("Coherence:type=StorageManager,service="
                 + sServiceName + (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "")
-                + ",cache=" + sCacheName + ",*"), null);
+                + ",cache=" + sCacheName + ",*"));
         }
 
     @Override
     public Set<ObjectName> getAllClusters()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Cluster,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Cluster,*"));
         }
 
     @Override
     public Set<ObjectName> getHotCacheMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=CoherenceAdapter,*"), null);
+        return queryNames(new ObjectName("Coherence:type=CoherenceAdapter,*"));
         }
 
     @Override
     public Set<ObjectName> getHotCachePerCacheAdapters(String sMember)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName(
-                "Coherence:type=CoherenceAdapter,name=hotcache,member="+sMember+",*"), null);
+        return queryNames(new ObjectName(
+                "Coherence:type=CoherenceAdapter,name=hotcache,member="+sMember+",*"));
         }
 
     @Override
     public Set<ObjectName> getAllCoherenceWebMembers(String sSessionManager)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=" +sSessionManager + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=" +sSessionManager + ",*"));
         }
 
     @Override
     public Set<ObjectName> getCoherenceWebMembersForApplication(String sSessionManager, String sAppId)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=" + sSessionManager + ",appId=" + sAppId
-                + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=" + sSessionManager + ",appId=" + sAppId
+                + ",*"));
         }
 
     @Override
     public Set<ObjectName> getClusterMemberOS(int nodeId)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName(
+        return queryNames(new ObjectName(
                 "Coherence:type=Platform,Domain=java.lang,subType=OperatingSystem,nodeId="
-                + nodeId + ",*"), null);
+                + nodeId + ",*"));
         }
 
     @Override
     public Set<ObjectName> getAllClusterMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Node,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Node,*"));
         }
 
     @Override
     public Set<ObjectName> getAllExecutorMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Executor,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Executor,*"));
         }
 
     @Override
     public Set<ObjectName> getAllGrpcProxyMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=GrpcNamedCacheProxy,*"), null);
+        return queryNames(new ObjectName("Coherence:type=GrpcNamedCacheProxy,*"));
         }
 
 
@@ -208,29 +323,29 @@ public class JMXRequestSender
     public Set<ObjectName> getAllServiceMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Service,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Service,*"));
         }
 
     @Override
     public Set<ObjectName> getMembersOfService(String sServiceName, String sDomainPartition)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Service,name=" + sServiceName +
-                (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "") + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=Service,name=" + sServiceName +
+                (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "") + ",*"));
         }
 
     @Override
     public Set<ObjectName> getAllProxyServerMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=ConnectionManager,*"), null);
+        return queryNames(new ObjectName("Coherence:type=ConnectionManager,*"));
         }
 
     @Override
     public Set<ObjectName> getCompleteObjectName(ObjectName objectName)
             throws Exception
         {
-        return f_connection.queryNames(objectName, null);
+        return queryNames(objectName);
         }
 
     @Override
@@ -240,7 +355,7 @@ public class JMXRequestSender
         String sQuery = "Coherence:type=PartitionAssignment,service="
                 + sService + (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "")
                 + ",responsibility=DistributionCoordinator,*";
-        return f_connection.queryNames(new ObjectName(sQuery), null);
+        return queryNames(new ObjectName(sQuery));
         }
 
     @Override
@@ -479,6 +594,22 @@ public class JMXRequestSender
         }
 
 
+    /**
+     * Release any resources held by this sender, such as the listener used to
+     * keep the cached MBean topology up to date and any pooled connections.
+     */
+    public void close()
+        {
+        if (f_topology != null)
+            {
+            f_topology.close();
+            }
+        if (f_pool != null)
+            {
+            f_pool.close();
+            }
+        }
+
     /**
      * Add a JMX notification for the operations which are triggered on the provided MBean.
      *
@@ -525,7 +656,62 @@ public class JMXRequestSender
     public Object invoke(ObjectName objectName, String opName, Object[] arguments, String[] signature)
             throws Exception
         {
-        return f_connection.invoke(objectName, opName, arguments, signature);
+        return measure("invoke " + opName, objectName,
+                       () -> f_connection.invoke(objectName, opName, arguments, signature));
+        }
+
+    /**
+     * Run a group of reports using a single invocation of the Reporter MBean
+     * {@code runTabularGroupReport} operation and return the output of each report.
+     * <p>
+     * The Reporter returns a row for each report which contains the name of the
+     * report and its {@link TabularData}, and the rows are matched back to the
+     * given reports by name. Any report which is not contained in the result is
+     * not included in the returned {@link Map}.
+     *
+     * @param objectName   the ObjectName of the Reporter MBean
+     * @param sGroupName   the name of the report group
+     * @param mapReports   the report XML for each report keyed by report name
+     *
+     * @return the {@link TabularData} for each report keyed by report name
+     *
+     * @throws Exception thrown in case of errors
+     */
+    public Map<String, TabularData> runTabularGroupReport(ObjectName objectName, String sGroupName,
+                                                          Map<String, String> mapReports)
+            throws Exception
+        {
+        Map<String, TabularData> mapResult  = new HashMap<>();
+        TabularData              tabularData = (TabularData) invoke(objectName, "runTabularGroupReport",
+                new Object[] {sGroupName, mapReports}, new String[] {"java.lang.String", "java.util.Map"});
+
+        if (tabularData != null)
+            {
+            for (Object oRow : tabularData.values())
+                {
+                String      sReport    = null;
+                TabularData reportData = null;
+
+                for (Object oValue : ((CompositeData) oRow).values())
+                    {
+                    if (oValue instanceof TabularData)
+                        {
+                        reportData = (TabularData) oValue;
+                        }
+                    else if (oValue instanceof String && mapReports.containsKey(oValue))
+                        {
+                        sReport = (String) oValue;
+                        }
+                    }
+
+                if (sReport != null && reportData != null)
+                    {
+                    mapResult.put(sReport, reportData);
+                    }
+                }
+            }
+
+        return mapResult;
         }
 
     /**
@@ -554,6 +740,125 @@ public class JMXRequestSender
         return null;
         }
 
+    // ------ helpers -------------------------------------------------------
+
+    /**
+     * Returns the names of the MBeans matching the given {@link ObjectName},
+     * using the cached topology when it is enabled.
+     *
+     * @param objectName  the {@link ObjectName} or pattern to query
+     *
+     * @return the names of the matching MBeans
+     *
+     * @throws Exception in case of errors
+     */
+    private Set<ObjectName> queryNames(ObjectName objectName)
+            throws Exception
+        {
+        return measure("queryNames", objectName, () -> f_topology == null
+                                                       ? f_connection.queryNames(objectName, null)
+                                                       : f_topology.queryNames(objectName));
+        }
+
+    /**
+     * Run a request and record it in the {@link PluginDiagnostics} under the
+     * name of the request and the type of the MBean.
+     *
+     * @param sRequest    the name of the request
+     * @param objectName  the ObjectName or pattern of the MBean
+     * @param request     the request to run
+     * @param <T>         the type of the result
+     *
+     * @return the result of the request
+     *
+     * @throws Exception in case of errors
+     */
+    private static <T> T measure(String sRequest, ObjectName objectName, PluginDiagnostics.Request<T> request)
+            throws Exception
+        {
+        String sType    = objectName.getKeyProperty("type");
+        String sSubType = objectName.getKeyProperty("subType");
+
+        if (sType != null && sSubType != null)
+            {
+            sType += "/" + sSubType;
+            }
+
+        return PluginDiagnostics.getInstance().measure(PluginDiagnostics.Category.JMX,
+                sType == null ? sRequest + " " + objectName.getDomain() : sRequest + " " + sType, request);
+        }
+
+    /**
+     * Run an operation which reads attributes, using a pooled connection if
+     * a {@link JMXConnectionPool} is configured.
+     *
+     * @param operation  the operation to run
+     * @param <T>        the type of the result
+     *
+     * @return the result of the operation
+     *
+     * @throws Exception in case of errors
+     */
+    private <T> T execute(JMXConnectionPool.Operation<T> operation)
+            throws Exception
+        {
+        return f_pool == null ? operation.run(f_connection) : f_pool.execute(operation);
+        }
+
+    /**
+     * Get a list of attributes for each of the given MBeans in turn.
+     *
+     * @param connection       the {@link MBeanServerConnection} to use
+     * @param listObjectNames  the MBean ObjectNames
+     * @param asAttribute      the attributes which needs to be fetched
+     *
+     * @return the attributes for each MBean that still exists
+     *
+     * @throws Exception in case of errors
+     */
+    private static Map<ObjectName, AttributeList> getAttributes(MBeanServerConnection connection,
+                                                                List<ObjectName> listObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        Map<ObjectName, AttributeList> mapResults = new HashMap<>(listObjectNames.size());
+
+        for (ObjectName objectName : listObjectNames)
+            {
+            try
+                {
+                mapResults.put(objectName, connection.getAttributes(objectName, asAttribute));
+                }
+            catch (InstanceNotFoundException e)
+                {
+                // the member has left since the MBeans were queried
+                LOGGER.log(Level.FINE, "MBean " + objectName + " no longer exists");
+                }
+            }
+
+        return mapResults;
+        }
+
+    /**
+     * Create the {@link ExecutorService} used to retrieve attributes for
+     * many MBeans in parallel.
+     *
+     * @return the {@link ExecutorService}
+     */
+    private static ExecutorService createExecutor()
+        {
+        AtomicInteger      atomicId = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(ATTRIBUTE_THREADS, ATTRIBUTE_THREADS,
+                30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable ->
+                    {
+                    Thread thread = new Thread(runnable, "CoherenceAttributeCollector-" + atomicId.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                    });
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+        }
+
     // ------ constants -----------------------------------------------------
 
     /**
@@ -561,10 +866,34 @@ public class JMXRequestSender
      */
     private static final Logger LOGGER = Logger.getLogger(JMXRequestSender.class.getName());
 
+    /**
+     * The number of threads used to retrieve attributes for many MBeans in parallel.
+     */
+    private static final int ATTRIBUTE_THREADS = Math.max(1, Integer.getInteger(
+            VisualVMModel.PROP_COLLECTION_THREADS, VisualVMModel.DEFAULT_COLLECTION_THREADS));
+
+    /**
+     * The {@link ExecutorService} used to retrieve attributes for many MBeans
+     * in parallel. This is separate from the executor used to collect each
+     * data type as those tasks wait for the results.
+     */
+    private static final ExecutorService ATTRIBUTE_EXECUTOR = createExecutor();
+
     // ------ data members --------------------------------------------------
 
     /**
      * The {@link MBeanServerConnection} to use.
      */
     private final MBeanServerConnection f_connection;
+
+    /**
+     * The cached MBean topology, or null if disabled.
+     */
+    private final MBeanTopologyCache f_topology;
+
+    /**
+     * The {@link JMXConnectionPool} used to read attributes, or null to use
+     * the {@link MBeanServerConnection}.
+     */
+    private final JMXConnectionPool f_pool;
     }
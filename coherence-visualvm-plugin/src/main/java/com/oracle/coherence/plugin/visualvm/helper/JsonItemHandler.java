@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * A handler which is called by the {@link HttpRequestSender} as each element of
+ * the "items" array of a REST response is read from the stream, so that data
+ * can be populated without first building a tree of the whole response.
+ *
+ * @author agent 2026.10.16
+ */
+public interface JsonItemHandler
+    {
+    /**
+     * Called when a new item is started.
+     */
+    void startItem();
+
+    /**
+     * Called for each field of the current item. The parser is positioned on
+     * the value of the field. If the value is an object or array the handler
+     * may read it, otherwise it will be skipped.
+     *
+     * @param sField  the name of the field
+     * @param parser  the {@link JsonParser} positioned on the value
+     *
+     * @throws IOException if any errors reading the value
+     */
+    void field(String sField, JsonParser parser)
+            throws IOException;
+
+    /**
+     * Called when the current item is complete.
+     */
+    void endItem();
+    }
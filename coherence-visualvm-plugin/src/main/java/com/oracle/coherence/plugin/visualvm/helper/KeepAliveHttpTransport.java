@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.oracle.coherence.plugin.visualvm.GlobalPreferences;
+import com.oracle.coherence.plugin.visualvm.diagnostics.PluginDiagnostics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import java.util.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.logging.Logger;
+
+import java.util.zip.GZIPInputStream;
+
+/**
+ * An {@link HttpTransport} which reuses persistent (keep-alive) connections
+ * to the management REST server.
+ * <p>
+ * The JDK only returns an {@link HttpURLConnection} to its connection cache, and
+ * so avoids a new TCP connect and TLS handshake for the next request, once the
+ * response body has been read fully and closed. This transport always buffers
+ * the response and drains error responses so every connection can be reused.
+ * The number of concurrent requests to each host is bounded by
+ * {@link GlobalPreferences#getRestMaxConnections()}, and the shared instance
+ * is resized when that preference is changed. Requests wait for a connection
+ * to a host in the order they were made.
+ * <p>
+ * The JDK only keeps <code>http.maxConnections</code> (default 5) idle connections
+ * to each host. This is a JVM wide setting which is read once, so it is not
+ * changed by the plugin. VisualVM should be started with
+ * <code>-J-Dhttp.maxConnections</code> set to at least the maximum number of
+ * connections for every connection to be reused.
+ *
+ * @author agent 2026.10.16
+ */
+public class KeepAliveHttpTransport
+        implements HttpTransport
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link KeepAliveHttpTransport} with the given maximum number of
+     * concurrent requests for each host.
+     *
+     * @param cMaxConnections  the maximum number of concurrent requests for each host
+     */
+    public KeepAliveHttpTransport(int cMaxConnections)
+        {
+        if (cMaxConnections <= 0)
+            {
+            throw new IllegalArgumentException("Maximum connections must be greater than zero");
+            }
+
+        m_cMaxConnections = cMaxConnections;
+
+        AtomicInteger      atomicId = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(cMaxConnections, cMaxConnections, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable ->
+                    {
+                    Thread thread = new Thread(runnable, "CoherenceHttpTransport-" + atomicId.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                    });
+        executor.allowCoreThreadTimeOut(true);
+
+        f_executor = executor;
+        }
+
+    // ----- HttpTransport methods ------------------------------------------
+
+    @Override
+    public InputStream sendGetRequest(URL url)
+            throws Exception
+        {
+        Semaphore semaphore = getSemaphore(url);
+
+        semaphore.acquire();
+
+        // the time waiting for a connection to the host is not included as the
+        // statistics are used to find the slow requests rather than the busy hosts
+        long    ldtStart = System.nanoTime();
+        long    cBytes   = 0L;
+        boolean fError   = true;
+        try
+            {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            int               nTimeout   = GlobalPreferences.sharedInstance().getRestTimeout();
+
+            connection.setConnectTimeout(nTimeout);
+            connection.setReadTimeout(nTimeout);
+            connection.setRequestProperty("Accept", "application/json");
+            connection.setRequestProperty("Accept-Encoding", "gzip");
+
+            int nResponseCode;
+            try
+                {
+                nResponseCode = connection.getResponseCode();
+                }
+            catch (IOException e)
+                {
+                drain(connection.getErrorStream());
+                throw e;
+                }
+
+            if (nResponseCode != 200)
+                {
+                drain(connection.getErrorStream());
+                LOGGER.warning("Http request " + url.toString() + " returned error code " + nResponseCode);
+                return null;
+                }
+
+            byte[] abResponse = readFully(connection.getInputStream());
+
+            cBytes = abResponse.length;
+            fError = false;
+
+            return "gzip".equalsIgnoreCase(connection.getContentEncoding())
+                   ? new GZIPInputStream(new ByteArrayInputStream(abResponse))
+                   : new ByteArrayInputStream(abResponse);
+            }
+        finally
+            {
+            semaphore.release();
+            PluginDiagnostics.getInstance().record(PluginDiagnostics.Category.REST, PluginDiagnostics.getEndpoint(url),
+                                                   System.nanoTime() - ldtStart, cBytes, fError);
+            }
+        }
+
+    @Override
+    public CompletableFuture<InputStream> sendGetRequestAsync(URL url)
+        {
+        CompletableFuture<InputStream> future = new CompletableFuture<>();
+
+        f_executor.execute(() ->
+            {
+            try
+                {
+                future.complete(sendGetRequest(url));
+                }
+            catch (Throwable t)
+                {
+                future.completeExceptionally(t);
+                }
+            });
+
+        return future;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Returns the maximum number of concurrent requests for each host.
+     *
+     * @return the maximum number of concurrent requests for each host
+     */
+    public int getMaxConnections()
+        {
+        return m_cMaxConnections;
+        }
+
+    /**
+     * Sets the maximum number of concurrent requests for each host. Requests
+     * which are already running count towards the new limit, so when it is
+     * reduced new requests wait until enough of them have completed.
+     *
+     * @param cMaxConnections  the maximum number of concurrent requests for each host
+     */
+    public synchronized void setMaxConnections(int cMaxConnections)
+        {
+        if (cMaxConnections <= 0)
+            {
+            throw new IllegalArgumentException("Maximum connections must be greater than zero");
+            }
+
+        if (cMaxConnections == m_cMaxConnections)
+            {
+            return;
+            }
+
+        // the core size can never be larger than the maximum size
+        ThreadPoolExecutor executor = f_executor;
+        if (cMaxConnections > executor.getMaximumPoolSize())
+            {
+            executor.setMaximumPoolSize(cMaxConnections);
+            executor.setCorePoolSize(cMaxConnections);
+            }
+        else
+            {
+            executor.setCorePoolSize(cMaxConnections);
+            executor.setMaximumPoolSize(cMaxConnections);
+            }
+
+        // adjust the permits of the existing semaphores rather than replacing
+        // them so that the permits held by running requests are not lost
+        int cDelta = cMaxConnections - m_cMaxConnections;
+
+        m_cMaxConnections = cMaxConnections;
+
+        for (HostSemaphore semaphore : f_mapHostSemaphores.values())
+            {
+            semaphore.resize(cDelta);
+            }
+        }
+
+    /**
+     * Returns the shared {@link KeepAliveHttpTransport} used by all
+     * {@link HttpRequestSender}s so that connections and the per host limit
+     * are shared across all clusters connected to the same host.
+     *
+     * @return the shared {@link KeepAliveHttpTransport}
+     */
+    public static synchronized KeepAliveHttpTransport getInstance()
+        {
+        if (s_instance == null)
+            {
+            s_instance = new KeepAliveHttpTransport(GlobalPreferences.sharedInstance().getRestMaxConnections());
+            }
+
+        return s_instance;
+        }
+
+    /**
+     * Resize the shared {@link KeepAliveHttpTransport}, if it has been created,
+     * to the maximum number of connections in {@link GlobalPreferences}.
+     */
+    public static synchronized void refreshMaxConnections()
+        {
+        if (s_instance != null)
+            {
+            s_instance.setMaxConnections(GlobalPreferences.sharedInstance().getRestMaxConnections());
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the {@link Semaphore} which limits the concurrent requests to
+     * the host of the given URL.
+     *
+     * @param url  the URL
+     *
+     * @return the {@link Semaphore} for the host
+     */
+    private Semaphore getSemaphore(URL url)
+        {
+        String    sHost     = url.getHost() + ":" + (url.getPort() == -1 ? url.getDefaultPort() : url.getPort());
+        Semaphore semaphore = f_mapHostSemaphores.get(sHost);
+
+        if (semaphore == null)
+            {
+            // create the semaphore while holding the lock used by setMaxConnections
+            // so that it is either created with the new limit or resized
+            synchronized (this)
+                {
+                semaphore = f_mapHostSemaphores.computeIfAbsent(sHost, k -> new HostSemaphore(m_cMaxConnections));
+                }
+            }
+
+        return semaphore;
+        }
+
+    /**
+     * Read the given stream fully and close it.
+     *
+     * @param stream  the stream to read
+     *
+     * @return the contents of the stream
+     *
+     * @throws IOException if any errors reading the stream
+     */
+    private static byte[] readFully(InputStream stream)
+            throws IOException
+        {
+        try (InputStream in = stream)
+            {
+            ByteArrayOutputStream out      = new ByteArrayOutputStream(BUFFER_SIZE);
+            byte[]                abBuffer = new byte[BUFFER_SIZE];
+            int                   cb;
+
+            while ((cb = in.read(abBuffer)) != -1)
+                {
+                out.write(abBuffer, 0, cb);
+                }
+
+            return out.toByteArray();
+            }
+        }
+
+    /**
+     * Read and discard the contents of an error stream so that the underlying
+     * connection can be reused.
+     *
+     * @param stream  the error stream, may be null
+     */
+    private static void drain(InputStream stream)
+        {
+        if (stream != null)
+            {
+            try
+                {
+                readFully(stream);
+                }
+            catch (IOException e)
+                {
+                // ignore as the connection will not be reused
+                }
+            }
+        }
+
+    // ----- inner class: HostSemaphore -------------------------------------
+
+    /**
+     * A fair {@link Semaphore} limiting the concurrent requests to a host
+     * which can be resized while permits are held.
+     */
+    private static class HostSemaphore
+            extends Semaphore
+        {
+        /**
+         * Create a {@link HostSemaphore}.
+         *
+         * @param cPermits  the initial number of permits
+         */
+        HostSemaphore(int cPermits)
+            {
+            super(cPermits, true);
+            }
+
+        /**
+         * Change the number of permits by the given amount. When reduced the
+         * number of available permits may become negative until the permits
+         * held by running requests are released.
+         *
+         * @param cDelta  the change in the number of permits
+         */
+        void resize(int cDelta)
+            {
+            if (cDelta > 0)
+                {
+                release(cDelta);
+                }
+            else if (cDelta < 0)
+                {
+                reducePermits(-cDelta);
+                }
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(KeepAliveHttpTransport.class.getName());
+
+    /**
+     * The size of the buffer used to read responses.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The shared instance.
+     */
+    private static KeepAliveHttpTransport s_instance;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The maximum number of concurrent requests for each host.
+     */
+    private volatile int m_cMaxConnections;
+
+    /**
+     * The {@link Semaphore}s limiting the concurrent requests for each host.
+     */
+    private final Map<String, HostSemaphore> f_mapHostSemaphores = new ConcurrentHashMap<>();
+
+    /**
+     * The executor used to send asynchronous requests.
+     */
+    private final ThreadPoolExecutor f_executor;
+    }
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+
+/**
+ * A cache of the results of {@link MBeanServerConnection#queryNames(ObjectName,
+ * javax.management.QueryExp) queryNames} calls, kept up to date from the
+ * registration and unregistration notifications of the {@link MBeanServerDelegate}.
+ * <p>
+ * The MBeans registered for caches, services and members change rarely compared
+ * with how often the statistics are refreshed, so once a query has been run the
+ * ObjectNames it returned are maintained incrementally and later refreshes only
+ * need to read attributes. As notifications sent over a remote connection may be
+ * lost, for example after a reconnect, all results are discarded after
+ * {@link #MAX_AGE} so the topology is periodically queried again. If the
+ * listener cannot be registered every query is sent to the MBean server.
+ *
+ * @author agent 2026.10.16
+ */
+public class MBeanTopologyCache
+        implements NotificationListener
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link MBeanTopologyCache} for the given connection.
+     *
+     * @param connection  the {@link MBeanServerConnection} to query
+     */
+    public MBeanTopologyCache(MBeanServerConnection connection)
+        {
+        f_connection = connection;
+        }
+
+    // ----- MBeanTopologyCache methods -------------------------------------
+
+    /**
+     * Returns the names of the MBeans matching the given {@link ObjectName},
+     * which may be a pattern, from the cache if the same query has been run
+     * before and otherwise from the MBean server.
+     *
+     * @param objectName  the {@link ObjectName} or pattern to query
+     *
+     * @return the names of the matching MBeans
+     *
+     * @throws IOException if the MBean server cannot be queried
+     */
+    public Set<ObjectName> queryNames(ObjectName objectName)
+            throws IOException
+        {
+        if (!ensureListening())
+            {
+            return f_connection.queryNames(objectName, null);
+            }
+
+        long nVersion;
+        synchronized (this)
+            {
+            if (System.currentTimeMillis() - m_ldtCleared > MAX_AGE)
+                {
+                clear();
+                }
+
+            Set<ObjectName> setCached = f_mapQueries.get(objectName);
+            if (setCached != null)
+                {
+                return new HashSet<>(setCached);
+                }
+
+            nVersion = m_nVersion;
+            }
+
+        Set<ObjectName> setNames = f_connection.queryNames(objectName, null);
+
+        synchronized (this)
+            {
+            // only cache the result if no MBean was registered or unregistered
+            // while the query was running, as it may not have been reflected
+            if (nVersion == m_nVersion && f_mapQueries.size() < MAX_QUERIES)
+                {
+                f_mapQueries.put(objectName, new HashSet<>(setNames));
+                }
+            }
+
+        return setNames;
+        }
+
+    /**
+     * Discard all cached results so that the next queries are sent to the MBean server.
+     */
+    public synchronized void clear()
+        {
+        f_mapQueries.clear();
+        m_ldtCleared = System.currentTimeMillis();
+        m_nVersion++;
+        }
+
+    /**
+     * Stop listening for notifications and discard all cached results.
+     */
+    public synchronized void close()
+        {
+        if (m_nState == STATE_LISTENING)
+            {
+            try
+                {
+                f_connection.removeNotificationListener(MBeanServerDelegate.DELEGATE_NAME, this);
+                }
+            catch (Exception e)
+                {
+                LOGGER.log(Level.FINE, "Unable to remove MBean registration listener", e);
+                }
+            }
+
+        m_nState = STATE_CLOSED;
+        clear();
+        }
+
+    /**
+     * Returns the number of queries whose results are cached.
+     *
+     * @return the number of queries whose results are cached
+     */
+    public synchronized int getCachedQueryCount()
+        {
+        return f_mapQueries.size();
+        }
+
+    // ----- NotificationListener methods -----------------------------------
+
+    @Override
+    public void handleNotification(Notification notification, Object oHandback)
+        {
+        if (!(notification instanceof MBeanServerNotification))
+            {
+            return;
+            }
+
+        ObjectName objectName = ((MBeanServerNotification) notification).getMBeanName();
+        String     sType      = notification.getType();
+
+        synchronized (this)
+            {
+            m_nVersion++;
+
+            if (MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(sType))
+                {
+                for (Map.Entry<ObjectName, Set<ObjectName>> entry : f_mapQueries.entrySet())
+                    {
+                    if (entry.getKey().apply(objectName))
+                        {
+                        entry.getValue().add(objectName);
+                        }
+                    }
+                }
+            else if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(sType))
+                {
+                for (Set<ObjectName> setNames : f_mapQueries.values())
+                    {
+                    setNames.remove(objectName);
+                    }
+                }
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register this cache for MBean registration notifications if it has not
+     * already been registered.
+     *
+     * @return true if this cache is receiving notifications and may be used
+     */
+    private synchronized boolean ensureListening()
+        {
+        if (m_nState == STATE_NEW)
+            {
+            try
+                {
+                f_connection.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, this, null, null);
+                m_nState = STATE_LISTENING;
+                clear();
+                }
+            catch (Exception e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to listen for MBean registrations, "
+                                          + "the MBean server will be queried on every refresh", e);
+                m_nState = STATE_FAILED;
+                }
+            }
+
+        return m_nState == STATE_LISTENING;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MBeanTopologyCache.class.getName());
+
+    /**
+     * The time in millis after which all cached results are discarded, in case
+     * any notifications were lost.
+     */
+    public static final long MAX_AGE = 5L * 60L * 1000L;
+
+    /**
+     * The maximum number of queries whose results are cached.
+     */
+    private static final int MAX_QUERIES = 10_000;
+
+    /**
+     * The listener has not been registered yet.
+     */
+    private static final int STATE_NEW = 0;
+
+    /**
+     * The listener has been registered.
+     */
+    private static final int STATE_LISTENING = 1;
+
+    /**
+     * The listener could not be registered.
+     */
+    private static final int STATE_FAILED = 2;
+
+    /**
+     * The cache has been closed.
+     */
+    private static final int STATE_CLOSED = 3;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link MBeanServerConnection} to query.
+     */
+    private final MBeanServerConnection f_connection;
+
+    /**
+     * The names of the matching MBeans keyed by the query.
+     */
+    private final Map<ObjectName, Set<ObjectName>> f_mapQueries = new HashMap<>();
+
+    /**
+     * The state of the listener.
+     */
+    private int m_nState = STATE_NEW;
+
+    /**
+     * Incremented each time the cached results may have changed.
+     */
+    private long m_nVersion;
+
+    /**
+     * The time the cached results were last discarded.
+     */
+    private long m_ldtCleared;
+    }
@@ -26,7 +26,7 @@
 package com.oracle.coherence.plugin.visualvm.helper;
 
 import com.oracle.coherence.plugin.visualvm.Localization;
-
+import com.oracle.coherence.plugin.visualvm.tablemodel.AbstractCoherenceTableModel;
 import java.awt.Color;
 import java.awt.Component;
 
@@ -106,6 +106,25 @@ public class RenderHelper
         column.setCellRenderer(new IntegerRenderer());
         }
 
+    /**
+     * Set the renderer to a DecimalRenderer() showing the change per second for
+     * each of the rate columns of the model of a table.
+     *
+     * @param table the {@link JTable} to set the renderers for
+     */
+    public static void setRateRenderers(JTable table)
+        {
+        if (table.getModel() instanceof AbstractCoherenceTableModel)
+            {
+            AbstractCoherenceTableModel<?, ?> model = (AbstractCoherenceTableModel<?, ?>) table.getModel();
+
+            for (int i = model.getRateColumnStart(); i < model.getColumnCount(); i++)
+                {
+                setColumnRenderer(table, i, new DecimalRenderer(RATE_FORMAT));
+                }
+            }
+        }
+
     /**
      * Sets the default table header alignment for all columns for a table.
      *
@@ -714,6 +733,11 @@ public class RenderHelper
      */
     public static NumberFormat LOAD_AVERAGE_FORMAT = new DecimalFormat("#,##0.00");
 
+    /**
+     * Format for the rate of a counter.
+     */
+    public static NumberFormat RATE_FORMAT = new DecimalFormat("#,##0.0");
+
     /**
      * Format for % renderer.
      */
@@ -26,6 +26,7 @@
 package com.oracle.coherence.plugin.visualvm.helper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.management.Attribute;
@@ -79,6 +80,21 @@ public interface RequestSender
      AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
              throws Exception;
 
+    /**
+     * Get a list of attributes for each of a set of MBeans. MBeans which no
+     * longer exist, for example because a member has left, are omitted from
+     * the result.
+     *
+     * @param setObjectNames  the MBean ObjectNames
+     * @param asAttribute     the attributes which needs to be fetched
+     *
+     * @return the attributes for each MBean
+     *
+     * @throws Exception in case of errors
+     */
+    Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception;
+
     /**
      * Return the list of CacheMBean ObjectNames in the cluster.
      *
@@ -89,6 +105,17 @@ public interface RequestSender
     Set<ObjectName> getAllCacheMembers()
             throws Exception;
 
+    /**
+     * Return the list of back tier CacheMBean ObjectNames for every member
+     * of every cache in the cluster.
+     *
+     * @return the list of back tier CacheMBean ObjectNames
+     *
+     * @throws Exception in case of errors
+     */
+    Set<ObjectName> getAllBackCacheMembers()
+            throws Exception;
+
     /**
      * Return the list of all journal member ObjectNames in the cluster.
      *
@@ -408,4 +435,11 @@ public interface RequestSender
                                      String sOperationName,
                                      String sSnapshotName)
             throws Exception;
+
+    /**
+     * Release any resources held by this sender once it is no longer used.
+     */
+    default void close()
+        {
+        }
     }
@@ -27,6 +27,8 @@ package com.oracle.coherence.plugin.visualvm.impl;
 
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
+import com.oracle.coherence.plugin.visualvm.recording.ReplayRequestSender;
 
 import java.awt.Dialog;
 import java.awt.Dimension;
@@ -115,6 +117,17 @@ class CoherenceClusterConfigurator extends JPanel
             return false;
             }
 
+        if (ReplayRequestSender.isReplayUrl(sUrl))
+            {
+            if (!isValidRecording(sUrl))
+                {
+                DialogDisplayer.getDefault().notify(
+                        new NotifyDescriptor.Message(Localization.getLocalText("ERR_Invalid_Recording", sUrl)));
+                return false;
+                }
+            return true;
+            }
+
         HttpRequestSender sender = new HttpRequestSender(sUrl);
         // Valid URL's are
         // Standard Coherence:  http://host:management-port/management/coherence/cluster
@@ -129,6 +142,25 @@ class CoherenceClusterConfigurator extends JPanel
         return true;
         }
 
+    /**
+     * Checks to see if the URL refers to a directory containing a recording.
+     *
+     * @param sUrl  the file URL of the recording
+     *
+     * @return true if the URL refers to a recording
+     */
+    private static boolean isValidRecording(String sUrl)
+        {
+        try
+            {
+            return !new RecordingReader(ReplayRequestSender.getRecordingDirectory(sUrl)).getSegments().isEmpty();
+            }
+        catch (IllegalArgumentException e)
+            {
+            return false;
+            }
+        }
+
     /**
      * The management over REST application URL configured by the user.
      *
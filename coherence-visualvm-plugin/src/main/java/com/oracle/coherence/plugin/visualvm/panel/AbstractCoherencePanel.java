@@ -29,6 +29,7 @@ package com.oracle.coherence.plugin.visualvm.panel;
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import com.oracle.coherence.plugin.visualvm.tablemodel.AbstractCoherenceTableModel;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.FederationData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.MemberData;
@@ -112,6 +113,14 @@ public abstract class AbstractCoherencePanel
      */
     public abstract void updateData();
 
+    /**
+     * Returns the {@link VisualVMModel.DataType}s displayed by this panel. While
+     * the panel is visible these types are collected on every refresh.
+     *
+     * @return the {@link VisualVMModel.DataType}s displayed by this panel
+     */
+    public abstract VisualVMModel.DataType[] getDataTypes();
+
     // ----- accessors -------------------------------------------------------
 
     /**
@@ -218,7 +227,9 @@ public abstract class AbstractCoherencePanel
 
 
     /**
-     * Fire a tableDataChanged but save and re-apply any selection.
+     * Fire a tableDataChanged but save and re-apply any selection. For an
+     * {@link AbstractCoherenceTableModel} only the rows which have changed are
+     * fired so the table keeps its selection and sort order by itself.
      *
      * @param table the {@link ExportableJTable} to save selection for
      * @param model the {@link AbstractTableModel} to refresh
@@ -227,8 +238,18 @@ public abstract class AbstractCoherencePanel
         {
         int nSelectedRow = table.getListener().getSelectedRow();
 
-        model.fireTableDataChanged();
-        table.getListener().setSelectedRow(nSelectedRow);
+        if (model instanceof AbstractCoherenceTableModel)
+            {
+            if (((AbstractCoherenceTableModel<?, ?>) model).fireTableRowChanges())
+                {
+                table.getListener().setSelectedRow(nSelectedRow);
+                }
+            }
+        else
+            {
+            model.fireTableDataChanged();
+            table.getListener().setSelectedRow(nSelectedRow);
+            }
         }
 
     /**
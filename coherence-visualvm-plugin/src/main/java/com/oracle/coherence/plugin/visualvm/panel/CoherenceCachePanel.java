@@ -136,6 +136,10 @@ public class CoherenceCachePanel
         f_tmodel = new CacheTableModel(VisualVMModel.DataType.CACHE.getMetadata());
         f_tmodelDetail = new CacheDetailTableModel(VisualVMModel.DataType.CACHE_DETAIL.getMetadata());
         f_tmodelFrontDetail = new CacheDetailTableModel(VisualVMModel.DataType.CACHE_FRONT_DETAIL.getMetadata());
+        f_tmodelDetail.setCounterRates(model.getCounterRates(VisualVMModel.DataType.CACHE_DETAIL),
+                                       CacheDetailData.TOTAL_GETS, CacheDetailData.TOTAL_PUTS);
+        f_tmodelFrontDetail.setCounterRates(model.getCounterRates(VisualVMModel.DataType.CACHE_FRONT_DETAIL),
+                                            CacheFrontDetailData.TOTAL_GETS, CacheFrontDetailData.TOTAL_PUTS);
         f_tmodelStorage = new CacheStorageManagerTableModel(VisualVMModel.DataType.CACHE_STORAGE_MANAGER.getMetadata());
 
         final ExportableJTable table = new ExportableJTable(f_tmodel);
@@ -170,6 +174,7 @@ public class CoherenceCachePanel
 
         RenderHelper.setColumnRenderer(f_tableDetail, CacheDetailData.HIT_PROBABILITY,
                                        new RenderHelper.CacheHitProbabilityRateRenderer());
+        RenderHelper.setRateRenderers(f_tableDetail);
 
         RenderHelper.setColumnRenderer(f_tableFrontDetail, CacheFrontDetailData.CACHE_HITS, new RenderHelper.IntegerRenderer());
         RenderHelper.setColumnRenderer(f_tableFrontDetail, CacheFrontDetailData.CACHE_MISSES, new RenderHelper.IntegerRenderer());
@@ -179,6 +184,7 @@ public class CoherenceCachePanel
 
         RenderHelper.setColumnRenderer(f_tableFrontDetail, CacheFrontDetailData.HIT_PROBABILITY,
                                        new RenderHelper.CacheHitProbabilityRateRenderer());
+        RenderHelper.setRateRenderers(f_tableFrontDetail);
 
         RenderHelper.setColumnRenderer(f_tableStorage, CacheStorageManagerData.LOCKS_GRANTED,
                                        new RenderHelper.IntegerRenderer());
@@ -288,6 +294,14 @@ public class CoherenceCachePanel
 
     // ---- AbstractCoherencePanel methods ----------------------------------
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.CACHE, VisualVMModel.DataType.CACHE_DETAIL,
+                                             VisualVMModel.DataType.CACHE_FRONT_DETAIL,
+                                             VisualVMModel.DataType.CACHE_STORAGE_MANAGER };
+        }
+
     @Override
     public void updateData()
         {
@@ -437,6 +451,79 @@ public class CoherenceCachePanel
             }
         }
 
+    // ---- helpers ---------------------------------------------------------
+
+    /**
+     * Build a linked list with a Pair&lt;X,Y&gt; where X = cache name (which is
+     * Pair&lt;String, String&gt;) and Y is the count of size or memory, ordered
+     * by descending value, for display in the heat map.
+     *
+     * @param listCacheData  the collected cache data
+     * @param fSize          true to use the cache size or false to use the memory used
+     * @param listValues     the list to add the ordered caches and values to
+     *
+     * @return the total of the values for all caches
+     */
+    @SuppressWarnings("unchecked")
+    public static long sortHeatMapValues(List<Entry<Object, Data>> listCacheData, boolean fSize,
+                                         LinkedList<Pair<Pair<String, String>, Long>> listValues)
+        {
+        long cTotal = 0L;
+
+        for (Entry<Object, Data> entry : listCacheData)
+            {
+            long cValue;
+            if (fSize)
+                {
+                cValue = (long) ((Integer) entry.getValue().getColumn(CacheData.SIZE));
+                }
+            else
+                {
+                cValue = Long.parseLong(entry.getValue().getColumn(CacheData.MEMORY_USAGE_BYTES).toString());
+                }
+
+            cTotal += cValue;
+            Pair<Pair<String, String>, Long> cache = new Pair<>((Pair<String, String>) entry.getValue().getColumn(CacheData.CACHE_NAME), cValue);
+
+            if (listValues.size() == 0)
+                {
+                listValues.add(cache);
+                }
+            else
+                {
+                int nLocation = 0;
+                boolean fAdded = false;
+
+                // Find where the value is in the list
+                Iterator<Pair<Pair<String, String>, Long>> iter = listValues.iterator();
+                while (iter.hasNext())
+                    {
+                    Pair<Pair<String, String>, Long> entryHeatMap = iter.next();
+                    if (entryHeatMap.getY().longValue() <= cache.getY().longValue())
+                        {
+                        // add new value at the current position
+                        listValues.add(nLocation, cache);
+                        fAdded = true;
+                        break;
+                        }
+                    else
+                        {
+                        // value must be added at least after this one
+                        nLocation++;
+                        }
+                    }
+
+                // if we have not added then add to end of list
+                if (!fAdded)
+                    {
+                    listValues.addLast(cache);
+                    }
+                }
+            }
+
+        return cTotal;
+        }
+
     // ---- inner classes ---------------------------------------------------
 
     /**
@@ -757,61 +844,8 @@ public class CoherenceCachePanel
          */
         public synchronized void updateData()
             {
-            // build a linked list with a Pair<X,Y> where X = cache name (which is Pair<String, String>) and
-            // Y is the count of size or memory
             f_listValues.clear();
-            m_cTotal = 0L;
-
-            for (Entry<Object, Data> entry : m_cacheData)
-                {
-                long cValue;
-                if (f_nType == TYPE_SIZE)
-                    {
-                    cValue = (long) ((Integer) entry.getValue().getColumn(CacheData.SIZE));
-                    }
-                else
-                    {
-                    cValue = Long.parseLong(entry.getValue().getColumn(CacheData.MEMORY_USAGE_BYTES).toString());
-                    }
-
-                m_cTotal += cValue;
-                Pair<Pair<String, String>, Long> cache = new Pair<>((Pair<String, String>) entry.getValue().getColumn(CacheData.CACHE_NAME), cValue);
-
-                if (f_listValues.size() == 0)
-                    {
-                    f_listValues.add(cache);
-                    }
-                else
-                    {
-                    int nLocation = 0;
-                    boolean fAdded = false;
-
-                    // Find where the value is in the list
-                    Iterator<Pair<Pair<String, String>, Long>> iter = f_listValues.iterator();
-                    while (iter.hasNext())
-                        {
-                        Pair<Pair<String, String>, Long> entryHeatMap = iter.next();
-                        if (entryHeatMap.getY().longValue() <= cache.getY().longValue())
-                            {
-                            // add new value at the current position
-                            f_listValues.add(nLocation, cache);
-                            fAdded = true;
-                            break;
-                            }
-                        else
-                            {
-                            // value must be added at least after this one
-                            nLocation++;
-                            }
-                        }
-
-                    // if we have not added then add to end of list
-                    if (!fAdded)
-                        {
-                        f_listValues.addLast(cache);
-                        }
-                    }
-                }
+            m_cTotal = sortHeatMapValues(m_cacheData, f_nType == TYPE_SIZE, f_listValues);
             }
 
         // ----- inner classes ----------------------------------------------
@@ -311,6 +311,13 @@ public class CoherenceClusterOverviewPanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.MACHINE,
+                                             VisualVMModel.DataType.MEMBER, VisualVMModel.DataType.SERVICE };
+        }
+
     @Override
     public void updateData()
         {
@@ -31,6 +31,7 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ExecutorData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.FederationData;
@@ -266,6 +267,8 @@ public class CoherenceClusterSnapshotPanel
         // table headers
         sb.append(columnHeaders(VisualVMModel.DataType.MEMBER));
 
+        CounterRates rates = f_model.getCounterRates(VisualVMModel.DataType.MEMBER);
+
         for (Map.Entry<Object, Data> entry : m_memberData)
             {
             sb.append("<tr>")
@@ -280,6 +283,8 @@ public class CoherenceClusterSnapshotPanel
                     .append(td(getMemoryFormat(entry.getValue().getColumn(MemberData.USED_MEMORY).toString())))
                     .append(td(getMemoryFormat(entry.getValue().getColumn(MemberData.FREE_MEMORY).toString())))
                     .append(td(entry.getValue().getColumn(MemberData.STORAGE_ENABLED).toString()))
+                    .append(td(getRateFormat(rates, entry.getKey(), MemberData.PACKETS_SENT)))
+                    .append(td(getRateFormat(rates, entry.getKey(), MemberData.PACKETS_RECEIVED)))
                     .append("</tr>");
             }
 
@@ -300,6 +305,8 @@ public class CoherenceClusterSnapshotPanel
         // table headers
         sb.append(columnHeaders(VisualVMModel.DataType.SERVICE));
 
+        CounterRates rates = f_model.getCounterRates(VisualVMModel.DataType.SERVICE);
+
         for (Map.Entry<Object, Data> entry : m_serviceData)
             {
             sb.append("<tr>")
@@ -312,6 +319,8 @@ public class CoherenceClusterSnapshotPanel
                     .append(td(getMemoryFormat(entry.getValue().getColumn(ServiceData.PARTITIONS_VULNERABLE))))
                     .append(td(getMemoryFormat(entry.getValue().getColumn(ServiceData.PARTITIONS_UNBALANCED))))
                     .append(td(getMemoryFormat(entry.getValue().getColumn(ServiceData.PARTITIONS_PENDING))))
+                    .append(td(getRateFormat(rates, entry.getKey(), ServiceData.TASK_COUNT)))
+                    .append(td(getRateFormat(rates, entry.getKey(), ServiceData.REQUEST_TOTAL_COUNT)))
                     .append("</tr>");
             }
 
@@ -617,6 +626,20 @@ public class CoherenceClusterSnapshotPanel
         return sb.append("</tr>").toString();
         }
 
+    /**
+     * Format the change per second of a counter.
+     *
+     * @param rates    the {@link CounterRates} for the rows, may be null
+     * @param oKey     the key of the row
+     * @param nColumn  the counter column
+     *
+     * @return a formatted value
+     */
+    private String getRateFormat(CounterRates rates, Object oKey, int nColumn)
+        {
+        return rates == null ? "" : String.format("%,.1f", rates.getRate(oKey, nColumn));
+        }
+
     /**
      * Returns text for a label.
      * @param sKey the key for Bundle
@@ -703,6 +726,13 @@ public class CoherenceClusterSnapshotPanel
         return "</table>";
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        // the snapshot displays data for every type
+        return VisualVMModel.DataType.values();
+        }
+
     @Override
     public void updateData()
         {
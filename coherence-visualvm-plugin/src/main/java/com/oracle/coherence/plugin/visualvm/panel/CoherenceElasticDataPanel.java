@@ -223,6 +223,13 @@ public class CoherenceElasticDataPanel
         m_cLastRamExhaustive   = cRamExhaustive;
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.RAMJOURNAL,
+                                             VisualVMModel.DataType.FLASHJOURNAL };
+        }
+
     @Override
     public void updateData()
         {
@@ -195,6 +195,12 @@ public class CoherenceExecutorPanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.EXECUTOR };
+        }
+
     @Override
     public void updateData()
         {
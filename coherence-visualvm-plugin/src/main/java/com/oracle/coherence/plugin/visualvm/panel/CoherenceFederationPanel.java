@@ -396,6 +396,15 @@ public class CoherenceFederationPanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.FEDERATION_DESTINATION,
+                                             VisualVMModel.DataType.FEDERATION_DESTINATION_DETAILS,
+                                             VisualVMModel.DataType.FEDERATION_ORIGIN,
+                                             VisualVMModel.DataType.FEDERATION_ORIGIN_DETAILS };
+        }
+
     @Override
     public void updateData()
         {
@@ -35,6 +35,7 @@ import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
 import com.oracle.coherence.plugin.visualvm.panel.util.ExportableJTable;
 import com.oracle.coherence.plugin.visualvm.tablemodel.GrpcProxyTableModel;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.GrpcProxyData;
 import javax.swing.JLabel;
@@ -180,30 +181,26 @@ public class CoherenceGrpcProxyPanel
         fireTableDataChangedWithSelection(f_table, f_tmodel);
 
 
-        long ldtLastUpdate = f_model.getLastUpdate();
-        if (ldtLastUpdate > m_cLastUpdateTime)
-            {
-            if (m_cLastRecCount == -1L)
-                {
-                m_cLastRecCount  = nRecCount;
-                m_cLastSentCount = nSentCount;
-                }
-
-            // get delta values
-            long nDeltaRecCount  = nRecCount - m_cLastRecCount;
-            long nDeltaSentCount = nSentCount - m_cLastSentCount;
+        // the model calculates the change of the counters each time the proxies are collected
+        CounterRates rates        = f_model.getCounterRates(VisualVMModel.DataType.GRPC_PROXY);
+        long         ldtCollected = rates.getCollectedTime();
 
+        if (ldtCollected > m_ldtLastCollected)
+            {
             GraphHelper.addValuesToGrpcMessagesGraph(f_GrpcMessagesGraph,
-                    nDeltaSentCount < 0 ? 0 : nDeltaSentCount,
-                    nDeltaRecCount  < 0 ? 0 : nDeltaRecCount);
+                    rates.getTotalDelta(GrpcProxyData.RESPONSES_SENT_COUNT),
+                    rates.getTotalDelta(GrpcProxyData.MESSAGES_RECEIVED_COUNT));
 
-            // set the last values to calculate deltas
-            m_cLastRecCount   = nRecCount;
-            m_cLastSentCount  = nSentCount;
-            m_cLastUpdateTime = ldtLastUpdate;
+            m_ldtLastCollected = ldtCollected;
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.GRPC_PROXY };
+        }
+
     @Override
     public void updateData()
         {
@@ -259,17 +256,7 @@ public class CoherenceGrpcProxyPanel
     protected final ExportableJTable f_table;
 
     /**
-     * Last sent count.
-     */
-    private long m_cLastSentCount = -1L;
-
-    /**
-     * Last receive count.
-     */
-    private long m_cLastRecCount = -1L;
-
-    /**
-     * Last update time for stats.
+     * The time the proxies were collected when the messages graph was last updated.
      */
-    private long m_cLastUpdateTime = -1L;
+    private long m_ldtLastCollected = -1L;
     }
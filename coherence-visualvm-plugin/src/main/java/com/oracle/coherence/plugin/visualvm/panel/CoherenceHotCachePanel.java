@@ -201,6 +201,13 @@ public class CoherenceHotCachePanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.HOTCACHE,
+                                             VisualVMModel.DataType.HOTCACHE_PERCACHE };
+        }
+
     @Override
     public void updateData()
         {
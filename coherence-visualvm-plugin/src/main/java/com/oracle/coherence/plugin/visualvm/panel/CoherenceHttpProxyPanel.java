@@ -295,6 +295,13 @@ public class CoherenceHttpProxyPanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.HTTP_PROXY,
+                                             VisualVMModel.DataType.HTTP_PROXY_DETAIL };
+        }
+
     @Override
     public void updateData()
         {
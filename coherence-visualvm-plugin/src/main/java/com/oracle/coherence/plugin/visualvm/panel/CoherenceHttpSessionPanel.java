@@ -209,6 +209,12 @@ public class CoherenceHttpSessionPanel
         fireTableDataChangedWithSelection(f_table, f_tmodel);
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.HTTP_SESSION };
+        }
+
     @Override
     public void updateData()
         {
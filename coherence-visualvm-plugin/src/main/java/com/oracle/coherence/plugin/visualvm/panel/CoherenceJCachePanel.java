@@ -200,6 +200,13 @@ public class CoherenceJCachePanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.JCACHE_CONFIG,
+                                             VisualVMModel.DataType.JCACHE_STATS };
+        }
+
     @Override
     public void updateData()
         {
@@ -177,6 +177,12 @@ public class CoherenceMachinePanel
         fireTableDataChangedWithSelection(f_table, f_tmodel);
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.MACHINE };
+        }
+
     @Override
     public void updateData()
         {
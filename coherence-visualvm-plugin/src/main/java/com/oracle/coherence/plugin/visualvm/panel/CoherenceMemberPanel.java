@@ -159,6 +159,8 @@ public class CoherenceMemberPanel
 
         // create the table
         f_tmodel = new MemberTableModel(VisualVMModel.DataType.MEMBER.getMetadata());
+        f_tmodel.setCounterRates(model.getCounterRates(VisualVMModel.DataType.MEMBER),
+                                 MemberData.PACKETS_SENT, MemberData.PACKETS_RECEIVED);
 
         f_table = new ExportableJTable(f_tmodel);
 
@@ -168,6 +170,7 @@ public class CoherenceMemberPanel
         RenderHelper.setColumnRenderer(f_table, MemberData.PUBLISHER_SUCCESS, new RenderHelper.SuccessRateRenderer());
         RenderHelper.setColumnRenderer(f_table, MemberData.RECEIVER_SUCCESS, new RenderHelper.SuccessRateRenderer());
         RenderHelper.setColumnRenderer(f_table, MemberData.SENDQ_SIZE, new RenderHelper.IntegerRenderer());
+        RenderHelper.setRateRenderers(f_table);
 
         RenderHelper.setHeaderAlignment(f_table, JLabel.CENTER);
 
@@ -268,6 +271,12 @@ public class CoherenceMemberPanel
 
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.MEMBER };
+        }
+
     @Override
     public void updateData()
         {
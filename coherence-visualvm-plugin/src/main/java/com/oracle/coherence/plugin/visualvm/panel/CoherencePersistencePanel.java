@@ -303,6 +303,13 @@ public class CoherencePersistencePanel
         fireTableDataChangedWithSelection(f_tableNotifications, f_tmodelNotifications);
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.PERSISTENCE,
+                                             VisualVMModel.DataType.PERSISTENCE_NOTIFICATIONS };
+        }
+
     @Override
     public void updateData()
         {
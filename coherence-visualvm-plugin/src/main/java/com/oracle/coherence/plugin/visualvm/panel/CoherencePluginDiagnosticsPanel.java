@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.panel;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+import com.oracle.coherence.plugin.visualvm.diagnostics.PluginDiagnostics;
+import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
+import com.oracle.coherence.plugin.visualvm.panel.util.ExportableJTable;
+import com.oracle.coherence.plugin.visualvm.tablemodel.DiagnosticsTableModel;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.DiagnosticsData;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+
+/**
+ * An implementation of an {@link AbstractCoherencePanel} to view the statistics
+ * about the requests made by the plugin, so that the query at fault can be
+ * found when a refresh is slow. The table may be exported as CSV.
+ *
+ * @author agent 2026.10.16
+ */
+public class CoherencePluginDiagnosticsPanel
+        extends AbstractCoherencePanel
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create the layout for the {@link CoherencePluginDiagnosticsPanel}.
+     *
+     * @param model {@link VisualVMModel} to use for this panel
+     */
+    public CoherencePluginDiagnosticsPanel(VisualVMModel model)
+        {
+        super(new BorderLayout(), model);
+
+        // Create the header panel
+        JPanel pnlHeader = new JPanel();
+        pnlHeader.setLayout(new FlowLayout());
+        pnlHeader.setOpaque(false);
+
+        f_txtSlowestDataType = getTextField(20, JTextField.LEFT);
+        pnlHeader.add(getLocalizedLabel("LBL_slowest_data_type", f_txtSlowestDataType));
+        pnlHeader.add(f_txtSlowestDataType);
+
+        JButton btnReset = new JButton(getLocalizedText("BTN_reset_diagnostics"));
+        btnReset.addActionListener(e ->
+            {
+            PluginDiagnostics.getInstance().reset();
+            updateData();
+            updateGUI();
+            });
+        pnlHeader.add(btnReset);
+
+        // create the table
+        f_tmodel = new DiagnosticsTableModel(COLUMN_LABELS);
+
+        f_table = new ExportableJTable(f_tmodel);
+
+        f_table.setPreferredScrollableViewportSize(new Dimension(500, 150));
+
+        // define renderers for the columns
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.COUNT, new RenderHelper.IntegerRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.ERRORS, new RenderHelper.IntegerRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.FALLBACKS, new RenderHelper.IntegerRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.BYTES, new RenderHelper.BytesRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.MEAN_MILLIS, new RenderHelper.DecimalRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.P50_MILLIS, new RenderHelper.DecimalRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.P90_MILLIS, new RenderHelper.DecimalRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.P99_MILLIS, new RenderHelper.DecimalRenderer());
+        RenderHelper.setColumnRenderer(f_table, DiagnosticsData.MAX_MILLIS, new RenderHelper.DecimalRenderer());
+        RenderHelper.setHeaderAlignment(f_table, JLabel.CENTER);
+
+        // Add some space
+        f_table.setIntercellSpacing(new Dimension(6, 3));
+        f_table.setRowHeight(f_table.getRowHeight() + 4);
+
+        // Create the scroll pane and add the table to it.
+        JScrollPane pneScroll = new JScrollPane(f_table);
+        configureScrollPane(pneScroll, f_table);
+        pneScroll.setOpaque(false);
+
+        add(pnlHeader, BorderLayout.PAGE_START);
+        add(pneScroll, BorderLayout.CENTER);
+        }
+
+    // ----- AbstractCoherencePanel methods ---------------------------------
+
+    @Override
+    public void updateGUI()
+        {
+        String sSlowest = null;
+        float  fMax     = -1.0f;
+
+        // the data type with the highest 99th percentile is the most likely
+        // cause of a slow refresh
+        for (Map.Entry<Object, Data> entry : m_listData)
+            {
+            Data data = entry.getValue();
+            if (DATA_TYPE_LABEL.equals(data.getColumn(DiagnosticsData.CATEGORY))
+                && (Float) data.getColumn(DiagnosticsData.P99_MILLIS) > fMax)
+                {
+                fMax     = (Float) data.getColumn(DiagnosticsData.P99_MILLIS);
+                sSlowest = (String) data.getColumn(DiagnosticsData.NAME);
+                }
+            }
+
+        f_txtSlowestDataType.setText(sSlowest == null ? "" : sSlowest);
+
+        fireTableDataChangedWithSelection(f_table, f_tmodel);
+        }
+
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[0];
+        }
+
+    @Override
+    public void updateData()
+        {
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>();
+
+        for (PluginDiagnostics.Statistics statistics : PluginDiagnostics.getInstance().getStatistics())
+            {
+            listData.add(new AbstractMap.SimpleImmutableEntry<>(
+                    statistics.getCategory().name() + ':' + statistics.getName(), new DiagnosticsData(statistics)));
+            }
+
+        m_listData = listData;
+        f_tmodel.setDataList(listData);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final long serialVersionUID = -2163902215873513442L;
+
+    /**
+     * The label of the data type category.
+     */
+    private static final String DATA_TYPE_LABEL = PluginDiagnostics.Category.DATA_TYPE.getLabel();
+
+    /**
+     * Labels for the diagnostics table.
+     */
+    private static final String[] COLUMN_LABELS = new String[]
+        {
+        Localization.getLocalText("LBL_diagnostics_category"), Localization.getLocalText("LBL_diagnostics_name"),
+        Localization.getLocalText("LBL_diagnostics_count"),    Localization.getLocalText("LBL_diagnostics_errors"),
+        Localization.getLocalText("LBL_diagnostics_fallbacks"), Localization.getLocalText("LBL_diagnostics_bytes"),
+        Localization.getLocalText("LBL_diagnostics_mean"),     Localization.getLocalText("LBL_diagnostics_p50"),
+        Localization.getLocalText("LBL_diagnostics_p90"),      Localization.getLocalText("LBL_diagnostics_p99"),
+        Localization.getLocalText("LBL_diagnostics_max")
+        };
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The data type with the highest 99th percentile latency.
+     */
+    private final JTextField f_txtSlowestDataType;
+
+    /**
+     * The statistics to display.
+     */
+    private volatile List<Map.Entry<Object, Data>> m_listData = new ArrayList<>();
+
+    /**
+     * The {@link DiagnosticsTableModel} to display the statistics.
+     */
+    protected final DiagnosticsTableModel f_tmodel;
+
+    /**
+     * The {@link ExportableJTable} to use to display data.
+     */
+    protected final ExportableJTable f_table;
+    }
@@ -212,6 +212,12 @@ public class CoherenceProxyPanel
             }
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.PROXY };
+        }
+
     @Override
     public void updateData()
         {
@@ -87,6 +87,8 @@ public class CoherenceServicePanel
         JSplitPane pneSplit = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
 
         f_tmodel = new ServiceTableModel(VisualVMModel.DataType.SERVICE.getMetadata());
+        f_tmodel.setCounterRates(model.getCounterRates(VisualVMModel.DataType.SERVICE),
+                                 ServiceData.TASK_COUNT, ServiceData.REQUEST_TOTAL_COUNT);
         f_tmodelDetail = new ServiceMemberTableModel(VisualVMModel.DataType.SERVICE_DETAIL.getMetadata());
 
         final ExportableJTable table = new ExportableJTable(f_tmodel);
@@ -113,6 +115,7 @@ public class CoherenceServicePanel
         RenderHelper.setIntegerRenderer(table, ServiceData.PARTITIONS_VULNERABLE);
         RenderHelper.setIntegerRenderer(table, ServiceData.PARTITIONS_UNBALANCED);
         RenderHelper.setIntegerRenderer(table, ServiceData.PARTITIONS_PENDING);
+        RenderHelper.setRateRenderers(table);
 
         RenderHelper.setColumnRenderer(f_tableDetail, ServiceMemberData.REQUEST_AVERAGE_DURATION,
                                        new RenderHelper.DecimalRenderer());
@@ -245,6 +248,13 @@ public class CoherenceServicePanel
 
         }
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.SERVICE,
+                                             VisualVMModel.DataType.SERVICE_DETAIL };
+        }
+
     @Override
     public void updateData()
         {
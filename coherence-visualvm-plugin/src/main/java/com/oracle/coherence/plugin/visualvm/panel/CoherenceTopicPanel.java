@@ -37,6 +37,7 @@ import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
 import com.oracle.coherence.plugin.visualvm.panel.util.ExportableJTable;
 import com.oracle.coherence.plugin.visualvm.tablemodel.TopicTableModel;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicData;
 
@@ -130,6 +131,12 @@ public class CoherenceTopicPanel
 
     // ---- AbstractCoherencePanel methods ----------------------------------
 
+    @Override
+    public VisualVMModel.DataType[] getDataTypes()
+        {
+        return new VisualVMModel.DataType[]{ VisualVMModel.DataType.TOPICS_DETAIL };
+        }
+
     @Override
     public void updateData()
         {
@@ -140,8 +147,6 @@ public class CoherenceTopicPanel
     @Override
     public void updateGUI()
         {
-        long nSendCount = 0;
-        long nRecCount = 0;
         long  cTotalUnconsumed = 0;
 
         if (m_topicData != null)
@@ -154,8 +159,6 @@ public class CoherenceTopicPanel
                 {
                 cTotalTopicsSize += Float.valueOf((Long) entry.getValue().getColumn(TopicData.MEMORY_USAGE_BYTES));
                 cTotalUnconsumed += Float.valueOf((Integer) entry.getValue().getColumn(TopicData.SIZE));
-                nSendCount += (Long) entry.getValue().getColumn(TopicData.PUBLISHER_SENDS);
-                nRecCount += (Long) entry.getValue().getColumn(TopicData.SUBSCRIBER_RECEIVES);
                 }
 
             f_txtTotalMemory.setText(String.format("%,10.2f", cTotalTopicsSize / 1024 / 1024));
@@ -170,26 +173,17 @@ public class CoherenceTopicPanel
         
         fireTableDataChangedWithSelection(f_table, f_tmodel);
 
-        long ldtLastUpdate = f_model.getLastUpdate();
-        if (ldtLastUpdate > m_cLastUpdateTime)
-            {
-            if (m_cLastRecCount == -1L)
-                {
-                m_cLastRecCount  = nRecCount;
-                m_cLastSendCount = nSendCount;
-                }
-            // get delta values
-            long nDeltaRecCount  = nRecCount - m_cLastRecCount;
-            long nDeltaSendCount = nSendCount - m_cLastSendCount;
+        // the model calculates the change of the counters each time the topics are collected
+        CounterRates rates        = f_model.getCounterRates(VisualVMModel.DataType.TOPICS_DETAIL);
+        long         ldtCollected = rates.getCollectedTime();
 
+        if (ldtCollected > m_ldtLastCollected)
+            {
             GraphHelper.addValuesToTopicsRateGraph(f_topicsRatesGraph,
-                    nDeltaSendCount < 0 ? 0 : nDeltaSendCount,
-                    nDeltaRecCount  < 0 ? 0 : nDeltaRecCount);
+                    rates.getTotalDelta(TopicData.PUBLISHER_SENDS),
+                    rates.getTotalDelta(TopicData.SUBSCRIBER_RECEIVES));
 
-            // set the last values to calculate deltas
-            m_cLastRecCount   = nRecCount;
-            m_cLastSendCount  = nSendCount;
-            m_cLastUpdateTime = ldtLastUpdate;
+            m_ldtLastCollected = ldtCollected;
             }
         }
 
@@ -235,17 +229,7 @@ public class CoherenceTopicPanel
     protected final ExportableJTable f_table;
 
     /**
-     * Last update time for stats.
-     */
-    private long m_cLastUpdateTime = -1L;
-
-    /**
-     * Last publisher send count.
-     */
-    private long m_cLastSendCount = -1L;
-
-    /**
-     * Last subscriber receive count.
+     * The time the topics were collected when the rates graph was last updated.
      */
-    private long m_cLastRecCount = -1L;
+    private long m_ldtLastCollected = -1L;
     }
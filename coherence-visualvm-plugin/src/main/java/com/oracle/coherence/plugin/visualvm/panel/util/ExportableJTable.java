@@ -39,6 +39,7 @@ import java.io.PrintStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.swing.DefaultRowSorter;
 import javax.swing.JComponent;
 import javax.swing.JFileChooser;
 import javax.swing.JMenuItem;
@@ -46,6 +47,7 @@ import javax.swing.JOptionPane;
 import javax.swing.JPopupMenu;
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
+import javax.swing.RowSorter;
 import javax.swing.UIManager;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
@@ -80,6 +82,14 @@ public class ExportableJTable
 
         setAutoCreateRowSorter(true);
 
+        // re-sort rows reported as updated so the sort order is kept when only
+        // the changed rows are fired by the model
+        RowSorter<? extends TableModel> sorter = getRowSorter();
+        if (sorter instanceof DefaultRowSorter)
+            {
+            ((DefaultRowSorter<?, ?>) sorter).setSortsOnUpdates(true);
+            }
+
         // ensure users can only ever select one row at a time
         this.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         this.setRowSelectionAllowed(true);
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import com.oracle.coherence.plugin.visualvm.impl.CoherenceClusterProvider;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.logging.Logger;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.BLOCK_DATA;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.BLOCK_STRING;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.HEADER_SIZE;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.LENGTH_SIZE;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.SEGMENT_PREFIX;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.SEGMENT_SUFFIX;
+
+/**
+ * Records the data collected for each {@link DataType} to append-only,
+ * memory-mapped segment files in a directory, so that long running tests can
+ * be reviewed afterwards without keeping all of the data on the heap.
+ * <p>
+ * Each segment holds the rows of every recorded {@link DataType} column by
+ * column, and a new segment is started once the current one is full or has
+ * been written to for {@link #SEGMENT_DURATION} millis. Whole segments are
+ * removed once they are older than the retention time or the total size of
+ * the recording exceeds the maximum size. Segments still being written by
+ * any recorder are never removed, as more than one view of the same cluster
+ * may record to the same directory. Use {@link RecordingReader} to read
+ * a recording.
+ *
+ * @author agent 2026.10.16
+ */
+public class MetricsRecorder
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link MetricsRecorder} which writes segments to the given directory.
+     *
+     * @param fileDirectory     the directory to write segments to
+     * @param cbSegmentSize     the size of each segment
+     * @param cMillisRetention  the time to keep segments for
+     * @param cbMaxSize         the maximum total size of all segments
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    public MetricsRecorder(File fileDirectory, long cbSegmentSize, long cMillisRetention, long cbMaxSize)
+            throws IOException
+        {
+        if (!fileDirectory.isDirectory() && !fileDirectory.mkdirs())
+            {
+            throw new IOException("Unable to create directory " + fileDirectory);
+            }
+
+        f_fileDirectory    = fileDirectory;
+        f_cbSegmentSize    = cbSegmentSize;
+        m_cMillisRetention = cMillisRetention;
+        m_cbMaxSize        = cbMaxSize;
+        }
+
+    // ----- MetricsRecorder methods ----------------------------------------
+
+    /**
+     * Record the data collected for a {@link DataType}.
+     *
+     * @param ldtCollected  the time the data was collected
+     * @param type          the {@link DataType} collected
+     * @param listData      the collected data, may be null
+     *
+     * @throws IOException if the data cannot be written
+     */
+    public synchronized void record(long ldtCollected, DataType type, List<Map.Entry<Object, Data>> listData)
+            throws IOException
+        {
+        if (listData == null)
+            {
+            return;
+            }
+
+        if (m_segment != null && ldtCollected - m_segment.getStartTime() >= SEGMENT_DURATION)
+            {
+            roll(ldtCollected);
+            }
+
+        if (m_segment == null)
+            {
+            m_segment = createSegment(ldtCollected, f_cbSegmentSize, new SegmentStringTable());
+            applyRetention(ldtCollected);
+            }
+
+        byte[] ab = encode(m_segment.getStringTable(), ldtCollected, type, listData);
+        if (!m_segment.hasCapacity(ab.length))
+            {
+            // the string table belongs to the segment so the data is encoded again
+            // for the new segment before it is created, and a single snapshot larger
+            // than the segment size gets a segment large enough to hold it
+            SegmentStringTable strings = new SegmentStringTable();
+
+            ab = encode(strings, ldtCollected, type, listData);
+            close();
+            m_segment = createSegment(ldtCollected, Math.max(f_cbSegmentSize, HEADER_SIZE + ab.length + LENGTH_SIZE),
+                                      strings);
+            applyRetention(ldtCollected);
+            }
+
+        m_segment.append(ab);
+        }
+
+    /**
+     * Flush all recorded data to disk.
+     */
+    public synchronized void flush()
+        {
+        if (m_segment != null)
+            {
+            m_segment.flush();
+            }
+        }
+
+    /**
+     * Close the current segment. Recording will continue in a new segment if
+     * {@link #record(long, DataType, List)} is called again.
+     */
+    public synchronized void close()
+        {
+        RecordingSegment segment = m_segment;
+        if (segment != null)
+            {
+            segment.close();
+            m_segment = null;
+            OPEN_SEGMENTS.remove(segment.getFile().getAbsoluteFile());
+            }
+        }
+
+    /**
+     * Set the retention of the recording.
+     *
+     * @param cMillisRetention  the time to keep segments for
+     * @param cbMaxSize         the maximum total size of all segments
+     */
+    public synchronized void setRetention(long cMillisRetention, long cbMaxSize)
+        {
+        m_cMillisRetention = cMillisRetention;
+        m_cbMaxSize        = cbMaxSize;
+        }
+
+    /**
+     * Returns the directory the segments are written to.
+     *
+     * @return the directory the segments are written to
+     */
+    public File getDirectory()
+        {
+        return f_fileDirectory;
+        }
+
+    /**
+     * Returns the directory used to record the data for the given cluster.
+     *
+     * @param sClusterName  the name of the cluster
+     *
+     * @return the directory used to record the data for the cluster
+     */
+    public static File getRecordingDirectory(String sClusterName)
+        {
+        return new File(new File(CoherenceClusterProvider.getStorageDirectory(), RECORDINGS_DIRECTORY),
+                        sClusterName.replaceAll("[^A-Za-z0-9._-]", "_"));
+        }
+
+    /**
+     * Returns the segment files in the given directory, oldest first.
+     *
+     * @param fileDirectory  the directory containing the segment files
+     *
+     * @return the segment files
+     */
+    static File[] getSegmentFiles(File fileDirectory)
+        {
+        File[] aFiles = fileDirectory.listFiles((dir, sName) ->
+                sName.startsWith(SEGMENT_PREFIX) && sName.endsWith(SEGMENT_SUFFIX));
+
+        if (aFiles == null)
+            {
+            return new File[0];
+            }
+
+        // the start time is zero padded so the names sort by time
+        Arrays.sort(aFiles);
+        return aFiles;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Close the current segment and start a new one.
+     *
+     * @param ldtNow  the current time
+     *
+     * @throws IOException if the new segment cannot be created
+     */
+    private void roll(long ldtNow)
+            throws IOException
+        {
+        close();
+        m_segment = createSegment(ldtNow, f_cbSegmentSize, new SegmentStringTable());
+        applyRetention(ldtNow);
+        }
+
+    /**
+     * Create a new segment.
+     *
+     * @param ldtStart  the time the segment is started
+     * @param cbSize    the size of the segment
+     * @param strings   the string table of the segment
+     *
+     * @return the new segment
+     *
+     * @throws IOException if the segment cannot be created
+     */
+    private RecordingSegment createSegment(long ldtStart, long cbSize, SegmentStringTable strings)
+            throws IOException
+        {
+        File file;
+        long ldtName = ldtStart;
+        do
+            {
+            file = new File(f_fileDirectory, String.format("%s%013d%s", SEGMENT_PREFIX, ldtName++, SEGMENT_SUFFIX));
+            }
+        while (file.exists() || !OPEN_SEGMENTS.add(file.getAbsoluteFile()));
+
+        try
+            {
+            return new RecordingSegment(file, ldtStart, cbSize, strings);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            OPEN_SEGMENTS.remove(file.getAbsoluteFile());
+            throw e;
+            }
+        }
+
+    /**
+     * Delete the oldest segments which are no longer required. A segment is
+     * removed once the segment following it was started at or before the retention
+     * time, or while the total size exceeds the maximum size. The current
+     * segment, and any segment still being written by another recorder, is
+     * never removed.
+     *
+     * @param ldtNow  the current time
+     */
+    private void applyRetention(long ldtNow)
+        {
+        File[] aFiles  = getSegmentFiles(f_fileDirectory);
+        long   cbTotal = 0L;
+
+        for (File file : aFiles)
+            {
+            cbTotal += file.length();
+            }
+
+        for (int i = 0; i < aFiles.length - 1; i++)
+            {
+            File fileNext = aFiles[i + 1];
+            if (cbTotal <= m_cbMaxSize && getStartTime(fileNext) > ldtNow - m_cMillisRetention)
+                {
+                break;
+                }
+
+            if (OPEN_SEGMENTS.contains(aFiles[i].getAbsoluteFile()))
+                {
+                continue;
+                }
+
+            long cb = aFiles[i].length();
+            if (aFiles[i].delete())
+                {
+                cbTotal -= cb;
+                }
+            else
+                {
+                LOGGER.warning("Unable to delete recording segment " + aFiles[i]);
+                }
+            }
+        }
+
+    /**
+     * Returns the start time of a segment from its file name.
+     *
+     * @param file  the segment file
+     *
+     * @return the start time of the segment
+     */
+    private static long getStartTime(File file)
+        {
+        String sName = file.getName();
+        try
+            {
+            return Long.parseLong(sName.substring(SEGMENT_PREFIX.length(), sName.length() - SEGMENT_SUFFIX.length()));
+            }
+        catch (NumberFormatException e)
+            {
+            return 0L;
+            }
+        }
+
+    /**
+     * Encode the data for a {@link DataType} as a data block, preceded by
+     * string blocks for any strings not yet written to the segment.
+     *
+     * @param strings       the string table of the segment the data will be written to
+     * @param ldtCollected  the time the data was collected
+     * @param type          the {@link DataType} collected
+     * @param listData      the collected data
+     *
+     * @return the encoded blocks
+     *
+     * @throws IOException if the data cannot be encoded
+     */
+    private static byte[] encode(SegmentStringTable strings, long ldtCollected, DataType type,
+                                 List<Map.Entry<Object, Data>> listData)
+            throws IOException
+        {
+        int                           cStrings = strings.getStringCount();
+        List<Map.Entry<Object, Data>> listRows = new ArrayList<>(listData);
+        int                           cRows    = listRows.size();
+        int                           cColumns = 0;
+
+        for (Map.Entry<Object, Data> entry : listRows)
+            {
+            cColumns = Math.max(cColumns, entry.getValue().getColumnCount());
+            }
+
+        ByteArrayOutputStream bufData = new ByteArrayOutputStream();
+        DataOutputStream      outData = new DataOutputStream(bufData);
+
+        outData.writeByte(BLOCK_DATA);
+        outData.writeLong(ldtCollected);
+        outData.writeInt(strings.getId(type.name()));
+        outData.writeInt(cRows);
+        outData.writeInt(cColumns);
+
+        for (Map.Entry<Object, Data> entry : listRows)
+            {
+            RecordingFormat.writeValue(outData, entry.getKey(), strings);
+            }
+
+        Object[] aoValues = new Object[cRows];
+        for (int nColumn = 0; nColumn < cColumns; nColumn++)
+            {
+            for (int nRow = 0; nRow < cRows; nRow++)
+                {
+                Data data = listRows.get(nRow).getValue();
+
+                aoValues[nRow] = nColumn < data.getColumnCount() ? data.getColumn(nColumn) : null;
+                }
+
+            byte nColumnType = RecordingFormat.getColumnType(aoValues);
+
+            outData.writeByte(nColumnType);
+            for (Object oValue : aoValues)
+                {
+                RecordingFormat.writeColumnValue(outData, nColumnType, oValue, strings);
+                }
+            }
+
+        outData.flush();
+
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(bufData.size() + LENGTH_SIZE);
+        DataOutputStream      out = new DataOutputStream(buf);
+
+        // strings first so that they are known when the data block is read
+        for (int nId = cStrings; nId < strings.getStringCount(); nId++)
+            {
+            byte[] abString = RecordingFormat.encodeString(strings.getString(nId));
+
+            out.writeInt(1 + 4 + abString.length);
+            out.writeByte(BLOCK_STRING);
+            out.writeInt(nId);
+            out.write(abString);
+            }
+
+        out.writeInt(bufData.size());
+        bufData.writeTo(out);
+        out.flush();
+
+        return buf.toByteArray();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MetricsRecorder.class.getName());
+
+    /**
+     * The directory under the storage directory containing the recordings.
+     */
+    public static final String RECORDINGS_DIRECTORY = "recordings";
+
+    /**
+     * The default size of each segment.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 16L * 1024L * 1024L;
+
+    /**
+     * The time after which a new segment is started, so that retention can
+     * remove older data from a recording which is not filling segments.
+     */
+    public static final long SEGMENT_DURATION = 60L * 60L * 1000L;
+
+    /**
+     * The segment files being written by all recorders.
+     */
+    private static final Set<File> OPEN_SEGMENTS = ConcurrentHashMap.newKeySet();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory to write segments to.
+     */
+    private final File f_fileDirectory;
+
+    /**
+     * The size of each segment.
+     */
+    private final long f_cbSegmentSize;
+
+    /**
+     * The time to keep segments for.
+     */
+    private long m_cMillisRetention;
+
+    /**
+     * The maximum total size of all segments.
+     */
+    private long m_cbMaxSize;
+
+    /**
+     * The segment currently written to, or null if none.
+     */
+    private RecordingSegment m_segment;
+    }
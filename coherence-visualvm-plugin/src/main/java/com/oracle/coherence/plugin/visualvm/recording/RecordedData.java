@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rows recorded for a {@link DataType} at a point in time, as read by a
+ * {@link RecordingReader}. Each row is the key of the collected data and
+ * its column values.
+ *
+ * @author agent 2026.10.16
+ */
+public class RecordedData
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link RecordedData}.
+     *
+     * @param ldtCollected  the time the data was collected
+     * @param type          the {@link DataType} collected
+     * @param listRows      the key and column values of each row
+     */
+    public RecordedData(long ldtCollected, DataType type, List<Map.Entry<Object, Object[]>> listRows)
+        {
+        f_ldtCollected = ldtCollected;
+        f_type         = type;
+        f_listRows     = listRows;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Returns the time the data was collected.
+     *
+     * @return the time the data was collected
+     */
+    public long getTime()
+        {
+        return f_ldtCollected;
+        }
+
+    /**
+     * Returns the {@link DataType} collected.
+     *
+     * @return the {@link DataType} collected
+     */
+    public DataType getType()
+        {
+        return f_type;
+        }
+
+    /**
+     * Returns the key and column values of each row.
+     *
+     * @return the key and column values of each row
+     */
+    public List<Map.Entry<Object, Object[]>> getRows()
+        {
+        return f_listRows;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The time the data was collected.
+     */
+    private final long f_ldtCollected;
+
+    /**
+     * The {@link DataType} collected.
+     */
+    private final DataType f_type;
+
+    /**
+     * The key and column values of each row.
+     */
+    private final List<Map.Entry<Object, Object[]>> f_listRows;
+    }
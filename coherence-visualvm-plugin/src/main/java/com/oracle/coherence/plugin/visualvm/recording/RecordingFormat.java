@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+
+/**
+ * Constants and helpers describing the layout of recording segment files.
+ * <p>
+ * A segment starts with a header of {@link #MAGIC}, {@link #VERSION} and the
+ * time the segment was started, followed by blocks which are each prefixed by
+ * their length. A length of zero marks the end of the written blocks, as the
+ * remainder of a segment is pre-allocated and zero filled. A block is either a
+ * {@link #BLOCK_STRING} which adds an entry to the string table of the segment,
+ * or a {@link #BLOCK_DATA} which contains all of the rows collected for a
+ * {@link com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType} at a
+ * point in time, stored column by column.
+ *
+ * @author agent 2026.10.16
+ */
+final class RecordingFormat
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Not to be constructed.
+     */
+    private RecordingFormat()
+        {
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the column type which can store all of the given values. Columns
+     * of numbers may not contain nulls, otherwise {@link #COLUMN_MIXED} is used.
+     *
+     * @param aoValues  the values in the column
+     *
+     * @return the column type
+     */
+    static byte getColumnType(Object[] aoValues)
+        {
+        Class<?> clz   = null;
+        boolean  fNull = false;
+
+        for (Object oValue : aoValues)
+            {
+            if (oValue == null)
+                {
+                fNull = true;
+                }
+            else if (clz == null)
+                {
+                clz = oValue.getClass();
+                }
+            else if (clz != oValue.getClass())
+                {
+                return COLUMN_MIXED;
+                }
+            }
+
+        if (clz == null || clz == String.class)
+            {
+            return COLUMN_STRING;
+            }
+
+        return fNull                ? COLUMN_MIXED
+             : clz == Integer.class ? COLUMN_INT
+             : clz == Long.class    ? COLUMN_LONG
+             : clz == Float.class   ? COLUMN_FLOAT
+             : clz == Double.class  ? COLUMN_DOUBLE
+             : COLUMN_MIXED;
+        }
+
+    /**
+     * Write a value of a column of the given type.
+     *
+     * @param out          the stream to write to
+     * @param nColumnType  the type of the column
+     * @param oValue       the value to write
+     * @param strings      the string table of the segment
+     *
+     * @throws IOException if any errors writing the value
+     */
+    static void writeColumnValue(DataOutputStream out, byte nColumnType, Object oValue, StringTable strings)
+            throws IOException
+        {
+        switch (nColumnType)
+            {
+            case COLUMN_INT:
+                out.writeInt((Integer) oValue);
+                break;
+            case COLUMN_LONG:
+                out.writeLong((Long) oValue);
+                break;
+            case COLUMN_FLOAT:
+                out.writeFloat((Float) oValue);
+                break;
+            case COLUMN_DOUBLE:
+                out.writeDouble((Double) oValue);
+                break;
+            case COLUMN_STRING:
+                out.writeInt(strings.getId((String) oValue));
+                break;
+            default:
+                writeValue(out, oValue, strings);
+            }
+        }
+
+    /**
+     * Read a value of a column of the given type.
+     *
+     * @param buf          the buffer to read from
+     * @param nColumnType  the type of the column
+     * @param listStrings  the string table of the segment
+     *
+     * @return the value
+     */
+    static Object readColumnValue(ByteBuffer buf, byte nColumnType, List<String> listStrings)
+        {
+        switch (nColumnType)
+            {
+            case COLUMN_INT:
+                return buf.getInt();
+            case COLUMN_LONG:
+                return buf.getLong();
+            case COLUMN_FLOAT:
+                return buf.getFloat();
+            case COLUMN_DOUBLE:
+                return buf.getDouble();
+            case COLUMN_STRING:
+                return getString(buf.getInt(), listStrings);
+            default:
+                return readValue(buf, listStrings);
+            }
+        }
+
+    /**
+     * Write a value preceded by its type. Values of types which are not
+     * known are written using their String representation.
+     *
+     * @param out      the stream to write to
+     * @param oValue   the value to write
+     * @param strings  the string table of the segment
+     *
+     * @throws IOException if any errors writing the value
+     */
+    static void writeValue(DataOutputStream out, Object oValue, StringTable strings)
+            throws IOException
+        {
+        if (oValue == null)
+            {
+            out.writeByte(VALUE_NULL);
+            }
+        else if (oValue instanceof Integer)
+            {
+            out.writeByte(VALUE_INT);
+            out.writeInt((Integer) oValue);
+            }
+        else if (oValue instanceof Long)
+            {
+            out.writeByte(VALUE_LONG);
+            out.writeLong((Long) oValue);
+            }
+        else if (oValue instanceof Float)
+            {
+            out.writeByte(VALUE_FLOAT);
+            out.writeFloat((Float) oValue);
+            }
+        else if (oValue instanceof Double)
+            {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble((Double) oValue);
+            }
+        else if (oValue instanceof Boolean)
+            {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) oValue);
+            }
+        else if (oValue instanceof Pair)
+            {
+            Pair<?, ?> pair = (Pair<?, ?>) oValue;
+
+            out.writeByte(VALUE_PAIR);
+            writeValue(out, pair.getX(), strings);
+            writeValue(out, pair.getY(), strings);
+            }
+        else
+            {
+            out.writeByte(VALUE_STRING);
+            out.writeInt(strings.getId(oValue.toString()));
+            }
+        }
+
+    /**
+     * Read a value written by {@link #writeValue(DataOutputStream, Object, StringTable)}.
+     *
+     * @param buf          the buffer to read from
+     * @param listStrings  the string table of the segment
+     *
+     * @return the value
+     */
+    static Object readValue(ByteBuffer buf, List<String> listStrings)
+        {
+        byte nType = buf.get();
+
+        switch (nType)
+            {
+            case VALUE_NULL:
+                return null;
+            case VALUE_INT:
+                return buf.getInt();
+            case VALUE_LONG:
+                return buf.getLong();
+            case VALUE_FLOAT:
+                return buf.getFloat();
+            case VALUE_DOUBLE:
+                return buf.getDouble();
+            case VALUE_BOOLEAN:
+                return buf.get() != 0;
+            case VALUE_PAIR:
+                Object oX = readValue(buf, listStrings);
+                Object oY = readValue(buf, listStrings);
+                return new Pair<>(oX, oY);
+            case VALUE_STRING:
+                return getString(buf.getInt(), listStrings);
+            default:
+                throw new IllegalStateException("Unknown value type " + nType);
+            }
+        }
+
+    /**
+     * Returns the string with the given identifier.
+     *
+     * @param nId          the identifier of the string or {@link #NULL_STRING}
+     * @param listStrings  the string table of the segment
+     *
+     * @return the string
+     */
+    static String getString(int nId, List<String> listStrings)
+        {
+        if (nId == NULL_STRING)
+            {
+            return null;
+            }
+        if (nId < 0 || nId >= listStrings.size())
+            {
+            throw new IllegalStateException("Unknown string identifier " + nId);
+            }
+        return listStrings.get(nId);
+        }
+
+    /**
+     * Encode a string stored in a {@link #BLOCK_STRING}.
+     *
+     * @param s  the string
+     *
+     * @return the encoded string
+     */
+    static byte[] encodeString(String s)
+        {
+        return s.getBytes(StandardCharsets.UTF_8);
+        }
+
+    /**
+     * Decode a string stored in a {@link #BLOCK_STRING}.
+     *
+     * @param buf  the buffer positioned at the start of the string
+     * @param cb   the length of the encoded string
+     *
+     * @return the string
+     */
+    static String decodeString(ByteBuffer buf, int cb)
+        {
+        byte[] ab = new byte[cb];
+        buf.get(ab);
+        return new String(ab, StandardCharsets.UTF_8);
+        }
+
+    // ----- inner interface: StringTable -----------------------------------
+
+    /**
+     * The table of strings used by a segment, so that each distinct string,
+     * such as a service or cache name, is written once per segment.
+     */
+    interface StringTable
+        {
+        /**
+         * Returns the identifier for the given string, adding it to the table
+         * if required.
+         *
+         * @param s  the string, may be null
+         *
+         * @return the identifier for the string
+         */
+        int getId(String s);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The value at the start of each segment.
+     */
+    static final int MAGIC = 0x43565231;
+
+    /**
+     * The version of the segment layout.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the segment header.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * The size of the length which precedes each block.
+     */
+    static final int LENGTH_SIZE = 4;
+
+    /**
+     * The suffix of segment files.
+     */
+    static final String SEGMENT_SUFFIX = ".cvr";
+
+    /**
+     * The prefix of segment files.
+     */
+    static final String SEGMENT_PREFIX = "segment-";
+
+    /**
+     * A block adding a string to the string table.
+     */
+    static final byte BLOCK_STRING = 1;
+
+    /**
+     * A block containing the rows for a data type.
+     */
+    static final byte BLOCK_DATA = 2;
+
+    /**
+     * The identifier used for a null string.
+     */
+    static final int NULL_STRING = -1;
+
+    /**
+     * A column of int values.
+     */
+    static final byte COLUMN_INT = 1;
+
+    /**
+     * A column of long values.
+     */
+    static final byte COLUMN_LONG = 2;
+
+    /**
+     * A column of float values.
+     */
+    static final byte COLUMN_FLOAT = 3;
+
+    /**
+     * A column of double values.
+     */
+    static final byte COLUMN_DOUBLE = 4;
+
+    /**
+     * A column of string identifiers.
+     */
+    static final byte COLUMN_STRING = 5;
+
+    /**
+     * A column of values which are each preceded by their type.
+     */
+    static final byte COLUMN_MIXED = 6;
+
+    /**
+     * A null value.
+     */
+    static final byte VALUE_NULL = 0;
+
+    /**
+     * An int value.
+     */
+    static final byte VALUE_INT = 1;
+
+    /**
+     * A long value.
+     */
+    static final byte VALUE_LONG = 2;
+
+    /**
+     * A float value.
+     */
+    static final byte VALUE_FLOAT = 3;
+
+    /**
+     * A double value.
+     */
+    static final byte VALUE_DOUBLE = 4;
+
+    /**
+     * A boolean value.
+     */
+    static final byte VALUE_BOOLEAN = 5;
+
+    /**
+     * A string value.
+     */
+    static final byte VALUE_STRING = 6;
+
+    /**
+     * A {@link Pair} of values.
+     */
+    static final byte VALUE_PAIR = 7;
+    }
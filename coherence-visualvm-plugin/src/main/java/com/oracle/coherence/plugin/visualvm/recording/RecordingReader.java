@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import java.util.function.Consumer;
+
+import java.util.logging.Logger;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.BLOCK_DATA;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.BLOCK_STRING;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.HEADER_SIZE;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.LENGTH_SIZE;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.MAGIC;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.VERSION;
+
+/**
+ * Reads the data written by a {@link MetricsRecorder}. Segments are mapped
+ * read only and read in the order they were written, so a recording which is
+ * still being written can be read.
+ *
+ * @author agent 2026.10.16
+ */
+public class RecordingReader
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link RecordingReader} for the recording in the given directory.
+     *
+     * @param fileDirectory  the directory containing the segments
+     */
+    public RecordingReader(File fileDirectory)
+        {
+        f_fileDirectory = fileDirectory;
+        }
+
+    // ----- RecordingReader methods ----------------------------------------
+
+    /**
+     * Returns the segment files of the recording, oldest first.
+     *
+     * @return the segment files of the recording
+     */
+    public List<File> getSegments()
+        {
+        return Arrays.asList(MetricsRecorder.getSegmentFiles(f_fileDirectory));
+        }
+
+    /**
+     * Read all of the recorded data, oldest first.
+     *
+     * @param consumer  the {@link Consumer} to pass each {@link RecordedData} to
+     *
+     * @throws IOException if any errors reading the segments
+     */
+    public void read(Consumer<RecordedData> consumer)
+            throws IOException
+        {
+        Cursor       cursor = openCursor();
+        RecordedData data;
+
+        while ((data = cursor.next()) != null)
+            {
+            consumer.accept(data);
+            }
+        }
+
+    /**
+     * Returns a {@link Cursor} which reads the recorded data one at a time,
+     * oldest first, mapping each segment only when it is reached.
+     *
+     * @return a new {@link Cursor}
+     */
+    public Cursor openCursor()
+        {
+        return new Cursor(getSegments());
+        }
+
+    // ----- inner class: Cursor --------------------------------------------
+
+    /**
+     * Reads the recorded data one at a time.
+     */
+    public class Cursor
+        {
+        /**
+         * Create a {@link Cursor} over the given segment files.
+         *
+         * @param listFiles  the segment files, oldest first
+         */
+        private Cursor(List<File> listFiles)
+            {
+            f_iterFiles = listFiles.iterator();
+            }
+
+        /**
+         * Returns the next recorded data.
+         *
+         * @return the next recorded data or null if there is no more data
+         *
+         * @throws IOException if any errors reading the segments
+         */
+        public RecordedData next()
+                throws IOException
+            {
+            while (true)
+                {
+                ByteBuffer buffer = m_buffer;
+                if (buffer == null || buffer.remaining() < LENGTH_SIZE)
+                    {
+                    if (m_fClosed || !f_iterFiles.hasNext())
+                        {
+                        return null;
+                        }
+                    openSegment(f_iterFiles.next());
+                    continue;
+                    }
+
+                int cb = buffer.getInt();
+                if (cb <= 0 || cb > buffer.remaining())
+                    {
+                    // the end of the written blocks
+                    m_buffer = null;
+                    continue;
+                    }
+
+                ByteBuffer bufBlock = buffer.slice();
+                bufBlock.limit(cb);
+                buffer.position(buffer.position() + cb);
+
+                byte nBlock = bufBlock.get();
+                if (nBlock == BLOCK_STRING)
+                    {
+                    int nId = bufBlock.getInt();
+                    if (nId != m_listStrings.size())
+                        {
+                        throw new IOException("Unexpected string identifier " + nId + " in " + m_file);
+                        }
+                    m_listStrings.add(RecordingFormat.decodeString(bufBlock, bufBlock.remaining()));
+                    }
+                else if (nBlock == BLOCK_DATA)
+                    {
+                    RecordedData data = readData(bufBlock, m_listStrings);
+                    if (data != null)
+                        {
+                        return data;
+                        }
+                    }
+                }
+            }
+
+        /**
+         * Close the cursor, after which {@link #next()} returns null. The
+         * segment being read is no longer referenced so that it can be unmapped.
+         */
+        public void close()
+            {
+            m_fClosed     = true;
+            m_file        = null;
+            m_buffer      = null;
+            m_listStrings = null;
+            }
+
+        /**
+         * Map a segment and position the cursor after its header.
+         *
+         * @param file  the segment file
+         *
+         * @throws IOException if any errors mapping the segment
+         */
+        private void openSegment(File file)
+                throws IOException
+            {
+            ByteBuffer buffer;
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+                {
+                buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+                }
+
+            m_file        = file;
+            m_buffer      = null;
+            m_listStrings = new ArrayList<>();
+
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC)
+                {
+                LOGGER.warning("Ignoring invalid recording segment " + file);
+                return;
+                }
+
+            int nVersion = buffer.getInt();
+            if (nVersion != VERSION)
+                {
+                LOGGER.warning("Ignoring recording segment " + file + " with unsupported version " + nVersion);
+                return;
+                }
+
+            buffer.getLong();
+            m_buffer = buffer;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The segment files still to be read.
+         */
+        private final Iterator<File> f_iterFiles;
+
+        /**
+         * The segment file being read.
+         */
+        private File m_file;
+
+        /**
+         * The buffer of the segment being read, or null if none.
+         */
+        private ByteBuffer m_buffer;
+
+        /**
+         * The string table of the segment being read.
+         */
+        private List<String> m_listStrings;
+
+        /**
+         * True once the cursor has been closed.
+         */
+        private boolean m_fClosed;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Read a data block.
+     *
+     * @param buffer       the buffer positioned after the block type
+     * @param listStrings  the string table of the segment
+     *
+     * @return the {@link RecordedData} or null if the {@link DataType} is unknown
+     */
+    private RecordedData readData(ByteBuffer buffer, List<String> listStrings)
+        {
+        long   ldtCollected = buffer.getLong();
+        String sType        = RecordingFormat.getString(buffer.getInt(), listStrings);
+        int    cRows        = buffer.getInt();
+        int    cColumns     = buffer.getInt();
+
+        DataType type;
+        try
+            {
+            type = DataType.valueOf(sType);
+            }
+        catch (IllegalArgumentException e)
+            {
+            // recorded by a different version of the plugin
+            return null;
+            }
+
+        Object[]   aoKeys    = new Object[cRows];
+        Object[][] aaoValues = new Object[cRows][cColumns];
+
+        for (int nRow = 0; nRow < cRows; nRow++)
+            {
+            aoKeys[nRow] = RecordingFormat.readValue(buffer, listStrings);
+            }
+
+        for (int nColumn = 0; nColumn < cColumns; nColumn++)
+            {
+            byte nColumnType = buffer.get();
+            for (int nRow = 0; nRow < cRows; nRow++)
+                {
+                aaoValues[nRow][nColumn] = RecordingFormat.readColumnValue(buffer, nColumnType, listStrings);
+                }
+            }
+
+        List<Map.Entry<Object, Object[]>> listRows = new ArrayList<>(cRows);
+        for (int nRow = 0; nRow < cRows; nRow++)
+            {
+            listRows.add(new AbstractMap.SimpleImmutableEntry<>(aoKeys[nRow], aaoValues[nRow]));
+            }
+
+        return new RecordedData(ldtCollected, type, listRows);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RecordingReader.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory containing the segments.
+     */
+    private final File f_fileDirectory;
+    }
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.MappedByteBuffer;
+
+import java.nio.channels.FileChannel;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.LENGTH_SIZE;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.MAGIC;
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.VERSION;
+
+/**
+ * A single memory-mapped segment file which blocks are appended to. The file
+ * is pre-allocated to its full size when it is created and is truncated to the
+ * written size when it is closed.
+ *
+ * @author agent 2026.10.16
+ */
+class RecordingSegment
+        implements RecordingFormat.StringTable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a new segment file.
+     *
+     * @param file      the segment file which must not exist
+     * @param ldtStart  the time the segment was started
+     * @param cbSize    the size to pre-allocate for the segment
+     * @param strings   the string table of the segment
+     *
+     * @throws IOException if the segment file cannot be created
+     */
+    RecordingSegment(File file, long ldtStart, long cbSize, SegmentStringTable strings)
+            throws IOException
+        {
+        f_file     = file;
+        f_ldtStart = ldtStart;
+        f_strings  = strings;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+            {
+            raf.setLength(cbSize);
+            m_buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, cbSize);
+            }
+
+        m_buffer.putInt(MAGIC);
+        m_buffer.putInt(VERSION);
+        m_buffer.putLong(ldtStart);
+        }
+
+    // ----- StringTable methods --------------------------------------------
+
+    @Override
+    public int getId(String s)
+        {
+        return f_strings.getId(s);
+        }
+
+    // ----- RecordingSegment methods ---------------------------------------
+
+    /**
+     * Returns the string table of the segment.
+     *
+     * @return the string table of the segment
+     */
+    SegmentStringTable getStringTable()
+        {
+        return f_strings;
+        }
+
+    /**
+     * Returns true if the given number of bytes can be appended.
+     *
+     * @param cb  the number of bytes
+     *
+     * @return true if the given number of bytes can be appended
+     */
+    boolean hasCapacity(int cb)
+        {
+        // always leave room for a zero length to mark the end
+        return m_buffer != null && m_buffer.remaining() >= cb + LENGTH_SIZE;
+        }
+
+    /**
+     * Append one or more blocks, each preceded by its length. The length of
+     * the first block is written last so that a partially written append is
+     * never read.
+     *
+     * @param ab  the blocks to append
+     */
+    void append(byte[] ab)
+        {
+        int nPosition = m_buffer.position();
+
+        m_buffer.position(nPosition + LENGTH_SIZE);
+        m_buffer.put(ab, LENGTH_SIZE, ab.length - LENGTH_SIZE);
+        m_buffer.putInt(nPosition, ((ab[0] & 0xFF) << 24) | ((ab[1] & 0xFF) << 16)
+                                   | ((ab[2] & 0xFF) << 8) | (ab[3] & 0xFF));
+        }
+
+    /**
+     * Flush the written blocks to disk.
+     */
+    void flush()
+        {
+        if (m_buffer != null)
+            {
+            m_buffer.force();
+            }
+        }
+
+    /**
+     * Close the segment and release the unused space of the file.
+     */
+    void close()
+        {
+        MappedByteBuffer buffer = m_buffer;
+        if (buffer != null)
+            {
+            m_buffer = null;
+            buffer.force();
+
+            // truncating a file which is still mapped fails on some platforms,
+            // in which case the unused space is left zero filled
+            try (RandomAccessFile raf = new RandomAccessFile(f_file, "rw"))
+                {
+                raf.setLength(buffer.position() + LENGTH_SIZE);
+                }
+            catch (IOException e)
+                {
+                // ignore
+                }
+            }
+        }
+
+    /**
+     * Returns the segment file.
+     *
+     * @return the segment file
+     */
+    File getFile()
+        {
+        return f_file;
+        }
+
+    /**
+     * Returns the time the segment was started.
+     *
+     * @return the time the segment was started
+     */
+    long getStartTime()
+        {
+        return f_ldtStart;
+        }
+
+    /**
+     * Returns the number of bytes written, including the header.
+     *
+     * @return the number of bytes written
+     */
+    long getSize()
+        {
+        MappedByteBuffer buffer = m_buffer;
+        return buffer == null ? f_file.length() : buffer.position();
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The segment file.
+     */
+    private final File f_file;
+
+    /**
+     * The time the segment was started.
+     */
+    private final long f_ldtStart;
+
+    /**
+     * The string table of this segment.
+     */
+    private final SegmentStringTable f_strings;
+
+    /**
+     * The buffer mapping the segment file, or null once closed.
+     */
+    private MappedByteBuffer m_buffer;
+    }
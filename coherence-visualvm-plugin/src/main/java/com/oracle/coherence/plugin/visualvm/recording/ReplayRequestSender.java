@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
+/**
+ * A {@link RequestSender} which replays a recording written by a
+ * {@link MetricsRecorder} rather than querying a cluster, so a recorded session
+ * can be displayed as if the cluster was still available.
+ * <p>
+ * The recording is replayed from its start at the given speed, e.g. a speed of
+ * 10 replays ten minutes of the recording each minute. Each call to
+ * {@link #advance()} moves the replay forward, after which {@link #getData(DataType)}
+ * returns the data last recorded for a {@link DataType} at the replay time.
+ * There is no cluster to query, so queries for MBeans return no results and
+ * operations are not supported.
+ *
+ * @author agent 2026.10.16
+ */
+public class ReplayRequestSender
+        implements RequestSender
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link ReplayRequestSender} for the recording in the given directory.
+     *
+     * @param fileDirectory  the directory containing the recording
+     * @param nSpeed         the speed to replay at, 1 being real time
+     */
+    public ReplayRequestSender(File fileDirectory, int nSpeed)
+        {
+        if (nSpeed <= 0)
+            {
+            throw new IllegalArgumentException("Replay speed must be greater than zero");
+            }
+
+        f_cursor = new RecordingReader(fileDirectory).openCursor();
+        f_nSpeed = nSpeed;
+        }
+
+    // ----- ReplayRequestSender methods ------------------------------------
+
+    /**
+     * Move the replay forward to the current replay time, which is the time of
+     * the first recorded data when first called.
+     */
+    public synchronized void advance()
+        {
+        try
+            {
+            long ldtReplay;
+            if (m_ldtReplayStart == -1L)
+                {
+                m_next = f_cursor.next();
+                if (m_next == null)
+                    {
+                    LOGGER.warning("The recording contains no data");
+                    return;
+                    }
+                m_ldtReplayStart    = System.currentTimeMillis();
+                m_ldtRecordingStart = m_next.getTime();
+                ldtReplay           = m_ldtRecordingStart;
+                }
+            else
+                {
+                ldtReplay = m_ldtRecordingStart + (System.currentTimeMillis() - m_ldtReplayStart) * f_nSpeed;
+                }
+
+            while (m_next != null && m_next.getTime() <= ldtReplay)
+                {
+                f_mapCurrent.put(m_next.getType(), m_next);
+                m_ldtReplayTime = m_next.getTime();
+                m_next          = f_cursor.next();
+                }
+            }
+        catch (IOException | RuntimeException e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to read recording, replay has ended", e);
+            m_next = null;
+            }
+        }
+
+    /**
+     * Returns the data last recorded for the given {@link DataType} at the current
+     * replay time.
+     *
+     * @param type  the {@link DataType}
+     *
+     * @return the recorded data or null if none has been recorded
+     */
+    public synchronized List<Map.Entry<Object, Data>> getData(DataType type)
+        {
+        RecordedData recorded = f_mapCurrent.get(type);
+        if (recorded == null)
+            {
+            return null;
+            }
+
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>(recorded.getRows().size());
+        try
+            {
+            for (Map.Entry<Object, Object[]> row : recorded.getRows())
+                {
+                Data     data     = (Data) type.getClassName().newInstance();
+                Object[] aoValues = row.getValue();
+                int      cColumns = Math.min(aoValues.length, data.getColumnCount());
+
+                for (int i = 0; i < cColumns; i++)
+                    {
+                    data.setColumn(i, aoValues[i]);
+                    }
+
+                listData.add(new AbstractMap.SimpleEntry<>(row.getKey(), data));
+                }
+            }
+        catch (InstantiationException | IllegalAccessException | IllegalArgumentException e)
+            {
+            // the recording was made by a different version of the plugin
+            LOGGER.log(Level.WARNING, "Unable to replay data for " + type, e);
+            return null;
+            }
+
+        return listData;
+        }
+
+    /**
+     * Returns the time of the most recent data replayed.
+     *
+     * @return the time of the most recent data replayed or -1 if none
+     */
+    public synchronized long getReplayTime()
+        {
+        return m_ldtReplayTime;
+        }
+
+    /**
+     * Returns true if all of the recorded data has been replayed.
+     *
+     * @return true if all of the recorded data has been replayed
+     */
+    public synchronized boolean isFinished()
+        {
+        return m_ldtReplayStart != -1L && m_next == null;
+        }
+
+    /**
+     * Returns true if the given URL refers to a recording rather than a cluster.
+     *
+     * @param sUrl  the URL
+     *
+     * @return true if the given URL refers to a recording
+     */
+    public static boolean isReplayUrl(String sUrl)
+        {
+        return sUrl != null && sUrl.startsWith(REPLAY_URL_PREFIX);
+        }
+
+    /**
+     * Returns the recording directory for a URL which refers to a recording.
+     *
+     * @param sUrl  the URL
+     *
+     * @return the recording directory
+     *
+     * @throws IllegalArgumentException if the URL does not refer to a recording
+     */
+    public static File getRecordingDirectory(String sUrl)
+        {
+        if (!isReplayUrl(sUrl))
+            {
+            throw new IllegalArgumentException("Not a recording URL " + sUrl);
+            }
+
+        try
+            {
+            return new File(new URI(sUrl));
+            }
+        catch (URISyntaxException e)
+            {
+            throw new IllegalArgumentException("Invalid recording URL " + sUrl, e);
+            }
+        }
+
+    // ----- RequestSender methods ------------------------------------------
+
+    @Override
+    public List<Attribute> getAllAttributes(ObjectName objName)
+        {
+        return Collections.emptyList();
+        }
+
+    @Override
+    public String getAttribute(ObjectName objectName, String attribute)
+        {
+        return null;
+        }
+
+    @Override
+    public AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
+        {
+        return new AttributeList();
+        }
+
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+        {
+        return Collections.emptyMap();
+        }
+
+    @Override
+    public Set<ObjectName> getAllCacheMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllBackCacheMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllJournalMembers(String sJournalType)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getCacheStorageMembers(String sServiceName, String sCacheName, String sDomainPartition)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllClusters()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getHotCacheMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getHotCachePerCacheAdapters(String sMember)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllCoherenceWebMembers(String sSessionManager)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getCoherenceWebMembersForApplication(String sSessionManager, String sAppId)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getClusterMemberOS(int nodeId)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllClusterMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllExecutorMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllGrpcProxyMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllServiceMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getMembersOfService(String sServiceName, String sDomainPartition)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getAllProxyServerMembers()
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getCompleteObjectName(ObjectName objectName)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public Set<ObjectName> getPartitionAssignmentObjectName(String sService, String sDomainPartition)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public String getScheduledDistributions(String sService, String sDomainPartition)
+        {
+        return null;
+        }
+
+    @Override
+    public Set<Object[]> getPartitionAssignmentAttributes(String sService, String sDomainPartition)
+        {
+        return Collections.emptySet();
+        }
+
+    @Override
+    public void invokeFederationOperation(String sService, String sOperation, String sParticipant)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    @Override
+    public Integer retrievePendingIncomingMessages(String sService)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    @Override
+    public Integer retrievePendingOutgoingMessages(String sService)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    @Override
+    public String getNodeState(Integer nNodeId)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    @Override
+    public void dumpClusterHeap(String sRole)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    @Override
+    public String[] getSnapshots(String sService, String sDomainPartition)
+        {
+        return new String[0];
+        }
+
+    @Override
+    public String[] getArchivedSnapshots(String sService, String sDomainPartition)
+        {
+        return new String[0];
+        }
+
+    @Override
+    public void executePersistenceOperation(String sService, String sDomainPartition, String sOperationName,
+                                            String sSnapshotName)
+        {
+        throw new UnsupportedOperationException(UNSUPPORTED_MESSAGE);
+        }
+
+    /**
+     * Stop the replay and release the segments mapped by the recording cursor.
+     */
+    @Override
+    public synchronized void close()
+        {
+        f_cursor.close();
+        f_mapCurrent.clear();
+        m_next = null;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ReplayRequestSender.class.getName());
+
+    /**
+     * The prefix of URLs which refer to a recording rather than a cluster.
+     */
+    public static final String REPLAY_URL_PREFIX = "file:";
+
+    /**
+     * The message for operations which cannot be performed against a recording.
+     */
+    private static final String UNSUPPORTED_MESSAGE = "Operations are not available when replaying a recording";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The cursor reading the recording.
+     */
+    private final RecordingReader.Cursor f_cursor;
+
+    /**
+     * The speed to replay at, 1 being real time.
+     */
+    private final int f_nSpeed;
+
+    /**
+     * The data last recorded for each {@link DataType} at the replay time.
+     */
+    private final Map<DataType, RecordedData> f_mapCurrent = new EnumMap<>(DataType.class);
+
+    /**
+     * The next data to replay, or null if there is none.
+     */
+    private RecordedData m_next;
+
+    /**
+     * The time the replay was started.
+     */
+    private long m_ldtReplayStart = -1L;
+
+    /**
+     * The time of the first recorded data.
+     */
+    private long m_ldtRecordingStart;
+
+    /**
+     * The time of the most recent data replayed.
+     */
+    private long m_ldtReplayTime = -1L;
+    }
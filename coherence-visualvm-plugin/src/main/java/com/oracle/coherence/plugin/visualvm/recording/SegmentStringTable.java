@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.NULL_STRING;
+
+/**
+ * The string table of a {@link RecordingSegment}. A table can be filled
+ * before its segment is created, so that the size of the data written to a
+ * new segment is known before the segment file is mapped.
+ *
+ * @author agent 2026.10.16
+ */
+class SegmentStringTable
+        implements RecordingFormat.StringTable
+    {
+    // ----- StringTable methods --------------------------------------------
+
+    @Override
+    public int getId(String s)
+        {
+        if (s == null)
+            {
+            return NULL_STRING;
+            }
+
+        Integer nId = f_mapStrings.get(s);
+        if (nId == null)
+            {
+            nId = f_listStrings.size();
+            f_mapStrings.put(s, nId);
+            f_listStrings.add(s);
+            }
+        return nId;
+        }
+
+    // ----- SegmentStringTable methods -------------------------------------
+
+    /**
+     * Returns the number of strings in the string table.
+     *
+     * @return the number of strings in the string table
+     */
+    int getStringCount()
+        {
+        return f_listStrings.size();
+        }
+
+    /**
+     * Returns the string with the given identifier.
+     *
+     * @param nId  the identifier of the string
+     *
+     * @return the string
+     */
+    String getString(int nId)
+        {
+        return f_listStrings.get(nId);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The identifiers of the strings in the table.
+     */
+    private final Map<String, Integer> f_mapStrings = new HashMap<>();
+
+    /**
+     * The strings in the table in the order of their identifiers.
+     */
+    private final List<String> f_listStrings = new ArrayList<>();
+    }
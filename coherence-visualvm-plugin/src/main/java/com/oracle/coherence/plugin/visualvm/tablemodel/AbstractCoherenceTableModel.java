@@ -24,11 +24,14 @@
  */
 package com.oracle.coherence.plugin.visualvm.tablemodel;
 
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.swing.JTable;
 
@@ -119,6 +122,15 @@ public abstract class AbstractCoherenceTableModel<K, V>
 
         if (entry != null)
             {
+            // the last columns are the rates of counters rather than values of the row
+            int nRate = col - getRateColumnStart();
+            if (nRate >= 0)
+                {
+                CounterRates rates = m_counterRates;
+
+                return rates == null ? null : Double.valueOf(rates.getRate(entry.getKey(), m_anCounterColumns[nRate]));
+                }
+
             Object value = entry.getValue();
 
             if (value instanceof Data)
@@ -148,6 +160,38 @@ public abstract class AbstractCoherenceTableModel<K, V>
         this.m_dataList = dataList;
         }
 
+    /**
+     * Show the change per second of the given counter columns as the last
+     * columns of this model, one for each counter, rather than values of the
+     * {@link Data} rows.
+     *
+     * @param rates             the {@link CounterRates} for the rows or null
+     *                          if the rates are not calculated
+     * @param anCounterColumns  the counter column of the rows shown by each
+     *                          of the last columns
+     */
+    public void setCounterRates(CounterRates rates, int... anCounterColumns)
+        {
+        if (anCounterColumns.length > getColumnCount())
+            {
+            throw new IllegalArgumentException("More counter columns than columns for " + this.getClass());
+            }
+
+        m_counterRates     = rates;
+        m_anCounterColumns = anCounterColumns.clone();
+        }
+
+    /**
+     * Returns the index of the first column which shows the rate of a counter,
+     * or the column count if there are no rate columns.
+     *
+     * @return the index of the first rate column
+     */
+    public int getRateColumnStart()
+        {
+        return getColumnCount() - m_anCounterColumns.length;
+        }
+
     /**
      * Returns the column names for this model.
      *
@@ -158,6 +202,141 @@ public abstract class AbstractCoherenceTableModel<K, V>
         return f_asColumnNames;
         }
 
+    /**
+     * Notify listeners of the rows which have changed since the last call to
+     * this method, rather than of a change to the whole table.
+     * <p>
+     * Rows are matched by key. If the keys are unchanged then only the rows
+     * with a changed value are reported as updated. If a single contiguous
+     * run of rows has been inserted or deleted then this is reported along
+     * with the updated rows. In any other case, or on the first call, a
+     * {@link #fireTableDataChanged()} is fired. Firing only the row changes
+     * allows the table to keep its selection and sort order, and avoids
+     * repainting rows which have not changed.
+     *
+     * @return true if the whole table was reported as changed and any
+     *         selection must be re-applied by the caller
+     */
+    public boolean fireTableRowChanges()
+        {
+        List<Map.Entry<K, V>> dataList  = m_dataList == null ? Collections.emptyList() : m_dataList;
+        int                   cRows     = dataList.size();
+        Object[]              aoKeys    = new Object[cRows];
+        Object[][]            aaoValues = new Object[cRows][];
+        Object[]              aoOldKeys = m_aoFiredKeys;
+        Object[][]            aaoOld    = m_aaoFiredValues;
+
+        for (int i = 0; i < cRows; i++)
+            {
+            Map.Entry<K, V> entry = dataList.get(i);
+
+            aoKeys[i]    = entry == null ? null : entry.getKey();
+            aaoValues[i] = getRowValues(i);
+            }
+
+        m_aoFiredKeys    = aoKeys;
+        m_aaoFiredValues = aaoValues;
+
+        if (aoOldKeys == null)
+            {
+            fireTableDataChanged();
+            return true;
+            }
+
+        int cOldRows = aoOldKeys.length;
+        int cMin     = Math.min(cRows, cOldRows);
+        int cPrefix  = 0;
+        int cSuffix  = 0;
+
+        while (cPrefix < cMin && Objects.equals(aoKeys[cPrefix], aoOldKeys[cPrefix]))
+            {
+            cPrefix++;
+            }
+
+        while (cSuffix < cMin - cPrefix
+               && Objects.equals(aoKeys[cRows - 1 - cSuffix], aoOldKeys[cOldRows - 1 - cSuffix]))
+            {
+            cSuffix++;
+            }
+
+        // the rows between the common prefix and suffix must be a pure insert or delete
+        int cInserted = cRows - cPrefix - cSuffix;
+        int cDeleted  = cOldRows - cPrefix - cSuffix;
+
+        if (cInserted > 0 && cDeleted > 0)
+            {
+            fireTableDataChanged();
+            return true;
+            }
+
+        if (cDeleted > 0)
+            {
+            fireTableRowsDeleted(cPrefix, cPrefix + cDeleted - 1);
+            }
+        else if (cInserted > 0)
+            {
+            fireTableRowsInserted(cPrefix, cPrefix + cInserted - 1);
+            }
+
+        fireRowsUpdated(aaoValues, aaoOld, 0, 0, cPrefix);
+        fireRowsUpdated(aaoValues, aaoOld, cRows - cSuffix, cOldRows - cSuffix, cSuffix);
+
+        return false;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Fire {@link #fireTableRowsUpdated(int, int)} for each contiguous run of
+     * rows whose displayed values have changed.
+     *
+     * @param aaoValues  the displayed values of the current rows
+     * @param aaoOld     the displayed values of the previous rows
+     * @param nStart     the index of the first current row to compare
+     * @param nOldStart  the index of the first previous row to compare
+     * @param cRows      the number of rows to compare
+     */
+    private void fireRowsUpdated(Object[][] aaoValues, Object[][] aaoOld, int nStart, int nOldStart, int cRows)
+        {
+        int nFirst = -1;
+
+        for (int i = 0; i <= cRows; i++)
+            {
+            boolean fChanged = i < cRows && !Arrays.equals(aaoValues[nStart + i], aaoOld[nOldStart + i]);
+
+            if (fChanged && nFirst == -1)
+                {
+                nFirst = nStart + i;
+                }
+            else if (!fChanged && nFirst != -1)
+                {
+                fireTableRowsUpdated(nFirst, nStart + i - 1);
+                nFirst = -1;
+                }
+            }
+        }
+
+    /**
+     * Returns the displayed values of the given row. The values are copied,
+     * rather than the {@link Data} row kept, as they include the counter rates
+     * which are calculated when displayed.
+     *
+     * @param nRow  the row
+     *
+     * @return the displayed values
+     */
+    private Object[] getRowValues(int nRow)
+        {
+        int      cColumns = getColumnCount();
+        Object[] aoValues = new Object[cColumns];
+
+        for (int i = 0; i < cColumns; i++)
+            {
+            aoValues[i] = getValueAt(nRow, i);
+            }
+
+        return aoValues;
+        }
 
     // ----- constants ------------------------------------------------------
 
@@ -174,4 +353,24 @@ public abstract class AbstractCoherenceTableModel<K, V>
      * The column names for the model.
      */
     protected final String[] f_asColumnNames;
+
+    /**
+     * The {@link CounterRates} used for the rate columns.
+     */
+    private transient volatile CounterRates m_counterRates;
+
+    /**
+     * The counter column shown by each rate column.
+     */
+    private int[] m_anCounterColumns = new int[0];
+
+    /**
+     * The keys of the rows when changes were last fired, or null if they have not been fired.
+     */
+    private transient Object[] m_aoFiredKeys;
+
+    /**
+     * The displayed values of the rows when changes were last fired.
+     */
+    private transient Object[][] m_aaoFiredValues;
     }
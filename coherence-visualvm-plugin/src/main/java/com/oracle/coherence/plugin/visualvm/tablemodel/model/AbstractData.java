@@ -64,8 +64,7 @@ public abstract class AbstractData
      */
     public AbstractData(int nColumnCount)
         {
-        f_nColumnCount  = nColumnCount;
-        m_oColumnValues = new Object[nColumnCount];
+        f_nColumnCount = nColumnCount;
         }
 
     // ----- DataRetriever methods ------------------------------------------
@@ -149,19 +148,16 @@ public abstract class AbstractData
         sReportXML = preProcessReporterXML(model, sReportXML);
 
 
-        if (m_sReporterLocation == null)
-            {
-            // reporter location has not been defined, so lets find it
-            m_sReporterLocation = jmxRequestSender.getReporterObjectName(jmxRequestSender.getLocalMemberId());
-            }
+        // find the reporter location if it has not been defined
+        String sReporterLocation = model.getReporterLocation(jmxRequestSender);
 
-        if (m_sReporterLocation != null)
+        if (sReporterLocation != null)
             {
             try
                 {
                 // run the given report
                 TabularData reportData =
-                        (TabularData) jmxRequestSender.invoke(new ObjectName(m_sReporterLocation),
+                        (TabularData) jmxRequestSender.invoke(new ObjectName(sReporterLocation),
                                 "runTabularReport", new Object[]{sReportXML}, new String[]{"java.lang.String"});
 
                 if (reportData != null)
@@ -181,6 +177,9 @@ public abstract class AbstractData
 
                 model.setReporterAvailable(false);
 
+                // the member running the reporter may have left so look it up again
+                model.resetReporterLocation();
+
                 // this exception is thrown so we can catch above and re-run the report
                 // using the standard way
                 throw new RuntimeException("Error running report", e);
@@ -189,6 +188,67 @@ public abstract class AbstractData
         return mapCollectedData;
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int[] getCounterColumns()
+        {
+        // default is to have no counter columns
+        return NO_COUNTERS;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void startFrame()
+        {
+        DataFrame.Dictionary dictionary = m_dictionary;
+
+        // start again once the strings no longer held by any row add up
+        if (dictionary == null || dictionary.isFull())
+            {
+            dictionary = m_dictionary = new DataFrame.Dictionary();
+            }
+
+        m_frameCurrent = new DataFrame(f_nColumnCount, dictionary, m_cRowsHint);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void endFrame()
+        {
+        DataFrame frame = m_frameCurrent;
+
+        if (frame != null)
+            {
+            m_cRowsHint    = frame.getRowCount();
+            m_frameCurrent = null;
+            }
+        }
+
+    /**
+     * Add a row created by this retriever to the current {@link DataFrame}, if
+     * a collection is in progress and the row has the same number of columns.
+     * Otherwise the row holds its own values.
+     *
+     * @param data  the newly created row
+     * @param <T>   the type of the row
+     *
+     * @return the row
+     */
+    protected <T extends AbstractData> T addRow(T data)
+        {
+        DataFrame frame = m_frameCurrent;
+
+        if (frame != null && frame.getColumnCount() == data.getColumnCount())
+            {
+            data.attach(frame);
+            }
+
+        return data;
+        }
+
     // ----- Data methods ---------------------------------------------------
 
     /**
@@ -201,7 +261,15 @@ public abstract class AbstractData
             throw new IllegalArgumentException("Invalid column index " + nColumn);
             }
 
-        return m_oColumnValues[nColumn];
+        DataFrame frame = m_frame;
+        if (frame != null)
+            {
+            return frame.get(m_nRow, nColumn);
+            }
+
+        Object[] aoValues = m_oColumnValues;
+
+        return aoValues == null ? null : aoValues[nColumn];
         }
 
     /**
@@ -216,11 +284,56 @@ public abstract class AbstractData
                                                + this.toString());
             }
 
-        m_oColumnValues[nColumn] = oValue;
+        DataFrame frame = m_frame;
+        if (frame != null)
+            {
+            frame.set(m_nRow, nColumn, oValue);
+            }
+        else
+            {
+            if (m_oColumnValues == null)
+                {
+                m_oColumnValues = new Object[f_nColumnCount];
+                }
+            m_oColumnValues[nColumn] = oValue;
+            }
         }
 
     // ----- helpers --------------------------------------------------------
 
+    /**
+     * Store the values of this row in a new row of the given {@link DataFrame}.
+     *
+     * @param frame  the {@link DataFrame} to add this row to
+     */
+    void attach(DataFrame frame)
+        {
+        int nRow = frame.addRow();
+
+        Object[] aoValues = m_oColumnValues;
+        if (aoValues != null)
+            {
+            for (int i = 0; i < aoValues.length; i++)
+                {
+                frame.set(nRow, i, aoValues[i]);
+                }
+            }
+
+        m_nRow          = nRow;
+        m_frame         = frame;
+        m_oColumnValues = null;
+        }
+
+    /**
+     * Returns the {@link DataFrame} holding the values of this row.
+     *
+     * @return the {@link DataFrame}, or null if this row holds its own values
+     */
+    DataFrame getFrame()
+        {
+        return m_frame;
+        }
+
     /**
      * Turn a String number value that may have decimal points to one without.
      *
@@ -233,6 +346,13 @@ public abstract class AbstractData
         {
         if (sValue != null)
             {
+            // most values are already plain integers, so avoid creating a BigDecimal
+            // and formatting the result unless there is a decimal point or exponent
+            if (isPlainInteger(sValue))
+                {
+                return sValue;
+                }
+
             String s = String.format("%d", new BigDecimal(sValue).longValue());
 
             return s;
@@ -241,6 +361,57 @@ public abstract class AbstractData
         return null;
         }
 
+    /**
+     * Returns the value of a cumulative counter from a report column or an
+     * attribute, or zero if the value is not available.
+     *
+     * @param oValue  the value of the counter which may be null
+     *
+     * @return the value of the counter
+     */
+    public static long getCounterValue(Object oValue)
+        {
+        if (oValue instanceof Number)
+            {
+            return ((Number) oValue).longValue();
+            }
+
+        String sValue = oValue == null ? "" : oValue.toString().trim();
+
+        return sValue.isEmpty() ? 0L : Long.parseLong(getNumberValue(sValue));
+        }
+
+    /**
+     * Returns true if the given value is an integer without a sign, other than
+     * a leading minus, or leading zeros which fits into a long.
+     *
+     * @param sValue  the value to check
+     *
+     * @return true if the value is a plain integer
+     */
+    static boolean isPlainInteger(String sValue)
+        {
+        int nStart = sValue.startsWith("-") ? 1 : 0;
+        int cch    = sValue.length() - nStart;
+
+        // 18 digits always fit into a long
+        if (cch == 0 || cch > 18 || (sValue.charAt(nStart) == '0' && cch > 1))
+            {
+            return false;
+            }
+
+        for (int i = nStart; i < sValue.length(); i++)
+            {
+            char ch = sValue.charAt(i);
+            if (ch < '0' || ch > '9')
+                {
+                return false;
+                }
+            }
+
+        return !"-0".equals(sValue);
+        }
+
     /**
      * Return the column count.
      *
@@ -261,8 +432,8 @@ public abstract class AbstractData
 
         for (int i = 0; i < f_nColumnCount; i++)
             {
-            sb.append(", Column ").append(i).append("=").append(m_oColumnValues[i] == null
-                      ? "null" : m_oColumnValues[i].toString());
+            Object oValue = getColumn(i);
+            sb.append(", Column ").append(i).append("=").append(oValue == null ? "null" : oValue.toString());
             }
 
         return sb.toString();
@@ -355,10 +526,16 @@ public abstract class AbstractData
      */
     public static final String SERVICE_SEP = "/";
 
+    /**
+     * The counter columns for data without cumulative counters.
+     */
+    protected static final int[] NO_COUNTERS = new int[0];
+
     // ----- data members ---------------------------------------------------
 
     /**
-     * The array of objects (statistics) for this instance.
+     * The array of objects (statistics) for this instance, which is only
+     * allocated once a value is set on a row not held by a {@link DataFrame}.
      */
     protected Object[] m_oColumnValues = null;
 
@@ -367,11 +544,32 @@ public abstract class AbstractData
      */
     protected final int f_nColumnCount;
 
+    /**
+     * The {@link DataFrame} holding the values of this row, or null if this
+     * row holds its own values.
+     */
+    private DataFrame m_frame;
+
+    /**
+     * The index of this row in {@link #m_frame}.
+     */
+    private int m_nRow;
+
+    /**
+     * The {@link DataFrame} the rows created by this retriever are added to
+     * while a collection is in progress.
+     */
+    private transient volatile DataFrame m_frameCurrent;
+
+    /**
+     * The {@link DataFrame.Dictionary} shared by the frames of this retriever.
+     */
+    private transient DataFrame.Dictionary m_dictionary;
 
     /**
-     * The report object location to use to run reports.
+     * The number of rows added by the last collection.
      */
-    private static String m_sReporterLocation = null;
+    private transient int m_cRowsHint;
 
     /**
      * The logger object to use.
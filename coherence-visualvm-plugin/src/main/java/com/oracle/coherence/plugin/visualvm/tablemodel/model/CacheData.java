@@ -30,9 +30,12 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +43,9 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -90,8 +96,12 @@ public class CacheData
                 // else fall through and use less efficient way
                 }
 
-            // get the list of caches
-            Set<ObjectName> cacheNamesSet = sender.getAllCacheMembers();
+            // get the list of caches, narrowing the query if only some caches are collected
+            CacheFilter     filter        = CacheFilter.getConfigured();
+            boolean         fPushDown     = filter != null && sender instanceof JMXRequestSender;
+            Set<ObjectName> cacheNamesSet = fPushDown
+                                            ? getFilteredCacheMembers(sender, filter, null)
+                                            : sender.getAllCacheMembers();
 
             for (Iterator<ObjectName> cacheNameIter = cacheNamesSet.iterator(); cacheNameIter.hasNext(); )
                 {
@@ -101,6 +111,11 @@ public class CacheData
                 String     sServiceName     = cacheNameObjName.getKeyProperty("service");
                 String     sDomainPartition = cacheNameObjName.getKeyProperty("domainPartition");
 
+                if (filter != null && !filter.isIncluded(sServiceName, sCacheName))
+                    {
+                    continue;
+                    }
+
                 if (sDomainPartition != null)
                     {
                     sServiceName = getFullServiceName(sDomainPartition, sServiceName);
@@ -108,7 +123,7 @@ public class CacheData
 
                 Pair<String, String> key = new Pair<String, String>(sServiceName, sCacheName);
 
-                data = new CacheData();
+                data = addRow(new CacheData());
 
                 data.setColumn(CacheData.SIZE, 0);
                 data.setColumn(CacheData.MEMORY_USAGE_BYTES, 0L);
@@ -118,97 +133,90 @@ public class CacheData
                 mapData.put(key, data);
                 }
 
-            // loop through each cache and find all the different node entries for the caches
-            // and aggregate the information.
+            Set<String> setDistributedCache = model.getDistributedCaches();
 
-            for (Iterator cacheNameIter = mapData.keySet().iterator(); cacheNameIter.hasNext(); )
+            if (setDistributedCache == null)
                 {
-                Pair<String, String> key                 = (Pair<String, String>) cacheNameIter.next();
-                String               sCacheName          = key.getY();
-                String               sRawServiceName     = key.getX();
-                Set<String>          setDistributedCache = model.getDistributedCaches();
-
-                if (setDistributedCache == null)
-                    {
-                    throw new RuntimeException("setDistributedCache must not be null. Make sure SERVICE is before CACHE in enum.");
-                    }
-
-                boolean fIsDistributedCache = setDistributedCache.contains(sRawServiceName);
+                throw new RuntimeException("setDistributedCache must not be null. Make sure SERVICE is before CACHE in enum.");
+                }
 
-                String[] asServiceDetails = getDomainAndService(sRawServiceName);
-                String   sDomainPartition = asServiceDetails[0];
-                String   sServiceName     = asServiceDetails[1];
+            // retrieve the attributes for all the back tier members of all caches in one pass
+            // and aggregate the information in memory, rather than querying each cache in turn
+            Map<ObjectName, AttributeList> mapAttributes = sender.getAttributes(fPushDown
+                    ? getFilteredCacheMembers(sender, filter, "back")
+                    : sender.getAllBackCacheMembers(),
+                    new String[]{ CacheDetailData.ATTR_SIZE, CacheDetailData.ATTR_UNITS,
+                                  CacheDetailData.ATTR_UNIT_FACTOR, MEMORY_UNITS });
 
-                Set resultSet = sender.getCacheMembers(sServiceName, sCacheName, sDomainPartition);
+            Set<Pair<String, String>> setSizeCounted = new HashSet<>();    // non dist caches whose size has been counted
 
-                boolean fisSizeCounted = false;    // indicates if non dist cache size has been counted
+            for (Map.Entry<ObjectName, AttributeList> entry : mapAttributes.entrySet())
+                {
+                ObjectName    objectName       = entry.getKey();
+                AttributeList listAttr         = entry.getValue();
+                String        sCacheName       = objectName.getKeyProperty("name");
+                String        sServiceName     = objectName.getKeyProperty("service");
+                String        sDomainPartition = objectName.getKeyProperty("domainPartition");
 
-                for (Iterator iter = resultSet.iterator(); iter.hasNext(); )
+                if (sDomainPartition != null)
                     {
-                    ObjectName objectName = (ObjectName) iter.next();
-
-                    if (objectName.getKeyProperty("tier").equals("back"))
-                        {
-                        data = (CacheData) mapData.get(key);
+                    sServiceName = getFullServiceName(sDomainPartition, sServiceName);
+                    }
 
-                        if (fIsDistributedCache || !fisSizeCounted)
-                            {
-                            data.setColumn(CacheData.SIZE,
-                                           (Integer) data.getColumn(CacheData.SIZE)
-                                           + Integer.parseInt(sender.getAttribute(objectName, "Size")));
-
-                            if (!fisSizeCounted)
-                                {
-                                fisSizeCounted = true;
-                                }
-                            }
+                Pair<String, String> key = new Pair<String, String>(sServiceName, sCacheName);
 
-                        AttributeList listAttr = sender.getAttributes(objectName,
-                          new String[]{ CacheDetailData.ATTR_UNITS, CacheDetailData.ATTR_UNIT_FACTOR, MEMORY_UNITS});
+                data = mapData.get(key);
+                if (data == null)
+                    {
+                    // the cache was created since the list of caches was retrieved
+                    continue;
+                    }
 
-                        data.setColumn(CacheData.MEMORY_USAGE_BYTES,
-                                       (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)
-                                       + (Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNITS)) * 1L *
-                                          Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNIT_FACTOR))));
+                if (setDistributedCache.contains(sServiceName) || setSizeCounted.add(key))
+                    {
+                    data.setColumn(CacheData.SIZE,
+                                   (Integer) data.getColumn(CacheData.SIZE)
+                                   + Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_SIZE)));
+                    }
 
-                        // set unit calculator if its not already set
-                        if (data.getColumn(UNIT_CALCULATOR) == null)
-                            {
-                            boolean fMemoryUnits = Boolean.valueOf(getAttributeValue(listAttr, MEMORY_UNITS).toString());
-                            data.setColumn(CacheData.UNIT_CALCULATOR, fMemoryUnits ? "BINARY" : "FIXED");
-                            }
+                data.setColumn(CacheData.MEMORY_USAGE_BYTES,
+                               (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)
+                               + (Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNITS)) * 1L *
+                                  Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNIT_FACTOR))));
 
-                        mapData.put(key, data);
-                        }
+                // set unit calculator if its not already set
+                if (data.getColumn(UNIT_CALCULATOR) == null)
+                    {
+                    boolean fMemoryUnits = Boolean.valueOf(getAttributeValue(listAttr, MEMORY_UNITS).toString());
+                    data.setColumn(CacheData.UNIT_CALCULATOR, fMemoryUnits ? "BINARY" : "FIXED");
                     }
+                }
 
-                // update the cache entry averages
-                data = (CacheData) mapData.get(key);
-
+            // update the cache entry averages
+            for (Data dataCache : mapData.values())
+                {
                 // for FIXED unit calculator make the memory bytes and MB and avg object size null
-                if ("FIXED".equals(data.getColumn(CacheData.UNIT_CALCULATOR)))
+                if ("FIXED".equals(dataCache.getColumn(CacheData.UNIT_CALCULATOR)))
                     {
-                    data.setColumn(CacheData.AVG_OBJECT_SIZE, 0);
-                    data.setColumn(CacheData.MEMORY_USAGE_BYTES, 0);
-                    data.setColumn(CacheData.MEMORY_USAGE_MB, 0);
+                    dataCache.setColumn(CacheData.AVG_OBJECT_SIZE, 0);
+                    dataCache.setColumn(CacheData.MEMORY_USAGE_BYTES, 0);
+                    dataCache.setColumn(CacheData.MEMORY_USAGE_MB, 0);
                     }
                 else {
-                    if ((Integer) data.getColumn(CacheData.SIZE) != 0)
+                    if ((Integer) dataCache.getColumn(CacheData.SIZE) != 0)
                         {
-                        data.setColumn(CacheData.AVG_OBJECT_SIZE,
-                                       (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)
-                                       / (Integer) data.getColumn(CacheData.SIZE));
+                        dataCache.setColumn(CacheData.AVG_OBJECT_SIZE,
+                                       (Long) dataCache.getColumn(CacheData.MEMORY_USAGE_BYTES)
+                                       / (Integer) dataCache.getColumn(CacheData.SIZE));
                         }
 
-                    Long nMemoryUsageMB = ((Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)) / 1024 / 1024;
-                    
-                    data.setColumn(CacheData.MEMORY_USAGE_MB, nMemoryUsageMB.intValue());
-                }
+                    Long nMemoryUsageMB = ((Long) dataCache.getColumn(CacheData.MEMORY_USAGE_BYTES)) / 1024 / 1024;
 
-                mapData.put(key, data);
+                    dataCache.setColumn(CacheData.MEMORY_USAGE_MB, nMemoryUsageMB.intValue());
+                }
                 }
 
-            return new ArrayList<>(mapData.entrySet());
+            return new ArrayList<>((filter == null ? mapData : filter.limit(mapData)).entrySet());
 
             }
         catch (Exception e)
@@ -222,34 +230,56 @@ public class CacheData
     @Override
     public String getReporterReport()
         {
-        return null;    // until the following JIRA is fixed we cannot implement this
+        return REPORT_CACHE_SIZE;
+        }
 
-        // COH-10175:  Reporter does not Correctly Display Size of Replicated Or Optimistic Cache
-        // return REPORT_CACHE_SIZE;
+    @Override
+    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+        {
+        CacheFilter filter = CacheFilter.getConfigured();
+
+        // narrow the query if only some caches are collected, unless the report
+        // which only has a single pattern would then exclude the topic caches
+        return filter == null || (filter.isPushedDown() && model.isTopicsConfigured())
+               ? sReporterXML
+               : sReporterXML.replace("<pattern>" + PATTERN_BACK_CACHES + "</pattern>",
+                       "<pattern>" + filter.getObjectNamePattern("back") + "</pattern>");
         }
 
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new CacheData();
-
-        // the identifier for this row is the service name and cache name
-        Pair<String, String> key = new Pair<String, String>(aoColumns[2].toString(), aoColumns[3].toString());
-
-        data.setColumn(CacheData.CACHE_NAME, key);
-        data.setColumn(CacheData.SIZE, Integer.valueOf(getNumberValue(aoColumns[4].toString())));
-        data.setColumn(CacheData.MEMORY_USAGE_BYTES, Long.valueOf(getNumberValue(aoColumns[5].toString())));
-        data.setColumn(CacheData.MEMORY_USAGE_MB, Integer.valueOf(getNumberValue(aoColumns[5].toString())) / 1024 / 1024);
+        Data        data         = addRow(new CacheData());
+        String      sServiceName = aoColumns[2].toString();
+        boolean     fMT          = aoColumns[4] != null;
+        int         nStart       = 5;
+        CacheFilter filter       = CacheFilter.getConfigured();
 
-        if (aoColumns[7] != null)
+        if (filter != null && !filter.isIncluded(sServiceName, aoColumns[3].toString()))
             {
-            data.setColumn(CacheData.AVG_OBJECT_SIZE, Integer.valueOf(getNumberValue(aoColumns[7].toString())));
+            return null;
             }
-        else
+
+        if (fMT)
             {
-            data.setColumn(CacheData.AVG_OBJECT_SIZE, 0);
+            sServiceName = getFullServiceName(aoColumns[4].toString(), sServiceName);
             }
 
+        // the identifier for this row is the service name and cache name
+        Pair<String, String> key = new Pair<String, String>(sServiceName, aoColumns[3].toString());
+
+        long    nSize        = Long.parseLong(getNumberValue(aoColumns[nStart++].toString()));
+        long    cUnits       = Long.parseLong(getNumberValue(aoColumns[nStart++].toString()));
+        long    nUnitFactor  = Long.parseLong(getNumberValue(aoColumns[nStart++].toString()));
+        int     cMembers     = Integer.parseInt(getNumberValue(aoColumns[nStart++].toString()));
+        boolean fMemoryUnits = Boolean.parseBoolean(String.valueOf(aoColumns[nStart]));
+
+        data.setColumn(CacheData.CACHE_NAME, key);
+        data.setColumn(CacheData.SIZE, (int) nSize);
+        data.setColumn(CacheData.MEMORY_USAGE_BYTES, cUnits * nUnitFactor);
+        data.setColumn(CacheData.UNIT_CALCULATOR, fMemoryUnits ? "BINARY" : "FIXED");
+        f_mapMemberCount.put(key, cMembers);
+
         return data;
         }
 
@@ -260,8 +290,12 @@ public class CacheData
         List<Map.Entry<Object, Data>> serviceData = model.getData(VisualVMModel.DataType.SERVICE);
         JsonNode listOfOptimizedCaches = null;
         final SortedMap<Object, Data> mapData = new TreeMap<>();
+        CacheFilter filter = CacheFilter.getConfigured();
 
-        if (model.isRestCacheOptimizationAvailable() == null)
+        // only request the caches of the matching services rather than all caches
+        boolean fServiceFilter = filter != null && filter.hasServicePattern();
+
+        if (model.isRestCacheOptimizationAvailable() == null && !fServiceFilter)
             {
             // determine if the cluster supports the optimization. We must use one of the services
             // and determine if there is a domain partition as we cannot rely on a cluster version
@@ -289,7 +323,8 @@ public class CacheData
                 }
             }
 
-        if (model.isRestCacheOptimizationAvailable() != null && model.isRestCacheOptimizationAvailable())
+        if (model.isRestCacheOptimizationAvailable() != null && model.isRestCacheOptimizationAvailable()
+            && !fServiceFilter)
             {
             // we can use the optimization, but check if the listOfOptimizedCaches is populated
             // otherwise populate it
@@ -308,6 +343,11 @@ public class CacheData
                     String sServiceName = cacheDetails.get("service").asText();
                     String sCacheName = cacheDetails.get("name").asText();
 
+                    if (filter != null && !filter.isIncluded(sServiceName, sCacheName))
+                        {
+                        continue;
+                        }
+
                     Data data = getData(model, sServiceName, cacheDetails);
 
                     if (data == null)
@@ -321,19 +361,37 @@ public class CacheData
                     }
                 }
             // return the collected data as we can use optimization
-            return mapData;
+            return filter == null ? mapData : filter.limit(mapData);
             }
 
         if (serviceData != null && serviceData.size() > 0)
             {
+            List<Map.Entry<Object, Data>> listServices = new ArrayList<>(serviceData.size());
             for (Map.Entry<Object, Data> service : serviceData)
+                {
+                if (filter == null || filter.isServiceIncluded(getDomainAndService((String) service.getKey())[1]))
+                    {
+                    listServices.add(service);
+                    }
+                }
+
+            // issue the requests for all services up front so they are sent
+            // concurrently over pooled connections, then process the responses in order
+            List<CompletableFuture<JsonNode>> listFutures = new ArrayList<>(listServices.size());
+            for (Map.Entry<Object, Data> service : listServices)
+                {
+                String[] asServiceDetails = getDomainAndService((String) service.getKey());
+                listFutures.add(requestSender.getListOfServiceCachesAsync(asServiceDetails[1], asServiceDetails[0]));
+                }
+
+            int nService = 0;
+            for (Map.Entry<Object, Data> service : listServices)
                 {
                 String   sService            = (String) service.getKey();
                 String[] asServiceDetails    = getDomainAndService(sService);
-                String   sDomainPartition    = asServiceDetails[0];
                 String   sServiceName        = asServiceDetails[1];
 
-                JsonNode listOfServiceCaches = requestSender.getListOfServiceCaches(sServiceName, sDomainPartition);
+                JsonNode listOfServiceCaches = getResponse(listFutures.get(nService++));
                 JsonNode itemsNode           = listOfServiceCaches.get("items");
 
                 if (itemsNode != null && itemsNode.isArray())
@@ -341,9 +399,14 @@ public class CacheData
                     for (int i = 0; i < itemsNode.size(); i++)
                         {
                         JsonNode cacheDetails = itemsNode.get(i);
-                        Data data = getData(model, sServiceName, cacheDetails);
-
                         String sCacheName = cacheDetails.get("name").asText();
+
+                        if (filter != null && !filter.isIncluded(sServiceName, sCacheName))
+                            {
+                            continue;
+                            }
+
+                        Data data = getData(model, sServiceName, cacheDetails);
                         Pair<String, String> key = new Pair<>(sServiceName, sCacheName);
 
                         if (data == null)
@@ -356,12 +419,61 @@ public class CacheData
                         }
                     }
                 }
-                return mapData;
+                return filter == null ? mapData : filter.limit(mapData);
             }
 
         return null;
         }
 
+    /**
+     * Returns the cache MBeans matching the filter, including the topic caches
+     * which the filter always keeps but its pattern may exclude.
+     *
+     * @param sender  the {@link RequestSender} to use to query
+     * @param filter  the {@link CacheFilter}
+     * @param sTier   the tier of the cache MBeans, or null for all tiers
+     *
+     * @return the cache MBeans
+     *
+     * @throws Exception if any errors
+     */
+    private Set<ObjectName> getFilteredCacheMembers(RequestSender sender, CacheFilter filter, String sTier)
+            throws Exception
+        {
+        Set<ObjectName> setObjectNames = sender.getCompleteObjectName(new ObjectName(filter.getObjectNamePattern(sTier)));
+
+        if (filter.isPushedDown())
+            {
+            setObjectNames = new HashSet<>(setObjectNames);
+            setObjectNames.addAll(sender.getCompleteObjectName(new ObjectName(filter.getTopicObjectNamePattern(sTier))));
+            }
+
+        return setObjectNames;
+        }
+
+    /**
+     * Wait for and return the response of an asynchronous request.
+     *
+     * @param future  the {@link CompletableFuture} for the response
+     *
+     * @return the response
+     *
+     * @throws Exception if the request failed
+     */
+    private JsonNode getResponse(CompletableFuture<JsonNode> future)
+            throws Exception
+        {
+        try
+            {
+            return future.join();
+            }
+        catch (CompletionException e)
+            {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+
     /**
      * Collect data for the cache.
      * @param model   {@link VisualVMModel}
@@ -371,7 +483,7 @@ public class CacheData
      */
     private Data getData(VisualVMModel model, String sServiceName, JsonNode cacheDetails)
         {
-        Data data = new CacheData();
+        Data data = addRow(new CacheData());
         boolean fisDistributed = model.getDistributedCaches().contains(sServiceName);
 
         String sCacheName = cacheDetails.get("name").asText();
@@ -420,6 +532,12 @@ public class CacheData
         return data;
         }
 
+    @Override
+    protected void preProcessReporterData(VisualVMModel model)
+        {
+        f_mapMemberCount.clear();
+        }
+
     @Override
     protected SortedMap<Object, Data> postProcessReporterData(SortedMap<Object, Data> mapData, VisualVMModel model)
         {
@@ -430,12 +548,38 @@ public class CacheData
             throw new RuntimeException("setDistributedCache must not be null. Make sure SERVICE is before CACHE in enum.");
             }
 
-        // we need to check to see if this cache is not a distributed cache and adjust the
-        // size accordingly - The problem is that currently we have no way of identifying the number of storage
-        // enabled members - so this is currently going to report incorrect sizes for Replicated or Optomistic
-        // caches
+        for (Data data : mapData.values())
+            {
+            Pair<String, String> key      = (Pair<String, String>) data.getColumn(CacheData.CACHE_NAME);
+            Integer              cMembers = f_mapMemberCount.get(key);
+
+            // the reporter sums the size of a replicated or optimistic cache across all of
+            // the members which hold a full copy, so divide by the member count to correct it
+            if (!setDistributedCache.contains(key.getX()) && cMembers != null && cMembers > 0)
+                {
+                data.setColumn(CacheData.SIZE, (Integer) data.getColumn(CacheData.SIZE) / cMembers);
+                }
+
+            // for FIXED unit calculator make the memory bytes and MB and avg object size null
+            if ("FIXED".equals(data.getColumn(CacheData.UNIT_CALCULATOR)))
+                {
+                data.setColumn(CacheData.AVG_OBJECT_SIZE, 0);
+                data.setColumn(CacheData.MEMORY_USAGE_BYTES, 0L);
+                data.setColumn(CacheData.MEMORY_USAGE_MB, 0);
+                }
+            else
+                {
+                long cMemoryUsageBytes = (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES);
+                int  nSize             = (Integer) data.getColumn(CacheData.SIZE);
+
+                data.setColumn(CacheData.AVG_OBJECT_SIZE, nSize == 0 ? 0 : (int) (cMemoryUsageBytes / nSize));
+                data.setColumn(CacheData.MEMORY_USAGE_MB, (int) (cMemoryUsageBytes / 1024 / 1024));
+                }
+            }
+
+        CacheFilter filter = CacheFilter.getConfigured();
 
-        return mapData;
+        return filter == null ? mapData : filter.limit(mapData);
         }
 
     // ----- constants ------------------------------------------------------
@@ -481,4 +625,22 @@ public class CacheData
      * Attribute for "MemoryUnits".
      */
     private static final String MEMORY_UNITS = "MemoryUnits";
+
+    /**
+     * Report for cache size data.
+     */
+    public static final String REPORT_CACHE_SIZE = "reports/visualvm/cache-size-stats.xml";
+
+    /**
+     * The pattern for the back tier cache MBeans queried by the report.
+     */
+    private static final String PATTERN_BACK_CACHES = "Coherence:type=Cache,tier=back,*";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of members for each cache returned by the reporter, used to
+     * correct the size of replicated and optimistic caches.
+     */
+    private final Map<Pair<String, String>, Integer> f_mapMemberCount = new HashMap<>();
     }
@@ -25,13 +25,16 @@
 
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemHandler;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
+import java.io.IOException;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -135,6 +138,12 @@ public class CacheDetailData
         return REPORT_CACHE_DETAIL;
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {TOTAL_GETS, TOTAL_PUTS, CACHE_HITS, CACHE_MISSES};
+        }
+
     /**
      * Get the data through JMX query.
      *
@@ -148,7 +157,7 @@ public class CacheDetailData
     public Data populateData(RequestSender requestSender, ObjectName objName)
         throws Exception
         {
-        Data data = new CacheDetailData();
+        Data data = addRow(new CacheDetailData());
 
         AttributeList listAttr = requestSender.getAttributes(objName,
             new String[]{ ATTR_SIZE, ATTR_UNITS, ATTR_UNIT_FACTOR, ATTR_CACHE_HITS,
@@ -177,7 +186,7 @@ public class CacheDetailData
      */
     public Data populateData(Object[] aoColumns)
         {
-        Data data = new CacheDetailData();
+        Data data = addRow(new CacheDetailData());
 
         data.setColumn(CacheDetailData.NODE_ID, Integer.valueOf(getNumberValue(aoColumns[4].toString())));
         data.setColumn(CacheDetailData.SIZE, Integer.valueOf(getNumberValue(aoColumns[5].toString())));
@@ -251,40 +260,90 @@ public class CacheDetailData
         String sDomainPartition         = asServiceDetails[0];
         SortedMap<Object, Data> mapData = new TreeMap<Object, Data>();
 
-        JsonNode rootNode         = requestSender.getDataForCacheMembers(sServiceName, selectedCache.getY(), sDomainPartition);
-        JsonNode nodeCacheMembers = rootNode.get("items");
+        String                  sTier   = m_type.getValue();
 
-        if (nodeCacheMembers != null && nodeCacheMembers.isArray())
+        // stream the cache members directly into data rows rather than building a tree
+        requestSender.streamDataForCacheMembers(sServiceName, selectedCache.getY(), sDomainPartition,
+                new JsonItemHandler()
             {
-            for (int i = 0; i < nodeCacheMembers.size(); i++)
+            @Override
+            public void startItem()
+                {
+                m_data        = addRow(new CacheDetailData());
+                m_sTier       = null;
+                m_nUnits      = 0;
+                m_nUnitFactor = 0;
+                }
+
+            @Override
+            public void field(String sField, JsonParser parser)
+                    throws IOException
                 {
-                JsonNode nodeCacheMember = nodeCacheMembers.get(i);
+                switch (sField)
+                    {
+                    case "tier":
+                        m_sTier = parser.getText();
+                        break;
+                    case "nodeId":
+                        m_data.setColumn(CacheDetailData.NODE_ID, parser.getValueAsInt());
+                        break;
+                    case "size":
+                        m_data.setColumn(CacheDetailData.SIZE, parser.getValueAsInt());
+                        break;
+                    case "units":
+                        m_nUnits = parser.getValueAsInt();
+                        break;
+                    case "unitFactor":
+                        m_nUnitFactor = parser.getValueAsInt();
+                        break;
+                    case "totalGets":
+                        m_data.setColumn(CacheDetailData.TOTAL_GETS, parser.getValueAsLong());
+                        break;
+                    case "totalPuts":
+                        m_data.setColumn(CacheDetailData.TOTAL_PUTS, parser.getValueAsLong());
+                        break;
+                    case "cacheHits":
+                        m_data.setColumn(CacheDetailData.CACHE_HITS, parser.getValueAsLong());
+                        break;
+                    case "cacheMisses":
+                        m_data.setColumn(CacheDetailData.CACHE_MISSES, parser.getValueAsInt());
+                        break;
+                    case "hitProbability":
+                        m_data.setColumn(CacheDetailData.HIT_PROBABILITY, (float) parser.getValueAsDouble());
+                        break;
+                    }
+                }
 
-                if (nodeCacheMember.get("tier").asText().equals(m_type.getValue()))
+            @Override
+            public void endItem()
+                {
+                if (sTier.equals(m_sTier))
                     {
-                    Data data = new CacheDetailData();
-
-                    data.setColumn(CacheDetailData.NODE_ID,
-                            Integer.valueOf(nodeCacheMember.get("nodeId").asText()));
-                    data.setColumn(CacheDetailData.SIZE,
-                            Integer.valueOf(nodeCacheMember.get("size").asText()));
-                    data.setColumn(CacheDetailData.MEMORY_BYTES,
-                            nodeCacheMember.get("units").intValue() * nodeCacheMember.get("unitFactor").intValue());
-                    data.setColumn(CacheDetailData.TOTAL_GETS,
-                            Long.valueOf(nodeCacheMember.get("totalGets").asText()));
-                    data.setColumn(CacheDetailData.TOTAL_PUTS,
-                            Long.valueOf(nodeCacheMember.get("totalPuts").asText()));
-                    data.setColumn(CacheDetailData.CACHE_HITS,
-                            Long.valueOf(nodeCacheMember.get("cacheHits").asText()));
-                    data.setColumn(CacheDetailData.CACHE_MISSES,
-                            Integer.valueOf(nodeCacheMember.get("cacheMisses").asText()));
-                    data.setColumn(CacheDetailData.HIT_PROBABILITY,
-                            Float.valueOf(nodeCacheMember.get("hitProbability").floatValue()));
-
-                    mapData.put(data.getColumn(0), data);
+                    m_data.setColumn(CacheDetailData.MEMORY_BYTES, m_nUnits * m_nUnitFactor);
+                    mapData.put(m_data.getColumn(0), m_data);
                     }
                 }
-            }
+
+            /**
+             * The data for the current cache member.
+             */
+            private Data m_data;
+
+            /**
+             * The tier of the current cache member.
+             */
+            private String m_sTier;
+
+            /**
+             * The units of the current cache member.
+             */
+            private int m_nUnits;
+
+            /**
+             * The unit factor of the current cache member.
+             */
+            private int m_nUnitFactor;
+            });
 
         return mapData;
         }
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import java.util.logging.Logger;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Limits the caches collected by {@link CacheData} on clusters with a very
+ * large number of caches, to those whose service and name match regular
+ * expressions and optionally to the largest caches by size or memory.
+ * <p>
+ * Where possible the filter is applied by the cluster rather than after the
+ * data has been retrieved. When connected using JMX an expression made up of
+ * literal characters, {@code "."} and {@code ".*"} is converted to an
+ * {@link javax.management.ObjectName} pattern, and when connected using REST
+ * only the caches of the matching services are requested. Topic caches are
+ * never removed once retrieved, as the topic data collected using REST is
+ * derived from them, and when the {@link javax.management.ObjectName} pattern
+ * would exclude them they are queried separately.
+ *
+ * @author agent 2026.10.16
+ */
+public class CacheFilter
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link CacheFilter}.
+     *
+     * @param sServicePattern  the regular expression the service name must
+     *                         match, or null to include all services
+     * @param sNamePattern     the regular expression the cache name must
+     *                         match, or null to include all caches
+     * @param cTop             the number of largest caches to include, or
+     *                         zero to include all caches
+     * @param fTopByMemory     true if the largest caches are chosen by memory
+     *                         rather than by size
+     *
+     * @throws PatternSyntaxException if either pattern is invalid
+     */
+    public CacheFilter(String sServicePattern, String sNamePattern, int cTop, boolean fTopByMemory)
+        {
+        f_patternService   = sServicePattern == null ? null : Pattern.compile(sServicePattern);
+        f_patternName      = sNamePattern == null ? null : Pattern.compile(sNamePattern);
+        f_sServiceWildcard = sServicePattern == null ? null : toWildcard(sServicePattern);
+        f_sNameWildcard    = sNamePattern == null ? null : toWildcard(sNamePattern);
+        f_cTop             = Math.max(0, cTop);
+        f_fTopByMemory     = fTopByMemory;
+        }
+
+    // ----- CacheFilter methods --------------------------------------------
+
+    /**
+     * Returns true if a service pattern has been set.
+     *
+     * @return true if a service pattern has been set
+     */
+    public boolean hasServicePattern()
+        {
+        return f_patternService != null;
+        }
+
+    /**
+     * Returns true if the caches of the service should be collected.
+     *
+     * @param sServiceName  the name of the service, without any domain partition
+     *
+     * @return true if the caches of the service should be collected
+     */
+    public boolean isServiceIncluded(String sServiceName)
+        {
+        return f_patternService == null || f_patternService.matcher(sServiceName).matches();
+        }
+
+    /**
+     * Returns true if the cache should be collected.
+     *
+     * @param sServiceName  the name of the service, without any domain partition
+     * @param sCacheName    the name of the cache
+     *
+     * @return true if the cache should be collected
+     */
+    public boolean isIncluded(String sServiceName, String sCacheName)
+        {
+        return isTopicCache(sCacheName)
+               || (isServiceIncluded(sServiceName)
+                   && (f_patternName == null || f_patternName.matcher(sCacheName).matches()));
+        }
+
+    /**
+     * Returns the {@link javax.management.ObjectName} pattern to query the
+     * cache MBeans with. The service and name are only included if their
+     * regular expression could be converted to a wildcard.
+     *
+     * @param sTier  the tier of the cache MBeans, or null for all tiers
+     *
+     * @return the {@link javax.management.ObjectName} pattern
+     */
+    public String getObjectNamePattern(String sTier)
+        {
+        StringBuilder sb = new StringBuilder("Coherence:type=Cache");
+
+        if (sTier != null)
+            {
+            sb.append(",tier=").append(sTier);
+            }
+        if (f_sServiceWildcard != null)
+            {
+            sb.append(",service=").append(f_sServiceWildcard);
+            }
+        if (f_sNameWildcard != null)
+            {
+            sb.append(",name=").append(f_sNameWildcard);
+            }
+
+        return sb.append(",*").toString();
+        }
+
+    /**
+     * Returns true if the {@link javax.management.ObjectName} pattern returned
+     * by {@link #getObjectNamePattern(String)} narrows the query, in which case
+     * it may also exclude topic caches.
+     *
+     * @return true if the {@link javax.management.ObjectName} pattern narrows
+     *         the query
+     */
+    public boolean isPushedDown()
+        {
+        return f_sServiceWildcard != null || f_sNameWildcard != null;
+        }
+
+    /**
+     * Returns the {@link javax.management.ObjectName} pattern to query the
+     * topic cache MBeans with, which are always included.
+     *
+     * @param sTier  the tier of the cache MBeans, or null for all tiers
+     *
+     * @return the {@link javax.management.ObjectName} pattern
+     */
+    public String getTopicObjectNamePattern(String sTier)
+        {
+        StringBuilder sb = new StringBuilder("Coherence:type=Cache");
+
+        if (sTier != null)
+            {
+            sb.append(",tier=").append(sTier);
+            }
+
+        return sb.append(",name=*").append(TOPIC_CACHE).append("*,*").toString();
+        }
+
+    /**
+     * Remove all but the largest caches from the data, if a number of caches
+     * has been set. Topic caches are always kept.
+     *
+     * @param mapData  the cache data
+     *
+     * @return the cache data
+     */
+    public SortedMap<Object, Data> limit(SortedMap<Object, Data> mapData)
+        {
+        if (f_cTop == 0 || mapData.size() <= f_cTop)
+            {
+            return mapData;
+            }
+
+        List<Map.Entry<Object, Data>> listCaches = new ArrayList<>(mapData.size());
+        for (Map.Entry<Object, Data> entry : mapData.entrySet())
+            {
+            if (!isTopicCache(((Pair<?, ?>) entry.getKey()).getY().toString()))
+                {
+                listCaches.add(entry);
+                }
+            }
+
+        if (listCaches.size() > f_cTop)
+            {
+            int nColumn = f_fTopByMemory ? CacheData.MEMORY_USAGE_BYTES : CacheData.SIZE;
+
+            listCaches.sort((e1, e2) -> Long.compare(getLong(e2.getValue(), nColumn), getLong(e1.getValue(), nColumn)));
+
+            for (Map.Entry<Object, Data> entry : listCaches.subList(f_cTop, listCaches.size()))
+                {
+                mapData.remove(entry.getKey());
+                }
+            }
+
+        return mapData;
+        }
+
+    /**
+     * Returns the {@link CacheFilter} configured using system properties.
+     *
+     * @return the configured {@link CacheFilter} or null if no filter is configured
+     */
+    public static CacheFilter getConfigured()
+        {
+        return CONFIGURED;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create the {@link CacheFilter} configured using system properties.
+     *
+     * @return the {@link CacheFilter} or null if no filter is configured or
+     *         the configuration is invalid
+     */
+    private static CacheFilter createConfigured()
+        {
+        String  sService = System.getProperty(VisualVMModel.PROP_CACHE_FILTER_SERVICE);
+        String  sName    = System.getProperty(VisualVMModel.PROP_CACHE_FILTER_NAME);
+        int     cTop     = Integer.getInteger(VisualVMModel.PROP_CACHE_TOP, 0);
+        boolean fMemory  = "memory".equalsIgnoreCase(System.getProperty(VisualVMModel.PROP_CACHE_TOP_BY));
+
+        if (sService == null && sName == null && cTop <= 0)
+            {
+            return null;
+            }
+
+        try
+            {
+            return new CacheFilter(sService, sName, cTop, fMemory);
+            }
+        catch (PatternSyntaxException e)
+            {
+            LOGGER.warning("Ignoring invalid cache filter: " + e.getMessage());
+            return null;
+            }
+        }
+
+    /**
+     * Convert a regular expression to an {@link javax.management.ObjectName}
+     * value wildcard.
+     *
+     * @param sRegex  the regular expression
+     *
+     * @return the wildcard, or null if the regular expression contains anything
+     *         other than literal characters, {@code "."} and {@code ".*"}
+     */
+    protected static String toWildcard(String sRegex)
+        {
+        StringBuilder sb   = new StringBuilder();
+        int           cLen = sRegex.length();
+
+        for (int i = 0; i < cLen; i++)
+            {
+            char ch = sRegex.charAt(i);
+
+            if (ch == '.')
+                {
+                if (i + 1 < cLen && sRegex.charAt(i + 1) == '*')
+                    {
+                    sb.append('*');
+                    i++;
+                    }
+                else
+                    {
+                    sb.append('?');
+                    }
+                }
+            else if (ch == '\\' && i + 1 < cLen && (WILDCARD_LITERALS.indexOf(sRegex.charAt(i + 1)) >= 0
+                                                      || WILDCARD_ESCAPED.indexOf(sRegex.charAt(i + 1)) >= 0))
+                {
+                sb.append(sRegex.charAt(++i));
+                }
+            else if (Character.isLetterOrDigit(ch) || WILDCARD_LITERALS.indexOf(ch) >= 0)
+                {
+                sb.append(ch);
+                }
+            else
+                {
+                return null;
+                }
+            }
+
+        return sb.length() == 0 ? null : sb.toString();
+        }
+
+    /**
+     * Returns true if the cache holds the data of a topic.
+     *
+     * @param sCacheName  the name of the cache
+     *
+     * @return true if the cache holds the data of a topic
+     */
+    private static boolean isTopicCache(String sCacheName)
+        {
+        return sCacheName.contains(TOPIC_CACHE);
+        }
+
+    /**
+     * Returns the value of a numeric column as a long.
+     *
+     * @param data     the {@link Data}
+     * @param nColumn  the column
+     *
+     * @return the value, or zero if the column is not set
+     */
+    private static long getLong(Data data, int nColumn)
+        {
+        Object oValue = data.getColumn(nColumn);
+
+        return oValue instanceof Number ? ((Number) oValue).longValue() : 0L;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(CacheFilter.class.getName());
+
+    /**
+     * The characters other than letters and digits which may appear in an
+     * {@link javax.management.ObjectName} pattern and in the report XML
+     * without quoting or escaping, and are literals in a regular expression.
+     */
+    private static final String WILDCARD_LITERALS = "-_ /#@~!";
+
+    /**
+     * The characters which may appear in an {@link javax.management.ObjectName}
+     * pattern but must be escaped in a regular expression.
+     */
+    private static final String WILDCARD_ESCAPED = "$.+";
+
+    /**
+     * The string contained in the name of the caches which hold topic data.
+     */
+    private static final String TOPIC_CACHE = "$topic$";
+
+    /**
+     * The {@link CacheFilter} configured using system properties.
+     */
+    private static final CacheFilter CONFIGURED = createConfigured();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The pattern the service name must match, or null for all services.
+     */
+    private final Pattern f_patternService;
+
+    /**
+     * The pattern the cache name must match, or null for all caches.
+     */
+    private final Pattern f_patternName;
+
+    /**
+     * The service pattern as an {@link javax.management.ObjectName} wildcard,
+     * or null if it cannot be converted.
+     */
+    private final String f_sServiceWildcard;
+
+    /**
+     * The name pattern as an {@link javax.management.ObjectName} wildcard,
+     * or null if it cannot be converted.
+     */
+    private final String f_sNameWildcard;
+
+    /**
+     * The number of largest caches to include, or zero for all caches.
+     */
+    private final int f_cTop;
+
+    /**
+     * True if the largest caches are chosen by memory rather than by size.
+     */
+    private final boolean f_fTopByMemory;
+    }
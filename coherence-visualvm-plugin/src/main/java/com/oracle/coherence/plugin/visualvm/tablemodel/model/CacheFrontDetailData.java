@@ -50,11 +50,17 @@ public class CacheFrontDetailData
         super(CacheType.FRONT_TIER, CacheFrontDetailData.HIT_PROBABILITY + 1);
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {TOTAL_GETS, TOTAL_PUTS, CACHE_HITS, CACHE_MISSES};
+        }
+
     @Override
     public Data populateData(RequestSender sender, ObjectName objName)
         throws Exception
         {
-        Data data = new CacheFrontDetailData();
+        Data data = addRow(new CacheFrontDetailData());
 
         AttributeList listAttr = sender.getAttributes(objName,
             new String[]{ ATTR_SIZE, ATTR_UNITS, ATTR_UNIT_FACTOR, ATTR_CACHE_HITS,
@@ -76,7 +82,7 @@ public class CacheFrontDetailData
     @Override
     public Data populateData(Object[] aoColumns)
         {
-        Data data = new CacheFrontDetailData();
+        Data data = addRow(new CacheFrontDetailData());
 
         data.setColumn(CacheFrontDetailData.NODE_ID, Integer.valueOf(getNumberValue(aoColumns[4].toString())));
         data.setColumn(CacheFrontDetailData.SIZE, Integer.valueOf(getNumberValue(aoColumns[5].toString())));
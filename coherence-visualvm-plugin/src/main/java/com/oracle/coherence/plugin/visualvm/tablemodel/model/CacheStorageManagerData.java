@@ -92,7 +92,7 @@ public class CacheStorageManagerData
                     ObjectName objName = iter.next();
                     String     sNodeId = objName.getKeyProperty("nodeId");
 
-                    data = new CacheStorageManagerData();
+                    data = addRow(new CacheStorageManagerData());
 
                     AttributeList listAttr = requestSender.getAttributes(objName,
                         new String[]{ ATTR_LOCKS_GRANTED, ATTR_LOCKS_PENDING, ATTR_LISTENER_REG });
@@ -183,7 +183,7 @@ public class CacheStorageManagerData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new CacheStorageManagerData();
+        Data data = addRow(new CacheStorageManagerData());
 
         data.setColumn(CacheStorageManagerData.NODE_ID,
                        Integer.valueOf(getNumberValue(aoColumns[2].toString())));
@@ -257,7 +257,7 @@ public class CacheStorageManagerData
                     {
                     continue;
                     }
-                Data data = new CacheStorageManagerData();
+                Data data = addRow(new CacheStorageManagerData());
 
                 JsonNode locksGranted = nodeCacheStorage.get("locksGranted");
                 if (locksGranted == null)
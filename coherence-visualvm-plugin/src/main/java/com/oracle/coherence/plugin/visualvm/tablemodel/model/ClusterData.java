@@ -86,7 +86,7 @@ public class ClusterData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new ClusterData();
+        Data data = addRow(new ClusterData());
 
         data.setColumn(ClusterData.CLUSTER_NAME, aoColumns[2]);
         data.setColumn(ClusterData.LICENSE_MODE, aoColumns[3]);
@@ -167,7 +167,7 @@ public class ClusterData
 
             for (Iterator<ObjectName> cacheNameIter = clusterSet.iterator(); cacheNameIter.hasNext(); )
                 {
-                ClusterData data           = new ClusterData();
+                ClusterData data           = addRow(new ClusterData());
                 ObjectName  clusterObjName = cacheNameIter.next();
 
                 AttributeList listAttr = requestSender.getAttributes(clusterObjName,
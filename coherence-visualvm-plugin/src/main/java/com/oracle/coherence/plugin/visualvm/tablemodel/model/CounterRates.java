@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calculates the change, and the change per second, of the cumulative counter
+ * columns of a data type between consecutive refreshes.
+ * <p>
+ * Counters are matched between refreshes by row key. A row which was not present
+ * in the previous refresh has no change. A counter which has decreased, because
+ * a member restarted or left the cluster, is treated as having been reset and
+ * has no change for that refresh; the next change is calculated from the new value.
+ *
+ * @author agent 2026.10.16
+ */
+public class CounterRates
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link CounterRates} for the given counter columns.
+     *
+     * @param anColumns  the indexes of the columns which are cumulative counters
+     */
+    public CounterRates(int[] anColumns)
+        {
+        f_anColumns = anColumns.clone();
+        m_alTotals  = new long[anColumns.length];
+        }
+
+    // ----- CounterRates methods -------------------------------------------
+
+    /**
+     * Calculate the changes of the counters since the previous refresh.
+     *
+     * @param listData      the rows collected by this refresh, may be null if the
+     *                      collection failed in which case the previous values are kept
+     * @param ldtCollected  the time the rows were collected
+     */
+    public synchronized void update(List<Map.Entry<Object, Data>> listData, long ldtCollected)
+        {
+        if (listData == null)
+            {
+            return;
+            }
+
+        Map<Object, Counters> mapPrevious = m_mapCounters;
+        Map<Object, Counters> mapCurrent  = new HashMap<>(listData.size() * 2);
+        long                  cMillis     = ldtCollected - m_ldtCollected;
+        long[]                alTotal     = new long[f_anColumns.length];
+
+        for (Map.Entry<Object, Data> entry : listData)
+            {
+            Counters counters = new Counters(entry.getValue());
+            Counters previous = mapPrevious.get(entry.getKey());
+
+            if (previous != null && cMillis > 0)
+                {
+                for (int i = 0; i < f_anColumns.length; i++)
+                    {
+                    long lValue    = counters.f_alValues[i];
+                    long lPrevious = previous.f_alValues[i];
+
+                    counters.f_alDeltas[i] = lValue >= 0 && lPrevious >= 0 && lValue >= lPrevious
+                                             ? lValue - lPrevious : 0L;
+                    alTotal[i] += counters.f_alDeltas[i];
+                    }
+                }
+
+            mapCurrent.put(entry.getKey(), counters);
+            }
+
+        m_mapCounters  = mapCurrent;
+        m_alTotals     = alTotal;
+        m_cMillis      = Math.max(cMillis, 0L);
+        m_ldtCollected = ldtCollected;
+        }
+
+    /**
+     * Discard the values of the previous refresh, for example because the rows
+     * now relate to a different selection, so that the next refresh has no change.
+     */
+    public synchronized void reset()
+        {
+        m_mapCounters = Collections.emptyMap();
+        m_alTotals    = new long[f_anColumns.length];
+        m_cMillis     = 0L;
+        }
+
+    /**
+     * Returns the change of a counter for a row since the previous refresh.
+     *
+     * @param oKey     the key of the row
+     * @param nColumn  the index of the counter column
+     *
+     * @return the change of the counter, or zero if it is not known
+     */
+    public synchronized long getDelta(Object oKey, int nColumn)
+        {
+        Counters counters = m_mapCounters.get(oKey);
+
+        return counters == null ? 0L : counters.f_alDeltas[indexOf(nColumn)];
+        }
+
+    /**
+     * Returns the change per second of a counter for a row since the previous refresh.
+     *
+     * @param oKey     the key of the row
+     * @param nColumn  the index of the counter column
+     *
+     * @return the change per second of the counter, or zero if it is not known
+     */
+    public synchronized double getRate(Object oKey, int nColumn)
+        {
+        return toRate(getDelta(oKey, nColumn));
+        }
+
+    /**
+     * Returns the change of a counter summed over all rows since the previous refresh.
+     *
+     * @param nColumn  the index of the counter column
+     *
+     * @return the total change of the counter
+     */
+    public synchronized long getTotalDelta(int nColumn)
+        {
+        return m_alTotals[indexOf(nColumn)];
+        }
+
+    /**
+     * Returns the change per second of a counter summed over all rows since the
+     * previous refresh.
+     *
+     * @param nColumn  the index of the counter column
+     *
+     * @return the total change per second of the counter
+     */
+    public synchronized double getTotalRate(int nColumn)
+        {
+        return toRate(getTotalDelta(nColumn));
+        }
+
+    /**
+     * Returns the time the rows of the last refresh were collected.
+     *
+     * @return the time the rows of the last refresh were collected
+     */
+    public synchronized long getCollectedTime()
+        {
+        return m_ldtCollected;
+        }
+
+    /**
+     * Returns the indexes of the counter columns.
+     *
+     * @return the indexes of the counter columns
+     */
+    public int[] getColumns()
+        {
+        return f_anColumns.clone();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the position of a counter column.
+     *
+     * @param nColumn  the index of the column
+     *
+     * @return the position of the column within the counter columns
+     */
+    private int indexOf(int nColumn)
+        {
+        for (int i = 0; i < f_anColumns.length; i++)
+            {
+            if (f_anColumns[i] == nColumn)
+                {
+                return i;
+                }
+            }
+
+        throw new IllegalArgumentException("Column " + nColumn + " is not a counter");
+        }
+
+    /**
+     * Convert a change over the interval between the last two refreshes to a
+     * change per second.
+     *
+     * @param lDelta  the change
+     *
+     * @return the change per second
+     */
+    private double toRate(long lDelta)
+        {
+        return m_cMillis == 0L ? 0.0 : lDelta * 1000.0 / m_cMillis;
+        }
+
+    // ----- inner class: Counters ------------------------------------------
+
+    /**
+     * The counter values of a row and their changes since the previous refresh.
+     */
+    private class Counters
+        {
+        /**
+         * Create the {@link Counters} for a row.
+         *
+         * @param data  the row
+         */
+        Counters(Data data)
+            {
+            f_alValues = new long[f_anColumns.length];
+            f_alDeltas = new long[f_anColumns.length];
+
+            for (int i = 0; i < f_anColumns.length; i++)
+                {
+                Object oValue = f_anColumns[i] < data.getColumnCount() ? data.getColumn(f_anColumns[i]) : null;
+
+                // a negative value marks a counter which is not available
+                f_alValues[i] = oValue instanceof Number ? ((Number) oValue).longValue() : -1L;
+                }
+            }
+
+        /**
+         * The values of the counters.
+         */
+        private final long[] f_alValues;
+
+        /**
+         * The changes of the counters since the previous refresh.
+         */
+        private final long[] f_alDeltas;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The indexes of the counter columns.
+     */
+    private final int[] f_anColumns;
+
+    /**
+     * The counters of each row of the last refresh keyed by row key.
+     */
+    private Map<Object, Counters> m_mapCounters = Collections.emptyMap();
+
+    /**
+     * The changes of each counter summed over all rows.
+     */
+    private long[] m_alTotals;
+
+    /**
+     * The time of the last refresh.
+     */
+    private long m_ldtCollected;
+
+    /**
+     * The time between the last two refreshes in milliseconds.
+     */
+    private long m_cMillis;
+    }
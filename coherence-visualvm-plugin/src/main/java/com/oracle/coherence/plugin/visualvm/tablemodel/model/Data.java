@@ -53,4 +53,11 @@ public interface Data
      * @param oValue  the value to set
      */
     public void setColumn(int nColumn, Object oValue);
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount();
     }
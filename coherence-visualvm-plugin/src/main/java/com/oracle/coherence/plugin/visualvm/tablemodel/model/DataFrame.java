@@ -0,0 +1,551 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.io.Serializable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A columnar store for the rows of {@link Data} created by a single collection
+ * of a data type.
+ * <p>
+ * Rows created by an {@link AbstractData} retriever while it is collecting are
+ * added to its frame, so the values passed to {@link Data#setColumn(int, Object)}
+ * are written straight into primitive <code>long</code> and <code>double</code>
+ * columns, and strings are stored as codes into a {@link Dictionary} shared by
+ * the frames of the data type. Values of any other type, such as row keys, and
+ * columns whose rows hold values of different types, are held as objects.
+ * <p>
+ * A new frame is used for each collection, so the rows handed to panels and
+ * recordings are never rewritten by a later collection. Only the dictionary is
+ * reused across collections.
+ *
+ * @author agent 2026.10.16
+ */
+public class DataFrame
+        implements Serializable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link DataFrame}.
+     *
+     * @param cColumns    the number of columns of each row
+     * @param dictionary  the {@link Dictionary} used to store strings
+     * @param cRowsHint   the expected number of rows
+     */
+    public DataFrame(int cColumns, Dictionary dictionary, int cRowsHint)
+        {
+        f_aColumns   = new Column[cColumns];
+        f_dictionary = dictionary;
+        m_cCapacity  = Math.max(cRowsHint, MIN_CAPACITY);
+        }
+
+    // ----- DataFrame methods ----------------------------------------------
+
+    /**
+     * Add a row, with every column set to null, to this frame.
+     *
+     * @return the index of the new row
+     */
+    public synchronized int addRow()
+        {
+        if (m_cRows == m_cCapacity)
+            {
+            int cCapacity = m_cCapacity * 2;
+            for (Column column : f_aColumns)
+                {
+                if (column != null)
+                    {
+                    column.grow(cCapacity);
+                    }
+                }
+            m_cCapacity = cCapacity;
+            }
+
+        return m_cRows++;
+        }
+
+    /**
+     * Returns the value of a column of a row.
+     *
+     * @param nRow     the index of the row
+     * @param nColumn  the index of the column
+     *
+     * @return the value of the column
+     */
+    public synchronized Object get(int nRow, int nColumn)
+        {
+        Column column = f_aColumns[nColumn];
+
+        return column == null ? null : column.get(nRow, f_dictionary);
+        }
+
+    /**
+     * Set the value of a column of a row.
+     *
+     * @param nRow     the index of the row
+     * @param nColumn  the index of the column
+     * @param oValue   the value to set, may be null
+     */
+    public synchronized void set(int nRow, int nColumn, Object oValue)
+        {
+        Column column = f_aColumns[nColumn];
+
+        if (column == null)
+            {
+            if (oValue == null)
+                {
+                return;
+                }
+
+            column = f_aColumns[nColumn] = new Column(getKind(oValue), m_cCapacity);
+            }
+        else if (oValue != null && column.f_nKind != KIND_OBJECT && column.f_nKind != getKind(oValue))
+            {
+            // the rows hold values of different types so keep them as objects
+            Column columnObjects = new Column(KIND_OBJECT, m_cCapacity);
+            for (int i = 0; i < m_cRows; i++)
+                {
+                columnObjects.set(i, column.get(i, f_dictionary), f_dictionary);
+                }
+
+            column = f_aColumns[nColumn] = columnObjects;
+            }
+
+        column.set(nRow, oValue, f_dictionary);
+        }
+
+    /**
+     * Returns the number of rows in this frame.
+     *
+     * @return the number of rows
+     */
+    public synchronized int getRowCount()
+        {
+        return m_cRows;
+        }
+
+    /**
+     * Returns the number of columns of each row.
+     *
+     * @return the number of columns
+     */
+    public int getColumnCount()
+        {
+        return f_aColumns.length;
+        }
+
+    /**
+     * Returns the {@link Dictionary} used to store strings.
+     *
+     * @return the {@link Dictionary}
+     */
+    public Dictionary getDictionary()
+        {
+        return f_dictionary;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the kind of column used to store the given value.
+     *
+     * @param oValue  the value, which is not null
+     *
+     * @return the kind of column
+     */
+    private static int getKind(Object oValue)
+        {
+        Class<?> clz = oValue.getClass();
+
+        return clz == Integer.class ? KIND_INTEGER
+             : clz == Long.class    ? KIND_LONG
+             : clz == Boolean.class ? KIND_BOOLEAN
+             : clz == Float.class   ? KIND_FLOAT
+             : clz == Double.class  ? KIND_DOUBLE
+             : clz == String.class  ? KIND_STRING
+             : KIND_OBJECT;
+        }
+
+    // ----- inner class: Column --------------------------------------------
+
+    /**
+     * The values of one column, held in an array of the type of the values.
+     */
+    private static class Column
+            implements Serializable
+        {
+        /**
+         * Create a {@link Column}.
+         *
+         * @param nKind      the kind of values held
+         * @param cCapacity  the number of rows to allocate
+         */
+        Column(int nKind, int cCapacity)
+            {
+            f_nKind = nKind;
+
+            switch (nKind)
+                {
+                case KIND_FLOAT:
+                case KIND_DOUBLE:
+                    m_adValues = new double[cCapacity];
+                    m_bitsSet  = new BitSet();
+                    break;
+
+                case KIND_STRING:
+                    m_anCodes = new int[cCapacity];
+                    Arrays.fill(m_anCodes, NO_CODE);
+                    break;
+
+                case KIND_OBJECT:
+                    m_aoValues = new Object[cCapacity];
+                    break;
+
+                default:
+                    m_alValues = new long[cCapacity];
+                    m_bitsSet  = new BitSet();
+                }
+            }
+
+        /**
+         * Returns the value of a row.
+         *
+         * @param nRow        the index of the row
+         * @param dictionary  the {@link Dictionary} used to store strings
+         *
+         * @return the value
+         */
+        Object get(int nRow, Dictionary dictionary)
+            {
+            switch (f_nKind)
+                {
+                case KIND_INTEGER:
+                    return m_bitsSet.get(nRow) ? Integer.valueOf((int) m_alValues[nRow]) : null;
+
+                case KIND_LONG:
+                    return m_bitsSet.get(nRow) ? Long.valueOf(m_alValues[nRow]) : null;
+
+                case KIND_BOOLEAN:
+                    return m_bitsSet.get(nRow) ? Boolean.valueOf(m_alValues[nRow] != 0L) : null;
+
+                case KIND_FLOAT:
+                    return m_bitsSet.get(nRow) ? Float.valueOf((float) m_adValues[nRow]) : null;
+
+                case KIND_DOUBLE:
+                    return m_bitsSet.get(nRow) ? Double.valueOf(m_adValues[nRow]) : null;
+
+                case KIND_STRING:
+                    int nCode = m_anCodes[nRow];
+                    return nCode == NO_CODE ? null : dictionary.decode(nCode);
+
+                default:
+                    return m_aoValues[nRow];
+                }
+            }
+
+        /**
+         * Set the value of a row. The value must be null or of the kind held
+         * by this column.
+         *
+         * @param nRow        the index of the row
+         * @param oValue      the value, may be null
+         * @param dictionary  the {@link Dictionary} used to store strings
+         */
+        void set(int nRow, Object oValue, Dictionary dictionary)
+            {
+            switch (f_nKind)
+                {
+                case KIND_INTEGER:
+                case KIND_LONG:
+                    if (oValue != null)
+                        {
+                        m_alValues[nRow] = ((Number) oValue).longValue();
+                        }
+                    m_bitsSet.set(nRow, oValue != null);
+                    break;
+
+                case KIND_BOOLEAN:
+                    if (oValue != null)
+                        {
+                        m_alValues[nRow] = (Boolean) oValue ? 1L : 0L;
+                        }
+                    m_bitsSet.set(nRow, oValue != null);
+                    break;
+
+                case KIND_FLOAT:
+                case KIND_DOUBLE:
+                    if (oValue != null)
+                        {
+                        m_adValues[nRow] = ((Number) oValue).doubleValue();
+                        }
+                    m_bitsSet.set(nRow, oValue != null);
+                    break;
+
+                case KIND_STRING:
+                    m_anCodes[nRow] = oValue == null ? NO_CODE : dictionary.encode((String) oValue);
+                    break;
+
+                default:
+                    m_aoValues[nRow] = oValue;
+                }
+            }
+
+        /**
+         * Increase the number of rows allocated.
+         *
+         * @param cCapacity  the new number of rows
+         */
+        void grow(int cCapacity)
+            {
+            if (m_alValues != null)
+                {
+                m_alValues = Arrays.copyOf(m_alValues, cCapacity);
+                }
+            else if (m_adValues != null)
+                {
+                m_adValues = Arrays.copyOf(m_adValues, cCapacity);
+                }
+            else if (m_anCodes != null)
+                {
+                int cOld = m_anCodes.length;
+
+                m_anCodes = Arrays.copyOf(m_anCodes, cCapacity);
+                Arrays.fill(m_anCodes, cOld, cCapacity, NO_CODE);
+                }
+            else
+                {
+                m_aoValues = Arrays.copyOf(m_aoValues, cCapacity);
+                }
+            }
+
+        // ----- constants --------------------------------------------------
+
+        private static final long serialVersionUID = -5276108442372531744L;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The kind of values held.
+         */
+        private final int f_nKind;
+
+        /**
+         * The integer, long and boolean values.
+         */
+        private long[] m_alValues;
+
+        /**
+         * The float and double values.
+         */
+        private double[] m_adValues;
+
+        /**
+         * The rows whose primitive value is set, the other rows are null.
+         */
+        private BitSet m_bitsSet;
+
+        /**
+         * The codes of string values in the {@link Dictionary}.
+         */
+        private int[] m_anCodes;
+
+        /**
+         * The values of any other type.
+         */
+        private Object[] m_aoValues;
+        }
+
+    // ----- inner class: Dictionary ----------------------------------------
+
+    /**
+     * The distinct strings stored by the frames of a data type. Each string is
+     * stored once however many rows and frames hold it.
+     */
+    public static class Dictionary
+            implements Serializable
+        {
+        /**
+         * Returns the code of a string, adding it if it is not yet stored.
+         *
+         * @param sValue  the string
+         *
+         * @return the code of the string
+         */
+        public synchronized int encode(String sValue)
+            {
+            Integer nCode = f_mapCodes.get(sValue);
+
+            if (nCode == null)
+                {
+                String[] asValues = m_asValues;
+                int      cValues  = f_mapCodes.size();
+
+                if (cValues == asValues.length)
+                    {
+                    asValues = Arrays.copyOf(asValues, cValues * 2);
+                    }
+                asValues[cValues] = sValue;
+                m_asValues        = asValues;
+
+                nCode = cValues;
+                f_mapCodes.put(sValue, nCode);
+                }
+
+            return nCode;
+            }
+
+        /**
+         * Returns the string for a code.
+         *
+         * @param nCode  the code returned by {@link #encode(String)}
+         *
+         * @return the string
+         */
+        public String decode(int nCode)
+            {
+            return m_asValues[nCode];
+            }
+
+        /**
+         * Returns the number of distinct strings stored.
+         *
+         * @return the number of distinct strings
+         */
+        public synchronized int size()
+            {
+            return f_mapCodes.size();
+            }
+
+        /**
+         * Returns true if this dictionary holds enough strings that a new one
+         * should be used by the next frame, so that the strings which are no
+         * longer held by any row can be released.
+         *
+         * @return true if a new dictionary should be used
+         */
+        public boolean isFull()
+            {
+            return size() > MAX_DICTIONARY_SIZE;
+            }
+
+        // ----- constants --------------------------------------------------
+
+        private static final long serialVersionUID = 3094478231548710357L;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The code of each string.
+         */
+        private final Map<String, Integer> f_mapCodes = new HashMap<>();
+
+        /**
+         * The strings indexed by code.
+         */
+        private volatile String[] m_asValues = new String[MIN_CAPACITY];
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final long serialVersionUID = 8370127390162431547L;
+
+    /**
+     * The minimum number of rows allocated.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * The number of distinct strings after which a new {@link Dictionary} is used.
+     */
+    private static final int MAX_DICTIONARY_SIZE = 10000;
+
+    /**
+     * The code of a null string.
+     */
+    private static final int NO_CODE = -1;
+
+    /**
+     * A column of {@link Integer} values.
+     */
+    private static final int KIND_INTEGER = 0;
+
+    /**
+     * A column of {@link Long} values.
+     */
+    private static final int KIND_LONG = 1;
+
+    /**
+     * A column of {@link Boolean} values.
+     */
+    private static final int KIND_BOOLEAN = 2;
+
+    /**
+     * A column of {@link Float} values.
+     */
+    private static final int KIND_FLOAT = 3;
+
+    /**
+     * A column of {@link Double} values.
+     */
+    private static final int KIND_DOUBLE = 4;
+
+    /**
+     * A column of {@link String} values.
+     */
+    private static final int KIND_STRING = 5;
+
+    /**
+     * A column of values of any other type, or of different types.
+     */
+    private static final int KIND_OBJECT = 6;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The columns, which are null until a value other than null is set.
+     */
+    private final Column[] f_aColumns;
+
+    /**
+     * The {@link Dictionary} used to store strings.
+     */
+    private final Dictionary f_dictionary;
+
+    /**
+     * The number of rows added.
+     */
+    private int m_cRows;
+
+    /**
+     * The number of rows allocated.
+     */
+    private int m_cCapacity;
+    }
@@ -62,6 +62,25 @@ public interface DataRetriever
      */
     public String getReporterReport();
 
+    /**
+     * Return the indexes of the columns which are cumulative counters, for
+     * which the change between refreshes is calculated.
+     *
+     * @return the indexes of the counter columns
+     */
+    public int[] getCounterColumns();
+
+    /**
+     * Start a collection of this data type. The rows created until
+     * {@link #endFrame()} is called are stored in a new {@link DataFrame}.
+     */
+    public void startFrame();
+
+    /**
+     * End the collection started by {@link #startFrame()}.
+     */
+    public void endFrame();
+
     /**
      * Return a {@link List} of statistics given a {@link TabularData} output
      * generated by the reporter.
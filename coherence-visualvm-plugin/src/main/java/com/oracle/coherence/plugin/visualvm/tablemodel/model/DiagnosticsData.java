@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.diagnostics.LatencyHistogram;
+import com.oracle.coherence.plugin.visualvm.diagnostics.PluginDiagnostics;
+
+import java.io.Serializable;
+
+/**
+ * A class to hold the statistics recorded by the {@link PluginDiagnostics} for
+ * a request, with the latencies in milliseconds.
+ *
+ * @author agent 2026.10.16
+ */
+public class DiagnosticsData
+        implements Data, Serializable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create {@link DiagnosticsData} from the statistics for a request.
+     *
+     * @param statistics  the statistics for a request
+     */
+    public DiagnosticsData(PluginDiagnostics.Statistics statistics)
+        {
+        LatencyHistogram histogram = statistics.getHistogram();
+
+        f_aoColumnValues[CATEGORY]    = statistics.getCategory().getLabel();
+        f_aoColumnValues[NAME]        = statistics.getName();
+        f_aoColumnValues[COUNT]       = histogram.getCount();
+        f_aoColumnValues[ERRORS]      = statistics.getErrors();
+        f_aoColumnValues[FALLBACKS]   = statistics.getFallbacks();
+        f_aoColumnValues[BYTES]       = statistics.getBytes();
+        f_aoColumnValues[MEAN_MILLIS] = (float) (histogram.getMean() / 1000.0);
+        f_aoColumnValues[P50_MILLIS]  = histogram.getPercentile(50.0) / 1000.0f;
+        f_aoColumnValues[P90_MILLIS]  = histogram.getPercentile(90.0) / 1000.0f;
+        f_aoColumnValues[P99_MILLIS]  = histogram.getPercentile(99.0) / 1000.0f;
+        f_aoColumnValues[MAX_MILLIS]  = histogram.getMax() / 1000.0f;
+        }
+
+    // ----- Data methods ---------------------------------------------------
+
+    @Override
+    public Object getColumn(int nColumn)
+        {
+        return f_aoColumnValues[nColumn];
+        }
+
+    @Override
+    public void setColumn(int nColumn, Object oValue)
+        {
+        f_aoColumnValues[nColumn] = oValue;
+        }
+
+    @Override
+    public int getColumnCount()
+        {
+        return f_aoColumnValues.length;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final long serialVersionUID = 2931765047616290853L;
+
+    /**
+     * Array index for the category of the request.
+     */
+    public static final int CATEGORY = 0;
+
+    /**
+     * Array index for the name of the request.
+     */
+    public static final int NAME = 1;
+
+    /**
+     * Array index for the number of requests.
+     */
+    public static final int COUNT = 2;
+
+    /**
+     * Array index for the number of requests which failed.
+     */
+    public static final int ERRORS = 3;
+
+    /**
+     * Array index for the number of fallbacks from the reporter to JMX.
+     */
+    public static final int FALLBACKS = 4;
+
+    /**
+     * Array index for the bytes received.
+     */
+    public static final int BYTES = 5;
+
+    /**
+     * Array index for the mean latency.
+     */
+    public static final int MEAN_MILLIS = 6;
+
+    /**
+     * Array index for the median latency.
+     */
+    public static final int P50_MILLIS = 7;
+
+    /**
+     * Array index for the 90th percentile latency.
+     */
+    public static final int P90_MILLIS = 8;
+
+    /**
+     * Array index for the 99th percentile latency.
+     */
+    public static final int P99_MILLIS = 9;
+
+    /**
+     * Array index for the maximum latency.
+     */
+    public static final int MAX_MILLIS = 10;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The column values.
+     */
+    private final Object[] f_aoColumnValues = new Object[MAX_MILLIS + 1];
+    }
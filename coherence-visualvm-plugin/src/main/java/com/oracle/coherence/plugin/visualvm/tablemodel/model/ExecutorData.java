@@ -165,7 +165,7 @@ public class ExecutorData
        Data data = mapData.get(sName);
        if (data == null)
            {
-           data = new ExecutorData();
+           data = addRow(new ExecutorData());
            data.setColumn(NAME, sName);
            data.setColumn(DESCRIPTION, sDescription);
            data.setColumn(EXECUTOR_COUNT, 0L);
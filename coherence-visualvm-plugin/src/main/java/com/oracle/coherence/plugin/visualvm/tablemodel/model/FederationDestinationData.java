@@ -62,7 +62,7 @@ public class FederationDestinationData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new FederationDestinationData();
+        Data data = addRow(new FederationDestinationData());
 
         for (Column col : Column.values())
             {
@@ -109,7 +109,7 @@ public class FederationDestinationData
                 {
                 for (int i = 0; i < nodeItems.size() ; i++)
                     {
-                    Data     data             = new FederationDestinationData();
+                    Data     data             = addRow(new FederationDestinationData());
                     JsonNode nodeItem         = nodeItems.get(i);
                     String   sParticipantName = nodeItem.get("participantName").asText();
 
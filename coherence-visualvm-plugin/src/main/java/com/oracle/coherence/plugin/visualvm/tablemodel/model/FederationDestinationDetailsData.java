@@ -92,7 +92,7 @@ public class FederationDestinationDetailsData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new FederationDestinationDetailsData();
+        Data data = addRow(new FederationDestinationDetailsData());
 
         for (Column col : Column.values())
             {
@@ -204,7 +204,7 @@ public class FederationDestinationDetailsData
             for (int j = 0; j < nodeFederationItems.size(); j++)
                 {
                 JsonNode participantNode = nodeFederationItems.get(j);
-                Data     data            = new FederationDestinationDetailsData();
+                Data     data            = addRow(new FederationDestinationDetailsData());
 
                 for (Column col : Column.values())
                     {
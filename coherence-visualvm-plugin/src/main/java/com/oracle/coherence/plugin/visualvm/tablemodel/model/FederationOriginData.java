@@ -62,7 +62,7 @@ public class FederationOriginData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new FederationOriginData();
+        Data data = addRow(new FederationOriginData());
 
         for (Column col : Column.values())
             {
@@ -108,7 +108,7 @@ public class FederationOriginData
                 {
                 for (int i = 0; i < itemsNode.size() ; i++)
                     {
-                    Data     data             = new FederationOriginData();
+                    Data     data             = addRow(new FederationOriginData());
                     JsonNode itemNode         = itemsNode.get(i);
                     String   sParticipantName = itemNode.get("participantName").asText();
 
@@ -93,7 +93,7 @@ public class FederationOriginDetailsData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new FederationOriginDetailsData();
+        Data data = addRow(new FederationOriginDetailsData());
 
         for (Column col : Column.values())
             {
@@ -142,7 +142,7 @@ public class FederationOriginDetailsData
             for (int j = 0; j < nodeParticipantItems.size() ; j++)
                 {
                 JsonNode participantNode = nodeParticipantItems.get(j);
-                Data data = new FederationOriginDetailsData();
+                Data data = addRow(new FederationOriginDetailsData());
 
                 for (Column col : Column.values())
                     {
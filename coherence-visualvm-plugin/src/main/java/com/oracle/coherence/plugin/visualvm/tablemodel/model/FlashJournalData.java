@@ -50,7 +50,7 @@ public class FlashJournalData
     @Override
     protected Data getDataObject()
         {
-        return new FlashJournalData();
+        return addRow(new FlashJournalData());
         }
 
     @Override
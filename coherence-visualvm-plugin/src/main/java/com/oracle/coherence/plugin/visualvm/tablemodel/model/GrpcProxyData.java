@@ -67,10 +67,16 @@ public class GrpcProxyData
         return "reports/visualvm/grpc-proxy-stats.xml";
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {SUCCESSFUL_REQUEST_COUNT, ERROR_REQUEST_COUNT, RESPONSES_SENT_COUNT, MESSAGES_RECEIVED_COUNT};
+        }
+
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new GrpcProxyData();
+        Data data = addRow(new GrpcProxyData());
         int  nStart = 1;
 
         data.setColumn(NODE_ID, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
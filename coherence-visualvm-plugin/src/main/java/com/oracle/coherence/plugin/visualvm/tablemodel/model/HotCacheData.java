@@ -76,7 +76,7 @@ public class HotCacheData
                 ObjectName hotCacheNameObjName = (ObjectName) nodIter.next();
                 Integer nodeId = Integer.valueOf(hotCacheNameObjName.getKeyProperty("nodeId"));
                 String member       = hotCacheNameObjName.getKeyProperty("member");
-                data = new HotCacheData();
+                data = addRow(new HotCacheData());
                 AttributeList  listAttr = requestSender.getAttributes(hotCacheNameObjName,
                         new String[]{ATTR_MEMBER, ATTR_NUMBER_OF_OPERATIONS_PROCESSED, ATTR_START_TIME, ATTR_TRAIL_FILENAME, ATTR_TRAIL_FILEPOS, ATTR_ExecTime_PerOpr, ATTR_ExecTime_PerTr,
                         ATTR_Invocations_PerOp, ATTR_LastExecTime_PerOp, ATTR_LastOpRepLag, ATTR_OpRepLag, ATTR_OpPerTr});
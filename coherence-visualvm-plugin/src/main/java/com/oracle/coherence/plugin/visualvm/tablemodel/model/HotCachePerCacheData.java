@@ -86,7 +86,7 @@ public class HotCachePerCacheData
 
                 for (Map.Entry<String, Object[]> entry : tabledata.entrySet())
                     {
-                    data = new HotCachePerCacheData();
+                    data = addRow(new HotCachePerCacheData());
                     data.setColumn(HotCachePerCacheData.CacheOperation, entry.getKey());
                     data.setColumn(HotCachePerCacheData.Count, ((Number)(entry.getValue())[0]).longValue());
                     data.setColumn(HotCachePerCacheData.Max, ((Number)(entry.getValue())[1]).longValue());
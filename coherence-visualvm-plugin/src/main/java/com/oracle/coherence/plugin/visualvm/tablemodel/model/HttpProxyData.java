@@ -75,7 +75,7 @@ public class HttpProxyData extends AbstractData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data    data = new HttpProxyData();
+        Data    data = addRow(new HttpProxyData());
         boolean fMT  = aoColumns[2] != null;
         int  nStart = 3;
 
@@ -134,7 +134,7 @@ public class HttpProxyData extends AbstractData
 
                     Data data = mapData.get(sService);
                     if (data == null) {
-                        data = new HttpProxyData();
+                        data = addRow(new HttpProxyData());
                         data.setColumn(SERVICE_NAME, sService);
                         data.setColumn(HTTP_SERVER_TYPE, sHttpServer);
                         data.setColumn(MEMBER_COUNT, 0);
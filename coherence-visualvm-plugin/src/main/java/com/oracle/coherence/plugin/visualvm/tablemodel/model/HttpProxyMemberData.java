@@ -79,7 +79,7 @@ public class HttpProxyMemberData extends AbstractData
     @Override
     public Data processReporterData (Object[] aoColumns, VisualVMModel model)
         {
-        Data data   = new HttpProxyMemberData();
+        Data data   = addRow(new HttpProxyMemberData());
         int  nStart = 1;
 
         data.setColumn(HttpProxyMemberData.NODE_ID, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
@@ -152,7 +152,7 @@ public class HttpProxyMemberData extends AbstractData
                     // only include selected service
                     if (sService.equals(sSelectedService))
                         {
-                        Data data = new HttpProxyMemberData();
+                        Data data = addRow(new HttpProxyMemberData());
 
                         data.setColumn(HttpProxyMemberData.NODE_ID, proxyDetails.get("nodeId").asInt());
                         data.setColumn(HttpProxyMemberData.HOST_IP, proxyDetails.get("hostIP").asText());
@@ -92,7 +92,7 @@ public class HttpSessionData
                 ObjectName objName = (ObjectName) applicationIter.next();
                 String     sAppId  = objName.getKeyProperty("appId");
 
-                data = new HttpSessionData();
+                data = addRow(new HttpSessionData());
 
                 data.setColumn(HttpSessionData.APPLICATION_ID, sAppId);
                 data.setColumn(HttpSessionData.PLATFORM, isWebLogicServer ? "WebLogic" : "Other");
@@ -70,7 +70,7 @@ public class JCacheConfigurationData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new JCacheConfigurationData();
+        Data data = addRow(new JCacheConfigurationData());
         // the identifier for this row is the configuration name and cache name
         Pair<String, String> key = new Pair<String, String>(aoColumns[2].toString(), aoColumns[3].toString());
 
@@ -71,7 +71,7 @@ public class JCacheStatisticsData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new JCacheStatisticsData();
+        Data data = addRow(new JCacheStatisticsData());
 
         // the identifier for this row is the configuration name and cache name
         Pair<String, String> key = new Pair<String, String>(aoColumns[2].toString(), aoColumns[3].toString());
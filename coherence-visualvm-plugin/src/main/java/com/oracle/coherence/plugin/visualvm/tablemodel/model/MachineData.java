@@ -26,10 +26,14 @@
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,60 +82,81 @@ public class MachineData
 
         try
             {
-            // loop through each of the entries and get the data for a given node only
-            // as we know that nodes on the same machine will have the same results
-            Iterator<Map.Entry<String, Integer>> iter = initialMachineMap.entrySet().iterator();
+            // we only get the data for a given node on each machine as we know that
+            // nodes on the same machine will have the same results
+            Map<String, OperatingSystem> mapMachines = getOperatingSystems(requestSender, initialMachineMap);
 
-            while (iter.hasNext())
-                {
-                Map.Entry<String, Integer> entry = iter.next();
-                String machineName = entry.getKey();
+            // read the attributes for all machines at once so the reads are issued
+            // concurrently rather than one machine after another. The machines are
+            // grouped by the attributes to read which are the same once detected
+            boolean                            fLoadAverage = model.isLoadAverageAvailable();
+            Map<List<String>, Set<ObjectName>> mapGroups    = new HashMap<>();
 
-                Set<ObjectName> resultSet = requestSender.getClusterMemberOS(entry.getValue());
+            for (OperatingSystem os : mapMachines.values())
+                {
+                mapGroups.computeIfAbsent(os.getAttributes(fLoadAverage), k -> new HashSet<>()).add(os.getObjectName());
+                }
 
-                for (Iterator<ObjectName> iterResults = resultSet.iterator(); iterResults.hasNext(); )
-                    {
-                    ObjectName objectName = iterResults.next();
+            Map<ObjectName, AttributeList> mapAttributes = new HashMap<>();
+            for (Map.Entry<List<String>, Set<ObjectName>> entry : mapGroups.entrySet())
+                {
+                mapAttributes.putAll(requestSender.getAttributes(entry.getValue(), entry.getKey().toArray(new String[0])));
+                }
 
-                    // IBM JVM on AIX for some reason has different attribute name TotalPhysicalMemory
-                    // in java.lang:type=OperatingSystem than other JVM's which use
-                    // TotalPhysicalMemorySize. (see Bug 22366612)
-                    // we cannot use System.getProperty("os.name") as this will only get the O/S the
-                    // JVisualvm plug-in is running on, not the target JVM O/S.
+            for (Map.Entry<String, OperatingSystem> entry : mapMachines.entrySet())
+                {
+                String          machineName = entry.getKey();
+                OperatingSystem os          = entry.getValue();
+                AttributeList   listAttr    = mapAttributes.get(os.getObjectName());
 
-                    data = new MachineData();
+                if (listAttr == null)
+                    {
+                    // the member has left so the MBean is resolved again next time
+                    f_mapOperatingSystems.remove(machineName);
+                    continue;
+                    }
 
-                    AttributeList listAttr = requestSender.getAttributes(objectName,
-                            new String[] { "Name", ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_AVAIL_PROC, ATTR_TOTAL_MEM_AIX, ATTR_TOTAL_MEM });
+                // IBM JVM on AIX for some reason has different attribute name TotalPhysicalMemory
+                // in java.lang:type=OperatingSystem than other JVM's which use
+                // TotalPhysicalMemorySize. (see Bug 22366612)
+                // we cannot use System.getProperty("os.name") as this will only get the O/S the
+                // JVisualvm plug-in is running on, not the target JVM O/S.
+                if (os.getMemoryAttribute() == null)
+                    {
+                    String sOSType = getAttributeValueAsString(listAttr, "Name");
+                    os.setMemoryAttribute(sOSType != null && sOSType.toLowerCase().contains("aix")
+                                          ? ATTR_TOTAL_MEM_AIX : ATTR_TOTAL_MEM);
+                    }
 
-                    String sOSType     = getAttributeValueAsString(listAttr, "Name");
-                    String sMemoryAttr = sOSType.toLowerCase().contains("aix") ? ATTR_TOTAL_MEM_AIX : ATTR_TOTAL_MEM;
+                data = addRow(new MachineData());
 
-                    data.setColumn(MACHINE_NAME, machineName);
-                    data.setColumn(FREE_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, ATTR_FREE_MEM)));
+                data.setColumn(MACHINE_NAME, machineName);
+                data.setColumn(FREE_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, ATTR_FREE_MEM)));
 
-                    loadAverage = Double.parseDouble(getAttributeValueAsString(listAttr, ATTR_LOAD_AVG));
-                    if (loadAverage == -1)
-                        {
-                        model.setLoadAverageAvailable(false);
-                        }
-                    if (!model.isLoadAverageAvailable())
-                        {
-                        loadAverage = Double.parseDouble(requestSender.getAttribute(objectName, "SystemCpuLoad"));
-                        }
+                String sLoadAverage = getAttributeValueAsString(listAttr, ATTR_LOAD_AVG);
+                if (sLoadAverage != null && Double.parseDouble(sLoadAverage) == -1)
+                    {
+                    model.setLoadAverageAvailable(false);
+                    }
 
-                    data.setColumn(SYSTEM_LOAD_AVERAGE, Double.valueOf(loadAverage));
-                    data.setColumn(PROCESSOR_COUNT, Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_AVAIL_PROC)));
-                    data.setColumn(TOTAL_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, sMemoryAttr)));
+                // the CPU load is read with the attributes of a machine when the load
+                // average is known to be unavailable or the machine is first read,
+                // the load average is used if the machine does not report the CPU load
+                String sCpuLoad = getAttributeValueAsString(listAttr, ATTR_CPU_LOAD);
+                loadAverage = Double.parseDouble(model.isLoadAverageAvailable() || sCpuLoad == null
+                                                 ? sLoadAverage : sCpuLoad);
 
-                    data.setColumn(PERCENT_FREE_MEMORY,
-                                   ((Long) data.getColumn(FREE_PHYSICAL_MEMORY) * 1.0f)
-                                   / (Long) data.getColumn(TOTAL_PHYSICAL_MEMORY));
+                data.setColumn(SYSTEM_LOAD_AVERAGE, Double.valueOf(loadAverage));
+                data.setColumn(PROCESSOR_COUNT, Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_AVAIL_PROC)));
+                data.setColumn(TOTAL_PHYSICAL_MEMORY,
+                               Long.parseLong(getAttributeValueAsString(listAttr, os.getMemoryAttribute())));
 
-                    // put it into the mapData with just a machine as the key
-                    mapData.put(machineName, data);
+                data.setColumn(PERCENT_FREE_MEMORY,
+                               ((Long) data.getColumn(FREE_PHYSICAL_MEMORY) * 1.0f)
+                               / (Long) data.getColumn(TOTAL_PHYSICAL_MEMORY));
 
-                    }
+                // put it into the mapData with just a machine as the key
+                mapData.put(machineName, data);
                 }
 
             return new ArrayList<>(mapData.entrySet());
@@ -165,6 +190,180 @@ public class MachineData
         return null;
         }
 
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the {@link OperatingSystem} MBean of the given member on each machine.
+     * The MBean of each machine is remembered across refreshes and is only resolved
+     * again if the member has changed. Over JMX the MBeans of all unresolved
+     * machines are resolved by a single query.
+     *
+     * @param requestSender      the {@link RequestSender} to use
+     * @param initialMachineMap  the machines along with a member id on that machine
+     *
+     * @return the {@link OperatingSystem} MBean for each machine
+     *
+     * @throws Exception in case of errors
+     */
+    private Map<String, OperatingSystem> getOperatingSystems(RequestSender requestSender,
+                                                             SortedMap<String, Integer> initialMachineMap)
+            throws Exception
+        {
+        Map<String, OperatingSystem> mapMachines = new TreeMap<>();
+        Map<String, ObjectName>      mapByNode   = null;
+
+        // forget the machines which are no longer part of the cluster
+        f_mapOperatingSystems.keySet().retainAll(initialMachineMap.keySet());
+
+        for (Map.Entry<String, Integer> entry : initialMachineMap.entrySet())
+            {
+            String          machineName = entry.getKey();
+            Integer         nNodeId     = entry.getValue();
+            OperatingSystem os          = f_mapOperatingSystems.get(machineName);
+
+            if (os == null || !os.getNodeId().equals(nNodeId))
+                {
+                ObjectName objectName = null;
+
+                if (requestSender instanceof JMXRequestSender)
+                    {
+                    if (mapByNode == null)
+                        {
+                        mapByNode = new HashMap<>();
+                        for (ObjectName name : requestSender.getCompleteObjectName(new ObjectName(PATTERN_OPERATING_SYSTEM)))
+                            {
+                            mapByNode.putIfAbsent(name.getKeyProperty("nodeId"), name);
+                            }
+                        }
+                    objectName = mapByNode.get(String.valueOf(nNodeId));
+                    }
+                else
+                    {
+                    Iterator<ObjectName> iter = requestSender.getClusterMemberOS(nNodeId).iterator();
+                    if (iter.hasNext())
+                        {
+                        objectName = iter.next();
+                        }
+                    }
+
+                if (objectName == null)
+                    {
+                    continue;
+                    }
+
+                os = new OperatingSystem(nNodeId, objectName);
+                f_mapOperatingSystems.put(machineName, os);
+                }
+
+            mapMachines.put(machineName, os);
+            }
+
+        return mapMachines;
+        }
+
+    // ----- inner class: OperatingSystem -----------------------------------
+
+    /**
+     * The operating system MBean of the member read for a machine, along with the
+     * attributes detected for it.
+     */
+    private static class OperatingSystem
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create an {@link OperatingSystem}.
+         *
+         * @param nNodeId     the id of the member read for the machine
+         * @param objectName  the operating system MBean of the member
+         */
+        private OperatingSystem(Integer nNodeId, ObjectName objectName)
+            {
+            f_nNodeId    = nNodeId;
+            f_objectName = objectName;
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Returns the id of the member read for the machine.
+         *
+         * @return the id of the member
+         */
+        public Integer getNodeId()
+            {
+            return f_nNodeId;
+            }
+
+        /**
+         * Returns the operating system MBean of the member.
+         *
+         * @return the operating system MBean
+         */
+        public ObjectName getObjectName()
+            {
+            return f_objectName;
+            }
+
+        /**
+         * Returns the attribute holding the total physical memory, or null if
+         * the machine has not been read yet.
+         *
+         * @return the attribute holding the total physical memory
+         */
+        public String getMemoryAttribute()
+            {
+            return m_sMemoryAttr;
+            }
+
+        /**
+         * Sets the attribute holding the total physical memory.
+         *
+         * @param sMemoryAttr  the attribute holding the total physical memory
+         */
+        public void setMemoryAttribute(String sMemoryAttr)
+            {
+            m_sMemoryAttr = sMemoryAttr;
+            }
+
+        /**
+         * Returns the attributes to read for the machine. All the attributes
+         * which may be needed are read the first time, after which only the
+         * attributes detected to be needed are read.
+         *
+         * @param fLoadAverage  true if the load average is available
+         *
+         * @return the attributes to read
+         */
+        public List<String> getAttributes(boolean fLoadAverage)
+            {
+            return m_sMemoryAttr == null
+                   ? Arrays.asList("Name", ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_CPU_LOAD, ATTR_AVAIL_PROC,
+                                   ATTR_TOTAL_MEM_AIX, ATTR_TOTAL_MEM)
+                   : fLoadAverage
+                     ? Arrays.asList(ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_AVAIL_PROC, m_sMemoryAttr)
+                     : Arrays.asList(ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_CPU_LOAD, ATTR_AVAIL_PROC, m_sMemoryAttr);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The id of the member read for the machine.
+         */
+        private final Integer f_nNodeId;
+
+        /**
+         * The operating system MBean of the member.
+         */
+        private final ObjectName f_objectName;
+
+        /**
+         * The attribute holding the total physical memory, or null if the
+         * machine has not been read yet.
+         */
+        private String m_sMemoryAttr;
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final long serialVersionUID = -4146745462482520312L;
@@ -214,6 +413,11 @@ public class MachineData
      */
     protected static final String ATTR_LOAD_AVG = "SystemLoadAverage";
 
+    /**
+     * JMX attribute name for System CPU Load.
+     */
+    protected static final String ATTR_CPU_LOAD = "SystemCpuLoad";
+
     /**
      * JMX attribute name for Available Processors.
      */
@@ -228,4 +432,17 @@ public class MachineData
      * JMX attribute name for Total Physical Memory Size for IBM JDK on AIX.
      */
     protected static final String ATTR_TOTAL_MEM_AIX = "TotalPhysicalMemory";
+
+    /**
+     * The pattern for the operating system MBeans of all members.
+     */
+    private static final String PATTERN_OPERATING_SYSTEM =
+            "Coherence:type=Platform,Domain=java.lang,subType=OperatingSystem,*";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The operating system MBean read for each machine, remembered across refreshes.
+     */
+    private final transient Map<String, OperatingSystem> f_mapOperatingSystems = new HashMap<>();
     }
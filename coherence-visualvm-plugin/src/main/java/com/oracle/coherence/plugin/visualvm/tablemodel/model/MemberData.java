@@ -25,12 +25,16 @@
 
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.core.JsonParser;
+
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemHandler;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import java.io.IOException;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -45,6 +49,7 @@ import java.util.logging.Logger;
 import javax.management.AttributeList;
 import javax.management.ObjectName;
 
+import static com.oracle.coherence.plugin.visualvm.helper.JMXUtils.getAttributeValue;
 import static com.oracle.coherence.plugin.visualvm.helper.JMXUtils.getAttributeValueAsString;
 
 /**
@@ -64,7 +69,7 @@ public class MemberData
      */
     public MemberData()
         {
-        super(PRODUCT_EDITION + 1);
+        super(PACKETS_RECEIVED + 1);
         }
 
     // ----- DataRetriever methods ------------------------------------------
@@ -85,12 +90,13 @@ public class MemberData
 
                 Integer    nodeId          = Integer.valueOf(nodeNameObjName.getKeyProperty("nodeId"));
 
-                data = new MemberData();
+                data = addRow(new MemberData());
 
                 AttributeList listAttr = requestSender.getAttributes(nodeNameObjName,
                   new String[] { ATTR_PUB_SUCCESS_RATE, ATTR_REC_SUCCESS_RATE, ATTR_MEM_MAX_MB,
                                  ATTR_MEM_AVAIL_MB, ATTR_SEND_Q_SIZE, ATTR_UNICAST_ADDR,
-                                 ATTR_ROLE_NAME, ATTR_UNICAST_PORT, ATTR_PRODUCT_EDITION });
+                                 ATTR_ROLE_NAME, ATTR_UNICAST_PORT, ATTR_PRODUCT_EDITION,
+                                 ATTR_PACKETS_SENT, ATTR_PACKETS_RECEIVED });
 
                 data.setColumn(MemberData.NODE_ID, nodeId);
                 data.setColumn(MemberData.PUBLISHER_SUCCESS, Float.parseFloat(getAttributeValueAsString(listAttr, ATTR_PUB_SUCCESS_RATE)));
@@ -109,6 +115,9 @@ public class MemberData
                 data.setColumn(MemberData.PRODUCT_EDITION, (String) getAttributeValueAsString(listAttr, ATTR_PRODUCT_EDITION));
                 data.setColumn(MemberData.PORT, Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_UNICAST_PORT)));
                 data.setColumn(MemberData.STORAGE_ENABLED, "true");
+                data.setColumn(MemberData.PACKETS_SENT, getCounterValue(getAttributeValue(listAttr, ATTR_PACKETS_SENT)));
+                data.setColumn(MemberData.PACKETS_RECEIVED,
+                               getCounterValue(getAttributeValue(listAttr, ATTR_PACKETS_RECEIVED)));
 
                 mapData.put(nodeId, data);
                 }
@@ -123,6 +132,12 @@ public class MemberData
             }
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {PACKETS_SENT, PACKETS_RECEIVED};
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -132,7 +147,7 @@ public class MemberData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new MemberData();
+        Data data = addRow(new MemberData());
 
         data.setColumn(MemberData.NODE_ID, Integer.valueOf(getNumberValue(aoColumns[2].toString())));
         data.setColumn(MemberData.PUBLISHER_SUCCESS, Float.valueOf(aoColumns[3].toString()));
@@ -153,6 +168,8 @@ public class MemberData
         data.setColumn(MemberData.PORT, Integer.valueOf(getNumberValue(aoColumns[10].toString())));
         data.setColumn(MemberData.PRODUCT_EDITION, aoColumns[14].toString());
         data.setColumn(MemberData.STORAGE_ENABLED, "true");
+        data.setColumn(MemberData.PACKETS_SENT, getCounterValue(aoColumns[15]));
+        data.setColumn(MemberData.PACKETS_RECEIVED, getCounterValue(aoColumns[16]));
 
         return data;
         }
@@ -161,43 +178,82 @@ public class MemberData
     public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying(VisualVMModel model, HttpRequestSender requestSender)
             throws Exception
         {
-        JsonNode                rootClusterMembers = requestSender.getListOfClusterMembers();
-        SortedMap<Object, Data> mapData         = new TreeMap<Object, Data>();
-
-        JsonNode itemsNode = rootClusterMembers.get("items");
+        SortedMap<Object, Data> mapData = new TreeMap<Object, Data>();
 
-        if (itemsNode != null && itemsNode.isArray())
+        // stream the members directly into data rows rather than building a tree
+        requestSender.streamListOfClusterMembers(new JsonItemHandler()
             {
-            for (int i = 0; i < ((ArrayNode) itemsNode).size(); i++)
+            @Override
+            public void startItem()
                 {
-                JsonNode clusterMember = (JsonNode) itemsNode.get(i);
+                m_data = addRow(new MemberData());
+                m_data.setColumn(MemberData.STORAGE_ENABLED, "true");
+                }
 
-                Data data = new MemberData();
+            @Override
+            public void field(String sField, JsonParser parser)
+                    throws IOException
+                {
+                switch (sField)
+                    {
+                    case "nodeId":
+                        m_data.setColumn(MemberData.NODE_ID, parser.getValueAsInt());
+                        break;
+                    case "publisherSuccessRate":
+                        m_data.setColumn(MemberData.PUBLISHER_SUCCESS, (float) parser.getValueAsDouble());
+                        break;
+                    case "receiverSuccessRate":
+                        m_data.setColumn(MemberData.RECEIVER_SUCCESS, (float) parser.getValueAsDouble());
+                        break;
+                    case "sendQueueSize":
+                        m_data.setColumn(MemberData.SENDQ_SIZE, (int) parser.getValueAsLong());
+                        break;
+                    case "memoryMaxMB":
+                        m_data.setColumn(MemberData.MAX_MEMORY, (int) parser.getValueAsLong());
+                        break;
+                    case "memoryAvailableMB":
+                        m_data.setColumn(MemberData.FREE_MEMORY, (int) parser.getValueAsLong());
+                        break;
+                    case "unicastAddress":
+                        m_data.setColumn(MemberData.ADDRESS, parser.getText());
+                        break;
+                    case "roleName":
+                        m_data.setColumn(MemberData.ROLE_NAME, parser.getText());
+                        break;
+                    case "productEdition":
+                        m_data.setColumn(MemberData.PRODUCT_EDITION, parser.getText());
+                        break;
+                    case "unicastPort":
+                        m_data.setColumn(MemberData.PORT, (int) parser.getValueAsLong());
+                        break;
+                    case "packetsSent":
+                        m_data.setColumn(MemberData.PACKETS_SENT, parser.getValueAsLong());
+                        break;
+                    case "packetsReceived":
+                        m_data.setColumn(MemberData.PACKETS_RECEIVED, parser.getValueAsLong());
+                        break;
+                    }
+                }
 
-                data.setColumn(MemberData.NODE_ID, Integer.valueOf(clusterMember.get("nodeId").asText()));
-                data.setColumn(MemberData.PUBLISHER_SUCCESS,
-                        Float.valueOf(clusterMember.get("publisherSuccessRate").asText()));
-                data.setColumn(MemberData.RECEIVER_SUCCESS,
-                        Float.valueOf(clusterMember.get("receiverSuccessRate").asText()));
-                data.setColumn(MemberData.SENDQ_SIZE,
-                        Integer.valueOf(getNumberValue(clusterMember.get("sendQueueSize").asText())));
+            @Override
+            public void endItem()
+                {
+                Integer nMaxMemory  = (Integer) m_data.getColumn(MemberData.MAX_MEMORY);
+                Integer nFreeMemory = (Integer) m_data.getColumn(MemberData.FREE_MEMORY);
+
+                if (nMaxMemory != null && nFreeMemory != null)
+                    {
+                    m_data.setColumn(MemberData.USED_MEMORY, nMaxMemory - nFreeMemory);
+                    }
+                mapData.put(m_data.getColumn(0), m_data);
+                }
 
-                data.setColumn(MemberData.MAX_MEMORY,
-                        Integer.valueOf(getNumberValue(clusterMember.get("memoryMaxMB").asText())));
-                data.setColumn(MemberData.FREE_MEMORY,
-                        Integer.valueOf(getNumberValue(clusterMember.get("memoryAvailableMB").asText())));
+            /**
+             * The data for the current member.
+             */
+            private Data m_data;
+            });
 
-                data.setColumn(MemberData.USED_MEMORY,
-                        (Integer) data.getColumn(MemberData.MAX_MEMORY)
-                                - (Integer) data.getColumn(MemberData.FREE_MEMORY));
-                data.setColumn(MemberData.ADDRESS, clusterMember.get("unicastAddress").asText());
-                data.setColumn(MemberData.ROLE_NAME, clusterMember.get("roleName").asText());
-                data.setColumn(MemberData.PRODUCT_EDITION, clusterMember.get("productEdition").asText());
-                data.setColumn(MemberData.PORT, Integer.valueOf(getNumberValue(clusterMember.get("unicastPort").asText())));
-                data.setColumn(MemberData.STORAGE_ENABLED, "true");
-                mapData.put(data.getColumn(0), data);
-                }
-            }
         return mapData;
         }
 
@@ -265,6 +321,16 @@ public class MemberData
      */
     public static int PRODUCT_EDITION = 11;
 
+    /**
+     * Array index for packets sent.
+     */
+    public static int PACKETS_SENT = 12;
+
+    /**
+     * Array index for packets received.
+     */
+    public static int PACKETS_RECEIVED = 13;
+
     /**
      * The logger object to use.
      */
@@ -319,4 +385,14 @@ public class MemberData
      * JMX Attributes for Product Edition.
      */
     private static final String ATTR_PRODUCT_EDITION = "ProductEdition";
+
+    /**
+     * JMX attribute name for Packets Sent.
+     */
+    private static final String ATTR_PACKETS_SENT = "PacketsSent";
+
+    /**
+     * JMX attribute name for Packets Received.
+     */
+    private static final String ATTR_PACKETS_RECEIVED = "PacketsReceived";
     }
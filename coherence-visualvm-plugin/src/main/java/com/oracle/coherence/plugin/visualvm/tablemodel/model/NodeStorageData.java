@@ -163,7 +163,7 @@ public class NodeStorageData
         // populate the real return map
         mapNodes.forEach((k, v) ->
             {
-            NodeStorageData data = new NodeStorageData();
+            NodeStorageData data = addRow(new NodeStorageData());
             data.setColumn(NODE_ID, k);
             data.setColumn(STORAGE_ENABLED, v > 0);
             mapData.put(data.getColumn(NODE_ID), data);
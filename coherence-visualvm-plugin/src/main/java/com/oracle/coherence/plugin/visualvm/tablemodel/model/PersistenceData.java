@@ -337,7 +337,7 @@ public class PersistenceData
                             RequestSender requestSender) throws Exception {
         // create the entry
         String sStatus = "";
-        Data data = new PersistenceData();
+        Data data = addRow(new PersistenceData());
 
         data.setColumn(SERVICE_NAME, sServiceName);
         data.setColumn(PERSISTENCE_MODE, sPersistenceMode);
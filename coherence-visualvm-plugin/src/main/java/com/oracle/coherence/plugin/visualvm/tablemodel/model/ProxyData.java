@@ -99,7 +99,7 @@ public class ProxyData
                 if ((!"NameService".equals(sServiceName) || model.isIncludeNameService()) &&
                     PROTOCOL_TCP.equals(sProtocol))
                     {
-                    data = new ProxyData();
+                    data = addRow(new ProxyData());
 
                     String sActualServiceName = (sDomainPartition == null ? "" : sDomainPartition + SERVICE_SEP) +
                                                 sServiceName;
@@ -151,7 +151,7 @@ public class ProxyData
         // if its not the NameService, include anyway
         if (("NameService".equals(sServiceName) && model.isIncludeNameService()) || !"NameService".equals(sServiceName))
             {
-            data = new ProxyData();
+            data = addRow(new ProxyData());
 
             data.setColumn(ProxyData.HOST_PORT, aoColumns[2].toString());
             data.setColumn(ProxyData.SERVICE_NAME, aoColumns[3].toString());
@@ -195,7 +195,7 @@ public class ProxyData
                         || !"NameService".equals(sServiceName) &&
                         PROTOCOL_TCP.equals(sProtocol))
                     {
-                    ProxyData data = new ProxyData();
+                    ProxyData data = addRow(new ProxyData());
 
                     data.setColumn(ProxyData.HOST_PORT, proxyNode.get("hostIP").asText());
                     data.setColumn(ProxyData.SERVICE_NAME, sServiceName);
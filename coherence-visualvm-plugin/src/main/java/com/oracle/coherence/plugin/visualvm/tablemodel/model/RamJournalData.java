@@ -50,7 +50,7 @@ public class RamJournalData
     @Override
     protected Data getDataObject()
         {
-        return new RamJournalData();
+        return addRow(new RamJournalData());
         }
 
     @Override
@@ -33,7 +33,6 @@ import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +45,7 @@ import java.util.logging.Logger;
 import javax.management.AttributeList;
 import javax.management.ObjectName;
 
+import static com.oracle.coherence.plugin.visualvm.helper.JMXUtils.getAttributeValue;
 import static com.oracle.coherence.plugin.visualvm.helper.JMXUtils.getAttributeValueAsString;
 
 /**
@@ -65,7 +65,7 @@ public class ServiceData
      */
     public ServiceData()
         {
-        super(PARTITIONS_PENDING + 1);
+        super(REQUEST_TOTAL_COUNT + 1);
         }
 
     // ----- DataRetriever methods ------------------------------------------
@@ -80,89 +80,79 @@ public class ServiceData
 
         try
             {
-            // firstly obtain the list of services
-            Set<ObjectName> servicesSet = sender.getAllServiceMembers();
-
-            for (Iterator<ObjectName> cacheNameIter = servicesSet.iterator(); cacheNameIter.hasNext(); )
+            // retrieve the attributes for all members of all services in one pass and
+            // aggregate them in memory, rather than querying each service and member in turn
+            Map<ObjectName, AttributeList> mapAttributes = sender.getAttributes(sender.getAllServiceMembers(),
+                    new String[]{ ATTR_TYPE, ATTR_STORAGE_ENABLED, ATTR_PART_ENDANGERED, ATTR_PART_UNBALANCED,
+                                  ATTR_PART_VULNERABLE, ATTR_STATUS_HA, ATTR_REQ_PENDING, ATTR_PARTITIONS_ALL,
+                                  ATTR_TASK_COUNT, ATTR_REQUEST_TOTAL_COUNT });
+
+            for (Map.Entry<ObjectName, AttributeList> entry : mapAttributes.entrySet())
                 {
-                ObjectName cacheNameObjName = cacheNameIter.next();
-                String     sServiceName     = cacheNameObjName.getKeyProperty("name");
-                String     sDomainPartition = cacheNameObjName.getKeyProperty("domainPartition");
+                ObjectName    objName          = entry.getKey();
+                AttributeList listAttr         = entry.getValue();
+                String        sServiceName     = objName.getKeyProperty("name");
+                String        sDomainPartition = objName.getKeyProperty("domainPartition");
 
                 if (sDomainPartition != null)
                     {
                     sServiceName = getFullServiceName(sDomainPartition, sServiceName);
                     }
-                data = new ServiceData();
-
-                data.setColumn(ServiceData.SERVICE_NAME, sServiceName);
-                data.setColumn(ServiceData.MEMBERS, Integer.valueOf(0));
-                data.setColumn(ServiceData.STORAGE_MEMBERS, Integer.valueOf(0));
-
-                mapData.put(sServiceName, data);
-
-                // if its dist cache or federated then save so we don't, double count size for repl
-                // caches
-                String sCacheType = (String) sender.getAttribute(cacheNameObjName, "Type");
-                if (DISTRIBUTED_CACHE_TYPE.equals(sCacheType) || FEDERATED_CACHE_TYPE.equals(sCacheType) )
-                    {
-                    setDistributedCaches.add(sServiceName);
-                    }
-                }
 
-            // update the distributed caches in the model for use later in
-            // CacheStats
-            model.setDistributedCaches(setDistributedCaches);
+                data = mapData.get(sServiceName);
 
-            // now loop through each individual service
-            for (Iterator<Object> cacheNameIter = mapData.keySet().iterator(); cacheNameIter.hasNext(); )
-                {
-                String   sRawServiceName  = (String) cacheNameIter.next();
-                String[] asServiceDetails = getDomainAndService(sRawServiceName);
-                String   sDomainPartition = asServiceDetails[0];
-                String   sServiceName     = asServiceDetails[1];
-                // select only the current service so we can determine the number of storage-enabled
-                // members.
-                Set resultSet = sender.getMembersOfService(sServiceName, sDomainPartition);
-
-                for (Iterator iter = resultSet.iterator(); iter.hasNext(); )
+                // only update the static information once as it will be the same across all members
+                if (data == null)
                     {
-                    ObjectName objName = (ObjectName) iter.next();
-
-                    data = mapData.get(sServiceName);
-
-                    // only update the static information once as it will be the same across all members
-                    if (data.getColumn(ServiceData.PARTITION_COUNT) == null)
+                    data = addRow(new ServiceData());
+
+                    data.setColumn(ServiceData.SERVICE_NAME, sServiceName);
+                    data.setColumn(ServiceData.MEMBERS, Integer.valueOf(0));
+                    data.setColumn(ServiceData.STORAGE_MEMBERS, Integer.valueOf(0));
+                    data.setColumn(ServiceData.TASK_COUNT, Long.valueOf(0L));
+                    data.setColumn(ServiceData.REQUEST_TOTAL_COUNT, Long.valueOf(0L));
+                    data.setColumn(ServiceData.PARTITIONS_ENDANGERED,
+                            Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_ENDANGERED)));
+                    data.setColumn(ServiceData.PARTITIONS_UNBALANCED,
+                            Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_UNBALANCED)));
+                    data.setColumn(ServiceData.PARTITIONS_VULNERABLE,
+                            Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_VULNERABLE)));
+                    data.setColumn(ServiceData.STATUS_HA, (String) getAttributeValueAsString(listAttr, ATTR_STATUS_HA));
+                    data.setColumn(ServiceData.PARTITIONS_PENDING,
+                                   (int) (Long.parseLong(getAttributeValueAsString(listAttr, ATTR_REQ_PENDING))));
+                    data.setColumn(ServiceData.PARTITION_COUNT,
+                            Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PARTITIONS_ALL)));
+
+                    mapData.put(sServiceName, data);
+
+                    // if its dist cache or federated then save so we don't, double count size for repl
+                    // caches
+                    String sCacheType = getAttributeValueAsString(listAttr, ATTR_TYPE);
+                    if (DISTRIBUTED_CACHE_TYPE.equals(sCacheType) || FEDERATED_CACHE_TYPE.equals(sCacheType))
                         {
-                        AttributeList listAttr = sender.getAttributes(objName,
-                            new String[]{ ATTR_PART_ENDANGERED, ATTR_PART_UNBALANCED, ATTR_PART_VULNERABLE,
-                                          ATTR_STATUS_HA, ATTR_REQ_PENDING, ATTR_PARTITIONS_ALL });
-
-                        data.setColumn(ServiceData.PARTITIONS_ENDANGERED,
-                                Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_ENDANGERED)));
-                        data.setColumn(ServiceData.PARTITIONS_UNBALANCED,
-                                Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_UNBALANCED)));
-                        data.setColumn(ServiceData.PARTITIONS_VULNERABLE,
-                                Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_VULNERABLE)));
-                        data.setColumn(ServiceData.STATUS_HA, (String) getAttributeValueAsString(listAttr, ATTR_STATUS_HA));
-                        data.setColumn(ServiceData.PARTITIONS_PENDING,
-                                       (int) (Long.parseLong(getAttributeValueAsString(listAttr, ATTR_REQ_PENDING))));
-                        data.setColumn(ServiceData.PARTITION_COUNT,
-                                Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PARTITIONS_ALL)));
+                        setDistributedCaches.add(sServiceName);
                         }
+                    }
 
-                    data.setColumn(ServiceData.MEMBERS, (Integer) data.getColumn(ServiceData.MEMBERS) + 1);
+                data.setColumn(ServiceData.MEMBERS, (Integer) data.getColumn(ServiceData.MEMBERS) + 1);
 
-                    if (Boolean.parseBoolean(sender.getAttribute(objName, "StorageEnabled")))
-                        {
-                        data.setColumn(ServiceData.STORAGE_MEMBERS,
-                          (Integer) data.getColumn(ServiceData.STORAGE_MEMBERS) + 1);
-                        }
+                // the counters of the service are the totals over all members
+                data.setColumn(ServiceData.TASK_COUNT, (Long) data.getColumn(ServiceData.TASK_COUNT)
+                               + getCounterValue(getAttributeValue(listAttr, ATTR_TASK_COUNT)));
+                data.setColumn(ServiceData.REQUEST_TOTAL_COUNT, (Long) data.getColumn(ServiceData.REQUEST_TOTAL_COUNT)
+                               + getCounterValue(getAttributeValue(listAttr, ATTR_REQUEST_TOTAL_COUNT)));
 
-                    mapData.put(sRawServiceName, data);
+                if (Boolean.parseBoolean(getAttributeValueAsString(listAttr, ATTR_STORAGE_ENABLED)))
+                    {
+                    data.setColumn(ServiceData.STORAGE_MEMBERS,
+                      (Integer) data.getColumn(ServiceData.STORAGE_MEMBERS) + 1);
                     }
                 }
 
+            // update the distributed caches in the model for use later in
+            // CacheStats
+            model.setDistributedCaches(setDistributedCaches);
+
             return new ArrayList<>(mapData.entrySet());
             }
         catch (Exception e)
@@ -173,6 +163,12 @@ public class ServiceData
             }
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {TASK_COUNT, REQUEST_TOTAL_COUNT};
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -182,7 +178,7 @@ public class ServiceData
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data    data = new ServiceData();
+        Data    data = addRow(new ServiceData());
         boolean fMT  = aoColumns[3] != null;
         int  nStart = 4;
 
@@ -203,6 +199,8 @@ public class ServiceData
         data.setColumn(ServiceData.STORAGE_MEMBERS, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
         data.setColumn(ServiceData.MEMBERS, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
         data.setColumn(ServiceData.PARTITIONS_PENDING, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
+        data.setColumn(ServiceData.TASK_COUNT, getCounterValue(aoColumns[nStart + 1]));
+        data.setColumn(ServiceData.REQUEST_TOTAL_COUNT, getCounterValue(aoColumns[nStart + 2]));
 
         // record the list of distributed & federated caches
         if (DISTRIBUTED_CACHE_TYPE.equals(aoColumns[nStart]) || FEDERATED_CACHE_TYPE.equals(aoColumns[nStart]))
@@ -251,7 +249,7 @@ public class ServiceData
             {
             for (int i = 0; i < ((ArrayNode) itemsNode).size(); i++)
                 {
-                Data     data             = new ServiceData();
+                Data     data             = addRow(new ServiceData());
                 JsonNode serviceDetails   = itemsNode.get(i);
                 String   sServiceName     = serviceDetails.get("name").asText();
                 JsonNode domainPartition  = serviceDetails.get("domainPartition");
@@ -262,6 +260,15 @@ public class ServiceData
                 String sServiceType = serviceDetails.get("type").asText();
                 data.setColumn(ServiceData.SERVICE_NAME, sService);
 
+                // there is an item for each member, so the counters are added to
+                // those of the members already seen for the service
+                Data dataPrevious = mapData.get(sService);
+
+                data.setColumn(ServiceData.TASK_COUNT, serviceDetails.path("taskCount").asLong()
+                               + (dataPrevious == null ? 0L : (Long) dataPrevious.getColumn(ServiceData.TASK_COUNT)));
+                data.setColumn(ServiceData.REQUEST_TOTAL_COUNT, serviceDetails.path("requestTotalCount").asLong()
+                               + (dataPrevious == null ? 0L : (Long) dataPrevious.getColumn(ServiceData.REQUEST_TOTAL_COUNT)));
+
                 String sStatusHA = serviceDetails.get("statusHA").asText();
                 data.setColumn(ServiceData.STATUS_HA, sStatusHA == null ? "n/a" : sStatusHA);
 
@@ -361,6 +368,16 @@ public class ServiceData
 
     public static final int PARTITIONS_PENDING = 8;
 
+    /**
+     * Array index for the total number of tasks executed by all members.
+     */
+    public static final int TASK_COUNT = 9;
+
+    /**
+     * Array index for the total number of requests received by all members.
+     */
+    public static final int REQUEST_TOTAL_COUNT = 10;
+
     /**
      * The logger object to use.
      */
@@ -394,6 +411,16 @@ public class ServiceData
      */
     private Set<String> setDistributedCaches;
 
+    /**
+     * JMX attribute name for Type.
+     */
+    protected static final String ATTR_TYPE = "Type";
+
+    /**
+     * JMX attribute name for Storage Enabled.
+     */
+    protected static final String ATTR_STORAGE_ENABLED = "StorageEnabled";
+
     /**
      * JMX attribute name for Partitions Endangered.
      */
@@ -423,4 +450,14 @@ public class ServiceData
      * JMX attribute name for Partitions All.
      */
     protected static final String ATTR_PARTITIONS_ALL = "PartitionsAll";
+
+    /**
+     * JMX attribute name for Task Count.
+     */
+    protected static final String ATTR_TASK_COUNT = "TaskCount";
+
+    /**
+     * JMX attribute name for Request Total Count.
+     */
+    protected static final String ATTR_REQUEST_TOTAL_COUNT = "RequestTotalCount";
     }
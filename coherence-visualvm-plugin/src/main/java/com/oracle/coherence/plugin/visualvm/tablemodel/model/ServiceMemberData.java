@@ -97,7 +97,7 @@ public class ServiceMemberData
                         continue;
                         }
 
-                    data = new ServiceMemberData();
+                    data = addRow(new ServiceMemberData());
 
                     AttributeList listAttr = sender.getAttributes(serviceNameObjName,
                         new String[] { ATTR_TASK_BACKLOG, ATTR_THREAD_COUNT, ATTR_THREAD_IDLE_COUNT,
@@ -162,7 +162,7 @@ public class ServiceMemberData
         // we need to only include rows where the service matches
         if (model.getSelectedService() != null && model.getSelectedService().equals(sServiceName))
             {
-            data = new ServiceMemberData();
+            data = addRow(new ServiceMemberData());
 
             data.setColumn(ServiceMemberData.NODE_ID, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
             data.setColumn(ServiceMemberData.TASK_BACKLOG, Integer.valueOf(getNumberValue(aoColumns[nStart++].toString())));
@@ -218,7 +218,7 @@ public class ServiceMemberData
                 // we need to only include rows where the service matches
                 if (model.getSelectedService() != null && model.getSelectedService().equals(sServiceName))
                     {
-                    Data data = new ServiceMemberData();
+                    Data data = addRow(new ServiceMemberData());
 
                     data.setColumn(ServiceMemberData.NODE_ID, nodeServiceMember.get("nodeId").asInt());
                     data.setColumn(ServiceMemberData.TASK_BACKLOG, nodeServiceMember.get("taskBacklog").asInt());
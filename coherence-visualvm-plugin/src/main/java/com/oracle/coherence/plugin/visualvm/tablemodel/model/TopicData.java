@@ -75,10 +75,16 @@ public class TopicData
         return REPORT_TOPICS;
         }
 
+    @Override
+    public int[] getCounterColumns()
+        {
+        return new int[] {PUBLISHER_SENDS, SUBSCRIBER_RECEIVES};
+        }
+
     @Override
     public Data processReporterData(Object[] aoColumns, VisualVMModel model)
         {
-        Data data = new TopicData();
+        Data data = addRow(new TopicData());
 
         // the identifier for this row is the service name and cache name
         Pair<String, String> key = new Pair<>(aoColumns[2].toString(),
@@ -124,7 +130,7 @@ public class TopicData
             if (cache.getY().contains("$topic$"))
                 {
                 // found a topic cache
-                Data data = new TopicData();
+                Data data = addRow(new TopicData());
                 Pair<String, String> key = new Pair<>(cache.getX(), cache.getY().replaceAll("\\$topic\\$", ""));
                 data.setColumn(TopicData.TOPIC_NAME, key);
                 data.setColumn(TopicData.AVG_OBJECT_SIZE, 0);
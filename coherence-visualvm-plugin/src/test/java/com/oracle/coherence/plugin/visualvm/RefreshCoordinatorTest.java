@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RefreshCoordinator}.
+ *
+ * @author agent 2026.10.16
+ */
+public class RefreshCoordinatorTest
+    {
+    @Test
+    public void testRoundRobin()
+            throws Exception
+        {
+        RefreshCoordinator                    coordinator       = new RefreshCoordinator(1, 1);
+        List<String>                          listRuns          = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch                        latchReady        = new CountDownLatch(1);
+        CountDownLatch                        latchRuns         = new CountDownLatch(9);
+        List<RefreshCoordinator.Registration> listRegistrations = new ArrayList<>();
+
+        for (String sName : new String[] {"A", "B", "C"})
+            {
+            listRegistrations.add(coordinator.register(() -> run(sName, listRuns, latchReady, latchRuns), sName, 0L));
+            }
+        latchReady.countDown();
+
+        assertTrue(latchRuns.await(10, TimeUnit.SECONDS));
+        listRegistrations.forEach(RefreshCoordinator.Registration::cancel);
+
+        assertEquals(Arrays.asList("A", "B", "C", "A", "B", "C", "A", "B", "C"), listRuns.subList(0, 9));
+        }
+
+    @Test
+    public void testFocusedFirst()
+            throws Exception
+        {
+        RefreshCoordinator coordinator = new RefreshCoordinator(1, 1);
+        List<String>       listRuns    = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch     latchReady  = new CountDownLatch(1);
+        CountDownLatch     latchRuns   = new CountDownLatch(3);
+
+        RefreshCoordinator.Registration regA = coordinator.register(
+                () -> run("A", listRuns, latchReady, latchRuns), "A", 60_000L);
+        RefreshCoordinator.Registration regB = coordinator.register(
+                () -> run("B", listRuns, latchReady, latchRuns), "B", 60_000L);
+        RefreshCoordinator.Registration regC = coordinator.register(
+                () -> run("C", listRuns, latchReady, latchRuns), "C", 60_000L);
+
+        regB.setFocused(false);
+        latchReady.countDown();
+
+        assertTrue(latchRuns.await(10, TimeUnit.SECONDS));
+        regA.cancel();
+        regB.cancel();
+        regC.cancel();
+
+        assertEquals(Arrays.asList("A", "C", "B"), listRuns);
+        }
+
+    @Test
+    public void testHostLimit()
+            throws Exception
+        {
+        RefreshCoordinator                    coordinator       = new RefreshCoordinator(4, 1);
+        AtomicInteger                         atomicCount       = new AtomicInteger();
+        AtomicInteger                         atomicMax         = new AtomicInteger();
+        CountDownLatch                        latchRuns         = new CountDownLatch(9);
+        List<RefreshCoordinator.Registration> listRegistrations = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+            {
+            listRegistrations.add(coordinator.register(() ->
+                {
+                atomicMax.accumulateAndGet(atomicCount.incrementAndGet(), Math::max);
+                try
+                    {
+                    Thread.sleep(10);
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                atomicCount.decrementAndGet();
+                latchRuns.countDown();
+                }, "host", 0L));
+            }
+
+        assertTrue(latchRuns.await(10, TimeUnit.SECONDS));
+        listRegistrations.forEach(RefreshCoordinator.Registration::cancel);
+
+        assertEquals(1, atomicMax.get());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Record a refresh once all of the views have been registered.
+     *
+     * @param sName       the name of the view
+     * @param listRuns    the list of refreshes
+     * @param latchReady  the latch released once all views are registered
+     * @param latchRuns   the latch counting the refreshes
+     */
+    private void run(String sName, List<String> listRuns, CountDownLatch latchReady, CountDownLatch latchRuns)
+        {
+        try
+            {
+            latchReady.await();
+            }
+        catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            }
+        listRuns.add(sName);
+        latchRuns.countDown();
+        }
+    }
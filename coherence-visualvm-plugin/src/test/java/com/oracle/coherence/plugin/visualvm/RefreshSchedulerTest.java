@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RefreshScheduler}.
+ *
+ * @author agent 2026.10.16
+ */
+public class RefreshSchedulerTest
+    {
+    @Test
+    public void testParseIntervals()
+        {
+        Map<DataType, Long> mapIntervals = RefreshScheduler.parseIntervals(" cluster=60, MACHINE = 120 ");
+
+        assertEquals(2, mapIntervals.size());
+        assertEquals(Long.valueOf(60_000L), mapIntervals.get(DataType.CLUSTER));
+        assertEquals(Long.valueOf(120_000L), mapIntervals.get(DataType.MACHINE));
+
+        assertTrue(RefreshScheduler.parseIntervals("").isEmpty());
+        assertTrue(RefreshScheduler.parseIntervals(null).isEmpty());
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidType()
+        {
+        RefreshScheduler.parseIntervals("CLUSTER=60,NOT_A_TYPE=10");
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidInterval()
+        {
+        RefreshScheduler.parseIntervals("CLUSTER=0");
+        }
+
+    @Test
+    public void testIntervals()
+        {
+        RefreshScheduler scheduler = new RefreshScheduler(30_000L);
+
+        scheduler.configure(10_000L, RefreshScheduler.parseIntervals("MACHINE=60"));
+
+        assertEquals(10_000L, scheduler.getInterval(DataType.CACHE));
+        assertEquals(60_000L, scheduler.getInterval(DataType.MACHINE));
+
+        // never collected so always due
+        assertTrue(scheduler.isDue(DataType.CACHE, 0L, 1));
+
+        scheduler.collected(DataType.CACHE, 1_000L, 10L);
+        assertFalse(scheduler.isDue(DataType.CACHE, 10_999L, 1));
+        assertTrue(scheduler.isDue(DataType.CACHE, 11_000L, 1));
+        assertFalse(scheduler.isDue(DataType.CACHE, 11_000L, 10));
+        assertTrue(scheduler.isDue(DataType.CACHE, 101_000L, 10));
+        }
+
+    @Test
+    public void testBackOff()
+        {
+        RefreshScheduler scheduler = new RefreshScheduler(10_000L);
+
+        // a collection taking at least half of the interval backs off
+        scheduler.collected(DataType.CACHE, 0L, 6_000L);
+        assertEquals(20_000L, scheduler.getEffectiveInterval(DataType.CACHE));
+
+        scheduler.collected(DataType.CACHE, 0L, 10_000L);
+        assertEquals(40_000L, scheduler.getEffectiveInterval(DataType.CACHE));
+
+        // the back off is limited
+        for (int i = 0; i < 10; i++)
+            {
+            scheduler.collected(DataType.CACHE, 0L, 1_000_000L);
+            }
+        assertEquals(10_000L * RefreshScheduler.MAX_BACK_OFF, scheduler.getEffectiveInterval(DataType.CACHE));
+
+        // and recovers once collections are fast again
+        for (int i = 0; i < 10; i++)
+            {
+            scheduler.collected(DataType.CACHE, 0L, 100L);
+            }
+        assertEquals(10_000L, scheduler.getEffectiveInterval(DataType.CACHE));
+
+        // other types are not affected
+        assertEquals(10_000L, scheduler.getEffectiveInterval(DataType.SERVICE));
+        }
+    }
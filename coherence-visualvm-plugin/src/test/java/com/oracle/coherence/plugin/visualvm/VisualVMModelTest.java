@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link DataType} dependencies and the concurrent collection
+ * of the data types which uses them.
+ *
+ * @author agent 2026.10.16
+ */
+public class VisualVMModelTest
+    {
+    @Test
+    public void testDependenciesDeclaredFirst()
+        {
+        for (DataType type : DataType.values())
+            {
+            for (DataType dependency : type.getDependencies())
+                {
+                assertTrue(type + " depends on " + dependency + " which is declared after it",
+                           dependency.ordinal() < type.ordinal());
+                }
+            }
+        }
+
+    @Test
+    public void testClusterCollectedFirst()
+        {
+        assertEquals(0, DataType.CLUSTER.getDependencies().length);
+
+        for (DataType type : DataType.values())
+            {
+            if (type != DataType.CLUSTER)
+                {
+                assertTrue(type + " must depend on " + DataType.CLUSTER, dependsOn(type, DataType.CLUSTER));
+                }
+            }
+        }
+
+    @Test
+    public void testOrderingDependencies()
+        {
+        assertTrue(dependsOn(DataType.CACHE, DataType.SERVICE));
+        assertTrue(dependsOn(DataType.TOPICS_DETAIL, DataType.CACHE));
+        assertTrue(dependsOn(DataType.HTTP_SESSION, DataType.CACHE));
+        assertTrue(dependsOn(DataType.MACHINE, DataType.MEMBER));
+        assertTrue(dependsOn(DataType.FEDERATION_DESTINATION, DataType.SERVICE));
+        assertTrue(dependsOn(DataType.FEDERATION_ORIGIN_DETAILS, DataType.SERVICE));
+        }
+
+    @Test
+    public void testConcurrentCollection()
+        {
+        Map<DataType, long[]> mapTimes        = new ConcurrentHashMap<>();
+        AtomicInteger         atomicActive    = new AtomicInteger();
+        AtomicInteger         atomicMaxActive = new AtomicInteger();
+
+        VisualVMModel model = new VisualVMModel()
+            {
+            @Override
+            public List<Map.Entry<Object, Data>> getData(RequestSender requestSender, Class clazz,
+                                                         Map<Class, TabularData> mapBatchedReports)
+                {
+                DataType type     = getDataType(clazz);
+                long     ldtStart = System.nanoTime();
+
+                atomicMaxActive.accumulateAndGet(atomicActive.incrementAndGet(), Math::max);
+                try
+                    {
+                    Thread.sleep(20L);
+                    }
+                catch (InterruptedException e)
+                    {
+                    throw new RuntimeException(e);
+                    }
+                finally
+                    {
+                    atomicActive.decrementAndGet();
+                    }
+
+                mapTimes.put(type, new long[] {ldtStart, System.nanoTime()});
+
+                return Collections.singletonList(new AbstractMap.SimpleEntry<>(type.name(), new TestData(type.name())));
+                }
+            };
+        model.init();
+
+        // the data is not retrieved using a RequestSender
+        model.refreshStatistics(null);
+
+        for (DataType type : DataType.values())
+            {
+            List<Map.Entry<Object, Data>> listData = model.getData(type);
+
+            assertNotNull(type + " was not collected", listData);
+            assertEquals(1, listData.size());
+            assertEquals(type.name(), listData.get(0).getKey());
+            assertEquals(type.name(), listData.get(0).getValue().getColumn(0));
+
+            // each type is only collected once the types it depends on have been collected
+            for (DataType dependency : type.getDependencies())
+                {
+                assertTrue(type + " was collected before " + dependency,
+                           mapTimes.get(type)[0] >= mapTimes.get(dependency)[1]);
+                }
+            }
+
+        assertTrue("Independent types were not collected concurrently", atomicMaxActive.get() > 1);
+        }
+
+    @Test
+    public void testHiddenTypesNotCollected()
+            throws Exception
+        {
+        GlobalPreferences preferences = GlobalPreferences.sharedInstance();
+        String            sPrevious   = preferences.getDataTypeRefreshTimes();
+
+        preferences.setDataTypeRefreshTimes("CLUSTER=1,SERVICE=1,CACHE=1,MEMBER=1,MACHINE=1");
+        try
+            {
+            RecordingModel model = new RecordingModel();
+            model.init();
+
+            // the first refresh collects every type
+            model.refreshStatistics(null);
+            assertEquals(EnumSet.allOf(DataType.class), model.f_setCollected);
+            model.setIsFirstRefresh(false);
+
+            // only the machines panel is on screen
+            model.setVisibleDataTypes(EnumSet.of(DataType.MACHINE));
+            model.f_setCollected.clear();
+
+            Thread.sleep(1100L);
+            model.refreshStatistics(null);
+
+            // the hidden types are not due yet but the types the visible type depends on are
+            assertEquals(EnumSet.of(DataType.CLUSTER, DataType.MEMBER, DataType.MACHINE), model.f_setCollected);
+            }
+        finally
+            {
+            preferences.setDataTypeRefreshTimes(sPrevious);
+            }
+        }
+
+    @Test
+    public void testShownTypesCollected()
+        {
+        RecordingModel model = new RecordingModel();
+        model.init();
+
+        model.refreshStatistics(null);
+        model.setIsFirstRefresh(false);
+
+        // only the cluster overview is on screen and nothing is due
+        model.setVisibleDataTypes(EnumSet.of(DataType.CLUSTER));
+        model.f_setCollected.clear();
+        model.refreshStatistics(null);
+        assertTrue(model.f_setCollected.isEmpty());
+
+        // the members panel is shown for the first time so its data is collected
+        // straight away even though it was collected recently
+        model.setVisibleDataTypes(EnumSet.of(DataType.CLUSTER, DataType.MEMBER));
+        model.refreshStatistics(null);
+        assertEquals(EnumSet.of(DataType.MEMBER), model.f_setCollected);
+
+        // and then at its refresh interval
+        model.f_setCollected.clear();
+        model.refreshStatistics(null);
+        assertTrue(model.f_setCollected.isEmpty());
+        }
+
+    @Test
+    public void testLateTypesStale()
+            throws Exception
+        {
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingModel model = new RecordingModel();
+
+        model.init();
+        model.f_mapBlocked.put(DataType.MEMBER, latch);
+
+        System.setProperty(VisualVMModel.PROP_REFRESH_DEADLINE, "200");
+        try
+            {
+            // the refresh returns once the deadline has passed
+            model.refreshStatistics(null);
+
+            assertTrue(model.isStale(DataType.MEMBER));
+            assertTrue(model.isStale(DataType.MACHINE));
+            assertFalse(model.isStale(DataType.CLUSTER));
+            assertNotNull(model.getData(DataType.CLUSTER));
+            assertNull(model.getData(DataType.MEMBER));
+
+            // the late types are no longer stale once their collection completes
+            latch.countDown();
+            awaitCollected(model, DataType.MEMBER, DataType.MACHINE);
+
+            assertFalse(model.isStale(DataType.MEMBER));
+            assertFalse(model.isStale(DataType.MACHINE));
+            assertNotNull(model.getData(DataType.MEMBER));
+            }
+        finally
+            {
+            latch.countDown();
+            System.clearProperty(VisualVMModel.PROP_REFRESH_DEADLINE);
+            }
+        }
+
+    @Test
+    public void testFailedTypesStale()
+        {
+        RecordingModel model = new RecordingModel();
+        model.init();
+
+        model.refreshStatistics(null);
+        List<Map.Entry<Object, Data>> listPrevious = model.getData(DataType.MEMBER);
+
+        // the failed type keeps its previous values
+        model.f_setFailing.add(DataType.MEMBER);
+        model.refreshStatistics(null);
+
+        assertTrue(model.isStale(DataType.MEMBER));
+        assertFalse(model.isStale(DataType.MACHINE));
+        assertSame(listPrevious, model.getData(DataType.MEMBER));
+
+        // and is no longer stale after the next good collection
+        model.f_setFailing.clear();
+        model.refreshStatistics(null);
+
+        assertFalse(model.isStale(DataType.MEMBER));
+        assertNotSame(listPrevious, model.getData(DataType.MEMBER));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Wait for the given types to be collected successfully by the model.
+     *
+     * @param model   the model
+     * @param aTypes  the types to wait for
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static void awaitCollected(RecordingModel model, DataType... aTypes)
+            throws InterruptedException
+        {
+        long ldtTimeout = System.currentTimeMillis() + 10000L;
+        for (DataType type : aTypes)
+            {
+            // the type is marked as no longer stale once its collection has completed
+            while ((!model.f_setCollected.contains(type) || model.isStale(type))
+                   && System.currentTimeMillis() < ldtTimeout)
+                {
+                Thread.sleep(10L);
+                }
+            }
+        }
+
+    /**
+     * Returns the {@link DataType} whose data is retrieved by the given class.
+     *
+     * @param clazz  the class of the data retriever
+     *
+     * @return the {@link DataType}
+     */
+    private static DataType getDataType(Class clazz)
+        {
+        for (DataType type : DataType.values())
+            {
+            if (type.getClassName().equals(clazz))
+                {
+                return type;
+                }
+            }
+
+        throw new IllegalArgumentException("Unknown class " + clazz);
+        }
+
+    /**
+     * Returns true if the given type directly or transitively depends on another type.
+     *
+     * @param type        the type to check
+     * @param dependency  the type which may be a dependency
+     *
+     * @return true if the given type depends on the other type
+     */
+    private boolean dependsOn(DataType type, DataType dependency)
+        {
+        List<DataType> listDependencies = Arrays.asList(type.getDependencies());
+
+        if (listDependencies.contains(dependency))
+            {
+            return true;
+            }
+
+        for (DataType typeParent : listDependencies)
+            {
+            if (dependsOn(typeParent, dependency))
+                {
+                return true;
+                }
+            }
+
+        return false;
+        }
+
+    // ----- inner class: RecordingModel ------------------------------------
+
+    /**
+     * A {@link VisualVMModel} which records the {@link DataType}s it collects
+     * and returns a single row for each.
+     */
+    private static class RecordingModel
+            extends VisualVMModel
+        {
+        @Override
+        public List<Map.Entry<Object, Data>> getData(RequestSender requestSender, Class clazz,
+                                                     Map<Class, TabularData> mapBatchedReports)
+            {
+            DataType       type  = getDataType(clazz);
+            CountDownLatch latch = f_mapBlocked.get(type);
+
+            if (latch != null)
+                {
+                try
+                    {
+                    latch.await();
+                    }
+                catch (InterruptedException e)
+                    {
+                    throw new RuntimeException(e);
+                    }
+                }
+
+            if (f_setFailing.contains(type))
+                {
+                throw new RuntimeException("Unable to collect " + type);
+                }
+
+            f_setCollected.add(type);
+
+            return Collections.singletonList(new AbstractMap.SimpleEntry<>(type.name(), new TestData(type.name())));
+            }
+
+        /**
+         * The {@link DataType}s collected.
+         */
+        final Set<DataType> f_setCollected = ConcurrentHashMap.newKeySet();
+
+        /**
+         * The {@link DataType}s whose collection waits for a latch.
+         */
+        final Map<DataType, CountDownLatch> f_mapBlocked = new ConcurrentHashMap<>();
+
+        /**
+         * The {@link DataType}s whose collection fails.
+         */
+        final Set<DataType> f_setFailing = ConcurrentHashMap.newKeySet();
+        }
+
+    // ----- inner class: TestData ------------------------------------------
+
+    /**
+     * A {@link Data} implementation with a single column.
+     */
+    private static class TestData
+            implements Data
+        {
+        /**
+         * Create a {@link TestData} with the given value.
+         *
+         * @param oValue  the value of the column
+         */
+        TestData(Object oValue)
+            {
+            m_oValue = oValue;
+            }
+
+        @Override
+        public Object getColumn(int nColumn)
+            {
+            return m_oValue;
+            }
+
+        @Override
+        public void setColumn(int nColumn, Object oValue)
+            {
+            m_oValue = oValue;
+            }
+
+        @Override
+        public int getColumnCount()
+            {
+            return 1;
+            }
+
+        /**
+         * The value of the column.
+         */
+        private Object m_oValue;
+        }
+    }
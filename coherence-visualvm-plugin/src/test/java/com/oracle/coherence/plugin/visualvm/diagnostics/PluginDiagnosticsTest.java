@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.diagnostics;
+
+import java.net.URL;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link PluginDiagnostics} and {@link LatencyHistogram}.
+ *
+ * @author agent 2026.10.16
+ */
+public class PluginDiagnosticsTest
+    {
+    @Test
+    public void testHistogram()
+        {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long i = 1; i <= 1000; i++)
+            {
+            histogram.record(i * 1000L);
+            }
+
+        assertEquals(1000L, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMax());
+        assertEquals(500_500.0d, histogram.getMean(), 0.1d);
+
+        // percentiles are accurate to within one sub-bucket
+        assertWithin(500_000L, histogram.getPercentile(50.0d));
+        assertWithin(990_000L, histogram.getPercentile(99.0d));
+        assertTrue(histogram.getPercentile(100.0d) <= histogram.getMax());
+
+        histogram.reset();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getPercentile(99.0d));
+        }
+
+    @Test
+    public void testBuckets()
+        {
+        for (long cValue : new long[] {0L, 1L, 15L, 16L, 17L, 1023L, 1024L, 123_456_789L, LatencyHistogram.MAX_VALUE})
+            {
+            int nBucket = LatencyHistogram.getBucket(cValue);
+
+            assertTrue(cValue <= LatencyHistogram.getBucketUpperBound(nBucket));
+            assertTrue(nBucket == 0 || cValue > LatencyHistogram.getBucketUpperBound(nBucket - 1));
+            }
+        }
+
+    @Test
+    public void testStatistics()
+        {
+        PluginDiagnostics diagnostics = new PluginDiagnostics();
+
+        diagnostics.record(PluginDiagnostics.Category.REST, "/services/*", 2_000_000L, 100L, false);
+        diagnostics.record(PluginDiagnostics.Category.REST, "/services/*", 4_000_000L, 200L, true);
+        diagnostics.recordFallback("CACHE");
+
+        List<PluginDiagnostics.Statistics> listStatistics = diagnostics.getStatistics();
+        assertEquals(2, listStatistics.size());
+
+        PluginDiagnostics.Statistics statistics = listStatistics.get(1);
+        assertEquals(PluginDiagnostics.Category.REST, statistics.getCategory());
+        assertEquals(2L, statistics.getHistogram().getCount());
+        assertEquals(1L, statistics.getErrors());
+        assertEquals(300L, statistics.getBytes());
+
+        assertEquals(1L, listStatistics.get(0).getFallbacks());
+
+        diagnostics.reset();
+        assertTrue(diagnostics.getStatistics().isEmpty());
+        }
+
+    @Test
+    public void testEndpoint()
+            throws Exception
+        {
+        assertEquals("/management/coherence/cluster/services/*/members/*",
+                PluginDiagnostics.getEndpoint(new URL("http://host:30000/management/coherence/cluster/services/PartitionedCache/members/1")));
+        assertEquals("/management/coherence/cluster/services/*/caches/*/members",
+                PluginDiagnostics.getEndpoint(new URL("http://host:30000/management/coherence/cluster/services/Dist/caches/test/members?links=")));
+        assertEquals("/", PluginDiagnostics.getEndpoint(new URL("http://host:30000")));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert that a percentile is within the precision of the histogram.
+     *
+     * @param cExpected  the expected value
+     * @param cActual    the actual value
+     */
+    private static void assertWithin(long cExpected, long cActual)
+        {
+        assertTrue("expected " + cExpected + " but was " + cActual,
+                Math.abs(cActual - cExpected) <= cExpected / LatencyHistogram.SUB_BUCKETS);
+        }
+    }
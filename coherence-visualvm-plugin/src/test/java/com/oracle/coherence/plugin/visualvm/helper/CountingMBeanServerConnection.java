@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServerConnection;
+
+/**
+ * A test helper which counts the MBean name queries and attribute requests
+ * sent to an {@link MBeanServerConnection}.
+ *
+ * @author agent 2026.10.16
+ */
+public class CountingMBeanServerConnection
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link CountingMBeanServerConnection} which counts the requests
+     * sent to the given connection.
+     *
+     * @param connection  the connection to send the requests to
+     */
+    public CountingMBeanServerConnection(MBeanServerConnection connection)
+        {
+        f_connection = (MBeanServerConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {MBeanServerConnection.class}, (proxy, method, aoArgs) ->
+                    {
+                    String sName = method.getName();
+                    if (sName.equals("queryNames"))
+                        {
+                        f_cQueries.incrementAndGet();
+                        }
+                    else if (sName.startsWith("getAttribute"))
+                        {
+                        f_cAttributeRequests.incrementAndGet();
+                        }
+
+                    try
+                        {
+                        return method.invoke(connection, aoArgs);
+                        }
+                    catch (InvocationTargetException e)
+                        {
+                        throw e.getCause();
+                        }
+                    });
+        }
+
+    // ----- CountingMBeanServerConnection methods --------------------------
+
+    /**
+     * Returns the {@link MBeanServerConnection} which counts the requests.
+     *
+     * @return the {@link MBeanServerConnection} which counts the requests
+     */
+    public MBeanServerConnection getConnection()
+        {
+        return f_connection;
+        }
+
+    /**
+     * Returns the number of MBean name queries sent.
+     *
+     * @return the number of MBean name queries sent
+     */
+    public int getQueryCount()
+        {
+        return f_cQueries.get();
+        }
+
+    /**
+     * Returns the number of attribute requests sent, counting a request for
+     * several attributes of an MBean once.
+     *
+     * @return the number of attribute requests sent
+     */
+    public int getAttributeRequestCount()
+        {
+        return f_cAttributeRequests.get();
+        }
+
+    /**
+     * Reset the counts to zero.
+     */
+    public void reset()
+        {
+        f_cQueries.set(0);
+        f_cAttributeRequests.set(0);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The connection which counts the requests.
+     */
+    private final MBeanServerConnection f_connection;
+
+    /**
+     * The number of MBean name queries sent.
+     */
+    private final AtomicInteger f_cQueries = new AtomicInteger();
+
+    /**
+     * The number of attribute requests sent.
+     */
+    private final AtomicInteger f_cAttributeRequests = new AtomicInteger();
+    }
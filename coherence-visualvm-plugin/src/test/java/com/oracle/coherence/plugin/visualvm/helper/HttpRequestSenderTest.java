@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for streaming the items of a REST response using
+ * {@link HttpRequestSender#streamListOfClusterMembers(JsonItemHandler)}.
+ *
+ * @author agent 2026.10.16
+ */
+public class HttpRequestSenderTest
+    {
+    @Test
+    public void testStreamItems()
+            throws Exception
+        {
+        List<Map<String, String>> listItems = stream(
+                "{\"links\": [{\"rel\": \"self\", \"href\": \"http://localhost/members\"}],"
+                + " \"meta\": {\"count\": 2, \"nested\": {\"items\": [{\"nodeId\": \"99\"}]}},"
+                + " \"items\": ["
+                + "  {\"nodeId\": \"1\", \"links\": [{\"rel\": \"parent\"}, [1, [2]]],"
+                + "   \"address\": {\"host\": \"a\", \"ports\": [1, 2]}, \"roleName\": \"Server\"},"
+                + "  {\"roleName\": null, \"nodeId\": \"2\", \"memoryMaxMB\": 512}"
+                + " ],"
+                + " \"totalResults\": 2}");
+
+        assertEquals(2, listItems.size());
+
+        // nested objects and arrays are skipped and the fields after them are still read
+        Map<String, String> mapItem = listItems.get(0);
+        assertEquals("1", mapItem.get("nodeId"));
+        assertEquals("[", mapItem.get("links"));
+        assertEquals("{", mapItem.get("address"));
+        assertEquals("Server", mapItem.get("roleName"));
+        assertEquals(4, mapItem.size());
+
+        // a JSON null is passed to the handler as a null token whose text is "null"
+        mapItem = listItems.get(1);
+        assertEquals("null:VALUE_NULL", mapItem.get("roleName"));
+        assertEquals("2", mapItem.get("nodeId"));
+        assertEquals("512", mapItem.get("memoryMaxMB"));
+        }
+
+    @Test
+    public void testStreamNoItems()
+            throws Exception
+        {
+        assertTrue(stream("{\"links\": [], \"items\": []}").isEmpty());
+        assertTrue(stream("{\"links\": []}").isEmpty());
+        assertTrue(stream("{}").isEmpty());
+        assertTrue(stream("[{\"nodeId\": \"1\"}]").isEmpty());
+        assertTrue(stream("{\"items\": {\"nodeId\": \"1\"}}").isEmpty());
+        }
+
+    @Test
+    public void testHandlerReadsNestedValue()
+            throws Exception
+        {
+        List<String> listPorts = new ArrayList<>();
+
+        sender("{\"items\": [{\"ports\": [7574, 7575], \"nodeId\": \"1\"}, {\"ports\": [], \"nodeId\": \"2\"}]}")
+                .streamListOfClusterMembers(new JsonItemHandler()
+            {
+            @Override
+            public void startItem()
+                {
+                }
+
+            @Override
+            public void field(String sField, JsonParser parser)
+                    throws IOException
+                {
+                if ("ports".equals(sField))
+                    {
+                    // read the array up to its end token so it is not skipped again
+                    while (parser.nextToken() != JsonToken.END_ARRAY)
+                        {
+                        listPorts.add(parser.getText());
+                        }
+                    }
+                else
+                    {
+                    listPorts.add("nodeId=" + parser.getText());
+                    }
+                }
+
+            @Override
+            public void endItem()
+                {
+                }
+            });
+
+        assertEquals("[7574, 7575, nodeId=1, nodeId=2]", listPorts.toString());
+        }
+
+    @Test
+    public void testStreamFailedRequest()
+            throws Exception
+        {
+        HttpRequestSender sender = new HttpRequestSender(REST_URL, new StubHttpTransport(null)
+            {
+            @Override
+            public InputStream sendGetRequest(URL url)
+                {
+                // the transport returns null if the response code was not 200
+                return null;
+                }
+            });
+
+        List<Map<String, String>> listItems = new ArrayList<>();
+        sender.streamListOfClusterMembers(new RecordingHandler(listItems));
+
+        assertTrue(listItems.isEmpty());
+        assertNull(sender.getListOfClusterMembers().get("items"));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Stream the items of the given response.
+     *
+     * @param sJson  the response
+     *
+     * @return the fields of each item
+     *
+     * @throws Exception if any errors
+     */
+    private List<Map<String, String>> stream(String sJson)
+            throws Exception
+        {
+        List<Map<String, String>> listItems = new ArrayList<>();
+
+        sender(sJson).streamListOfClusterMembers(new RecordingHandler(listItems));
+
+        return listItems;
+        }
+
+    /**
+     * Returns a {@link HttpRequestSender} which returns the given response for every request.
+     *
+     * @param sJson  the response
+     *
+     * @return the {@link HttpRequestSender}
+     */
+    private HttpRequestSender sender(String sJson)
+        {
+        return new HttpRequestSender(REST_URL, new StubHttpTransport(sJson.getBytes(StandardCharsets.UTF_8)));
+        }
+
+    // ----- inner class: RecordingHandler ----------------------------------
+
+    /**
+     * A {@link JsonItemHandler} which records the text of each field of each item.
+     */
+    private static class RecordingHandler
+            implements JsonItemHandler
+        {
+        /**
+         * Create a {@link RecordingHandler}.
+         *
+         * @param listItems  the list to add the fields of each item to
+         */
+        RecordingHandler(List<Map<String, String>> listItems)
+            {
+            f_listItems = listItems;
+            }
+
+        @Override
+        public void startItem()
+            {
+            m_mapItem = new LinkedHashMap<>();
+            }
+
+        @Override
+        public void field(String sField, JsonParser parser)
+                throws IOException
+            {
+            JsonToken token = parser.currentToken();
+            String    sText = parser.getText();
+
+            m_mapItem.put(sField, token == JsonToken.VALUE_NULL ? sText + ":" + token : sText);
+            }
+
+        @Override
+        public void endItem()
+            {
+            f_listItems.add(m_mapItem);
+            }
+
+        /**
+         * The list to add the fields of each item to.
+         */
+        private final List<Map<String, String>> f_listItems;
+
+        /**
+         * The fields of the current item.
+         */
+        private Map<String, String> m_mapItem;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The URL of the management REST server.
+     */
+    private static final String REST_URL = "http://localhost:30000/management/coherence/cluster";
+    }
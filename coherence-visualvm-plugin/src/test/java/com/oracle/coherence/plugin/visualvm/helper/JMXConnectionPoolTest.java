@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerFactory;
+
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for {@link JMXConnectionPool}.
+ *
+ * @author agent 2026.10.16
+ */
+public class JMXConnectionPoolTest
+    {
+    @Before
+    public void setup()
+            throws Exception
+        {
+        m_server          = MBeanServerFactory.newMBeanServer();
+        m_connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(
+                new JMXServiceURL("service:jmx:rmi://127.0.0.1"), null, m_server);
+        m_connectorServer.start();
+        }
+
+    @After
+    public void cleanup()
+            throws Exception
+        {
+        m_connectorServer.stop();
+        }
+
+    @Test
+    public void testExecuteUsesPooledConnection()
+            throws Exception
+        {
+        JMXConnectionPool pool = createPool(2);
+
+        try
+            {
+            MBeanServerConnection connection = pool.execute(c -> c);
+
+            assertNotSame(m_server, connection);
+            assertEquals(1, pool.getOpenCount());
+
+            // the idle connections are used in turn
+            assertEquals(m_server.getMBeanCount(), pool.execute(MBeanServerConnection::getMBeanCount));
+            assertEquals(2, pool.getOpenCount());
+            }
+        finally
+            {
+            pool.close();
+            }
+
+        assertEquals(0, pool.getOpenCount());
+        }
+
+    @Test
+    public void testBoundedParallelism()
+            throws Exception
+        {
+        JMXConnectionPool pool     = createPool(2);
+        ExecutorService   executor = Executors.newFixedThreadPool(6);
+        AtomicInteger     cActive  = new AtomicInteger();
+        AtomicInteger     cMax     = new AtomicInteger();
+
+        try
+            {
+            List<Future<Integer>> listFutures = new ArrayList<>();
+            for (int i = 0; i < 6; i++)
+                {
+                listFutures.add(executor.submit(() -> pool.execute(connection ->
+                    {
+                    cMax.accumulateAndGet(cActive.incrementAndGet(), Math::max);
+                    Thread.sleep(50L);
+                    cActive.decrementAndGet();
+                    return connection.getMBeanCount();
+                    })));
+                }
+
+            for (Future<Integer> future : listFutures)
+                {
+                assertEquals(m_server.getMBeanCount(), future.get());
+                }
+
+            assertTrue(cMax.get() <= 2);
+            assertEquals(2, pool.getOpenCount());
+            }
+        finally
+            {
+            executor.shutdownNow();
+            pool.close();
+            }
+        }
+
+    @Test
+    public void testUnavailableUsesPrimary()
+            throws Exception
+        {
+        JMXConnectionPool pool = new JMXConnectionPool(m_server,
+                Collections.singletonList(m_connectorServer.getAddress()), null, 1)
+            {
+            @Override
+            protected JMXConnector connect(JMXServiceURL url)
+                    throws IOException
+                {
+                throw new IOException("Unavailable");
+                }
+            };
+
+        assertSame(m_server, pool.execute(connection -> connection));
+        assertEquals(0, pool.getOpenCount());
+        }
+
+    @Test
+    public void testClosedWhileConnecting()
+            throws Exception
+        {
+        List<JMXConnector> listConnectors = new ArrayList<>();
+
+        JMXConnectionPool pool = new JMXConnectionPool(m_server,
+                Collections.singletonList(m_connectorServer.getAddress()), null, 1)
+            {
+            @Override
+            protected JMXConnector connect(JMXServiceURL url)
+                    throws IOException
+                {
+                JMXConnector connector = super.connect(url);
+
+                listConnectors.add(connector);
+                close();
+
+                return connector;
+                }
+            };
+
+        assertSame(m_server, pool.execute(connection -> connection));
+        assertEquals(0, pool.getOpenCount());
+        assertEquals(1, listConnectors.size());
+
+        try
+            {
+            listConnectors.get(0).getConnectionId();
+            fail("The connection opened after the pool was closed was not closed");
+            }
+        catch (IOException e)
+            {
+            // expected
+            }
+        }
+
+    @Test
+    public void testFailedConnectionRetriedOnPrimary()
+            throws Exception
+        {
+        JMXConnectionPool pool     = createPool(1);
+        AtomicInteger     cAttempt = new AtomicInteger();
+
+        try
+            {
+            MBeanServerConnection connection = pool.execute(c ->
+                {
+                if (cAttempt.incrementAndGet() == 1)
+                    {
+                    throw new IOException("Connection failed");
+                    }
+                return c;
+                });
+
+            assertSame(m_server, connection);
+            assertEquals(0, pool.getOpenCount());
+
+            // the connection is opened again when next used
+            assertNotSame(m_server, pool.execute(c -> c));
+            assertEquals(1, pool.getOpenCount());
+            }
+        finally
+            {
+            pool.close();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a pool of connections to the connector server.
+     *
+     * @param cConnections  the number of connections
+     *
+     * @return the pool
+     */
+    private JMXConnectionPool createPool(int cConnections)
+        {
+        return new JMXConnectionPool(m_server, Collections.singletonList(m_connectorServer.getAddress()), null,
+                                     cConnections);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The MBean server, also used as the primary connection.
+     */
+    private MBeanServer m_server;
+
+    /**
+     * The connector server the pool connects to.
+     */
+    private JMXConnectorServer m_connectorServer;
+    }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.AttributeList;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.StandardMBean;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for running reports and retrieving attributes using the
+ * {@link JMXRequestSender}.
+ *
+ * @author agent 2026.10.16
+ */
+public class JMXRequestSenderTest
+    {
+    @Test
+    public void testRunTabularGroupReport()
+            throws Exception
+        {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        server.registerMBean(new StandardMBean(new Reporter(), ReporterMBean.class), new ObjectName(REPORTER));
+
+        Map<String, String> mapReports = new HashMap<>();
+        mapReports.put("SERVICE", "<report-config/>");
+        mapReports.put("CACHE", "<report-config/>");
+
+        Map<String, TabularData> mapResults = new JMXRequestSender(server)
+                .runTabularGroupReport(new ObjectName(REPORTER), "group", mapReports);
+
+        assertEquals(2, mapResults.size());
+        assertEquals(1, mapResults.get("SERVICE").size());
+        assertEquals(1, mapResults.get("CACHE").size());
+        }
+
+    @Test
+    public void testRunTabularGroupReportNotSupported()
+            throws Exception
+        {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        server.registerMBean(new StandardMBean(new Reporter(), LegacyReporterMBean.class), new ObjectName(REPORTER));
+
+        try
+            {
+            new JMXRequestSender(server).runTabularGroupReport(new ObjectName(REPORTER), "group",
+                                                               new HashMap<>());
+            fail("Expected a ReflectionException");
+            }
+        catch (ReflectionException e)
+            {
+            // expected as the operation does not exist
+            }
+        }
+
+    @Test
+    public void testGetAttributesSplitAcrossThreads()
+            throws Exception
+        {
+        MBeanServer     server         = MBeanServerFactory.newMBeanServer();
+        Set<String>     setThreads     = ConcurrentHashMap.newKeySet();
+        Set<ObjectName> setObjectNames = registerCounters(server, COUNTER_COUNT, setThreads);
+
+        Map<ObjectName, AttributeList> mapResults = new JMXRequestSender(server)
+                .getAttributes(setObjectNames, COUNTER_ATTRIBUTES);
+
+        // the attributes are the same as reading each MBean in turn
+        assertEquals(COUNTER_COUNT, mapResults.size());
+        for (ObjectName objectName : setObjectNames)
+            {
+            assertEquals(server.getAttributes(objectName, COUNTER_ATTRIBUTES), mapResults.get(objectName));
+            }
+
+        // and were read by more than one collector thread
+        int cCollectors = 0;
+        for (String sThread : setThreads)
+            {
+            if (sThread.startsWith("CoherenceAttributeCollector-"))
+                {
+                cCollectors++;
+                }
+            }
+        assertTrue("Attributes read on " + setThreads, cCollectors > 1);
+        }
+
+    @Test
+    public void testGetAttributesSkipsMissingMBeans()
+            throws Exception
+        {
+        MBeanServer     server         = MBeanServerFactory.newMBeanServer();
+        Set<ObjectName> setObjectNames = registerCounters(server, COUNTER_COUNT, ConcurrentHashMap.newKeySet());
+        Set<ObjectName> setRequested   = new HashSet<>(setObjectNames);
+
+        // members which have left since the MBeans were queried, spread across the batches
+        Set<ObjectName> setDeparted = new HashSet<>();
+        for (int i = 0; i < COUNTER_COUNT; i += COUNTER_COUNT / 4)
+            {
+            ObjectName objectName = new ObjectName(COUNTER + (COUNTER_COUNT + 1 + i));
+            setDeparted.add(objectName);
+            setRequested.add(objectName);
+            }
+
+        Map<ObjectName, AttributeList> mapResults = new JMXRequestSender(server)
+                .getAttributes(setRequested, COUNTER_ATTRIBUTES);
+
+        assertEquals(setObjectNames, mapResults.keySet());
+        setDeparted.forEach(objectName -> assertTrue(!mapResults.containsKey(objectName)));
+        for (ObjectName objectName : setObjectNames)
+            {
+            assertEquals(COUNTER_ATTRIBUTES.length, mapResults.get(objectName).size());
+            }
+        }
+
+    @Test
+    public void testGetAttributesNoMBeans()
+            throws Exception
+        {
+        assertTrue(new JMXRequestSender(MBeanServerFactory.newMBeanServer())
+                           .getAttributes(new HashSet<>(), COUNTER_ATTRIBUTES).isEmpty());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register a number of counter MBeans.
+     *
+     * @param server      the MBean server
+     * @param cCounters   the number of counters to register
+     * @param setThreads  the set to add the names of the threads reading the counters to
+     *
+     * @return the names of the registered MBeans
+     *
+     * @throws Exception in case of errors
+     */
+    private static Set<ObjectName> registerCounters(MBeanServer server, int cCounters, Set<String> setThreads)
+            throws Exception
+        {
+        Set<ObjectName> setObjectNames = new HashSet<>();
+
+        for (int nMember = 1; nMember <= cCounters; nMember++)
+            {
+            ObjectName objectName = new ObjectName(COUNTER + nMember);
+            server.registerMBean(new StandardMBean(new Counter(nMember, setThreads), CounterMBean.class), objectName);
+            setObjectNames.add(objectName);
+            }
+
+        return setObjectNames;
+        }
+
+    // ----- inner interface: CounterMBean ----------------------------------
+
+    /**
+     * An MBean with a couple of attributes.
+     */
+    public interface CounterMBean
+        {
+        long getCount();
+
+        String getDescription();
+        }
+
+    // ----- inner class: Counter -------------------------------------------
+
+    /**
+     * A counter which records the threads its attributes are read on.
+     */
+    public static class Counter
+            implements CounterMBean
+        {
+        /**
+         * Create a {@link Counter}.
+         *
+         * @param nMember     the member id
+         * @param setThreads  the set to add the names of the reading threads to
+         */
+        public Counter(int nMember, Set<String> setThreads)
+            {
+            f_nMember    = nMember;
+            f_setThreads = setThreads;
+            }
+
+        @Override
+        public long getCount()
+            {
+            f_setThreads.add(Thread.currentThread().getName());
+            try
+                {
+                // keep each batch busy long enough for the others to be picked up
+                Thread.sleep(5L);
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                }
+
+            return f_nMember * 10L;
+            }
+
+        @Override
+        public String getDescription()
+            {
+            return "member " + f_nMember;
+            }
+
+        /**
+         * The member id.
+         */
+        private final int f_nMember;
+
+        /**
+         * The names of the threads the attributes were read on.
+         */
+        private final Set<String> f_setThreads;
+        }
+
+    // ----- inner interface: LegacyReporterMBean ---------------------------
+
+    /**
+     * A Reporter which can only run single reports.
+     */
+    public interface LegacyReporterMBean
+        {
+        /**
+         * Run a single report.
+         *
+         * @param sReport  the report XML
+         *
+         * @return the report output
+         *
+         * @throws OpenDataException if the output cannot be created
+         */
+        TabularData runTabularReport(String sReport)
+                throws OpenDataException;
+        }
+
+    // ----- inner interface: ReporterMBean ---------------------------------
+
+    /**
+     * A Reporter which can run a group of reports.
+     */
+    public interface ReporterMBean
+            extends LegacyReporterMBean
+        {
+        /**
+         * Run a group of reports.
+         *
+         * @param sName       the name of the group
+         * @param mapReports  the report XML keyed by report name
+         *
+         * @return a row containing the output for each report
+         *
+         * @throws OpenDataException if the output cannot be created
+         */
+        TabularData runTabularGroupReport(String sName, Map<String, String> mapReports)
+                throws OpenDataException;
+        }
+
+    // ----- inner class: Reporter ------------------------------------------
+
+    /**
+     * A Reporter which returns a single row for each report.
+     */
+    public static class Reporter
+            implements ReporterMBean
+        {
+        @Override
+        public TabularData runTabularReport(String sReport)
+                throws OpenDataException
+            {
+            CompositeType      type = new CompositeType("Row", "Row", new String[] {"Value"},
+                                                        new String[] {"Value"}, new OpenType<?>[] {SimpleType.STRING});
+            TabularDataSupport data = new TabularDataSupport(new TabularType("Report", "Report", type,
+                                                                             new String[] {"Value"}));
+
+            data.put(new CompositeDataSupport(type, new String[] {"Value"}, new Object[] {sReport}));
+
+            return data;
+            }
+
+        @Override
+        public TabularData runTabularGroupReport(String sName, Map<String, String> mapReports)
+                throws OpenDataException
+            {
+            TabularType        typeReport = runTabularReport("").getTabularType();
+            CompositeType      type       = new CompositeType("Group", "Group", new String[] {"Name", "Data"},
+                                                              new String[] {"Name", "Data"},
+                                                              new OpenType<?>[] {SimpleType.STRING, typeReport});
+            TabularDataSupport data       = new TabularDataSupport(new TabularType("Group", "Group", type,
+                                                                                   new String[] {"Name"}));
+
+            for (Map.Entry<String, String> entry : mapReports.entrySet())
+                {
+                data.put(new CompositeDataSupport(type, new String[] {"Name", "Data"},
+                        new Object[] {entry.getKey(), runTabularReport(entry.getValue())}));
+                }
+
+            return data;
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The ObjectName of the Reporter MBean.
+     */
+    private static final String REPORTER = "Coherence:type=Reporter,nodeId=1";
+
+    /**
+     * The ObjectName of the counter MBeans without the member id.
+     */
+    private static final String COUNTER = "Coherence:type=Counter,nodeId=";
+
+    /**
+     * The attributes of the counter MBeans.
+     */
+    private static final String[] COUNTER_ATTRIBUTES = {"Count", "Description"};
+
+    /**
+     * The number of counter MBeans, more than the default number of collection threads.
+     */
+    private static final int COUNTER_COUNT = 40;
+    }
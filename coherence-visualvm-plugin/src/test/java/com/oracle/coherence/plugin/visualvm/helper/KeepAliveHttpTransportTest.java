@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link KeepAliveHttpTransport} using a local HTTP server.
+ *
+ * @author agent 2026.10.16
+ */
+public class KeepAliveHttpTransportTest
+    {
+    @Before
+    public void setup()
+            throws Exception
+        {
+        m_server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        m_server.setExecutor(Executors.newCachedThreadPool());
+        m_server.createContext("/", this::handle);
+        m_server.start();
+
+        m_executor = Executors.newCachedThreadPool();
+        }
+
+    @After
+    public void cleanup()
+        {
+        // let any requests still waiting complete
+        f_gate.release(1000);
+        m_executor.shutdownNow();
+        m_server.stop(0);
+        }
+
+    @Test
+    public void testPerHostLimit()
+            throws Exception
+        {
+        KeepAliveHttpTransport transport   = new KeepAliveHttpTransport(2);
+        List<Future<String>>   listFutures = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+            {
+            listFutures.add(send(transport, "127.0.0.1", BLOCK));
+            }
+
+        awaitActive(2);
+
+        // requests to another host are not limited by the requests to the first
+        listFutures.add(send(transport, "localhost", BLOCK));
+        awaitActive(3);
+
+        f_gate.release(7);
+        for (Future<String> future : listFutures)
+            {
+            assertEquals(BODY, future.get(TIMEOUT, TimeUnit.SECONDS));
+            }
+
+        assertEquals(3, f_cMaxActive.get());
+        }
+
+    @Test
+    public void testIncreaseMaxConnectionsWhileRunning()
+            throws Exception
+        {
+        KeepAliveHttpTransport transport   = new KeepAliveHttpTransport(2);
+        List<Future<String>>   listFutures = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++)
+            {
+            listFutures.add(send(transport, HOST, BLOCK));
+            }
+        awaitActive(2);
+
+        transport.setMaxConnections(3);
+        assertEquals(3, transport.getMaxConnections());
+
+        for (int i = 0; i < 3; i++)
+            {
+            listFutures.add(send(transport, HOST, BLOCK));
+            }
+
+        // the running requests count towards the new limit
+        awaitActive(3);
+
+        f_gate.release(5);
+        for (Future<String> future : listFutures)
+            {
+            assertEquals(BODY, future.get(TIMEOUT, TimeUnit.SECONDS));
+            }
+
+        assertEquals(3, f_cMaxActive.get());
+        }
+
+    @Test
+    public void testDecreaseMaxConnectionsWhileRunning()
+            throws Exception
+        {
+        KeepAliveHttpTransport transport   = new KeepAliveHttpTransport(3);
+        List<Future<String>>   listFutures = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+            {
+            listFutures.add(send(transport, HOST, BLOCK));
+            }
+        awaitActive(3);
+
+        transport.setMaxConnections(1);
+
+        for (int i = 0; i < 3; i++)
+            {
+            listFutures.add(send(transport, HOST, BLOCK));
+            }
+
+        // new requests wait until the running requests are within the new limit
+        f_gate.release(2);
+        awaitActive(1);
+
+        f_gate.release(1);
+        awaitActive(1);
+
+        f_cMaxActive.set(0);
+        f_gate.release(3);
+        for (Future<String> future : listFutures)
+            {
+            assertEquals(BODY, future.get(TIMEOUT, TimeUnit.SECONDS));
+            }
+
+        assertEquals(1, f_cMaxActive.get());
+        }
+
+    @Test
+    public void testGzipResponse()
+            throws Exception
+        {
+        KeepAliveHttpTransport transport = new KeepAliveHttpTransport(1);
+
+        assertEquals(BODY, read(transport.sendGetRequest(url(HOST, GZIP))));
+        assertEquals("gzip", m_sAcceptEncoding);
+        assertEquals(BODY, read(transport.sendGetRequestAsync(url(HOST, GZIP)).get(TIMEOUT, TimeUnit.SECONDS)));
+
+        // an uncompressed response is returned as is
+        assertEquals(BODY, read(transport.sendGetRequest(url(HOST, OK))));
+        }
+
+    @Test
+    public void testErrorResponseDrained()
+            throws Exception
+        {
+        KeepAliveHttpTransport transport = new KeepAliveHttpTransport(1);
+
+        assertEquals(BODY, read(transport.sendGetRequest(url(HOST, OK))));
+        assertNull(transport.sendGetRequest(url(HOST, ERROR)));
+        assertEquals(BODY, read(transport.sendGetRequest(url(HOST, OK))));
+
+        // the error response was read so the same connection was used for every request
+        assertEquals(3, f_cRequests.get());
+        assertEquals(1, f_cConnections.get());
+
+        // and the permit was released
+        assertNull(transport.sendGetRequestAsync(url(HOST, ERROR)).get(TIMEOUT, TimeUnit.SECONDS));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxConnections()
+        {
+        new KeepAliveHttpTransport(1).setMaxConnections(0);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Handle a request to the local HTTP server.
+     *
+     * @param exchange  the request and response
+     *
+     * @throws IOException if any errors sending the response
+     */
+    private void handle(HttpExchange exchange)
+            throws IOException
+        {
+        f_cRequests.incrementAndGet();
+        synchronized (f_listRemotePorts)
+            {
+            int nPort = exchange.getRemoteAddress().getPort();
+            if (!f_listRemotePorts.contains(nPort))
+                {
+                f_listRemotePorts.add(nPort);
+                f_cConnections.incrementAndGet();
+                }
+            }
+
+        String sPath  = exchange.getRequestURI().getPath();
+        byte[] abBody = BODY.getBytes(StandardCharsets.UTF_8);
+        int    nCode  = 200;
+
+        if (sPath.equals(BLOCK))
+            {
+            f_cMaxActive.accumulateAndGet(f_cActive.incrementAndGet(), Math::max);
+            try
+                {
+                f_gate.acquire();
+                }
+            catch (InterruptedException e)
+                {
+                Thread.currentThread().interrupt();
+                }
+            finally
+                {
+                f_cActive.decrementAndGet();
+                }
+            }
+        else if (sPath.equals(GZIP))
+            {
+            m_sAcceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out))
+                {
+                gzip.write(abBody);
+                }
+            abBody = out.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+        else if (sPath.equals(ERROR))
+            {
+            nCode  = 500;
+            abBody = "{\"detail\":\"failed\"}".getBytes(StandardCharsets.UTF_8);
+            }
+
+        exchange.sendResponseHeaders(nCode, abBody.length);
+        try (OutputStream out = exchange.getResponseBody())
+            {
+            out.write(abBody);
+            }
+        }
+
+    /**
+     * Send a request on another thread.
+     *
+     * @param transport  the transport to use
+     * @param sHost      the host name to use for the local server
+     * @param sPath      the path to request
+     *
+     * @return a {@link Future} for the response body
+     */
+    private Future<String> send(KeepAliveHttpTransport transport, String sHost, String sPath)
+        {
+        return m_executor.submit(() -> read(transport.sendGetRequest(url(sHost, sPath))));
+        }
+
+    /**
+     * Wait until the given number of requests are running on the server and
+     * check that no more start.
+     *
+     * @param cActive  the expected number of running requests
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void awaitActive(int cActive)
+            throws InterruptedException
+        {
+        long ldtTimeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (f_cActive.get() != cActive && System.currentTimeMillis() < ldtTimeout)
+            {
+            Thread.sleep(10L);
+            }
+
+        Thread.sleep(200L);
+        assertEquals(cActive, f_cActive.get());
+        }
+
+    /**
+     * Returns a URL for the local server.
+     *
+     * @param sHost  the host name to use for the local server
+     * @param sPath  the path
+     *
+     * @return the URL
+     *
+     * @throws IOException if the URL is invalid
+     */
+    private URL url(String sHost, String sPath)
+            throws IOException
+        {
+        return new URL("http://" + sHost + ":" + m_server.getAddress().getPort() + sPath);
+        }
+
+    /**
+     * Read a response body.
+     *
+     * @param stream  the response body
+     *
+     * @return the response body as a string
+     *
+     * @throws IOException if any errors reading the stream
+     */
+    private static String read(InputStream stream)
+            throws IOException
+        {
+        assertNotNull(stream);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = stream)
+            {
+            byte[] abBuffer = new byte[256];
+            int    cb;
+            while ((cb = in.read(abBuffer)) != -1)
+                {
+                out.write(abBuffer, 0, cb);
+                }
+            }
+
+        return out.toString(StandardCharsets.UTF_8.name());
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The host name of the local server.
+     */
+    private static final String HOST = "127.0.0.1";
+
+    /**
+     * The path of a request which waits until released by the test.
+     */
+    private static final String BLOCK = "/block";
+
+    /**
+     * The path of a request with a compressed response.
+     */
+    private static final String GZIP = "/gzip";
+
+    /**
+     * The path of a request which fails.
+     */
+    private static final String ERROR = "/error";
+
+    /**
+     * The path of a request with an uncompressed response.
+     */
+    private static final String OK = "/ok";
+
+    /**
+     * The body of a successful response.
+     */
+    private static final String BODY = "{\"items\":[{\"nodeId\":\"1\"}]}";
+
+    /**
+     * The number of seconds to wait for a request.
+     */
+    private static final long TIMEOUT = 10L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The local HTTP server.
+     */
+    private HttpServer m_server;
+
+    /**
+     * The encodings accepted by the last request for a compressed response.
+     */
+    private volatile String m_sAcceptEncoding;
+
+    /**
+     * The executor used to send requests concurrently.
+     */
+    private ExecutorService m_executor;
+
+    /**
+     * The permits released by the test to complete the blocked requests.
+     */
+    private final Semaphore f_gate = new Semaphore(0);
+
+    /**
+     * The number of blocked requests running on the server.
+     */
+    private final AtomicInteger f_cActive = new AtomicInteger();
+
+    /**
+     * The maximum number of blocked requests running on the server at once.
+     */
+    private final AtomicInteger f_cMaxActive = new AtomicInteger();
+
+    /**
+     * The number of requests received.
+     */
+    private final AtomicInteger f_cRequests = new AtomicInteger();
+
+    /**
+     * The number of connections the requests were received on.
+     */
+    private final AtomicInteger f_cConnections = new AtomicInteger();
+
+    /**
+     * The client ports of the connections the requests were received on.
+     */
+    private final List<Integer> f_listRemotePorts = new ArrayList<>();
+    }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MBeanTopologyCache}.
+ *
+ * @author agent 2026.10.16
+ */
+public class MBeanTopologyCacheTest
+    {
+    @Before
+    public void setup()
+            throws Exception
+        {
+        m_server     = MBeanServerFactory.newMBeanServer();
+        m_counting   = new CountingMBeanServerConnection(m_server);
+        m_connection = m_counting.getConnection();
+
+        register("Coherence:type=Node,nodeId=1");
+        register("Coherence:type=Node,nodeId=2");
+        register("Coherence:type=Service,name=PartitionedCache,nodeId=1");
+        }
+
+    @Test
+    public void testQueryCached()
+            throws Exception
+        {
+        MBeanTopologyCache cache = new MBeanTopologyCache(m_connection);
+
+        assertEquals(2, cache.queryNames(new ObjectName(NODES)).size());
+        assertEquals(2, cache.queryNames(new ObjectName(NODES)).size());
+        assertEquals(1, m_counting.getQueryCount());
+        assertEquals(1, cache.getCachedQueryCount());
+        }
+
+    @Test
+    public void testRegistrationUpdatesCache()
+            throws Exception
+        {
+        MBeanTopologyCache cache = new MBeanTopologyCache(m_connection);
+
+        cache.queryNames(new ObjectName(NODES));
+
+        register("Coherence:type=Node,nodeId=3");
+        register("Coherence:type=Service,name=PartitionedCache,nodeId=3");
+
+        Set<ObjectName> setNames = cache.queryNames(new ObjectName(NODES));
+
+        assertEquals(3, setNames.size());
+        assertTrue(setNames.contains(new ObjectName("Coherence:type=Node,nodeId=3")));
+
+        m_server.unregisterMBean(new ObjectName("Coherence:type=Node,nodeId=1"));
+
+        setNames = cache.queryNames(new ObjectName(NODES));
+
+        assertEquals(2, setNames.size());
+        assertFalse(setNames.contains(new ObjectName("Coherence:type=Node,nodeId=1")));
+        assertEquals(1, m_counting.getQueryCount());
+        }
+
+    @Test
+    public void testResultsAreCopies()
+            throws Exception
+        {
+        MBeanTopologyCache cache = new MBeanTopologyCache(m_connection);
+
+        cache.queryNames(new ObjectName(NODES)).clear();
+
+        assertEquals(2, cache.queryNames(new ObjectName(NODES)).size());
+        }
+
+    @Test
+    public void testClose()
+            throws Exception
+        {
+        MBeanTopologyCache cache = new MBeanTopologyCache(m_connection);
+
+        cache.queryNames(new ObjectName(NODES));
+        cache.close();
+
+        assertEquals(0, cache.getCachedQueryCount());
+
+        cache.queryNames(new ObjectName(NODES));
+        cache.queryNames(new ObjectName(NODES));
+
+        assertEquals(3, m_counting.getQueryCount());
+        assertEquals(0, cache.getCachedQueryCount());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register an MBean with the given name.
+     *
+     * @param sName  the name of the MBean
+     *
+     * @throws Exception in case of errors
+     */
+    private void register(String sName)
+            throws Exception
+        {
+        m_server.registerMBean(new StandardMBean(new Dummy(), DummyMBean.class), new ObjectName(sName));
+        }
+
+    // ----- inner class: DummyMBean ----------------------------------------
+
+    /**
+     * The management interface of the registered MBeans.
+     */
+    public interface DummyMBean
+        {
+        /**
+         * Returns a value.
+         *
+         * @return a value
+         */
+        int getValue();
+        }
+
+    /**
+     * The registered MBeans.
+     */
+    public static class Dummy
+            implements DummyMBean
+        {
+        @Override
+        public int getValue()
+            {
+            return 1;
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The query for all members.
+     */
+    private static final String NODES = "Coherence:type=Node,*";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The MBean server.
+     */
+    private MBeanServer m_server;
+
+    /**
+     * The connection to the MBean server which counts queries.
+     */
+    private MBeanServerConnection m_connection;
+
+    /**
+     * The counts of the queries sent to the MBean server.
+     */
+    private CountingMBeanServerConnection m_counting;
+    }
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MetricsRecorder} and {@link RecordingReader}.
+ *
+ * @author agent 2026.10.16
+ */
+public class MetricsRecorderTest
+    {
+    @Before
+    public void createDirectory()
+            throws IOException
+        {
+        m_fileDirectory = Files.createTempDirectory("recording").toFile();
+        }
+
+    @After
+    public void deleteDirectory()
+        {
+        File[] aFiles = m_fileDirectory.listFiles();
+        if (aFiles != null)
+            {
+            for (File file : aFiles)
+                {
+                file.delete();
+                }
+            }
+        m_fileDirectory.delete();
+        }
+
+    @Test
+    public void testRecordAndRead()
+            throws IOException
+        {
+        MetricsRecorder recorder = new MetricsRecorder(m_fileDirectory, 64 * 1024, HOUR, Long.MAX_VALUE);
+
+        recorder.record(1000L, DataType.CLUSTER, createRows("cluster", 3, 1));
+        recorder.record(2000L, DataType.CLUSTER, createRows("cluster", 4, 2));
+        recorder.record(2000L, DataType.MEMBER, null);
+        recorder.close();
+
+        List<RecordedData> listData = readAll();
+
+        assertEquals(2, listData.size());
+
+        RecordedData data = listData.get(1);
+        assertEquals(2000L, data.getTime());
+        assertEquals(DataType.CLUSTER, data.getType());
+        assertEquals(2, data.getRows().size());
+
+        Map.Entry<Object, Object[]> entry = data.getRows().get(1);
+        assertEquals(new Pair<>("cluster", 1), entry.getKey());
+        assertArrayEquals(new Object[]{ "cluster", null, "14.1.1", 1L, 4 }, entry.getValue());
+        }
+
+    @Test
+    public void testSegmentsRoll()
+            throws IOException
+        {
+        MetricsRecorder recorder = new MetricsRecorder(m_fileDirectory, 1024, HOUR, Long.MAX_VALUE);
+
+        for (int i = 0; i < 100; i++)
+            {
+            recorder.record(i, DataType.CLUSTER, createRows("cluster-" + i, i, 5));
+            }
+        recorder.close();
+
+        RecordingReader reader = new RecordingReader(m_fileDirectory);
+        assertTrue(reader.getSegments().size() > 1);
+
+        List<RecordedData> listData = readAll();
+        assertEquals(100, listData.size());
+        for (int i = 0; i < 100; i++)
+            {
+            assertEquals(i, listData.get(i).getTime());
+            assertEquals("cluster-" + i, listData.get(i).getRows().get(0).getValue()[ClusterData.CLUSTER_NAME]);
+            }
+        }
+
+    @Test
+    public void testSnapshotLargerThanSegment()
+            throws IOException
+        {
+        MetricsRecorder recorder = new MetricsRecorder(m_fileDirectory, 1024, HOUR, Long.MAX_VALUE);
+
+        recorder.record(1L, DataType.CLUSTER, createRows("cluster", 1, 1));
+        recorder.record(2L, DataType.CLUSTER, createRows("cluster", 2, 100));
+        recorder.record(3L, DataType.CLUSTER, createRows("cluster", 3, 1));
+        recorder.close();
+
+        // no empty segment is left behind for the large snapshot
+        assertEquals(3, new RecordingReader(m_fileDirectory).getSegments().size());
+
+        List<RecordedData> listData = readAll();
+        assertEquals(3, listData.size());
+        assertEquals(100, listData.get(1).getRows().size());
+        assertEquals(3L, listData.get(2).getTime());
+        }
+
+    @Test
+    public void testRetention()
+            throws IOException
+        {
+        MetricsRecorder recorder = new MetricsRecorder(m_fileDirectory, 1024, HOUR, Long.MAX_VALUE);
+
+        // a new segment is started every hour so the first two are removed
+        for (int i = 0; i < 4; i++)
+            {
+            recorder.record(i * HOUR, DataType.CLUSTER, createRows("cluster", i, 1));
+            }
+        recorder.close();
+
+        List<RecordedData> listData = readAll();
+        assertEquals(2, listData.size());
+        assertEquals(2 * HOUR, listData.get(0).getTime());
+
+        // now limit the size
+        recorder = new MetricsRecorder(m_fileDirectory, 1024, Long.MAX_VALUE, 4096);
+        for (int i = 0; i < 100; i++)
+            {
+            recorder.record(4 * HOUR + i, DataType.CLUSTER, createRows("cluster", i, 5));
+            }
+        recorder.close();
+
+        long cbTotal = 0L;
+        for (File file : new RecordingReader(m_fileDirectory).getSegments())
+            {
+            cbTotal += file.length();
+            }
+        assertTrue("Size was " + cbTotal, cbTotal <= 4096 + 1024);
+
+        listData = readAll();
+        assertEquals(4 * HOUR + 99, listData.get(listData.size() - 1).getTime());
+        }
+
+    @Test
+    public void testRecordersSharingDirectory()
+            throws IOException
+        {
+        MetricsRecorder recorder1 = new MetricsRecorder(m_fileDirectory, 1024, Long.MAX_VALUE, 4096);
+        MetricsRecorder recorder2 = new MetricsRecorder(m_fileDirectory, 1024, Long.MAX_VALUE, 4096);
+
+        recorder1.record(1L, DataType.CLUSTER, createRows("cluster-1", 1, 1));
+
+        // the retention of the second recorder must not remove the segment
+        // the first recorder is still writing to
+        for (int i = 0; i < 100; i++)
+            {
+            recorder2.record(10L + i, DataType.CLUSTER, createRows("cluster-2", i, 5));
+            }
+
+        recorder1.record(200L, DataType.CLUSTER, createRows("cluster-1", 2, 1));
+        recorder1.close();
+        recorder2.close();
+
+        List<RecordedData> listData = readAll();
+        List<Long>         listTimes = new ArrayList<>();
+        for (RecordedData data : listData)
+            {
+            if ("cluster-1".equals(data.getRows().get(0).getValue()[ClusterData.CLUSTER_NAME]))
+                {
+                listTimes.add(data.getTime());
+                }
+            }
+
+        assertEquals(Arrays.asList(1L, 200L), listTimes);
+        assertEquals(109L, listData.get(listData.size() - 1).getTime());
+
+        // once closed the segment of the first recorder is removed as usual
+        recorder2.record(300L, DataType.CLUSTER, createRows("cluster-2", 0, 40));
+        recorder2.close();
+
+        for (RecordedData data : readAll())
+            {
+            assertEquals("cluster-2", data.getRows().get(0).getValue()[ClusterData.CLUSTER_NAME]);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns rows of {@link ClusterData}.
+     *
+     * @param sName  the cluster name
+     * @param nSize  the cluster size
+     * @param cRows  the number of rows
+     *
+     * @return the rows
+     */
+    private List<Map.Entry<Object, Data>> createRows(String sName, int nSize, int cRows)
+        {
+        List<Map.Entry<Object, Data>> listRows = new ArrayList<>();
+
+        for (int i = 0; i < cRows; i++)
+            {
+            ClusterData data = new ClusterData();
+            data.setColumn(ClusterData.CLUSTER_NAME, sName);
+            data.setColumn(ClusterData.VERSION, "14.1.1");
+            data.setColumn(ClusterData.DEPARTURE_COUNT, (long) i);
+            data.setColumn(ClusterData.CLUSTER_SIZE, nSize);
+
+            listRows.add(new AbstractMap.SimpleEntry<>(new Pair<>(sName, i), data));
+            }
+
+        return listRows;
+        }
+
+    /**
+     * Read all of the recorded data.
+     *
+     * @return the recorded data
+     *
+     * @throws IOException if any errors reading
+     */
+    private List<RecordedData> readAll()
+            throws IOException
+        {
+        List<RecordedData> listData = new ArrayList<>();
+        new RecordingReader(m_fileDirectory).read(listData::add);
+        return listData;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * One hour in millis.
+     */
+    private static final long HOUR = 60L * 60L * 1000L;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory to record to.
+     */
+    private File m_fileDirectory;
+    }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.file.Files;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ReplayRequestSender}.
+ *
+ * @author agent 2026.10.16
+ */
+public class ReplayRequestSenderTest
+    {
+    @Before
+    public void createRecording()
+            throws IOException
+        {
+        m_fileDirectory = Files.createTempDirectory("replay").toFile();
+
+        MetricsRecorder recorder = new MetricsRecorder(m_fileDirectory, 64 * 1024, Long.MAX_VALUE, Long.MAX_VALUE);
+        recorder.record(1000L, DataType.CLUSTER, createRow(3));
+        recorder.record(2000L, DataType.CLUSTER, createRow(4));
+        recorder.close();
+        }
+
+    @After
+    public void deleteRecording()
+        {
+        File[] aFiles = m_fileDirectory.listFiles();
+        if (aFiles != null)
+            {
+            for (File file : aFiles)
+                {
+                file.delete();
+                }
+            }
+        m_fileDirectory.delete();
+        }
+
+    @Test
+    public void testReplay()
+            throws InterruptedException
+        {
+        ReplayRequestSender sender = new ReplayRequestSender(m_fileDirectory, 1000);
+
+        assertNull(sender.getData(DataType.CLUSTER));
+
+        sender.advance();
+
+        List<Map.Entry<Object, Data>> listData = sender.getData(DataType.CLUSTER);
+        assertEquals(1, listData.size());
+        assertTrue(listData.get(0).getValue() instanceof ClusterData);
+        assertEquals(3, listData.get(0).getValue().getColumn(ClusterData.CLUSTER_SIZE));
+        assertEquals(1000L, sender.getReplayTime());
+        assertFalse(sender.isFinished());
+        assertNull(sender.getData(DataType.MEMBER));
+
+        // one second of the recording is replayed every millisecond
+        Thread.sleep(10L);
+        sender.advance();
+
+        listData = sender.getData(DataType.CLUSTER);
+        assertEquals(4, listData.get(0).getValue().getColumn(ClusterData.CLUSTER_SIZE));
+        assertEquals(2000L, sender.getReplayTime());
+        assertTrue(sender.isFinished());
+        }
+
+    @Test
+    public void testClose()
+        {
+        ReplayRequestSender sender = new ReplayRequestSender(m_fileDirectory, 1);
+
+        sender.advance();
+        assertEquals(1000L, sender.getReplayTime());
+
+        // the replay ends once closed as the recording is no longer read
+        sender.close();
+        assertNull(sender.getData(DataType.CLUSTER));
+        assertTrue(sender.isFinished());
+
+        sender.advance();
+        assertNull(sender.getData(DataType.CLUSTER));
+        }
+
+    @Test
+    public void testReplayUrl()
+        {
+        String sUrl = m_fileDirectory.toURI().toString();
+
+        assertTrue(ReplayRequestSender.isReplayUrl(sUrl));
+        assertFalse(ReplayRequestSender.isReplayUrl("http://localhost:30000/management/coherence/cluster"));
+        assertEquals(m_fileDirectory.getAbsoluteFile(), ReplayRequestSender.getRecordingDirectory(sUrl));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns a single row of {@link ClusterData}.
+     *
+     * @param nSize  the cluster size
+     *
+     * @return the row
+     */
+    private List<Map.Entry<Object, Data>> createRow(int nSize)
+        {
+        ClusterData data = new ClusterData();
+        data.setColumn(ClusterData.CLUSTER_NAME, "cluster");
+        data.setColumn(ClusterData.VERSION, "14.1.1.0.0");
+        data.setColumn(ClusterData.CLUSTER_SIZE, nSize);
+
+        return Collections.singletonList(new AbstractMap.SimpleEntry<>("cluster", data));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory containing the recording.
+     */
+    private File m_fileDirectory;
+    }
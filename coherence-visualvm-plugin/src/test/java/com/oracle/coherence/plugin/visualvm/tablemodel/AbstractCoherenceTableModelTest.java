@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheDetailData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CounterRates;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.event.TableModelEvent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AbstractCoherenceTableModel}.
+ *
+ * @author agent 2026.10.16
+ */
+public class AbstractCoherenceTableModelTest
+    {
+    @Test
+    public void testFireTableRowChanges()
+        {
+        String[]                                  asColumns = {"Node", "Units", "Size", "Gets"};
+        AbstractCoherenceTableModel<Object, Data> model     = new AbstractCoherenceTableModel<Object, Data>(asColumns) {};
+        List<TableModelEvent>                     events    = new ArrayList<>();
+
+        model.addTableModelListener(events::add);
+
+        model.setDataList(rows(row(1, 10L), row(2, 20L), row(3, 30L)));
+        assertTrue(model.fireTableRowChanges());
+        assertEquals(1, events.size());
+        assertEquals(Integer.MAX_VALUE, events.get(0).getLastRow());
+
+        // nothing has changed
+        events.clear();
+        model.setDataList(rows(row(1, 10L), row(2, 20L), row(3, 30L)));
+        assertFalse(model.fireTableRowChanges());
+        assertEquals(0, events.size());
+
+        // only the second row has changed
+        model.setDataList(rows(row(1, 10L), row(2, 25L), row(3, 30L)));
+        assertFalse(model.fireTableRowChanges());
+        assertEvent(events.get(0), TableModelEvent.UPDATE, 1, 1);
+        assertEquals(1, events.size());
+
+        // a row is inserted and the last row has changed
+        events.clear();
+        model.setDataList(rows(row(1, 10L), row(2, 25L), row(4, 40L), row(3, 35L)));
+        assertFalse(model.fireTableRowChanges());
+        assertEquals(2, events.size());
+        assertEvent(events.get(0), TableModelEvent.INSERT, 2, 2);
+        assertEvent(events.get(1), TableModelEvent.UPDATE, 3, 3);
+
+        // the first row is deleted
+        events.clear();
+        model.setDataList(rows(row(2, 25L), row(4, 40L), row(3, 35L)));
+        assertFalse(model.fireTableRowChanges());
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), TableModelEvent.DELETE, 0, 0);
+
+        // the rows are re-ordered so the whole table has changed
+        events.clear();
+        model.setDataList(rows(row(3, 35L), row(4, 40L), row(2, 25L)));
+        assertTrue(model.fireTableRowChanges());
+        assertEquals(1, events.size());
+        assertEquals(Integer.MAX_VALUE, events.get(0).getLastRow());
+        }
+
+    @Test
+    public void testChangedValuesWithSameHash()
+        {
+        String[]                                  asColumns = {"Node", "Units", "Size", "Gets"};
+        AbstractCoherenceTableModel<Object, Data> model     = new AbstractCoherenceTableModel<Object, Data>(asColumns) {};
+        List<TableModelEvent>                     events    = new ArrayList<>();
+
+        model.addTableModelListener(events::add);
+
+        model.setDataList(rows(row(1, 1L, 31L)));
+        model.fireTableRowChanges();
+
+        // the values have changed although a hash of the row would not have
+        events.clear();
+        model.setDataList(rows(row(1, 2L, 0L)));
+        assertFalse(model.fireTableRowChanges());
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), TableModelEvent.UPDATE, 0, 0);
+        }
+
+    @Test
+    public void testRateColumns()
+        {
+        String[]                                  asColumns = {"Node", "Size", "Memory", "Gets/sec"};
+        AbstractCoherenceTableModel<Object, Data> model     = new AbstractCoherenceTableModel<Object, Data>(asColumns) {};
+        CounterRates                              rates     = new CounterRates(new int[] {CacheDetailData.TOTAL_GETS});
+
+        model.setDataList(rows(row(1, 10L), row(2, 20L)));
+        assertEquals(4, model.getRateColumnStart());
+        assertEquals(20L, model.getValueAt(1, 3));
+
+        model.setCounterRates(rates, CacheDetailData.TOTAL_GETS);
+        assertEquals(3, model.getRateColumnStart());
+
+        rates.update(rows(row(1, 10L), row(2, 20L)), 1000L);
+        rates.update(rows(row(1, 30L), row(2, 20L)), 3000L);
+        model.setDataList(rows(row(1, 30L), row(2, 20L)));
+
+        assertEquals(1, model.getValueAt(0, 0));
+        assertEquals(10.0, (Double) model.getValueAt(0, 3), 0.0);
+        assertEquals(0.0, (Double) model.getValueAt(1, 3), 0.0);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert the type and rows of an event.
+     *
+     * @param event   the event
+     * @param nType   the expected type
+     * @param nFirst  the expected first row
+     * @param nLast   the expected last row
+     */
+    private void assertEvent(TableModelEvent event, int nType, int nFirst, int nLast)
+        {
+        assertEquals(nType, event.getType());
+        assertEquals(nFirst, event.getFirstRow());
+        assertEquals(nLast, event.getLastRow());
+        }
+
+    /**
+     * Returns the given rows as a list.
+     *
+     * @param aRows  the rows
+     *
+     * @return the list of rows
+     */
+    @SafeVarargs
+    private final List<Map.Entry<Object, Data>> rows(Map.Entry<Object, Data>... aRows)
+        {
+        return Arrays.asList(aRows);
+        }
+
+    /**
+     * Create a cache detail row for a member.
+     *
+     * @param nNodeId  the node id
+     * @param cGets    the total gets
+     *
+     * @return the row
+     */
+    private Map.Entry<Object, Data> row(int nNodeId, long cGets)
+        {
+        Data data = new CacheDetailData();
+
+        data.setColumn(CacheDetailData.NODE_ID, nNodeId);
+        data.setColumn(CacheDetailData.TOTAL_GETS, cGets);
+
+        return new AbstractMap.SimpleEntry<>(nNodeId, data);
+        }
+
+    /**
+     * Create a row for a member with the given values of the second and third columns.
+     *
+     * @param nNodeId  the node id
+     * @param lValue1  the value of the second column
+     * @param lValue2  the value of the third column
+     *
+     * @return the row
+     */
+    private Map.Entry<Object, Data> row(int nNodeId, long lValue1, long lValue2)
+        {
+        Data data = new CacheDetailData();
+
+        data.setColumn(CacheDetailData.NODE_ID, nNodeId);
+        data.setColumn(1, lValue1);
+        data.setColumn(2, lValue2);
+
+        return new AbstractMap.SimpleEntry<>(nNodeId, data);
+        }
+    }
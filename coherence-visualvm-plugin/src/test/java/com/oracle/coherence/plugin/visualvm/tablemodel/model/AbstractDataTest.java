@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the helpers of {@link AbstractData}.
+ *
+ * @author agent 2026.10.16
+ */
+public class AbstractDataTest
+    {
+    @Test
+    public void testIsPlainInteger()
+        {
+        assertTrue(AbstractData.isPlainInteger("0"));
+        assertTrue(AbstractData.isPlainInteger("123"));
+        assertTrue(AbstractData.isPlainInteger("-5"));
+        assertTrue(AbstractData.isPlainInteger("999999999999999999"));
+        assertTrue(AbstractData.isPlainInteger("-999999999999999999"));
+
+        assertFalse(AbstractData.isPlainInteger(""));
+        assertFalse(AbstractData.isPlainInteger("-"));
+        assertFalse(AbstractData.isPlainInteger("+5"));
+        assertFalse(AbstractData.isPlainInteger("--5"));
+        assertFalse(AbstractData.isPlainInteger("-0"));
+        assertFalse(AbstractData.isPlainInteger("007"));
+        assertFalse(AbstractData.isPlainInteger("1.0"));
+        assertFalse(AbstractData.isPlainInteger("1e3"));
+        assertFalse(AbstractData.isPlainInteger(" 1"));
+
+        // values which may not fit into a long
+        assertFalse(AbstractData.isPlainInteger("1000000000000000000"));
+        assertFalse(AbstractData.isPlainInteger("-9223372036854775808"));
+        assertFalse(AbstractData.isPlainInteger("99999999999999999999"));
+        }
+
+    @Test
+    public void testGetNumberValue()
+        {
+        String sValue = "123";
+        assertSame(sValue, AbstractData.getNumberValue(sValue));
+        sValue = "-5";
+        assertSame(sValue, AbstractData.getNumberValue(sValue));
+
+        assertEquals("5", AbstractData.getNumberValue("+5"));
+        assertEquals("7", AbstractData.getNumberValue("007"));
+        assertEquals("0", AbstractData.getNumberValue("-0"));
+        assertEquals("1", AbstractData.getNumberValue("1.0"));
+        assertEquals("1", AbstractData.getNumberValue("1.9"));
+        assertEquals("1000", AbstractData.getNumberValue("1e3"));
+        assertEquals("1500", AbstractData.getNumberValue("1.5E+3"));
+        assertNull(AbstractData.getNumberValue(null));
+        }
+
+    @Test
+    public void testGetNumberValueOverflowLength()
+        {
+        String[] asValues = {"1000000000000000000", "9223372036854775807", "-9223372036854775808",
+                             "12345678901234567890"};
+
+        for (String sValue : asValues)
+            {
+            String sResult = AbstractData.getNumberValue(sValue);
+
+            assertNotSame(sValue, sResult);
+            assertEquals(String.format("%d", new BigDecimal(sValue).longValue()), sResult);
+            }
+
+        assertEquals("9223372036854775807", AbstractData.getNumberValue("9223372036854775807"));
+        }
+
+    @Test
+    public void testGetCounterValue()
+        {
+        assertEquals(0L, AbstractData.getCounterValue(null));
+        assertEquals(0L, AbstractData.getCounterValue(" "));
+        assertEquals(42L, AbstractData.getCounterValue(42));
+        assertEquals(1000L, AbstractData.getCounterValue("1e3"));
+        assertEquals(-5L, AbstractData.getCounterValue("-5"));
+        }
+    }
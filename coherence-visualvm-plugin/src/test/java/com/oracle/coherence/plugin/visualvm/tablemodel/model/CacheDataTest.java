@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests for processing {@link CacheData} returned by the reporter and
+ * retrieved using JMX.
+ *
+ * @author agent 2026.10.16
+ */
+public class CacheDataTest
+    {
+    @Test
+    public void testReporterData()
+        {
+        VisualVMModel model = new VisualVMModel();
+        CacheData     cache = new CacheData();
+
+        model.setDistributedCaches(Collections.singleton("DistributedCache"));
+
+        SortedMap<Object, Data> mapData = new TreeMap<>();
+
+        cache.preProcessReporterData(model);
+        add(mapData, cache.processReporterData(
+                new Object[] {null, 1, "DistributedCache", "dist", null, 3000, 300000, 1, 3, "true"}, model));
+        add(mapData, cache.processReporterData(
+                new Object[] {null, 1, "ReplicatedCache", "repl", null, 4000, 400000, 1, 4, "true"}, model));
+        add(mapData, cache.processReporterData(
+                new Object[] {null, 1, "ReplicatedCache", "fixed", null, 200, 200, 1, 2, "false"}, model));
+        cache.postProcessReporterData(mapData, model);
+
+        // distributed cache sizes are summed across members
+        Data data = mapData.get(new Pair<>("DistributedCache", "dist"));
+        assertEquals(3000, data.getColumn(CacheData.SIZE));
+        assertEquals(300000L, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals(100, data.getColumn(CacheData.AVG_OBJECT_SIZE));
+        assertEquals("BINARY", data.getColumn(CacheData.UNIT_CALCULATOR));
+
+        // replicated cache sizes are divided by the member count
+        data = mapData.get(new Pair<>("ReplicatedCache", "repl"));
+        assertEquals(1000, data.getColumn(CacheData.SIZE));
+        assertEquals(400000L, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+
+        data = mapData.get(new Pair<>("ReplicatedCache", "fixed"));
+        assertEquals(100, data.getColumn(CacheData.SIZE));
+        assertEquals(0L, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals("FIXED", data.getColumn(CacheData.UNIT_CALCULATOR));
+        }
+
+    @Test
+    public void testReporterDataWithDomainPartition()
+        {
+        VisualVMModel model = new VisualVMModel();
+        CacheData     cache = new CacheData();
+
+        model.setDistributedCaches(Collections.emptySet());
+
+        Data data = cache.processReporterData(
+                new Object[] {null, 1, "ReplicatedCache", "repl", "partition1", 10, 0, 1, 2, "true"}, model);
+
+        assertEquals(new Pair<>(AbstractData.getFullServiceName("partition1", "ReplicatedCache"), "repl"),
+                     data.getColumn(CacheData.CACHE_NAME));
+        }
+
+    @Test
+    public void testGetJMXData()
+            throws Exception
+        {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        // enough members that the back tier MBeans are read in several batches
+        for (int nMember = 1; nMember <= MEMBER_COUNT; nMember++)
+            {
+            register(server, "DistributedCache", "dist", nMember, "back", new Cache(100, 1000, 1, true));
+            register(server, "DistributedCache", "dist", nMember, "front", new Cache(7, 7, 1, false));
+            register(server, "ReplicatedCache", "repl", nMember, "back", new Cache(50, 5000, 1, true));
+            register(server, "ReplicatedCache", "fixed", nMember, "back", new Cache(10, 10, 1, false));
+            }
+
+        // the member has left between querying the MBean names and reading its attributes
+        ObjectName nameDeparted = new ObjectName(
+                "Coherence:type=Cache,service=DistributedCache,name=dist,nodeId=" + DEPARTED_MEMBER + ",tier=back");
+        MBeanServerConnection connection = (MBeanServerConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {MBeanServerConnection.class}, (proxy, method, aoArgs) ->
+                    {
+                    if (method.getName().equals("getAttributes") && nameDeparted.equals(aoArgs[0]))
+                        {
+                        throw new InstanceNotFoundException(nameDeparted.toString());
+                        }
+
+                    try
+                        {
+                        return method.invoke(server, aoArgs);
+                        }
+                    catch (InvocationTargetException e)
+                        {
+                        throw e.getCause();
+                        }
+                    });
+
+        VisualVMModel model = new VisualVMModel();
+
+        model.setDistributedCaches(Collections.singleton("DistributedCache"));
+
+        List<Map.Entry<Object, Data>> listData = new CacheData().getJMXData(new JMXRequestSender(connection), model);
+        Map<Object, Data>             mapData  = new HashMap<>();
+
+        assertNotNull(listData);
+        listData.forEach(entry -> mapData.put(entry.getKey(), entry.getValue()));
+
+        assertEquals(3, mapData.size());
+
+        // distributed cache sizes are summed across the remaining back tier members
+        Data data = mapData.get(new Pair<>("DistributedCache", "dist"));
+        assertEquals((MEMBER_COUNT - 1) * 100, data.getColumn(CacheData.SIZE));
+        assertEquals((MEMBER_COUNT - 1) * 1000L, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals(10L, data.getColumn(CacheData.AVG_OBJECT_SIZE));
+        assertEquals("BINARY", data.getColumn(CacheData.UNIT_CALCULATOR));
+
+        // replicated cache sizes are counted once per service and cache
+        data = mapData.get(new Pair<>("ReplicatedCache", "repl"));
+        assertEquals(50, data.getColumn(CacheData.SIZE));
+        assertEquals(MEMBER_COUNT * 5000L, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals("BINARY", data.getColumn(CacheData.UNIT_CALCULATOR));
+
+        data = mapData.get(new Pair<>("ReplicatedCache", "fixed"));
+        assertEquals(10, data.getColumn(CacheData.SIZE));
+        assertEquals(0, data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals("FIXED", data.getColumn(CacheData.UNIT_CALCULATOR));
+
+        }
+
+    @Test
+    public void testGetJMXDataNoCaches()
+        {
+        VisualVMModel model = new VisualVMModel();
+
+        model.setDistributedCaches(Collections.emptySet());
+
+        List<Map.Entry<Object, Data>> listData = new CacheData().getJMXData(
+                new JMXRequestSender(MBeanServerFactory.newMBeanServer()), model);
+
+        assertNotNull(listData);
+        assertFalse(listData.iterator().hasNext());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register a cache MBean.
+     *
+     * @param server        the MBean server
+     * @param sServiceName  the service name
+     * @param sCacheName    the cache name
+     * @param nMember       the member id
+     * @param sTier         the tier
+     * @param cache         the cache MBean
+     *
+     * @throws Exception in case of errors
+     */
+    private static void register(MBeanServer server, String sServiceName, String sCacheName, int nMember,
+                                 String sTier, Cache cache)
+            throws Exception
+        {
+        server.registerMBean(new StandardMBean(cache, CacheMBean.class),
+                new ObjectName("Coherence:type=Cache,service=" + sServiceName + ",name=" + sCacheName
+                               + ",nodeId=" + nMember + ",tier=" + sTier));
+        }
+
+    /**
+     * Add the given data to the map keyed by its first column.
+     *
+     * @param mapData  the map to add to
+     * @param data     the data to add
+     */
+    private void add(SortedMap<Object, Data> mapData, Data data)
+        {
+        mapData.put(data.getColumn(0), data);
+        }
+
+    // ----- inner interface: CacheMBean ------------------------------------
+
+    /**
+     * The attributes of a cache MBean used by {@link CacheData}.
+     */
+    public interface CacheMBean
+        {
+        int getSize();
+
+        int getUnits();
+
+        int getUnitFactor();
+
+        boolean isMemoryUnits();
+        }
+
+    // ----- inner class: Cache ---------------------------------------------
+
+    /**
+     * A cache MBean.
+     */
+    public static class Cache
+            implements CacheMBean
+        {
+        /**
+         * Create a {@link Cache}.
+         *
+         * @param nSize         the number of entries
+         * @param nUnits        the number of units
+         * @param nUnitFactor   the unit factor
+         * @param fMemoryUnits  true if the units are bytes
+         */
+        public Cache(int nSize, int nUnits, int nUnitFactor, boolean fMemoryUnits)
+            {
+            f_nSize        = nSize;
+            f_nUnits       = nUnits;
+            f_nUnitFactor  = nUnitFactor;
+            f_fMemoryUnits = fMemoryUnits;
+            }
+
+        @Override
+        public int getSize()
+            {
+            return f_nSize;
+            }
+
+        @Override
+        public int getUnits()
+            {
+            return f_nUnits;
+            }
+
+        @Override
+        public int getUnitFactor()
+            {
+            return f_nUnitFactor;
+            }
+
+        @Override
+        public boolean isMemoryUnits()
+            {
+            return f_fMemoryUnits;
+            }
+
+        /**
+         * The number of entries.
+         */
+        private final int f_nSize;
+
+        /**
+         * The number of units.
+         */
+        private final int f_nUnits;
+
+        /**
+         * The unit factor.
+         */
+        private final int f_nUnitFactor;
+
+        /**
+         * True if the units are bytes.
+         */
+        private final boolean f_fMemoryUnits;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of members running each cache.
+     */
+    private static final int MEMBER_COUNT = 12;
+
+    /**
+     * The member which leaves before its cache attributes are read.
+     */
+    private static final int DEPARTED_MEMBER = 3;
+    }
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.StubHttpTransport;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheDetailData.CacheType;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for retrieving {@link CacheDetailData} using REST.
+ *
+ * @author agent 2026.10.16
+ */
+public class CacheDetailDataTest
+    {
+    @Test
+    public void testStreamedRowsMatchTree()
+            throws Exception
+        {
+        byte[] abJson = StubHttpTransport.readResource(CACHE_MEMBERS);
+
+        for (CacheType type : CacheType.values())
+            {
+            SortedMap<Object, Data> mapData = getData(type, abJson);
+            SortedMap<Object, Data> mapTree = getDataFromTree(type, new ObjectMapper().readTree(abJson));
+
+            assertEquals(mapTree.keySet(), mapData.keySet());
+            for (Object oKey : mapTree.keySet())
+                {
+                for (int i = 0; i <= CacheDetailData.HIT_PROBABILITY; i++)
+                    {
+                    assertEquals(type + " column " + i + " of member " + oKey,
+                                 mapTree.get(oKey).getColumn(i), mapData.get(oKey).getColumn(i));
+                    }
+                }
+            }
+
+        // only the members of the tier are included
+        assertEquals(2, getData(CacheType.BACK_TIER, abJson).size());
+        assertEquals(1044480, getData(CacheType.BACK_TIER, abJson).get(3).getColumn(CacheDetailData.MEMORY_BYTES));
+        }
+
+    @Test
+    public void testMissingAndNullFields()
+            throws Exception
+        {
+        SortedMap<Object, Data> mapData = getData(CacheType.BACK_TIER, ("{\"items\": ["
+                + "{\"nodeId\": \"1\", \"tier\": \"back\", \"size\": 10, \"units\": 100},"
+                + "{\"nodeId\": \"2\", \"tier\": null, \"size\": 20},"
+                + "{\"nodeId\": \"3\", \"size\": 30},"
+                + "{\"nodeId\": \"4\", \"tier\": \"back\", \"size\": null, \"totalGets\": null}]}")
+                .getBytes(StandardCharsets.UTF_8));
+
+        // members without a tier are not included
+        assertEquals(2, mapData.size());
+
+        // the memory is zero without a unit factor
+        Data data = mapData.get(1);
+        assertEquals(10, data.getColumn(CacheDetailData.SIZE));
+        assertEquals(0, data.getColumn(CacheDetailData.MEMORY_BYTES));
+        assertNull(data.getColumn(CacheDetailData.TOTAL_GETS));
+
+        // a JSON null number is zero
+        data = mapData.get(4);
+        assertEquals(0, data.getColumn(CacheDetailData.SIZE));
+        assertEquals(0L, data.getColumn(CacheDetailData.TOTAL_GETS));
+        }
+
+    @Test
+    public void testNoMembers()
+            throws Exception
+        {
+        assertEquals(0, getData(CacheType.BACK_TIER, "{\"items\": []}".getBytes(StandardCharsets.UTF_8)).size());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the cache member data streamed from the given response.
+     *
+     * @param type    the tier of the cache members
+     * @param abJson  the response
+     *
+     * @return the cache member data
+     *
+     * @throws Exception if any errors
+     */
+    private SortedMap<Object, Data> getData(CacheType type, byte[] abJson)
+            throws Exception
+        {
+        HttpRequestSender sender = new HttpRequestSender(URL, new StubHttpTransport(abJson));
+
+        return new CacheDetailData(type, CacheDetailData.HIT_PROBABILITY + 1)
+                .getAggregatedDataFromHttpQueryingInternal(sender, new Pair<>("PartitionedCache", "orders"));
+        }
+
+    /**
+     * Returns the cache member data read from a tree of the response, as it
+     * was read before the response was streamed.
+     *
+     * @param type      the tier of the cache members
+     * @param rootNode  the tree of the response
+     *
+     * @return the cache member data
+     */
+    private SortedMap<Object, Data> getDataFromTree(CacheType type, JsonNode rootNode)
+        {
+        SortedMap<Object, Data> mapData          = new TreeMap<Object, Data>();
+        JsonNode                nodeCacheMembers = rootNode.get("items");
+
+        for (int i = 0; i < nodeCacheMembers.size(); i++)
+            {
+            JsonNode nodeCacheMember = nodeCacheMembers.get(i);
+
+            if (nodeCacheMember.get("tier").asText().equals(type.getValue()))
+                {
+                Data data = new CacheDetailData();
+
+                data.setColumn(CacheDetailData.NODE_ID, Integer.valueOf(nodeCacheMember.get("nodeId").asText()));
+                data.setColumn(CacheDetailData.SIZE, Integer.valueOf(nodeCacheMember.get("size").asText()));
+                data.setColumn(CacheDetailData.MEMORY_BYTES,
+                        nodeCacheMember.get("units").intValue() * nodeCacheMember.get("unitFactor").intValue());
+                data.setColumn(CacheDetailData.TOTAL_GETS, Long.valueOf(nodeCacheMember.get("totalGets").asText()));
+                data.setColumn(CacheDetailData.TOTAL_PUTS, Long.valueOf(nodeCacheMember.get("totalPuts").asText()));
+                data.setColumn(CacheDetailData.CACHE_HITS, Long.valueOf(nodeCacheMember.get("cacheHits").asText()));
+                data.setColumn(CacheDetailData.CACHE_MISSES,
+                        Integer.valueOf(nodeCacheMember.get("cacheMisses").asText()));
+                data.setColumn(CacheDetailData.HIT_PROBABILITY,
+                        Float.valueOf(nodeCacheMember.get("hitProbability").floatValue()));
+
+                mapData.put(data.getColumn(0), data);
+                }
+            }
+
+        return mapData;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The URL of the management REST server.
+     */
+    private static final String URL = "http://localhost:30000/management/coherence/cluster";
+
+    /**
+     * The resource containing a response for the members of a cache.
+     */
+    private static final String CACHE_MEMBERS = "/rest/cache-members.json";
+    }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link CacheFilter}.
+ *
+ * @author agent 2026.10.16
+ */
+public class CacheFilterTest
+    {
+    @Test
+    public void testToWildcard()
+        {
+        assertEquals("tenant-1-*", CacheFilter.toWildcard("tenant-1-.*"));
+        assertEquals("cache?", CacheFilter.toWildcard("cache."));
+        assertEquals("a.b", CacheFilter.toWildcard("a\\.b"));
+        assertNull(CacheFilter.toWildcard("(a|b).*"));
+        assertNull(CacheFilter.toWildcard("cache[0-9]+"));
+        assertNull(CacheFilter.toWildcard("name$"));
+        assertNull(CacheFilter.toWildcard("a+"));
+        assertEquals("a+$b", CacheFilter.toWildcard("a\\+\\$b"));
+        }
+
+    @Test
+    public void testIsIncluded()
+        {
+        CacheFilter filter = new CacheFilter("Partitioned.*", "(orders|trades)-.*", 0, false);
+
+        assertTrue(filter.isIncluded("PartitionedCache", "orders-1"));
+        assertFalse(filter.isIncluded("PartitionedCache", "prices-1"));
+        assertFalse(filter.isIncluded("ReplicatedCache", "orders-1"));
+
+        // topic caches are always included
+        assertTrue(filter.isIncluded("ReplicatedCache", "$topic$prices"));
+
+        assertEquals("Coherence:type=Cache,tier=back,service=Partitioned*,*", filter.getObjectNamePattern("back"));
+        assertEquals("Coherence:type=Cache,service=Partitioned*,name=a?,*",
+                     new CacheFilter("Partitioned.*", "a.", 0, false).getObjectNamePattern(null));
+        }
+
+    @Test
+    public void testTopicCachesQueried()
+            throws MalformedObjectNameException
+        {
+        CacheFilter filter = new CacheFilter("Partitioned.*", null, 0, false);
+        ObjectName  topic  = new ObjectName("Coherence:type=Cache,service=TopicService,name=$topic$prices,"
+                                            + "nodeId=1,tier=back");
+
+        // the topic cache is excluded by the pattern so must be queried separately
+        assertTrue(filter.isPushedDown());
+        assertFalse(new ObjectName(filter.getObjectNamePattern("back")).apply(topic));
+        assertTrue(new ObjectName(filter.getTopicObjectNamePattern("back")).apply(topic));
+        assertTrue(new ObjectName(filter.getTopicObjectNamePattern(null)).apply(topic));
+
+        // a pattern which cannot be converted to a wildcard is not pushed down
+        assertFalse(new CacheFilter("(a|b)", null, 0, false).isPushedDown());
+        assertFalse(new CacheFilter(null, null, 10, false).isPushedDown());
+        }
+
+    @Test
+    public void testLimit()
+        {
+        SortedMap<Object, Data> mapData = new TreeMap<>();
+
+        put(mapData, "a", 10, 500L);
+        put(mapData, "b", 30, 100L);
+        put(mapData, "c", 20, 300L);
+        put(mapData, "$topic$t", 0, 0L);
+
+        SortedMap<Object, Data> mapBySize = new CacheFilter(null, null, 2, false).limit(new TreeMap<>(mapData));
+
+        assertEquals(3, mapBySize.size());
+        assertTrue(mapBySize.containsKey(new Pair<>("svc", "b")));
+        assertTrue(mapBySize.containsKey(new Pair<>("svc", "c")));
+        assertTrue(mapBySize.containsKey(new Pair<>("svc", "$topic$t")));
+
+        SortedMap<Object, Data> mapByMemory = new CacheFilter(null, null, 1, true).limit(new TreeMap<>(mapData));
+
+        assertEquals(2, mapByMemory.size());
+        assertTrue(mapByMemory.containsKey(new Pair<>("svc", "a")));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Add the data for a cache.
+     *
+     * @param mapData     the map to add to
+     * @param sCacheName  the cache name
+     * @param nSize       the cache size
+     * @param cbMemory    the memory used by the cache
+     */
+    private void put(SortedMap<Object, Data> mapData, String sCacheName, int nSize, long cbMemory)
+        {
+        Pair<String, String> key  = new Pair<>("svc", sCacheName);
+        Data                 data = new CacheData();
+
+        data.setColumn(CacheData.CACHE_NAME, key);
+        data.setColumn(CacheData.SIZE, nSize);
+        data.setColumn(CacheData.MEMORY_USAGE_BYTES, cbMemory);
+
+        mapData.put(key, data);
+        }
+    }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link CounterRates}.
+ *
+ * @author agent 2026.10.16
+ */
+public class CounterRatesTest
+    {
+    @Test
+    public void testDeltaAndRate()
+        {
+        CounterRates rates = new CounterRates(new int[] {CacheDetailData.TOTAL_GETS, CacheDetailData.TOTAL_PUTS});
+
+        rates.update(rows(row(1, 100L, 10L), row(2, 200L, 20L)), 1000L);
+
+        // there is no change on the first refresh
+        assertEquals(0L, rates.getDelta(1, CacheDetailData.TOTAL_GETS));
+        assertEquals(0.0, rates.getTotalRate(CacheDetailData.TOTAL_GETS), 0.0);
+
+        rates.update(rows(row(1, 150L, 10L), row(2, 400L, 30L)), 3000L);
+
+        assertEquals(50L, rates.getDelta(1, CacheDetailData.TOTAL_GETS));
+        assertEquals(200L, rates.getDelta(2, CacheDetailData.TOTAL_GETS));
+        assertEquals(25.0, rates.getRate(1, CacheDetailData.TOTAL_GETS), 0.0);
+        assertEquals(250L, rates.getTotalDelta(CacheDetailData.TOTAL_GETS));
+        assertEquals(125.0, rates.getTotalRate(CacheDetailData.TOTAL_GETS), 0.0);
+        assertEquals(10L, rates.getTotalDelta(CacheDetailData.TOTAL_PUTS));
+        assertEquals(3000L, rates.getCollectedTime());
+        }
+
+    @Test
+    public void testCounterReset()
+        {
+        CounterRates rates = new CounterRates(new int[] {CacheDetailData.TOTAL_GETS});
+
+        rates.update(rows(row(1, 100L, 0L), row(2, 100L, 0L)), 1000L);
+
+        // member 2 restarted so its counter was reset and member 3 joined
+        rates.update(rows(row(1, 110L, 0L), row(2, 5L, 0L), row(3, 50L, 0L)), 2000L);
+
+        assertEquals(0L, rates.getDelta(2, CacheDetailData.TOTAL_GETS));
+        assertEquals(0L, rates.getDelta(3, CacheDetailData.TOTAL_GETS));
+        assertEquals(10L, rates.getTotalDelta(CacheDetailData.TOTAL_GETS));
+
+        rates.update(rows(row(1, 120L, 0L), row(2, 25L, 0L), row(3, 60L, 0L)), 3000L);
+
+        assertEquals(20L, rates.getDelta(2, CacheDetailData.TOTAL_GETS));
+        assertEquals(40L, rates.getTotalDelta(CacheDetailData.TOTAL_GETS));
+        }
+
+    @Test
+    public void testReset()
+        {
+        CounterRates rates = new CounterRates(new int[] {CacheDetailData.TOTAL_GETS});
+
+        rates.update(rows(row(1, 100L, 0L)), 1000L);
+        rates.reset();
+        rates.update(rows(row(1, 500L, 0L)), 2000L);
+
+        assertEquals(0L, rates.getDelta(1, CacheDetailData.TOTAL_GETS));
+
+        // a failed collection keeps the previous values
+        rates.update(null, 3000L);
+        rates.update(rows(row(1, 600L, 0L)), 4000L);
+
+        assertEquals(100L, rates.getDelta(1, CacheDetailData.TOTAL_GETS));
+        assertEquals(50.0, rates.getRate(1, CacheDetailData.TOTAL_GETS), 0.0);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the given rows as a list.
+     *
+     * @param aRows  the rows
+     *
+     * @return the list of rows
+     */
+    @SafeVarargs
+    private final List<Map.Entry<Object, Data>> rows(Map.Entry<Object, Data>... aRows)
+        {
+        return Arrays.asList(aRows);
+        }
+
+    /**
+     * Create a cache detail row for a member.
+     *
+     * @param nNodeId  the node id
+     * @param cGets    the total gets
+     * @param cPuts    the total puts
+     *
+     * @return the row
+     */
+    private Map.Entry<Object, Data> row(int nNodeId, long cGets, long cPuts)
+        {
+        Data data = new CacheDetailData();
+
+        data.setColumn(CacheDetailData.NODE_ID, nNodeId);
+        data.setColumn(CacheDetailData.TOTAL_GETS, cGets);
+        data.setColumn(CacheDetailData.TOTAL_PUTS, cPuts);
+
+        return new AbstractMap.SimpleEntry<>(nNodeId, data);
+        }
+    }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link DataFrame} and the rows stored in it.
+ *
+ * @author agent 2026.10.16
+ */
+public class DataFrameTest
+    {
+    @Test
+    public void testTypedColumns()
+        {
+        DataFrame frame = new DataFrame(7, new DataFrame.Dictionary(), 0);
+        Pair<String, String> key = new Pair<>("DistributedCache", "dist");
+
+        int nRow   = frame.addRow();
+        int nEmpty = frame.addRow();
+
+        frame.set(nRow, 0, key);
+        frame.set(nRow, 1, 42);
+        frame.set(nRow, 2, Long.MAX_VALUE);
+        frame.set(nRow, 3, true);
+        frame.set(nRow, 4, 1.5f);
+        frame.set(nRow, 5, -2.25d);
+        frame.set(nRow, 6, "BINARY");
+
+        assertEquals(2, frame.getRowCount());
+        assertSame(key, frame.get(nRow, 0));
+        assertEquals(Integer.valueOf(42), frame.get(nRow, 1));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), frame.get(nRow, 2));
+        assertEquals(Boolean.TRUE, frame.get(nRow, 3));
+        assertEquals(Float.valueOf(1.5f), frame.get(nRow, 4));
+        assertEquals(Double.valueOf(-2.25d), frame.get(nRow, 5));
+        assertEquals("BINARY", frame.get(nRow, 6));
+
+        for (int i = 0; i < frame.getColumnCount(); i++)
+            {
+            assertNull(frame.get(nEmpty, i));
+            }
+
+        // values can be cleared
+        frame.set(nRow, 1, null);
+        frame.set(nRow, 6, null);
+        assertNull(frame.get(nRow, 1));
+        assertNull(frame.get(nRow, 6));
+        }
+
+    @Test
+    public void testMixedTypes()
+        {
+        DataFrame frame = new DataFrame(1, new DataFrame.Dictionary(), 0);
+
+        int nRow1 = frame.addRow();
+        int nRow2 = frame.addRow();
+        int nRow3 = frame.addRow();
+
+        frame.set(nRow1, 0, 1);
+        frame.set(nRow2, 0, 2L);
+        frame.set(nRow3, 0, "false");
+
+        assertEquals(Integer.valueOf(1), frame.get(nRow1, 0));
+        assertEquals(Long.valueOf(2L), frame.get(nRow2, 0));
+        assertEquals("false", frame.get(nRow3, 0));
+
+        frame.set(nRow1, 0, false);
+        assertEquals(Boolean.FALSE, frame.get(nRow1, 0));
+        }
+
+    @Test
+    public void testGrow()
+        {
+        DataFrame frame = new DataFrame(2, new DataFrame.Dictionary(), 1);
+        int       cRows = 1000;
+
+        for (int i = 0; i < cRows; i++)
+            {
+            int nRow = frame.addRow();
+
+            assertEquals(i, nRow);
+            frame.set(nRow, 0, (long) i);
+            if (i % 2 == 0)
+                {
+                frame.set(nRow, 1, "row-" + i);
+                }
+            }
+
+        assertEquals(cRows, frame.getRowCount());
+        for (int i = 0; i < cRows; i++)
+            {
+            assertEquals(Long.valueOf(i), frame.get(i, 0));
+            assertEquals(i % 2 == 0 ? "row-" + i : null, frame.get(i, 1));
+            }
+        }
+
+    @Test
+    public void testDictionary()
+        {
+        DataFrame.Dictionary dictionary = new DataFrame.Dictionary();
+        DataFrame            frame1     = new DataFrame(1, dictionary, 0);
+        DataFrame            frame2     = new DataFrame(1, dictionary, 0);
+
+        frame1.set(frame1.addRow(), 0, "Storage" + "Enabled");
+        frame1.set(frame1.addRow(), 0, "Storage" + "Enabled");
+        frame2.set(frame2.addRow(), 0, "Storage" + "Enabled");
+        frame2.set(frame2.addRow(), 0, "Proxy");
+
+        assertEquals(2, dictionary.size());
+        assertFalse(dictionary.isFull());
+        assertSame(frame1.get(0, 0), frame1.get(1, 0));
+        assertSame(frame1.get(0, 0), frame2.get(0, 0));
+        assertEquals("Proxy", frame2.get(1, 0));
+        }
+
+    @Test
+    public void testRowsAddedToFrame()
+        {
+        VisualVMModel model = new VisualVMModel();
+        CacheData     cache = new CacheData();
+
+        model.setDistributedCaches(Collections.singleton("DistributedCache"));
+
+        cache.preProcessReporterData(model);
+        cache.startFrame();
+
+        AbstractData data1 = (AbstractData) cache.processReporterData(
+                new Object[] {null, 1, "DistributedCache", "dist", null, 3000, 300000, 1, 3, "true"}, model);
+        AbstractData data2 = (AbstractData) cache.processReporterData(
+                new Object[] {null, 1, "DistributedCache", "dist2", null, 10, 10, 1, 3, "false"}, model);
+
+        cache.endFrame();
+
+        DataFrame frame = data1.getFrame();
+
+        assertNotNull(frame);
+        assertSame(frame, data2.getFrame());
+        assertEquals(2, frame.getRowCount());
+        assertEquals(3000, data1.getColumn(CacheData.SIZE));
+        assertEquals(300000L, data1.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals("FIXED", data2.getColumn(CacheData.UNIT_CALCULATOR));
+        assertEquals(new Pair<>("DistributedCache", "dist2"), data2.getColumn(CacheData.CACHE_NAME));
+
+        // the next collection uses a new frame so the rows already collected are kept
+        cache.startFrame();
+        AbstractData data3 = (AbstractData) cache.processReporterData(
+                new Object[] {null, 1, "DistributedCache", "dist", null, 1, 1, 1, 3, "true"}, model);
+        cache.endFrame();
+
+        assertNotSame(frame, data3.getFrame());
+        assertEquals(3000, data1.getColumn(CacheData.SIZE));
+        assertEquals(1, data3.getColumn(CacheData.SIZE));
+
+        // rows created outside of a collection hold their own values
+        AbstractData data4 = (AbstractData) cache.processReporterData(
+                new Object[] {null, 1, "DistributedCache", "dist", null, 5, 5, 1, 3, "true"}, model);
+
+        assertNull(data4.getFrame());
+        assertEquals(5, data4.getColumn(CacheData.SIZE));
+        }
+
+    @Test
+    public void testSetColumnAfterCollection()
+        {
+        MemberData member = new MemberData();
+
+        member.startFrame();
+        Data data = member.addRow(new MemberData());
+        data.setColumn(MemberData.NODE_ID, 1);
+        data.setColumn(MemberData.STORAGE_ENABLED, true);
+        member.endFrame();
+
+        // panels replace values with ones of a different type
+        data.setColumn(MemberData.STORAGE_ENABLED, "false");
+        data.setColumn(MemberData.NODE_ID, 2);
+
+        assertEquals("false", data.getColumn(MemberData.STORAGE_ENABLED));
+        assertEquals(2, data.getColumn(MemberData.NODE_ID));
+        assertTrue(data.toString().contains("=false"));
+        }
+
+    @Test
+    public void testAttachExistingValues()
+        {
+        MemberData data  = new MemberData();
+        DataFrame  frame = new DataFrame(data.getColumnCount(), new DataFrame.Dictionary(), 0);
+
+        data.setColumn(MemberData.NODE_ID, 7);
+        data.attach(frame);
+
+        assertSame(frame, data.getFrame());
+        assertEquals(7, data.getColumn(MemberData.NODE_ID));
+        assertEquals(Integer.valueOf(7), frame.get(0, MemberData.NODE_ID));
+        }
+    }
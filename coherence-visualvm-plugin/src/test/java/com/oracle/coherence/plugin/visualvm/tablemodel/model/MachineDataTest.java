@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.CountingMBeanServerConnection;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for retrieving {@link MachineData} using JMX.
+ *
+ * @author agent 2026.10.16
+ */
+public class MachineDataTest
+    {
+    @Test
+    public void testGetJMXData()
+            throws Exception
+        {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        // two members on each machine, the first machine does not report a load
+        // average and the last runs on AIX
+        for (int nMember = 1; nMember <= 6; nMember++)
+            {
+            Object mbean = nMember <= 4
+                           ? new StandardMBean(new OperatingSystem("Linux", nMember <= 2 ? -1.0 : 2.0),
+                                               OperatingSystemMBean.class)
+                           : new StandardMBean(new AixOperatingSystem(), AixOperatingSystemMBean.class);
+
+            server.registerMBean(mbean, new ObjectName(
+                    "Coherence:type=Platform,Domain=java.lang,subType=OperatingSystem,nodeId=" + nMember));
+            }
+
+        CountingMBeanServerConnection connection = new CountingMBeanServerConnection(server);
+
+        SortedMap<String, Integer> mapMachines = new TreeMap<>();
+        mapMachines.put("machine-1", 1);
+        mapMachines.put("machine-2", 3);
+        mapMachines.put("machine-3", 5);
+
+        VisualVMModel model = new VisualVMModel()
+            {
+            @Override
+            public SortedMap<String, Integer> getInitialMachineMap()
+                {
+                return mapMachines;
+                }
+            };
+
+        JMXRequestSender sender      = new JMXRequestSender(connection.getConnection());
+        MachineData      machineData = new MachineData();
+
+        for (int i = 0; i < 2; i++)
+            {
+            connection.reset();
+
+            Map<Object, Data> mapData = getData(machineData.getJMXData(sender, model));
+
+            assertEquals(3, mapData.size());
+            assertFalse(model.isLoadAverageAvailable());
+            assertEquals(0.5, mapData.get("machine-2").getColumn(MachineData.SYSTEM_LOAD_AVERAGE));
+            assertEquals(4, mapData.get("machine-2").getColumn(MachineData.PROCESSOR_COUNT));
+            assertEquals(MEMORY, mapData.get("machine-2").getColumn(MachineData.TOTAL_PHYSICAL_MEMORY));
+            assertEquals(MEMORY, mapData.get("machine-3").getColumn(MachineData.TOTAL_PHYSICAL_MEMORY));
+
+            // a single request for each machine, without a second request for the CPU load
+            assertEquals(3, connection.getAttributeRequestCount());
+
+            // the MBeans of all machines are resolved once by a single query
+            assertEquals(i == 0 ? 1 : 0, connection.getQueryCount());
+            }
+
+        // the MBean is resolved again when the member read for a machine changes
+        mapMachines.put("machine-2", 7);
+        Map<Object, Data> mapData = getData(machineData.getJMXData(sender, model));
+
+        assertEquals(2, mapData.size());
+        assertFalse(mapData.containsKey("machine-2"));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the retrieved rows as a map.
+     *
+     * @param listData  the retrieved rows
+     *
+     * @return the rows keyed by machine name
+     */
+    private static Map<Object, Data> getData(List<Map.Entry<Object, Data>> listData)
+        {
+        Map<Object, Data> mapData = new HashMap<>();
+
+        listData.forEach(entry -> mapData.put(entry.getKey(), entry.getValue()));
+
+        return mapData;
+        }
+
+    // ----- inner class: OperatingSystemMBean ------------------------------
+
+    /**
+     * The attributes of an operating system MBean used by {@link MachineData}.
+     */
+    public interface OperatingSystemMBean
+        {
+        String getName();
+
+        long getFreePhysicalMemorySize();
+
+        double getSystemLoadAverage();
+
+        double getSystemCpuLoad();
+
+        int getAvailableProcessors();
+
+        long getTotalPhysicalMemorySize();
+        }
+
+    /**
+     * An operating system MBean.
+     */
+    public static class OperatingSystem
+            implements OperatingSystemMBean
+        {
+        /**
+         * Create an {@link OperatingSystem}.
+         *
+         * @param sName        the operating system name
+         * @param dLoadAverage the load average
+         */
+        public OperatingSystem(String sName, double dLoadAverage)
+            {
+            f_sName        = sName;
+            f_dLoadAverage = dLoadAverage;
+            }
+
+        @Override
+        public String getName()
+            {
+            return f_sName;
+            }
+
+        @Override
+        public long getFreePhysicalMemorySize()
+            {
+            return MEMORY / 2;
+            }
+
+        @Override
+        public double getSystemLoadAverage()
+            {
+            return f_dLoadAverage;
+            }
+
+        @Override
+        public double getSystemCpuLoad()
+            {
+            return 0.5;
+            }
+
+        @Override
+        public int getAvailableProcessors()
+            {
+            return 4;
+            }
+
+        @Override
+        public long getTotalPhysicalMemorySize()
+            {
+            return MEMORY;
+            }
+
+        /**
+         * The operating system name.
+         */
+        private final String f_sName;
+
+        /**
+         * The load average.
+         */
+        private final double f_dLoadAverage;
+        }
+
+    // ----- inner class: AixOperatingSystemMBean ---------------------------
+
+    /**
+     * The attributes of an operating system MBean of the IBM JVM on AIX.
+     */
+    public interface AixOperatingSystemMBean
+        {
+        String getName();
+
+        long getFreePhysicalMemorySize();
+
+        double getSystemLoadAverage();
+
+        int getAvailableProcessors();
+
+        long getTotalPhysicalMemory();
+        }
+
+    /**
+     * An operating system MBean of the IBM JVM on AIX.
+     */
+    public static class AixOperatingSystem
+            implements AixOperatingSystemMBean
+        {
+        @Override
+        public String getName()
+            {
+            return "AIX";
+            }
+
+        @Override
+        public long getFreePhysicalMemorySize()
+            {
+            return MEMORY / 2;
+            }
+
+        @Override
+        public double getSystemLoadAverage()
+            {
+            return 1.0;
+            }
+
+        @Override
+        public int getAvailableProcessors()
+            {
+            return 4;
+            }
+
+        @Override
+        public long getTotalPhysicalMemory()
+            {
+            return MEMORY;
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The total physical memory of each machine.
+     */
+    private static final long MEMORY = 16L * 1024L * 1024L * 1024L;
+    }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.StubHttpTransport;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for retrieving {@link MemberData} using REST.
+ *
+ * @author agent 2026.10.16
+ */
+public class MemberDataTest
+    {
+    @Test
+    public void testStreamedRowsMatchTree()
+            throws Exception
+        {
+        byte[]                  abJson   = StubHttpTransport.readResource(MEMBERS);
+        SortedMap<Object, Data> mapData  = getData(abJson);
+        SortedMap<Object, Data> mapTree  = getDataFromTree(new ObjectMapper().readTree(abJson));
+
+        assertEquals(mapTree.keySet(), mapData.keySet());
+        for (Object oKey : mapTree.keySet())
+            {
+            Data data = mapData.get(oKey);
+            Data tree = mapTree.get(oKey);
+
+            for (int i = 0; i < MemberData.PACKETS_SENT; i++)
+                {
+                assertEquals("Column " + i + " of member " + oKey, tree.getColumn(i), data.getColumn(i));
+                }
+            }
+
+        // the packet counters were not read from the tree
+        assertEquals(2147483648123L, mapData.get(2).getColumn(MemberData.PACKETS_SENT));
+        assertEquals(95523L, mapData.get(2).getColumn(MemberData.PACKETS_RECEIVED));
+
+        // a null role name is shown as the text of the JSON null, as it was from the tree
+        assertEquals("null", mapData.get(11).getColumn(MemberData.ROLE_NAME));
+        }
+
+    @Test
+    public void testMissingFields()
+            throws Exception
+        {
+        SortedMap<Object, Data> mapData = getData(("{\"items\": [{\"nodeId\": \"3\", \"memoryMaxMB\": 512,"
+                + " \"unicastAddress\": \"127.0.0.1\"}]}").getBytes(StandardCharsets.UTF_8));
+
+        Data data = mapData.get(3);
+        assertEquals(1, mapData.size());
+        assertEquals(512, data.getColumn(MemberData.MAX_MEMORY));
+        assertEquals("127.0.0.1", data.getColumn(MemberData.ADDRESS));
+        assertEquals("true", data.getColumn(MemberData.STORAGE_ENABLED));
+
+        // the used memory is only calculated if both the max and free memory are known
+        assertNull(data.getColumn(MemberData.FREE_MEMORY));
+        assertNull(data.getColumn(MemberData.USED_MEMORY));
+        assertNull(data.getColumn(MemberData.ROLE_NAME));
+        assertNull(data.getColumn(MemberData.PACKETS_SENT));
+        }
+
+    @Test
+    public void testNoMembers()
+            throws Exception
+        {
+        assertEquals(0, getData("{\"links\": [], \"items\": []}".getBytes(StandardCharsets.UTF_8)).size());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the member data streamed from the given response.
+     *
+     * @param abJson  the response
+     *
+     * @return the member data
+     *
+     * @throws Exception if any errors
+     */
+    private SortedMap<Object, Data> getData(byte[] abJson)
+            throws Exception
+        {
+        HttpRequestSender sender = new HttpRequestSender(URL, new StubHttpTransport(abJson));
+
+        return new MemberData().getAggregatedDataFromHttpQuerying(new VisualVMModel(), sender);
+        }
+
+    /**
+     * Returns the member data read from a tree of the response, as it was
+     * read before the response was streamed.
+     *
+     * @param rootClusterMembers  the tree of the response
+     *
+     * @return the member data
+     */
+    private SortedMap<Object, Data> getDataFromTree(JsonNode rootClusterMembers)
+        {
+        SortedMap<Object, Data> mapData   = new TreeMap<Object, Data>();
+        JsonNode                itemsNode = rootClusterMembers.get("items");
+
+        for (int i = 0; i < itemsNode.size(); i++)
+            {
+            JsonNode clusterMember = itemsNode.get(i);
+            Data     data          = new MemberData();
+
+            data.setColumn(MemberData.NODE_ID, Integer.valueOf(clusterMember.get("nodeId").asText()));
+            data.setColumn(MemberData.PUBLISHER_SUCCESS,
+                    Float.valueOf(clusterMember.get("publisherSuccessRate").asText()));
+            data.setColumn(MemberData.RECEIVER_SUCCESS,
+                    Float.valueOf(clusterMember.get("receiverSuccessRate").asText()));
+            data.setColumn(MemberData.SENDQ_SIZE,
+                    Integer.valueOf(AbstractData.getNumberValue(clusterMember.get("sendQueueSize").asText())));
+            data.setColumn(MemberData.MAX_MEMORY,
+                    Integer.valueOf(AbstractData.getNumberValue(clusterMember.get("memoryMaxMB").asText())));
+            data.setColumn(MemberData.FREE_MEMORY,
+                    Integer.valueOf(AbstractData.getNumberValue(clusterMember.get("memoryAvailableMB").asText())));
+            data.setColumn(MemberData.USED_MEMORY,
+                    (Integer) data.getColumn(MemberData.MAX_MEMORY) - (Integer) data.getColumn(MemberData.FREE_MEMORY));
+            data.setColumn(MemberData.ADDRESS, clusterMember.get("unicastAddress").asText());
+            data.setColumn(MemberData.ROLE_NAME, clusterMember.get("roleName").asText());
+            data.setColumn(MemberData.PRODUCT_EDITION, clusterMember.get("productEdition").asText());
+            data.setColumn(MemberData.PORT,
+                    Integer.valueOf(AbstractData.getNumberValue(clusterMember.get("unicastPort").asText())));
+            data.setColumn(MemberData.STORAGE_ENABLED, "true");
+            mapData.put(data.getColumn(0), data);
+            }
+
+        return mapData;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The URL of the management REST server.
+     */
+    private static final String URL = "http://localhost:30000/management/coherence/cluster";
+
+    /**
+     * The resource containing a response for the cluster members.
+     */
+    private static final String MEMBERS = "/rest/members.json";
+    }
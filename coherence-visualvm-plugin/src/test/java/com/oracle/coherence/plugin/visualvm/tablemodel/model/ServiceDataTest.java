@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.CountingMBeanServerConnection;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for retrieving {@link ServiceData} using JMX.
+ *
+ * @author agent 2026.10.16
+ */
+public class ServiceDataTest
+    {
+    @Test
+    public void testGetJMXData()
+            throws Exception
+        {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+        for (int nMember = 1; nMember <= MEMBER_COUNT; nMember++)
+            {
+            register(server, "PartitionedCache", "DistributedCache", nMember, nMember != 1);
+            register(server, "ReplicatedCache", "ReplicatedCache", nMember, true);
+            register(server, "Proxy", "Proxy", nMember, false);
+            }
+
+        CountingMBeanServerConnection connection = new CountingMBeanServerConnection(server);
+        VisualVMModel                 model      = new VisualVMModel();
+        List<Map.Entry<Object, Data>> listData   = new ServiceData().getJMXData(
+                new JMXRequestSender(connection.getConnection()), model);
+        Map<Object, Data>             mapData  = new HashMap<>();
+
+        listData.forEach(entry -> mapData.put(entry.getKey(), entry.getValue()));
+
+        assertEquals(3, mapData.size());
+
+        Data data = mapData.get("PartitionedCache");
+        assertEquals(MEMBER_COUNT, data.getColumn(ServiceData.MEMBERS));
+        assertEquals(MEMBER_COUNT - 1, data.getColumn(ServiceData.STORAGE_MEMBERS));
+        assertEquals(257, data.getColumn(ServiceData.PARTITION_COUNT));
+        assertEquals("NODE-SAFE", data.getColumn(ServiceData.STATUS_HA));
+        assertEquals(MEMBER_COUNT * TASK_COUNT, data.getColumn(ServiceData.TASK_COUNT));
+        assertEquals(MEMBER_COUNT * REQUEST_TOTAL_COUNT, data.getColumn(ServiceData.REQUEST_TOTAL_COUNT));
+
+        assertEquals(MEMBER_COUNT, mapData.get("ReplicatedCache").getColumn(ServiceData.STORAGE_MEMBERS));
+        assertEquals(0, mapData.get("Proxy").getColumn(ServiceData.STORAGE_MEMBERS));
+
+        assertEquals(1, model.getDistributedCaches().size());
+        assertTrue(model.getDistributedCaches().contains("PartitionedCache"));
+
+        // one query for the services and then one request for each member of each service
+        assertEquals(1, connection.getQueryCount());
+        assertEquals(3 * MEMBER_COUNT, connection.getAttributeRequestCount());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register a service MBean.
+     *
+     * @param server           the MBean server
+     * @param sName            the service name
+     * @param sType            the service type
+     * @param nMember          the member id
+     * @param fStorageEnabled  true if the member is storage enabled
+     *
+     * @throws Exception in case of errors
+     */
+    private static void register(MBeanServer server, String sName, String sType, int nMember, boolean fStorageEnabled)
+            throws Exception
+        {
+        server.registerMBean(new StandardMBean(new Service(sType, fStorageEnabled), ServiceMBean.class),
+                             new ObjectName("Coherence:type=Service,name=" + sName + ",nodeId=" + nMember));
+        }
+
+    // ----- inner class: ServiceMBean --------------------------------------
+
+    /**
+     * The attributes of a service MBean used by {@link ServiceData}.
+     */
+    public interface ServiceMBean
+        {
+        String getType();
+
+        boolean isStorageEnabled();
+
+        int getPartitionsEndangered();
+
+        int getPartitionsUnbalanced();
+
+        int getPartitionsVulnerable();
+
+        String getStatusHA();
+
+        long getRequestPendingCount();
+
+        int getPartitionsAll();
+
+        long getTaskCount();
+
+        long getRequestTotalCount();
+        }
+
+    /**
+     * A service MBean.
+     */
+    public static class Service
+            implements ServiceMBean
+        {
+        /**
+         * Create a {@link Service}.
+         *
+         * @param sType            the service type
+         * @param fStorageEnabled  true if the member is storage enabled
+         */
+        public Service(String sType, boolean fStorageEnabled)
+            {
+            f_sType           = sType;
+            f_fStorageEnabled = fStorageEnabled;
+            }
+
+        @Override
+        public String getType()
+            {
+            return f_sType;
+            }
+
+        @Override
+        public boolean isStorageEnabled()
+            {
+            return f_fStorageEnabled;
+            }
+
+        @Override
+        public int getPartitionsEndangered()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getPartitionsUnbalanced()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getPartitionsVulnerable()
+            {
+            return 0;
+            }
+
+        @Override
+        public String getStatusHA()
+            {
+            return "DistributedCache".equals(f_sType) ? "NODE-SAFE" : "n/a";
+            }
+
+        @Override
+        public long getRequestPendingCount()
+            {
+            return 0;
+            }
+
+        @Override
+        public int getPartitionsAll()
+            {
+            return "DistributedCache".equals(f_sType) ? 257 : -1;
+            }
+
+        @Override
+        public long getTaskCount()
+            {
+            return TASK_COUNT;
+            }
+
+        @Override
+        public long getRequestTotalCount()
+            {
+            return REQUEST_TOTAL_COUNT;
+            }
+
+        /**
+         * The service type.
+         */
+        private final String f_sType;
+
+        /**
+         * True if the member is storage enabled.
+         */
+        private final boolean f_fStorageEnabled;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of members running each service.
+     */
+    private static final int MEMBER_COUNT = 4;
+
+    /**
+     * The number of tasks executed by each member.
+     */
+    private static final long TASK_COUNT = 10L;
+
+    /**
+     * The number of requests received by each member.
+     */
+    private static final long REQUEST_TOTAL_COUNT = 20L;
+    }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package functional.ce;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel.DataType;
+import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tests.SimulatedClusterServer;
+
+import java.util.List;
+import java.util.Map;
+
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REFRESH_TIME;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Scale tests for data retrieval using REST against a
+ * {@link SimulatedClusterServer}, which do not require any cache servers.
+ *
+ * @author agent 2026.10.16
+ */
+public class SimulatedClusterIT
+    {
+    // ----- lifecycle ------------------------------------------------------
+
+    /**
+     * Start the simulated cluster.
+     *
+     * @throws Exception if the server cannot be started
+     */
+    @BeforeClass
+    public static void _startup()
+            throws Exception
+        {
+        // the failsafe JVM is shared with other tests so the refresh time is
+        // restored once these tests have completed
+        s_sRefreshTime = System.getProperty(PROP_REFRESH_TIME);
+        System.setProperty(PROP_REFRESH_TIME, "1");
+
+        s_server = new SimulatedClusterServer(MEMBER_COUNT, SERVICE_COUNT, CACHES_PER_SERVICE);
+        s_server.start();
+        }
+
+    /**
+     * Stop the simulated cluster.
+     */
+    @AfterClass
+    public static void _shutdown()
+        {
+        if (s_server != null)
+            {
+            s_server.stop();
+            }
+
+        if (s_sRefreshTime == null)
+            {
+            System.clearProperty(PROP_REFRESH_TIME);
+            }
+        else
+            {
+            System.setProperty(PROP_REFRESH_TIME, s_sRefreshTime);
+            }
+        }
+
+    // ----- tests ----------------------------------------------------------
+
+    @Test
+    public void testRefreshLargeCluster()
+            throws Exception
+        {
+        VisualVMModel     model         = VisualVMModel.getInstance();
+        HttpRequestSender requestSender = new HttpRequestSender(s_server.getUrl());
+
+        for (int i = 0; i < REFRESH_COUNT; i++)
+            {
+            long ldtStart = System.currentTimeMillis();
+
+            model.refreshStatistics(requestSender);
+
+            LOGGER.info("Refresh " + i + " of " + MEMBER_COUNT + " members took "
+                        + (System.currentTimeMillis() - ldtStart) + "ms");
+
+            // wait for the refresh time to pass so the next refresh collects data
+            Thread.sleep(1100L);
+            }
+
+        LOGGER.info("Requests sent " + s_server.getRequestCount() + ", for endpoints not simulated "
+                    + s_server.getUnknownRequestCount());
+        assertTrue("No requests were sent", s_server.getRequestCount() > 0);
+
+        List<Map.Entry<Object, Data>> listCluster = model.getData(DataType.CLUSTER);
+
+        assertSize(DataType.CLUSTER, listCluster, 1);
+        assertEquals(SimulatedClusterServer.CLUSTER_NAME, listCluster.get(0).getValue().getColumn(ClusterData.CLUSTER_NAME));
+        assertEquals(MEMBER_COUNT, listCluster.get(0).getValue().getColumn(ClusterData.CLUSTER_SIZE));
+
+        assertSize(DataType.MEMBER, model.getData(DataType.MEMBER), MEMBER_COUNT);
+        assertSize(DataType.NODE_STORAGE, model.getData(DataType.NODE_STORAGE), MEMBER_COUNT);
+        assertSize(DataType.PROXY, model.getData(DataType.PROXY), MEMBER_COUNT);
+        assertSize(DataType.RAMJOURNAL, model.getData(DataType.RAMJOURNAL), MEMBER_COUNT);
+        assertSize(DataType.FLASHJOURNAL, model.getData(DataType.FLASHJOURNAL), MEMBER_COUNT);
+
+        // the distributed services plus the proxy service
+        assertSize(DataType.SERVICE, model.getData(DataType.SERVICE), SERVICE_COUNT + 1);
+        assertSize(DataType.PERSISTENCE, model.getData(DataType.PERSISTENCE), SERVICE_COUNT);
+        assertSize(DataType.CACHE, model.getData(DataType.CACHE), SERVICE_COUNT * CACHES_PER_SERVICE);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Assert the number of entries collected for a {@link DataType}.
+     *
+     * @param type       the {@link DataType}
+     * @param listData   the collected data
+     * @param cExpected  the expected number of entries
+     */
+    private static void assertSize(DataType type, List<Map.Entry<Object, Data>> listData, int cExpected)
+        {
+        assertNotNull("No data collected for " + type, listData);
+        assertEquals("Unexpected data collected for " + type, cExpected, listData.size());
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SimulatedClusterIT.class.getName());
+
+    /**
+     * The number of simulated members.
+     */
+    private static final int MEMBER_COUNT = 1000;
+
+    /**
+     * The number of simulated distributed services.
+     */
+    private static final int SERVICE_COUNT = 4;
+
+    /**
+     * The number of simulated caches in each service.
+     */
+    private static final int CACHES_PER_SERVICE = 25;
+
+    /**
+     * The number of times to refresh the statistics.
+     */
+    private static final int REFRESH_COUNT = 3;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The simulated cluster.
+     */
+    private static SimulatedClusterServer s_server;
+
+    /**
+     * The value of the refresh time property before these tests were run.
+     */
+    private static String s_sRefreshTime;
+    }
@@ -0,0 +1,1434 @@
+/*
+ * Copyright (c) 2022 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A lightweight HTTP server which mimics the Coherence management over REST
+ * endpoints used by the {@link com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender}
+ * for a simulated cluster, so that the plugin can be tested at scale without
+ * starting any cache servers.
+ * <p>
+ * The simulated cluster has a configurable number of storage enabled members,
+ * distributed (or federated) services and caches, a proxy service running on
+ * every member and flash and RAM journals. Statistics evolve over time:
+ * gauges vary between refreshes and counters increase, all derived from the
+ * elapsed time so that every request in the same second sees the same values.
+ * As with the real management server the {@code fields} query parameter
+ * restricts the attributes returned, numeric attributes of collections are
+ * aggregated across members, and unknown collections are returned empty.
+ *
+ * @author agent 2026.10.16
+ */
+public class SimulatedClusterServer
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link SimulatedClusterServer} for a cluster with distributed
+     * services.
+     *
+     * @param cMembers           the number of members in the cluster
+     * @param cServices          the number of distributed services
+     * @param cCachesPerService  the number of caches in each service
+     */
+    public SimulatedClusterServer(int cMembers, int cServices, int cCachesPerService)
+        {
+        this(cMembers, cServices, cCachesPerService, false);
+        }
+
+    /**
+     * Create a {@link SimulatedClusterServer}.
+     *
+     * @param cMembers           the number of members in the cluster
+     * @param cServices          the number of distributed services
+     * @param cCachesPerService  the number of caches in each service
+     * @param fFederated         true if the services are federated to the
+     *                           {@link #PARTICIPANTS participants}
+     */
+    public SimulatedClusterServer(int cMembers, int cServices, int cCachesPerService, boolean fFederated)
+        {
+        if (cMembers <= 0 || cServices <= 0 || cCachesPerService < 0)
+            {
+            throw new IllegalArgumentException("The cluster must have at least one member and one service");
+            }
+
+        f_cMembers          = cMembers;
+        f_cServices         = cServices;
+        f_cCachesPerService = cCachesPerService;
+        f_fFederated        = fFederated;
+        }
+
+    // ----- SimulatedClusterServer methods ---------------------------------
+
+    /**
+     * Start the server on an ephemeral port of the loopback address.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public synchronized void start()
+            throws IOException
+        {
+        if (m_server != null)
+            {
+            throw new IllegalStateException("The server has already been started");
+            }
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+
+        server.createContext(BASE_PATH, this::handle);
+        m_executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        server.setExecutor(m_executor);
+        server.start();
+
+        m_ldtStart = System.currentTimeMillis();
+        m_server   = server;
+        }
+
+    /**
+     * Stop the server.
+     */
+    public synchronized void stop()
+        {
+        if (m_server != null)
+            {
+            m_server.stop(0);
+            m_executor.shutdownNow();
+            m_server   = null;
+            m_executor = null;
+            }
+        }
+
+    /**
+     * Returns the URL of the management server to connect to.
+     *
+     * @return the URL of the management server
+     */
+    public String getUrl()
+        {
+        InetSocketAddress address = m_server.getAddress();
+
+        return "http://" + address.getHostString() + ":" + address.getPort() + BASE_PATH;
+        }
+
+    /**
+     * Returns the number of requests received.
+     *
+     * @return the number of requests received
+     */
+    public long getRequestCount()
+        {
+        return f_cRequests.get();
+        }
+
+    /**
+     * Returns the number of requests received for an endpoint which is not
+     * simulated, which are answered with an empty collection.
+     *
+     * @return the number of requests for an endpoint which is not simulated
+     */
+    public long getUnknownRequestCount()
+        {
+        return f_cUnknownRequests.get();
+        }
+
+    /**
+     * Returns the name of a simulated service.
+     *
+     * @param nService  the service number
+     *
+     * @return the name of the service
+     */
+    public static String getServiceName(int nService)
+        {
+        return "DistributedCache" + nService;
+        }
+
+    /**
+     * Returns the name of a simulated cache.
+     *
+     * @param nService  the number of the service the cache belongs to
+     * @param nCache    the cache number
+     *
+     * @return the name of the cache
+     */
+    public static String getCacheName(int nService, int nCache)
+        {
+        return "cache-" + nService + "-" + nCache;
+        }
+
+    // ----- request handling -----------------------------------------------
+
+    /**
+     * Handle a request.
+     *
+     * @param exchange  the {@link HttpExchange} for the request
+     *
+     * @throws IOException if the response cannot be sent
+     */
+    protected void handle(HttpExchange exchange)
+            throws IOException
+        {
+        f_cRequests.incrementAndGet();
+
+        try
+            {
+            String       sPath     = exchange.getRequestURI().getRawPath().substring(BASE_PATH.length());
+            List<String> listPath  = new ArrayList<>();
+            Set<String>  setFields = getFields(exchange.getRequestURI().getRawQuery());
+
+            for (String sSegment : sPath.split("/"))
+                {
+                if (!sSegment.isEmpty())
+                    {
+                    listPath.add(URLDecoder.decode(sSegment, "UTF-8"));
+                    }
+                }
+
+            if (!"GET".equals(exchange.getRequestMethod()))
+                {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+                }
+
+            byte[] abResponse;
+            try
+                {
+                JsonNode nodeResult = route(listPath, (System.currentTimeMillis() - m_ldtStart) / 1000L);
+                if (nodeResult == null)
+                    {
+                    f_cUnknownRequests.incrementAndGet();
+                    nodeResult = items(Collections.emptyList());
+                    }
+
+                abResponse = MAPPER.writeValueAsBytes(filter(nodeResult, setFields));
+                }
+            catch (RuntimeException e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to simulate " + exchange.getRequestURI(), e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+                }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, abResponse.length);
+
+            try (OutputStream out = exchange.getResponseBody())
+                {
+                out.write(abResponse);
+                }
+            }
+        finally
+            {
+            exchange.close();
+            }
+        }
+
+    /**
+     * Returns the response for the given path, or null if the path is not
+     * simulated.
+     *
+     * @param listPath  the path segments after the base path
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the response or null
+     */
+    protected JsonNode route(List<String> listPath, long nTick)
+        {
+        int    cSegments = listPath.size();
+        String sFirst    = cSegments > 0 ? listPath.get(0) : null;
+
+        if (cSegments == 0)
+            {
+            return createCluster(nTick);
+            }
+
+        switch (sFirst)
+            {
+            case "members":
+                if (cSegments == 1)
+                    {
+                    return items(createMembers(nTick));
+                    }
+                int nMember = parseMember(listPath.get(1));
+                if (nMember < 0)
+                    {
+                    return null;
+                    }
+                if (cSegments == 2)
+                    {
+                    return createMember(nMember, nTick);
+                    }
+                if (cSegments == 4 && "platform".equals(listPath.get(2)) && "operatingSystem".equals(listPath.get(3)))
+                    {
+                    return createOperatingSystem(nMember, nTick);
+                    }
+                return null;
+
+            case "caches":
+                if (cSegments == 1)
+                    {
+                    return items(createAggregatedCaches(-1, nTick));
+                    }
+                if (cSegments == 2 && "members".equals(listPath.get(1)))
+                    {
+                    List<ObjectNode> listCacheMembers = new ArrayList<>();
+                    for (int nService = 0; nService < f_cServices; nService++)
+                        {
+                        for (int nCache = 0; nCache < f_cCachesPerService; nCache++)
+                            {
+                            listCacheMembers.addAll(createCacheMembers(nService, nCache, nTick));
+                            }
+                        }
+                    return items(listCacheMembers);
+                    }
+                return null;
+
+            case "services":
+                return routeServices(listPath, nTick);
+
+            case "journal":
+                if (cSegments == 3 && "members".equals(listPath.get(2))
+                        && ("flash".equals(listPath.get(1)) || "ram".equals(listPath.get(1))))
+                    {
+                    return items(createJournalMembers("flash".equals(listPath.get(1)), nTick));
+                    }
+                return null;
+
+            default:
+                return null;
+            }
+        }
+
+    /**
+     * Returns the response for a path starting with {@code services}, or null
+     * if the path is not simulated.
+     *
+     * @param listPath  the path segments after the base path
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the response or null
+     */
+    protected JsonNode routeServices(List<String> listPath, long nTick)
+        {
+        int cSegments = listPath.size();
+
+        if (cSegments == 1)
+            {
+            List<ObjectNode> listServices = new ArrayList<>();
+            for (int nService = 0; nService < f_cServices; nService++)
+                {
+                listServices.add(createAggregatedService(nService, nTick));
+                }
+            return items(listServices);
+            }
+
+        String sService = listPath.get(1);
+
+        if (cSegments == 2 && "members".equals(sService))
+            {
+            List<ObjectNode> listServiceMembers = new ArrayList<>();
+            for (int nService = 0; nService < f_cServices; nService++)
+                {
+                listServiceMembers.addAll(createServiceMembers(nService, nTick));
+                }
+            listServiceMembers.addAll(createProxyMembers(nTick));
+            return items(listServiceMembers);
+            }
+
+        if (PROXY_SERVICE.equals(sService) || "proxy".equals(sService))
+            {
+            return cSegments == 3 && "members".equals(listPath.get(2))
+                   ? items(createProxyMembers(nTick))
+                   : null;
+            }
+
+        int nService = parseService(sService);
+        if (nService < 0)
+            {
+            return null;
+            }
+
+        if (cSegments == 2)
+            {
+            return createAggregatedService(nService, nTick);
+            }
+
+        switch (listPath.get(2))
+            {
+            case "members":
+                if (cSegments == 3)
+                    {
+                    return items(createServiceMembers(nService, nTick));
+                    }
+                int nMember = parseMember(listPath.get(3));
+                return cSegments == 4 && nMember >= 0 ? createServiceMember(nService, nMember, nTick) : null;
+
+            case "caches":
+                if (cSegments == 3)
+                    {
+                    return items(createAggregatedCaches(nService, nTick));
+                    }
+                int nCache = parseCache(nService, listPath.get(3));
+                if (nCache < 0 || cSegments < 5 || !"members".equals(listPath.get(4)))
+                    {
+                    return null;
+                    }
+                if (cSegments == 5)
+                    {
+                    return items(createCacheMembers(nService, nCache, nTick));
+                    }
+                nMember = parseMember(listPath.get(5));
+                return cSegments == 6 && nMember >= 0
+                       ? items(Collections.singletonList(createCacheMember(nService, nCache, nMember, nTick)))
+                       : null;
+
+            case "persistence":
+                if (cSegments == 3)
+                    {
+                    return createPersistence(nService);
+                    }
+                if (cSegments == 4 && "snapshots".equals(listPath.get(3)))
+                    {
+                    return MAPPER.createObjectNode().set("snapshots", MAPPER.createArrayNode());
+                    }
+                if (cSegments == 4 && "archives".equals(listPath.get(3)))
+                    {
+                    return MAPPER.createObjectNode().set("archives", MAPPER.createArrayNode());
+                    }
+                return null;
+
+            case "partition":
+                return cSegments == 3 ? createPartitionAssignment(nService, nTick) : null;
+
+            case "federation":
+                return f_fFederated ? routeFederation(nService, listPath, nTick) : null;
+
+            default:
+                return null;
+            }
+        }
+
+    /**
+     * Returns the response for a path starting with
+     * {@code services/{service}/federation}, or null if the path is not simulated.
+     *
+     * @param nService  the service number
+     * @param listPath  the path segments after the base path
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the response or null
+     */
+    protected JsonNode routeFederation(int nService, List<String> listPath, long nTick)
+        {
+        int cSegments = listPath.size();
+
+        if (cSegments < 6 || !"statistics".equals(listPath.get(3)) || !"participants".equals(listPath.get(5)))
+            {
+            return null;
+            }
+
+        boolean fOutgoing = "outgoing".equals(listPath.get(4));
+        if (!fOutgoing && !"incoming".equals(listPath.get(4)))
+            {
+            return null;
+            }
+
+        if (cSegments == 6)
+            {
+            List<ObjectNode> listParticipants = new ArrayList<>();
+            for (String sParticipant : PARTICIPANTS)
+                {
+                List<ObjectNode> listMembers = createParticipantMembers(nService, sParticipant, fOutgoing, nTick);
+                ObjectNode       node        = aggregate(listMembers);
+
+                node.put("participantName", sParticipant);
+                listParticipants.add(node);
+                }
+            return items(listParticipants);
+            }
+
+        return cSegments == 8 && Arrays.asList(PARTICIPANTS).contains(listPath.get(6))
+                       && "members".equals(listPath.get(7))
+               ? items(createParticipantMembers(nService, listPath.get(6), fOutgoing, nTick))
+               : null;
+        }
+
+    // ----- simulated MBeans -----------------------------------------------
+
+    /**
+     * Create the cluster.
+     *
+     * @param nTick  the number of seconds since the server was started
+     *
+     * @return the cluster
+     */
+    protected ObjectNode createCluster(long nTick)
+        {
+        ObjectNode node = MAPPER.createObjectNode();
+
+        node.put("type", "Cluster");
+        node.put("clusterName", CLUSTER_NAME);
+        node.put("clusterSize", f_cMembers);
+        node.put("licenseMode", "Development");
+        node.put("version", VERSION);
+        node.put("membersDepartureCount", 0);
+        node.put("localMemberId", 1);
+        node.put("running", true);
+
+        return node;
+        }
+
+    /**
+     * Create all the members.
+     *
+     * @param nTick  the number of seconds since the server was started
+     *
+     * @return the members
+     */
+    protected List<ObjectNode> createMembers(long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            listMembers.add(createMember(nMember, nTick));
+            }
+
+        return listMembers;
+        }
+
+    /**
+     * Create a member.
+     *
+     * @param nMember  the member id
+     * @param nTick    the number of seconds since the server was started
+     *
+     * @return the member
+     */
+    protected ObjectNode createMember(int nMember, long nTick)
+        {
+        ObjectNode node = MAPPER.createObjectNode();
+
+        node.put("type", "Node");
+        node.put("nodeId", Integer.toString(nMember));
+        node.put("memberName", "member-" + nMember);
+        node.put("machineName", getMachineName(nMember));
+        node.put("rackName", "rack-" + (nMember % RACK_COUNT));
+        node.put("siteName", "site-1");
+        node.put("roleName", "CoherenceServer");
+        node.put("unicastAddress", getAddress(nMember));
+        node.put("unicastPort", BASE_PORT + nMember);
+        node.put("productEdition", "Grid Edition");
+        node.put("publisherSuccessRate", 1.0 - gauge(nMember, nTick, 100) / 10_000.0);
+        node.put("receiverSuccessRate", 1.0 - gauge(nMember + 1, nTick, 100) / 10_000.0);
+        node.put("sendQueueSize", gauge(nMember, nTick, 20));
+        node.put("memoryMaxMB", MEMORY_MAX_MB);
+        node.put("memoryAvailableMB", MEMORY_MAX_MB / 4 + gauge(nMember, nTick, MEMORY_MAX_MB / 2));
+        node.put("packetsSent", counter(nMember, nTick, 5000));
+        node.put("packetsReceived", counter(nMember + 1, nTick, 5000));
+
+        return node;
+        }
+
+    /**
+     * Create the operating system MBean of a member.
+     *
+     * @param nMember  the member id
+     * @param nTick    the number of seconds since the server was started
+     *
+     * @return the operating system MBean
+     */
+    protected ObjectNode createOperatingSystem(int nMember, long nTick)
+        {
+        ObjectNode node     = MAPPER.createObjectNode();
+        int        nMachine = nMember / MEMBERS_PER_MACHINE;
+
+        node.put("name", "Linux");
+        node.put("arch", "amd64");
+        node.put("availableProcessors", PROCESSORS_PER_MACHINE);
+        node.put("systemLoadAverage", gauge(nMachine, nTick, PROCESSORS_PER_MACHINE * 100) / 100.0);
+        node.put("totalPhysicalMemorySize", MACHINE_MEMORY);
+        node.put("freePhysicalMemorySize", MACHINE_MEMORY / 100 * (25 + gauge(nMachine, nTick, 50)));
+
+        return node;
+        }
+
+    /**
+     * Create a service aggregated across all its members.
+     *
+     * @param nService  the service number
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the aggregated service
+     */
+    protected ObjectNode createAggregatedService(int nService, long nTick)
+        {
+        ObjectNode node = aggregate(createServiceMembers(nService, nTick));
+
+        // the attributes which are the same on all members are not aggregated
+        node.put("name", getServiceName(nService));
+        node.put("type", getServiceType());
+        node.put("statusHA", "NODE-SAFE");
+        node.put("storageEnabled", true);
+        node.put("memberCount", f_cMembers);
+        node.put("storageEnabledCount", f_cMembers);
+        node.put("partitionsAll", PARTITION_COUNT);
+        node.put("partitionsEndangered", 0);
+        node.put("partitionsVulnerable", 0);
+        node.put("partitionsUnbalanced", 0);
+
+        return node;
+        }
+
+    /**
+     * Create all the members of a service.
+     *
+     * @param nService  the service number
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the service members
+     */
+    protected List<ObjectNode> createServiceMembers(int nService, long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            listMembers.add(createServiceMember(nService, nMember, nTick));
+            }
+
+        return listMembers;
+        }
+
+    /**
+     * Create a member of a service.
+     *
+     * @param nService  the service number
+     * @param nMember   the member id
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the service member
+     */
+    protected ObjectNode createServiceMember(int nService, int nMember, long nTick)
+        {
+        ObjectNode node  = MAPPER.createObjectNode();
+        int        nSeed = nService * f_cMembers + nMember;
+
+        node.put("type", getServiceType());
+        node.put("name", getServiceName(nService));
+        node.put("nodeId", Integer.toString(nMember));
+        node.put("statusHA", "NODE-SAFE");
+        node.put("memberCount", f_cMembers);
+        node.put("storageEnabled", true);
+        node.put("storageEnabledCount", f_cMembers);
+        node.put("partitionsAll", PARTITION_COUNT);
+        node.put("partitionsEndangered", 0);
+        node.put("partitionsVulnerable", 0);
+        node.put("partitionsUnbalanced", 0);
+        node.put("ownedPartitionsPrimary", getOwnedPartitions(nMember));
+        node.put("requestPendingCount", gauge(nSeed, nTick, 5));
+        node.put("taskBacklog", gauge(nSeed, nTick, 10));
+        node.put("threadCount", SERVICE_THREADS);
+        node.put("threadIdleCount", gauge(nSeed, nTick, SERVICE_THREADS));
+        node.put("requestAverageDuration", gauge(nSeed, nTick, 1000) / 100.0f);
+        node.put("taskAverageDuration", gauge(nSeed + 1, nTick, 1000) / 100.0f);
+        node.put("taskCount", counter(nSeed, nTick, 200));
+        node.put("requestTotalCount", counter(nSeed + 1, nTick, 500));
+        node.put("persistenceMode", "active");
+        node.put("persistenceActiveSpaceUsed", counter(nSeed, nTick, 1024 * 1024));
+        node.put("persistenceLatencyMax", gauge(nSeed, nTick, 500));
+        node.put("persistenceLatencyAverage", gauge(nSeed + 1, nTick, 5000) / 100.0f);
+
+        return node;
+        }
+
+    /**
+     * Create the partition assignment strategy of a service.
+     *
+     * @param nService  the service number
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the partition assignment strategy
+     */
+    protected ObjectNode createPartitionAssignment(int nService, long nTick)
+        {
+        ObjectNode node = MAPPER.createObjectNode();
+
+        node.put("averagePartitionSizeKB", 1024 + gauge(nService, nTick, 1024));
+        node.put("maxPartitionSizeKB", 2048 + gauge(nService, nTick, 1024));
+        node.put("averageStorageSizeKB", PARTITION_COUNT * 1024 / f_cMembers);
+        node.put("maxStorageSizeKB", PARTITION_COUNT * 2048 / f_cMembers);
+        node.put("maxLoadNodeId", 1 + gauge(nService, nTick, f_cMembers));
+
+        return node;
+        }
+
+    /**
+     * Create the persistence coordinator of a service.
+     *
+     * @param nService  the service number
+     *
+     * @return the persistence coordinator
+     */
+    protected ObjectNode createPersistence(int nService)
+        {
+        ObjectNode node = MAPPER.createObjectNode();
+
+        node.put("operationStatus", "Idle");
+        node.put("idle", true);
+        node.set("snapshots", MAPPER.createArrayNode());
+
+        return node;
+        }
+
+    /**
+     * Create the proxy service members, one running on each member.
+     *
+     * @param nTick  the number of seconds since the server was started
+     *
+     * @return the proxy service members
+     */
+    protected List<ObjectNode> createProxyMembers(long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            ObjectNode node = MAPPER.createObjectNode();
+
+            node.put("type", "Proxy");
+            node.put("name", PROXY_SERVICE);
+            node.put("nodeId", Integer.toString(nMember));
+            node.put("protocol", "tcp");
+            node.put("hostIP", getAddress(nMember) + ":" + (PROXY_PORT + nMember));
+            node.put("connectionCount", gauge(nMember, nTick, 10));
+            node.put("outgoingMessageBacklog", gauge(nMember, nTick, 5));
+            node.put("totalBytesReceived", counter(nMember, nTick, 10_000));
+            node.put("totalBytesSent", counter(nMember + 1, nTick, 10_000));
+            node.put("totalMessagesReceived", counter(nMember, nTick, 100));
+            node.put("totalMessagesSent", counter(nMember + 1, nTick, 100));
+            node.put("memberCount", f_cMembers);
+            node.put("ownedPartitionsPrimary", -1);
+            node.put("partitionsAll", -1);
+            node.put("statusHA", "n/a");
+            node.put("storageEnabled", false);
+            node.put("persistenceMode", "n/a");
+
+            listMembers.add(node);
+            }
+
+        return listMembers;
+        }
+
+    /**
+     * Create the caches aggregated across all members.
+     *
+     * @param nServiceOnly  the service to create the caches for, or -1 for all services
+     * @param nTick         the number of seconds since the server was started
+     *
+     * @return the aggregated caches
+     */
+    protected List<ObjectNode> createAggregatedCaches(int nServiceOnly, long nTick)
+        {
+        List<ObjectNode> listCaches = new ArrayList<>();
+
+        for (int nService = 0; nService < f_cServices; nService++)
+            {
+            if (nServiceOnly == -1 || nService == nServiceOnly)
+                {
+                for (int nCache = 0; nCache < f_cCachesPerService; nCache++)
+                    {
+                    ObjectNode node = aggregate(createCacheMembers(nService, nCache, nTick));
+
+                    // the attributes which are the same on all members are not aggregated
+                    node.put("name", getCacheName(nService, nCache));
+                    node.put("service", getServiceName(nService));
+                    node.putArray("unitFactor").add(1);
+                    node.putObject("memoryUnits").put("true", f_cMembers);
+
+                    listCaches.add(node);
+                    }
+                }
+            }
+
+        return listCaches;
+        }
+
+    /**
+     * Create all the members of a cache.
+     *
+     * @param nService  the service number
+     * @param nCache    the cache number
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the cache members
+     */
+    protected List<ObjectNode> createCacheMembers(int nService, int nCache, long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            listMembers.add(createCacheMember(nService, nCache, nMember, nTick));
+            }
+
+        return listMembers;
+        }
+
+    /**
+     * Create a member of a cache, which includes the attributes of both the
+     * cache and storage manager MBeans.
+     *
+     * @param nService  the service number
+     * @param nCache    the cache number
+     * @param nMember   the member id
+     * @param nTick     the number of seconds since the server was started
+     *
+     * @return the cache member
+     */
+    protected ObjectNode createCacheMember(int nService, int nCache, int nMember, long nTick)
+        {
+        ObjectNode node  = MAPPER.createObjectNode();
+        int        nSeed = (nService * f_cCachesPerService + nCache) * f_cMembers + nMember;
+        long       cSize = counter(nSeed, nTick, 10) + (nCache + 1) * 100L;
+        long       cGets = counter(nSeed, nTick, 1000);
+        long       cHits = cGets * 9 / 10;
+
+        node.put("type", "Cache");
+        node.put("name", getCacheName(nService, nCache));
+        node.put("service", getServiceName(nService));
+        node.put("nodeId", Integer.toString(nMember));
+        node.put("tier", "back");
+        node.put("size", cSize);
+        node.put("units", cSize * ENTRY_SIZE);
+        node.put("unitsBytes", cSize * ENTRY_SIZE);
+        node.put("unitFactor", 1);
+        node.put("memoryUnits", true);
+        node.put("averageMissMillis", gauge(nSeed, nTick, 100) / 10.0);
+        node.put("totalGets", cGets);
+        node.put("totalPuts", counter(nSeed + 1, nTick, 100));
+        node.put("cacheHits", cHits);
+        node.put("cacheMisses", cGets - cHits);
+        node.put("hitProbability", cGets == 0 ? 0.0 : (double) cHits / cGets);
+        node.put("locksGranted", gauge(nSeed, nTick, 10));
+        node.put("locksPending", 0);
+        node.put("listenerRegistrations", counter(nSeed, nTick, 1));
+        node.put("maxQueryDurationMillis", gauge(nSeed, nTick, 1000));
+        node.put("maxQueryDescription", "");
+        node.put("nonOptimizedQueryAverageMillis", gauge(nSeed, nTick, 100));
+        node.put("optimizedQueryAverageMillis", gauge(nSeed + 1, nTick, 10));
+        node.put("indexTotalUnits", 0);
+        node.put("indexingTotalMillis", 0);
+
+        return node;
+        }
+
+    /**
+     * Create the members of a flash or RAM journal.
+     *
+     * @param fFlash  true for the flash journal or false for the RAM journal
+     * @param nTick   the number of seconds since the server was started
+     *
+     * @return the journal members
+     */
+    protected List<ObjectNode> createJournalMembers(boolean fFlash, long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            ObjectNode node = MAPPER.createObjectNode();
+
+            node.put("type", "Journal");
+            node.put("name", fFlash ? "FlashJournalRM" : "RamJournalRM");
+            node.put("nodeId", Integer.toString(nMember));
+            node.put("fileCount", 1 + gauge(nMember, nTick, 100));
+            node.put("maxJournalFilesNumber", 512);
+            node.put("maxFileSize", 2L * 1024 * 1024 * 1024);
+            node.put("totalDataSize", counter(nMember, nTick, 1024 * 1024));
+            node.put("compactionCount", counter(nMember, nTick, 1));
+            node.put("exhaustiveCompactionCount", nTick / 60);
+            node.put("currentCollectorLoadFactor", gauge(nMember, nTick, 100) / 100.0);
+
+            listMembers.add(node);
+            }
+
+        return listMembers;
+        }
+
+    /**
+     * Create the members of a service sending to or receiving from a
+     * federation participant.
+     *
+     * @param nService      the service number
+     * @param sParticipant  the participant name
+     * @param fOutgoing     true for the destination or false for the origin statistics
+     * @param nTick         the number of seconds since the server was started
+     *
+     * @return the participant members
+     */
+    protected List<ObjectNode> createParticipantMembers(int nService, String sParticipant, boolean fOutgoing,
+                                                        long nTick)
+        {
+        List<ObjectNode> listMembers = new ArrayList<>(f_cMembers);
+        String           sDirection  = fOutgoing ? "Sent" : "Received";
+
+        for (int nMember = 1; nMember <= f_cMembers; nMember++)
+            {
+            ObjectNode node  = MAPPER.createObjectNode();
+            int        nSeed = nService * f_cMembers + nMember;
+
+            node.put("nodeId", Integer.toString(nMember));
+            node.put("name", getServiceName(nService));
+            node.put("participantName", sParticipant);
+            node.put("state", "Idle");
+            node.put("status", 0);
+            node.put("bytes" + sDirection + "Secs", gauge(nSeed, nTick, 10_000));
+            node.put("msgs" + sDirection + "Secs", gauge(nSeed, nTick, 100));
+            node.put("totalBytes" + sDirection, counter(nSeed, nTick, 10_000));
+            node.put("totalEntries" + sDirection, counter(nSeed, nTick, 100));
+            node.put("totalRecords" + sDirection, counter(nSeed, nTick, 100));
+            node.put("totalMsg" + sDirection, counter(nSeed, nTick, 10));
+            node.put("totalMsgUnacked", 0);
+            node.put("recordBacklogDelayTimePercentileMillis", gauge(nSeed, nTick, 10));
+            node.put("msgNetworkRoundTripTimePercentileMillis", gauge(nSeed, nTick, 10));
+            node.put("msgApplyTimePercentileMillis", gauge(nSeed, nTick, 10));
+            node.put("estimatedReplicateAllRemainingTime", 0);
+            node.put("replicateAllTotalTime", 0);
+            node.put("replicateAllPercentComplete", 100);
+            node.put("currentBandwidth", gauge(nSeed, nTick, 100) / 10.0);
+            node.put("maxBandwidth", "n/a");
+            node.put("errorDescription", "");
+            node.put("sendTimeoutMillis", "300000");
+            node.put("geoIp", "");
+
+            listMembers.add(node);
+            }
+
+        return listMembers;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns a collection response containing the given items.
+     *
+     * @param listItems  the items
+     *
+     * @return the collection response
+     */
+    protected static ObjectNode items(List<ObjectNode> listItems)
+        {
+        ObjectNode node      = MAPPER.createObjectNode();
+        ArrayNode  nodeItems = node.putArray("items");
+
+        nodeItems.addAll(listItems);
+
+        return node;
+        }
+
+    /**
+     * Aggregate the members of an MBean in the same way the management server
+     * does: numeric attributes become an object with the count, average,
+     * minimum, maximum and sum, boolean attributes become an object with the
+     * count of each value and string attributes become an array of the
+     * distinct values.
+     *
+     * @param listMembers  the members to aggregate
+     *
+     * @return the aggregated attributes
+     */
+    protected static ObjectNode aggregate(List<ObjectNode> listMembers)
+        {
+        Map<String, List<JsonNode>> mapValues = new HashMap<>();
+
+        for (ObjectNode member : listMembers)
+            {
+            for (Iterator<Map.Entry<String, JsonNode>> iter = member.fields(); iter.hasNext(); )
+                {
+                Map.Entry<String, JsonNode> entry = iter.next();
+
+                mapValues.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+                }
+            }
+
+        ObjectNode node = MAPPER.createObjectNode();
+
+        for (Map.Entry<String, List<JsonNode>> entry : mapValues.entrySet())
+            {
+            List<JsonNode> listValues = entry.getValue();
+            JsonNode       first      = listValues.get(0);
+
+            if (first.isNumber())
+                {
+                double dMin = Double.MAX_VALUE;
+                double dMax = -Double.MAX_VALUE;
+                double dSum = 0.0;
+
+                for (JsonNode value : listValues)
+                    {
+                    double d = value.asDouble();
+
+                    dMin  = Math.min(dMin, d);
+                    dMax  = Math.max(dMax, d);
+                    dSum += d;
+                    }
+
+                ObjectNode nodeAggregate = node.putObject(entry.getKey());
+
+                nodeAggregate.put("count", listValues.size());
+                nodeAggregate.put("average", dSum / listValues.size());
+                if (first.isIntegralNumber())
+                    {
+                    nodeAggregate.put("min", (long) dMin);
+                    nodeAggregate.put("max", (long) dMax);
+                    nodeAggregate.put("sum", (long) dSum);
+                    }
+                else
+                    {
+                    nodeAggregate.put("min", dMin);
+                    nodeAggregate.put("max", dMax);
+                    nodeAggregate.put("sum", dSum);
+                    }
+                }
+            else if (first.isBoolean())
+                {
+                ObjectNode nodeAggregate = node.putObject(entry.getKey());
+
+                for (JsonNode value : listValues)
+                    {
+                    String sValue = value.asText();
+
+                    nodeAggregate.put(sValue, nodeAggregate.path(sValue).asInt() + 1);
+                    }
+                }
+            else
+                {
+                Set<String> setDistinct = new HashSet<>();
+                ArrayNode   nodeDistinct = node.putArray(entry.getKey());
+
+                for (JsonNode value : listValues)
+                    {
+                    if (setDistinct.add(value.asText()))
+                        {
+                        nodeDistinct.add(value);
+                        }
+                    }
+                }
+            }
+
+        return node;
+        }
+
+    /**
+     * Restrict a response to the requested fields. The fields of a collection
+     * response apply to each of its items.
+     *
+     * @param node       the response
+     * @param setFields  the requested fields, or null for all fields
+     *
+     * @return the restricted response
+     */
+    protected static JsonNode filter(JsonNode node, Set<String> setFields)
+        {
+        if (setFields == null || !(node instanceof ObjectNode))
+            {
+            return node;
+            }
+
+        JsonNode nodeItems = node.get("items");
+        if (nodeItems != null && nodeItems.isArray())
+            {
+            for (JsonNode item : nodeItems)
+                {
+                ((ObjectNode) item).retain(setFields);
+                }
+            return node;
+            }
+
+        return ((ObjectNode) node).retain(setFields);
+        }
+
+    /**
+     * Returns the fields requested in a query string.
+     *
+     * @param sQuery  the raw query string, may be null
+     *
+     * @return the requested fields including the {@link #KEY_FIELDS key fields},
+     *         or null for all fields
+     *
+     * @throws UnsupportedEncodingException if the query cannot be decoded
+     */
+    protected static Set<String> getFields(String sQuery)
+            throws UnsupportedEncodingException
+        {
+        if (sQuery != null)
+            {
+            for (String sParam : sQuery.split("&"))
+                {
+                if (sParam.startsWith("fields="))
+                    {
+                    String      sFields   = URLDecoder.decode(sParam.substring("fields=".length()), "UTF-8");
+                    Set<String> setFields = new HashSet<>(Arrays.asList(sFields.split(",")));
+
+                    setFields.addAll(KEY_FIELDS);
+
+                    return setFields;
+                    }
+                }
+            }
+
+        return null;
+        }
+
+    /**
+     * Returns a value between zero and the given maximum, which varies each
+     * second and between different seeds.
+     *
+     * @param nSeed  the seed, for example the member id
+     * @param nTick  the number of seconds since the server was started
+     * @param nMax   the maximum value (exclusive)
+     *
+     * @return the value
+     */
+    protected static int gauge(long nSeed, long nTick, int nMax)
+        {
+        long lHash = (nSeed * 0x9E3779B97F4A7C15L) ^ (nTick * 0xC2B2AE3D27D4EB4FL);
+
+        lHash ^= lHash >>> 31;
+        lHash *= 0xBF58476D1CE4E5B9L;
+        lHash ^= lHash >>> 29;
+
+        return nMax <= 0 ? 0 : (int) Math.floorMod(lHash, (long) nMax);
+        }
+
+    /**
+     * Returns a value which increases each second at a rate which depends on
+     * the seed.
+     *
+     * @param nSeed  the seed, for example the member id
+     * @param nTick  the number of seconds since the server was started
+     * @param nRate  the average increase each second
+     *
+     * @return the value
+     */
+    protected static long counter(long nSeed, long nTick, int nRate)
+        {
+        return (nTick + 1) * (nRate / 2 + gauge(nSeed, 0, nRate + 1));
+        }
+
+    /**
+     * Returns the number of primary partitions owned by a member.
+     *
+     * @param nMember  the member id
+     *
+     * @return the number of primary partitions owned by the member
+     */
+    protected int getOwnedPartitions(int nMember)
+        {
+        int cPartitions = PARTITION_COUNT / f_cMembers;
+
+        return nMember <= PARTITION_COUNT % f_cMembers ? cPartitions + 1 : cPartitions;
+        }
+
+    /**
+     * Returns the type of the simulated services.
+     *
+     * @return the type of the simulated services
+     */
+    protected String getServiceType()
+        {
+        return f_fFederated ? "FederatedCache" : "DistributedCache";
+        }
+
+    /**
+     * Returns the machine name of a member.
+     *
+     * @param nMember  the member id
+     *
+     * @return the machine name
+     */
+    protected static String getMachineName(int nMember)
+        {
+        return "machine-" + (nMember / MEMBERS_PER_MACHINE);
+        }
+
+    /**
+     * Returns the address of a member.
+     *
+     * @param nMember  the member id
+     *
+     * @return the address
+     */
+    protected static String getAddress(int nMember)
+        {
+        int nMachine = nMember / MEMBERS_PER_MACHINE;
+
+        return "10.0." + (nMachine / 256) + "." + (nMachine % 256);
+        }
+
+    /**
+     * Parse a member id from a path segment.
+     *
+     * @param sMember  the path segment
+     *
+     * @return the member id or -1 if it is not a simulated member
+     */
+    protected int parseMember(String sMember)
+        {
+        try
+            {
+            int nMember = Integer.parseInt(sMember);
+
+            return nMember >= 1 && nMember <= f_cMembers ? nMember : -1;
+            }
+        catch (NumberFormatException e)
+            {
+            return -1;
+            }
+        }
+
+    /**
+     * Parse a service number from a path segment.
+     *
+     * @param sService  the path segment
+     *
+     * @return the service number or -1 if it is not a simulated service
+     */
+    protected int parseService(String sService)
+        {
+        for (int nService = 0; nService < f_cServices; nService++)
+            {
+            if (getServiceName(nService).equals(sService))
+                {
+                return nService;
+                }
+            }
+
+        return -1;
+        }
+
+    /**
+     * Parse a cache number from a path segment.
+     *
+     * @param nService  the service number the cache belongs to
+     * @param sCache    the path segment
+     *
+     * @return the cache number or -1 if it is not a simulated cache
+     */
+    protected int parseCache(int nService, String sCache)
+        {
+        for (int nCache = 0; nCache < f_cCachesPerService; nCache++)
+            {
+            if (getCacheName(nService, nCache).equals(sCache))
+                {
+                return nCache;
+                }
+            }
+
+        return -1;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SimulatedClusterServer.class.getName());
+
+    /**
+     * The base path of the management server.
+     */
+    public static final String BASE_PATH = "/management/coherence/cluster";
+
+    /**
+     * The name of the simulated cluster.
+     */
+    public static final String CLUSTER_NAME = "simulated-cluster";
+
+    /**
+     * The Coherence version of the simulated cluster.
+     */
+    public static final String VERSION = "22.06.1";
+
+    /**
+     * The name of the proxy service.
+     */
+    public static final String PROXY_SERVICE = "Proxy";
+
+    /**
+     * The participants federated services send to and receive from.
+     */
+    public static final String[] PARTICIPANTS = {"ClusterB", "ClusterC"};
+
+    /**
+     * The fields which identify an aggregated item and are returned
+     * regardless of the requested fields.
+     */
+    protected static final Set<String> KEY_FIELDS = Collections.singleton("participantName");
+
+    /**
+     * The partition count of the distributed services.
+     */
+    protected static final int PARTITION_COUNT = 1021;
+
+    /**
+     * The number of members on each machine.
+     */
+    protected static final int MEMBERS_PER_MACHINE = 8;
+
+    /**
+     * The number of processors on each machine.
+     */
+    protected static final int PROCESSORS_PER_MACHINE = 16;
+
+    /**
+     * The physical memory of each machine in bytes.
+     */
+    protected static final long MACHINE_MEMORY = 64L * 1024 * 1024 * 1024;
+
+    /**
+     * The number of racks.
+     */
+    protected static final int RACK_COUNT = 4;
+
+    /**
+     * The maximum heap of each member in MB.
+     */
+    protected static final int MEMORY_MAX_MB = 4096;
+
+    /**
+     * The number of service threads on each member.
+     */
+    protected static final int SERVICE_THREADS = 8;
+
+    /**
+     * The size of each cache entry in bytes.
+     */
+    protected static final int ENTRY_SIZE = 512;
+
+    /**
+     * The first unicast port.
+     */
+    protected static final int BASE_PORT = 7574;
+
+    /**
+     * The first proxy port.
+     */
+    protected static final int PROXY_PORT = 20000;
+
+    /**
+     * The number of threads handling requests.
+     */
+    protected static final int THREAD_COUNT = 8;
+
+    /**
+     * The {@link ObjectMapper} used to write responses.
+     */
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of members in the cluster.
+     */
+    private final int f_cMembers;
+
+    /**
+     * The number of distributed services.
+     */
+    private final int f_cServices;
+
+    /**
+     * The number of caches in each service.
+     */
+    private final int f_cCachesPerService;
+
+    /**
+     * True if the services are federated.
+     */
+    private final boolean f_fFederated;
+
+    /**
+     * The number of requests received.
+     */
+    private final AtomicLong f_cRequests = new AtomicLong();
+
+    /**
+     * The number of requests received for an endpoint which is not simulated.
+     */
+    private final AtomicLong f_cUnknownRequests = new AtomicLong();
+
+    /**
+     * The time the server was started.
+     */
+    private volatile long m_ldtStart;
+
+    /**
+     * The HTTP server, or null if not started.
+     */
+    private HttpServer m_server;
+
+    /**
+     * The executor handling requests.
+     */
+    private ExecutorService m_executor;
+    }